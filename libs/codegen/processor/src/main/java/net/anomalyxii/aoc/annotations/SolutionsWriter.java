@@ -56,13 +56,52 @@ class SolutionsWriter {
                         .append(Integer.toString(year))
                         .append('\n');
             }
-            return true;
+            return generateSolutionTableClass(processingEnv, year, solutions);
         } catch (final IOException e) {
             processingEnv.getMessager().printMessage(Kind.ERROR, "Failed to generate Solution file: " + e.getClass() + " => " + e.getMessage());
             return false;
         }
     }
 
+    /*
+     * Generate the `SolutionTableXXXX` class.
+     *
+     * This is a static dispatch table, indexed by day, of the `SolutionWrapper`
+     * singletons for a year. Unlike `SolutionsXXXX` it does not reference any
+     * `Challenge` definitions, so can be used to look up a solution without
+     * any of the other puzzle metadata being loaded. Each day is looked up
+     * through a `switch`, so only the solution for the requested day is
+     * initialised.
+     */
+    private boolean generateSolutionTableClass(
+            final ProcessingEnvironment processingEnv,
+            final int year,
+            final Set<SolutionClass> solutions
+    ) {
+        try {
+            final JavaFileObject newClass = processingEnv.getFiler()
+                    .createSourceFile("net.anomalyxii.aoc.SolutionTable" + year);
+
+            try (Writer writer = newClass.openWriter()) {
+                writePackageDeclaration(writer);
+                writeBlankLine(writer);
+
+                writeTableImports(solutions, writer);
+                writeBlankLine(writer);
+
+                beginTableClassDefinition(year, writer);
+                writeTableDefinition(year, solutions, writer);
+                writePrivateTableConstructor(year, writer);
+                writeTableMethods(year, solutions, writer);
+                endClassDefinition(writer);
+            }
+            return true;
+        } catch (final IOException e) {
+            processingEnv.getMessager().printMessage(Kind.ERROR, "Failed to generate SolutionTable file: " + e.getClass() + " => " + e.getMessage());
+            return false;
+        }
+    }
+
     /*
      * Write a blank line.
      */
@@ -104,6 +143,17 @@ class SolutionsWriter {
                 .append(";\n");
     }
 
+    /*
+     * Write the import lines for the `SolutionTableXXXX` class.
+     */
+    private void writeTableImports(final Set<SolutionClass> solutions, final Writer writer) throws IOException {
+        writer.append("import net.anomalyxii.aoc.SolutionWrapper;\n");
+        for (final SolutionClass solution : solutions) {
+            writeImport(writer, solution);
+        }
+        writeBlankLine(writer);
+    }
+
     /*
      * Write the start of a class definition.
      */
@@ -253,6 +303,89 @@ class SolutionsWriter {
                 .append("    );\n");
     }
 
+    /*
+     * Write the start of the `SolutionTableXXXX` class definition.
+     */
+    private void beginTableClassDefinition(final int year, final Writer writer) throws IOException {
+        writer.append("/**\n")
+                .append(" * Static dispatch table of the {@link SolutionWrapper SolutionWrappers} for\n")
+                .append(" * Advent of Code ").append(Integer.toString(year)).append(", indexed by day.\n")
+                .append(" */\n");
+        writer.append("public final class SolutionTable")
+                .append(Integer.toString(year))
+                .append(" {\n");
+        writeBlankLine(writer);
+    }
+
+    /*
+     * Write the `YEAR` and `DAYS` constants.
+     */
+    private void writeTableDefinition(final int year, final Set<SolutionClass> solutions, final Writer writer) throws IOException {
+        writer.append("    public static final int YEAR = ")
+                .append(Integer.toString(year))
+                .append(";\n");
+        writeBlankLine(writer);
+        writer.append("    public static final int DAYS = ")
+                .append(Integer.toString(maxDay(solutions)))
+                .append(";\n");
+        writeBlankLine(writer);
+    }
+
+    /*
+     * Write the private constructor for the `SolutionTableXXXX` class.
+     */
+    private void writePrivateTableConstructor(final int year, final Writer writer) throws IOException {
+        writer.append("    private SolutionTable")
+                .append(Integer.toString(year))
+                .append("() {}\n");
+        writeBlankLine(writer);
+    }
+
+    /*
+     * Write the `solutions()` and `table()` static methods for the
+     * `SolutionTableXXXX` class.
+     */
+    private void writeTableMethods(final int year, final Set<SolutionClass> solutions, final Writer writer) throws IOException {
+        final String[] entries = new String[maxDay(solutions) + 1];
+        for (final SolutionClass solution : solutions)
+            entries[solution.day()] = "Solution" + solution.day() + ".AOC_" + year + "_" + solution.day();
+
+        writer.write("    public static SolutionWrapper<?, ?> solutions(final int day) {\n");
+        writer.write("        return switch (day) {\n");
+        for (int day = 1; day < entries.length; day++) {
+            if (entries[day] == null) continue;
+            writer.append("            case ")
+                    .append(Integer.toString(day))
+                    .append(" -> ")
+                    .append(entries[day])
+                    .append(";\n");
+        }
+        writer.write("            default -> throw new IllegalArgumentException(\"No solution found for Day \" + day);\n");
+        writer.write("        };\n");
+        writer.write("    }\n");
+        writeBlankLine(writer);
+        writer.write("    public static SolutionWrapper<?, ?>[] table() {\n");
+        writer.write("        return new SolutionWrapper<?, ?>[]{\n");
+        for (final String entry : entries) {
+            writer.append("                ")
+                    .append(entry == null ? "null" : entry)
+                    .append(",\n");
+        }
+        writer.write("        };\n");
+        writer.write("    }\n");
+        writeBlankLine(writer);
+    }
+
+    /*
+     * Find the latest day that has a solution.
+     */
+    private int maxDay(final Set<SolutionClass> solutions) {
+        int maxDay = 0;
+        for (final SolutionClass solution : solutions)
+            if (solution.day() > maxDay) maxDay = solution.day();
+        return maxDay;
+    }
+
     /*
      * Write the end of class definition.
      */
@@ -0,0 +1,45 @@
+package net.anomalyxii.aoc.context;
+
+import java.util.Arrays;
+
+/**
+ * A {@link Scratch} that allocates a new array for every request.
+ */
+final class AllocatingScratch implements Scratch {
+
+    /*
+     * The singleton instance.
+     */
+    static final AllocatingScratch INSTANCE = new AllocatingScratch();
+
+    // ****************************************
+    // Constructors
+    // ****************************************
+
+    private AllocatingScratch() {
+    }
+
+    // ****************************************
+    // Scratch Methods
+    // ****************************************
+
+    @Override
+    public int[] ints(final int size, final int fill) {
+        final int[] array = new int[size];
+        if (fill != 0) Arrays.fill(array, fill);
+        return array;
+    }
+
+    @Override
+    public long[] longs(final int size, final long fill) {
+        final long[] array = new long[size];
+        if (fill != 0) Arrays.fill(array, fill);
+        return array;
+    }
+
+    @Override
+    public boolean[] booleans(final int size) {
+        return new boolean[size];
+    }
+
+}
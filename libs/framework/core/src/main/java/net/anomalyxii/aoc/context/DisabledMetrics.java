@@ -0,0 +1,48 @@
+package net.anomalyxii.aoc.context;
+
+/**
+ * {@link Metrics} that record nothing.
+ */
+final class DisabledMetrics implements Metrics, Metrics.Phase {
+
+    /*
+     * The singleton instance.
+     */
+    static final DisabledMetrics INSTANCE = new DisabledMetrics();
+
+    // ****************************************
+    // Constructors
+    // ****************************************
+
+    private DisabledMetrics() {
+    }
+
+    // ****************************************
+    // Metrics Methods
+    // ****************************************
+
+    @Override
+    public boolean isEnabled() {
+        return false;
+    }
+
+    @Override
+    public Phase phase(final String name) {
+        return this;
+    }
+
+    @Override
+    public void add(final String name, final long delta) {
+        // Nothing to do
+    }
+
+    // ****************************************
+    // Phase Methods
+    // ****************************************
+
+    @Override
+    public void close() {
+        // Nothing to do
+    }
+
+}
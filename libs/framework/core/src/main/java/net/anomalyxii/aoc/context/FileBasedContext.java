@@ -25,8 +25,13 @@ public class FileBasedContext extends StreamBasedContext {
     // Constructors
     // ****************************************
 
-    FileBasedContext(final Path datafile, final LetterSet letters) {
-        super(letters);
+    FileBasedContext(
+            final Path datafile,
+            final LetterSet letters,
+            final Metrics metrics,
+            final Scratch scratch
+    ) {
+        super(letters, metrics, scratch);
         this.datafile = datafile;
     }
 
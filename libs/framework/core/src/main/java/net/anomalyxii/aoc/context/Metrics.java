@@ -0,0 +1,111 @@
+package net.anomalyxii.aoc.context;
+
+/**
+ * Optional instrumentation for a {@link SolutionContext}.
+ * <p>
+ * A solution can split its run into named {@link #phase(String) phases}
+ * and bump named {@link #increment(String) counters}; a runner that has
+ * enabled {@link RecordingMetrics recording} can then report where the
+ * time was spent. Reading the input through the {@link SolutionContext}
+ * is automatically timed as the {@value #PARSE} phase, except through
+ * the lazy {@link SolutionContext#stream()} and through
+ * {@link SolutionContext#consume(java.util.function.Consumer)}, where the
+ * lines are handled by the solution itself as they are read.
+ * <p>
+ * When metrics are {@link #disabled() disabled}, every method is a no-op
+ * that neither allocates nor reads the clock.
+ *
+ * <pre>{@code
+ * try (Metrics.Phase ignored = context.metrics().phase(Metrics.POST_PROCESS)) {
+ *     ...
+ * }
+ * }</pre>
+ */
+public interface Metrics {
+
+    /**
+     * The phase in which the input is read and parsed.
+     */
+    String PARSE = "parse";
+
+    /**
+     * The phase in which the answer is calculated.
+     */
+    String SOLVE = "solve";
+
+    /**
+     * The phase in which the answer is extracted from the final state.
+     */
+    String POST_PROCESS = "post-process";
+
+    // ****************************************
+    // Interface Methods
+    // ****************************************
+
+    /**
+     * Check if these {@link Metrics} are being recorded.
+     * <p>
+     * This can be used to skip gathering expensive diagnostics.
+     *
+     * @return {@literal true} if recording; {@literal false} otherwise
+     */
+    boolean isEnabled();
+
+    /**
+     * Start timing a named phase, which lasts until the returned
+     * {@link Phase} is closed.
+     *
+     * @param name the name of the phase
+     * @return the {@link Phase}
+     */
+    Phase phase(String name);
+
+    /**
+     * Add to a named counter.
+     *
+     * @param name  the name of the counter
+     * @param delta the amount to add
+     */
+    void add(String name, long delta);
+
+    // ****************************************
+    // Default Methods
+    // ****************************************
+
+    /**
+     * Add one to a named counter.
+     *
+     * @param name the name of the counter
+     */
+    default void increment(final String name) {
+        add(name, 1);
+    }
+
+    // ****************************************
+    // Static Helper Methods
+    // ****************************************
+
+    /**
+     * Get {@link Metrics} that record nothing.
+     *
+     * @return the disabled {@link Metrics}
+     */
+    static Metrics disabled() {
+        return DisabledMetrics.INSTANCE;
+    }
+
+    // ****************************************
+    // Helper Classes
+    // ****************************************
+
+    /**
+     * A timed phase; closing it stops the timer.
+     */
+    interface Phase extends AutoCloseable {
+
+        @Override
+        void close();
+
+    }
+
+}
@@ -0,0 +1,174 @@
+package net.anomalyxii.aoc.context;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * {@link Metrics} that record the time spent in each phase, and the value
+ * of each counter.
+ * <p>
+ * Phase times are exclusive: while a phase is nested inside another on
+ * the same thread, the outer phase's timer is paused. The recorded phase
+ * times therefore never overlap, and their sum never exceeds the total
+ * run time. Phases with the same name, including those on other threads,
+ * are added together.
+ */
+public class RecordingMetrics implements Metrics {
+
+    // ****************************************
+    // Private Members
+    // ****************************************
+
+    private final Map<String, Long> phases = new LinkedHashMap<>();
+    private final Map<String, Long> counters = new LinkedHashMap<>();
+
+    private final ThreadLocal<Deque<RecordingPhase>> openPhases = ThreadLocal.withInitial(ArrayDeque::new);
+
+    // ****************************************
+    // Metrics Methods
+    // ****************************************
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+
+    @Override
+    public Phase phase(final String name) {
+        final Deque<RecordingPhase> stack = openPhases.get();
+        final long now = System.nanoTime();
+
+        final RecordingPhase parent = stack.peek();
+        if (parent != null) parent.pause(now);
+
+        final RecordingPhase phase = new RecordingPhase(name, stack, now);
+        stack.push(phase);
+        return phase;
+    }
+
+    @Override
+    public synchronized void add(final String name, final long delta) {
+        counters.merge(name, delta, Long::sum);
+    }
+
+    // ****************************************
+    // Getters
+    // ****************************************
+
+    /**
+     * Get the time, in nanoseconds, recorded for each phase, in the order
+     * the phases were first completed.
+     *
+     * @return the phase times
+     */
+    public synchronized Map<String, Long> phases() {
+        return Collections.unmodifiableMap(new LinkedHashMap<>(phases));
+    }
+
+    /**
+     * Get the value of each counter, in the order the counters were first
+     * updated.
+     *
+     * @return the counter values
+     */
+    public synchronized Map<String, Long> counters() {
+        return Collections.unmodifiableMap(new LinkedHashMap<>(counters));
+    }
+
+    /**
+     * Get the total time, in nanoseconds, recorded across all phases.
+     *
+     * @return the total phase time
+     */
+    public synchronized long totalPhaseTime() {
+        return phases.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    /**
+     * Get the time, in nanoseconds, recorded for each phase of a run that
+     * took the given total time, where any time not spent in a named phase
+     * is attributed to the {@value Metrics#SOLVE} phase.
+     *
+     * @param duration the total run time, in nanoseconds
+     * @return the phase times, including the {@value Metrics#SOLVE} phase
+     */
+    public synchronized Map<String, Long> phases(final long duration) {
+        final Map<String, Long> breakdown = new LinkedHashMap<>(phases);
+        breakdown.merge(SOLVE, Math.max(0, duration - totalPhaseTime()), Long::sum);
+        return Collections.unmodifiableMap(breakdown);
+    }
+
+    // ****************************************
+    // Private Helper Methods
+    // ****************************************
+
+    /*
+     * Record the time spent in a phase.
+     */
+    private synchronized void record(final String name, final long nanos) {
+        phases.merge(name, nanos, Long::sum);
+    }
+
+    // ****************************************
+    // Private Helper Classes
+    // ****************************************
+
+    /*
+     * A phase that is currently being timed.
+     */
+    private final class RecordingPhase implements Phase {
+
+        // Private Members
+
+        private final String name;
+        private final Deque<RecordingPhase> stack;
+
+        private long elapsed = 0;
+        private long resumedAt;
+        private boolean running = true;
+        private boolean closed = false;
+
+        // Constructors
+
+        RecordingPhase(final String name, final Deque<RecordingPhase> stack, final long startedAt) {
+            this.name = name;
+            this.stack = stack;
+            this.resumedAt = startedAt;
+        }
+
+        // Phase Methods
+
+        @Override
+        public void close() {
+            if (closed) return;
+            closed = true;
+
+            final long now = System.nanoTime();
+            pause(now);
+            record(name, elapsed);
+
+            final boolean innermost = stack.peek() == this;
+            stack.remove(this);
+
+            final RecordingPhase parent = stack.peek();
+            if (innermost && parent != null) parent.resume(now);
+        }
+
+        // Helper Methods
+
+        void pause(final long now) {
+            if (running) elapsed += now - resumedAt;
+            running = false;
+        }
+
+        void resume(final long now) {
+            resumedAt = now;
+            running = true;
+        }
+
+    }
+
+}
@@ -20,8 +20,13 @@ public class ResourceBasedContext extends StreamBasedContext {
     // Constructors
     // ****************************************
 
-    ResourceBasedContext(final String datafile, final LetterSet letters) {
-        super(letters);
+    ResourceBasedContext(
+            final String datafile,
+            final LetterSet letters,
+            final Metrics metrics,
+            final Scratch scratch
+    ) {
+        super(letters, metrics, scratch);
         this.datafile = datafile;
     }
 
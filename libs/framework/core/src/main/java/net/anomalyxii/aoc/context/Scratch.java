@@ -0,0 +1,81 @@
+package net.anomalyxii.aoc.context;
+
+/**
+ * A source of working arrays for a solution.
+ * <p>
+ * Every array returned is exactly the requested size, and holds only the
+ * requested fill value. An array remains valid until the end of the run
+ * that requested it; it must not be returned from the solution, or kept
+ * between runs, because a {@link ScratchArena} will hand the same array
+ * out again to the next run.
+ */
+public interface Scratch {
+
+    // ****************************************
+    // Interface Methods
+    // ****************************************
+
+    /**
+     * Get an {@code int[]} filled with a given value.
+     *
+     * @param size the size of the array
+     * @param fill the initial value of each element
+     * @return the array
+     */
+    int[] ints(int size, int fill);
+
+    /**
+     * Get a {@code long[]} filled with a given value.
+     *
+     * @param size the size of the array
+     * @param fill the initial value of each element
+     * @return the array
+     */
+    long[] longs(int size, long fill);
+
+    /**
+     * Get a {@code boolean[]} filled with {@literal false}.
+     *
+     * @param size the size of the array
+     * @return the array
+     */
+    boolean[] booleans(int size);
+
+    // ****************************************
+    // Default Methods
+    // ****************************************
+
+    /**
+     * Get an {@code int[]} filled with zeroes.
+     *
+     * @param size the size of the array
+     * @return the array
+     */
+    default int[] ints(final int size) {
+        return ints(size, 0);
+    }
+
+    /**
+     * Get a {@code long[]} filled with zeroes.
+     *
+     * @param size the size of the array
+     * @return the array
+     */
+    default long[] longs(final int size) {
+        return longs(size, 0);
+    }
+
+    // ****************************************
+    // Static Helper Methods
+    // ****************************************
+
+    /**
+     * Get a {@link Scratch} that allocates a new array for every request.
+     *
+     * @return the allocating {@link Scratch}
+     */
+    static Scratch allocating() {
+        return AllocatingScratch.INSTANCE;
+    }
+
+}
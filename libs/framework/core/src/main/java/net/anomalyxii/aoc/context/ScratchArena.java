@@ -0,0 +1,171 @@
+package net.anomalyxii.aoc.context;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A {@link Scratch} that reuses its arrays between runs.
+ * <p>
+ * Within a run, each request is given its own array. After a
+ * {@link #reset()}, requests are matched up, in order, with the arrays
+ * handed out during the previous run; if the sizes agree, the old array is
+ * cleared and returned rather than allocating a new one. A solution that
+ * requests the same arrays on every run therefore allocates nothing after
+ * its first run.
+ * <p>
+ * An arena only keeps arrays up to a fixed total size; any array that
+ * would take it over that limit is still handed out, but is not kept for
+ * the next run. Every kept array can be dropped with {@link #clear()}.
+ * <p>
+ * A {@link ScratchArena} must only be used by one run at a time; a runner
+ * that solves on several threads should give each thread its own arena.
+ */
+public class ScratchArena implements Scratch {
+
+    /*
+     * The default maximum number of bytes of arrays to keep between runs.
+     */
+    private static final long DEFAULT_MAX_RETAINED_BYTES = 64L << 20;
+
+    // ****************************************
+    // Private Members
+    // ****************************************
+
+    private final long maxRetainedBytes;
+
+    private final List<int[]> ints = new ArrayList<>();
+    private final List<long[]> longs = new ArrayList<>();
+    private final List<boolean[]> booleans = new ArrayList<>();
+
+    private int nextInts = 0;
+    private int nextLongs = 0;
+    private int nextBooleans = 0;
+
+    private long retainedBytes = 0;
+
+    // ****************************************
+    // Constructors
+    // ****************************************
+
+    public ScratchArena() {
+        this(DEFAULT_MAX_RETAINED_BYTES);
+    }
+
+    public ScratchArena(final long maxRetainedBytes) {
+        this.maxRetainedBytes = maxRetainedBytes;
+    }
+
+    // ****************************************
+    // Scratch Methods
+    // ****************************************
+
+    @Override
+    public int[] ints(final int size, final int fill) {
+        final int slot = nextInts++;
+        if (slot < ints.size() && ints.get(slot) != null && ints.get(slot).length == size) {
+            final int[] array = ints.get(slot);
+            Arrays.fill(array, fill);
+            return array;
+        }
+
+        final int[] array = Scratch.allocating().ints(size, fill);
+        store(ints, slot, array, (long) size * Integer.BYTES);
+        return array;
+    }
+
+    @Override
+    public long[] longs(final int size, final long fill) {
+        final int slot = nextLongs++;
+        if (slot < longs.size() && longs.get(slot) != null && longs.get(slot).length == size) {
+            final long[] array = longs.get(slot);
+            Arrays.fill(array, fill);
+            return array;
+        }
+
+        final long[] array = Scratch.allocating().longs(size, fill);
+        store(longs, slot, array, (long) size * Long.BYTES);
+        return array;
+    }
+
+    @Override
+    public boolean[] booleans(final int size) {
+        final int slot = nextBooleans++;
+        if (slot < booleans.size() && booleans.get(slot) != null && booleans.get(slot).length == size) {
+            final boolean[] array = booleans.get(slot);
+            Arrays.fill(array, false);
+            return array;
+        }
+
+        final boolean[] array = Scratch.allocating().booleans(size);
+        store(booleans, slot, array, size);
+        return array;
+    }
+
+    // ****************************************
+    // Helper Methods
+    // ****************************************
+
+    /**
+     * Start a new run, allowing every array to be handed out again.
+     * <p>
+     * Any array returned before this is called must no longer be used.
+     */
+    public void reset() {
+        nextInts = 0;
+        nextLongs = 0;
+        nextBooleans = 0;
+    }
+
+    /**
+     * Drop every array kept by this arena, so that they can be garbage
+     * collected.
+     * <p>
+     * Any array returned before this is called must no longer be used.
+     */
+    public void clear() {
+        ints.clear();
+        longs.clear();
+        booleans.clear();
+        retainedBytes = 0;
+        reset();
+    }
+
+    // ****************************************
+    // Private Helper Methods
+    // ****************************************
+
+    /*
+     * Keep an array in a slot, replacing any array already in that slot,
+     * unless doing so would keep more than `maxRetainedBytes`.
+     */
+    private <T> void store(final List<T> arrays, final int slot, final T array, final long bytes) {
+        final T previous = slot < arrays.size() ? arrays.get(slot) : null;
+        final long previousBytes = previous != null ? sizeOf(previous) : 0;
+        final boolean keep = retainedBytes - previousBytes + bytes <= maxRetainedBytes;
+
+        retainedBytes -= previousBytes;
+        if (keep) retainedBytes += bytes;
+
+        final T kept = keep ? array : null;
+        if (slot < arrays.size()) arrays.set(slot, kept);
+        else arrays.add(kept);
+    }
+
+    // ****************************************
+    // Static Helper Methods
+    // ****************************************
+
+    /*
+     * Calculate the size, in bytes, of the elements of a kept array.
+     */
+    private static long sizeOf(final Object array) {
+        return switch (array) {
+            case int[] a -> (long) a.length * Integer.BYTES;
+            case long[] a -> (long) a.length * Long.BYTES;
+            case boolean[] a -> a.length;
+            default -> throw new IllegalArgumentException("Not a scratch array: " + array.getClass());
+        };
+    }
+
+}
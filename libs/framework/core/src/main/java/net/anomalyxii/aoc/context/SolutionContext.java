@@ -67,6 +67,9 @@ public interface SolutionContext {
 
     /**
      * Process all lines without returning a result.
+     * <p>
+     * Since the {@link Consumer} does the work of the solution, this is not
+     * timed as the {@value Metrics#PARSE} {@link Metrics#phase(String) phase}.
      *
      * @param consumer the line consumer
      */
@@ -124,6 +127,27 @@ public interface SolutionContext {
      */
     OCR ocr();
 
+    /**
+     * Get the {@link Metrics} for this {@link SolutionContext}.
+     * <p>
+     * Unless a runner has asked for them to be recorded, these will be
+     * {@link Metrics#disabled() disabled}.
+     *
+     * @return the {@link Metrics}
+     */
+    Metrics metrics();
+
+    /**
+     * Get the {@link Scratch} that working arrays should be taken from.
+     * <p>
+     * A runner that calls a solution repeatedly can provide a
+     * {@link ScratchArena} so those arrays are reused between runs;
+     * otherwise, each array is newly allocated.
+     *
+     * @return the {@link Scratch}
+     */
+    Scratch scratch();
+
     // ****************************************
     // Static Helper Methods
     // ****************************************
@@ -16,6 +16,8 @@ public class SolutionContextBuilder {
     private String dataFile;
     private Type type;
     private LetterSet letters = LetterSet.standardLetters();
+    private Metrics metrics = Metrics.disabled();
+    private Scratch scratch = Scratch.allocating();
 
     // ****************************************
     // Builder Methods
@@ -78,6 +80,36 @@ public class SolutionContextBuilder {
         return this;
     }
 
+    /**
+     * Register the {@link Metrics} that the resulting {@link SolutionContext}
+     * should record to.
+     * <p>
+     * If no {@link Metrics} are explicitly specified, nothing will be
+     * recorded.
+     *
+     * @param metrics the {@link Metrics}
+     * @return a {@link SolutionContextBuilder} for chaining
+     */
+    public SolutionContextBuilder withMetrics(final Metrics metrics) {
+        this.metrics = metrics;
+        return this;
+    }
+
+    /**
+     * Register the {@link Scratch} that the resulting {@link SolutionContext}
+     * should provide working arrays from.
+     * <p>
+     * If no {@link Scratch} is explicitly specified, a new array will be
+     * allocated for every request.
+     *
+     * @param scratch the {@link Scratch}
+     * @return a {@link SolutionContextBuilder} for chaining
+     */
+    public SolutionContextBuilder withScratch(final Scratch scratch) {
+        this.scratch = scratch;
+        return this;
+    }
+
     /**
      * Build the {@link SolutionContext}.
      *
@@ -85,8 +117,8 @@ public class SolutionContextBuilder {
      */
     public SolutionContext build() {
         return switch (type) {
-            case CLASSPATH -> new ResourceBasedContext(dataFile, letters);
-            case FILESYSTEM -> new FileBasedContext(Path.of(dataFile), letters);
+            case CLASSPATH -> new ResourceBasedContext(dataFile, letters, metrics, scratch);
+            case FILESYSTEM -> new FileBasedContext(Path.of(dataFile), letters, metrics, scratch);
         };
     }
 
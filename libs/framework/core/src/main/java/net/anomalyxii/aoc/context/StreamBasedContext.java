@@ -26,13 +26,17 @@ public abstract class StreamBasedContext implements SolutionContext {
     // ****************************************
 
     private final LetterSet letters;
+    private final Metrics metrics;
+    private final Scratch scratch;
 
     // ****************************************
     // Constructors
     // ****************************************
 
-    StreamBasedContext(final LetterSet letters) {
+    StreamBasedContext(final LetterSet letters, final Metrics metrics, final Scratch scratch) {
         this.letters = letters;
+        this.metrics = metrics;
+        this.scratch = scratch;
     }
 
     // ****************************************
@@ -40,13 +44,16 @@ public abstract class StreamBasedContext implements SolutionContext {
     // ****************************************
 
     @Override
+    @SuppressWarnings("try")
     public List<String> read() {
-        return readAllLines();
+        try (Metrics.Phase ignored = metrics.phase(Metrics.PARSE)) {
+            return readAllLines();
+        }
     }
 
     @Override
     public String readLine() {
-        final List<String> lines = readAllLines();
+        final List<String> lines = read();
         if (lines.isEmpty())
             throw new IllegalStateException("Expected one line from the data file, but nothing was read!");
         return lines.getFirst();
@@ -58,17 +65,24 @@ public abstract class StreamBasedContext implements SolutionContext {
     }
 
     @Override
+    @SuppressWarnings("try")
     public <T> List<T> process(final Function<String, T> processor) {
-        return processDataFile(processor);
+        try (Metrics.Phase ignored = metrics.phase(Metrics.PARSE)) {
+            return processDataFile(processor);
+        }
     }
 
     @Override
+    @SuppressWarnings("try")
     public <T> T processLine(final Function<String, T> processor) {
-        return processor.apply(readSingleLine());
+        try (Metrics.Phase ignored = metrics.phase(Metrics.PARSE)) {
+            return processor.apply(readSingleLine());
+        }
     }
 
     @Override
     public void consume(final Consumer<String> consumer) {
+        // Not timed: the consumer is the solution itself
         try (BufferedReader in = openReader()) {
             in.lines().forEach(consumer);
         } catch (final IOException e) {
@@ -82,10 +96,11 @@ public abstract class StreamBasedContext implements SolutionContext {
     }
 
     @Override
+    @SuppressWarnings("try")
     public Stream<List<String>> streamBatches() {
         final Stream.Builder<List<String>> builder = Stream.builder();
 
-        try (BufferedReader reader = openReader()) {
+        try (Metrics.Phase ignored = metrics.phase(Metrics.PARSE); BufferedReader reader = openReader()) {
             String line;
             List<String> currentBatch = null;
             while ((line = reader.readLine()) != null) {
@@ -109,8 +124,9 @@ public abstract class StreamBasedContext implements SolutionContext {
     }
 
     @Override
+    @SuppressWarnings("try")
     public Grid readGrid() {
-        try (BufferedInputStream in = openStream()) {
+        try (Metrics.Phase ignored = metrics.phase(Metrics.PARSE); BufferedInputStream in = openStream()) {
             return Grid.parse(in);
         } catch (final IOException e) {
             throw new IllegalArgumentException("An error occurred whilst processing '" + describe() + "'", e);
@@ -118,8 +134,9 @@ public abstract class StreamBasedContext implements SolutionContext {
     }
 
     @Override
+    @SuppressWarnings("try")
     public Grid readGrid(final IntUnaryOperator valueResolver) {
-        try (BufferedReader in = openReader()) {
+        try (Metrics.Phase ignored = metrics.phase(Metrics.PARSE); BufferedReader in = openReader()) {
             return Grid.parse(in.lines(), valueResolver);
         } catch (final IOException e) {
             throw new IllegalArgumentException("An error occurred whilst processing '" + describe() + "'", e);
@@ -127,8 +144,9 @@ public abstract class StreamBasedContext implements SolutionContext {
     }
 
     @Override
+    @SuppressWarnings("try")
     public MutableGrid readMutableGrid() {
-        try (BufferedReader in = openReader()) {
+        try (Metrics.Phase ignored = metrics.phase(Metrics.PARSE); BufferedReader in = openReader()) {
             return Grid.parseMutable(in.lines());
         } catch (final IOException e) {
             throw new IllegalArgumentException("An error occurred whilst processing '" + describe() + "'", e);
@@ -136,8 +154,9 @@ public abstract class StreamBasedContext implements SolutionContext {
     }
 
     @Override
+    @SuppressWarnings("try")
     public MutableGrid readMutableGrid(final IntUnaryOperator valueResolver) {
-        try (BufferedReader in = openReader()) {
+        try (Metrics.Phase ignored = metrics.phase(Metrics.PARSE); BufferedReader in = openReader()) {
             return Grid.parseMutable(in.lines(), valueResolver);
         } catch (final IOException e) {
             throw new IllegalArgumentException("An error occurred whilst processing '" + describe() + "'", e);
@@ -149,6 +168,16 @@ public abstract class StreamBasedContext implements SolutionContext {
         return OCR.ofLetters(letters);
     }
 
+    @Override
+    public Metrics metrics() {
+        return metrics;
+    }
+
+    @Override
+    public Scratch scratch() {
+        return scratch;
+    }
+
     // ****************************************
     // Abstract Helper Methods
     // ****************************************
@@ -0,0 +1,180 @@
+package net.anomalyxii.aoc.context;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RecordingMetricsTest {
+
+    private static final long PAUSE_MILLIS = 20;
+    private static final long PAUSE_NANOS = PAUSE_MILLIS * 1_000_000;
+
+    // ****************************************
+    // Test Methods
+    // ****************************************
+
+    // phase
+
+    @Test
+    @SuppressWarnings("try")
+    void phase_PausesOuterPhaseWhileNestedPhaseIsOpen() throws InterruptedException {
+        // arrange
+        final RecordingMetrics metrics = new RecordingMetrics();
+
+        // act
+        try (Metrics.Phase outer = metrics.phase("outer")) {
+            try (Metrics.Phase inner = metrics.phase("inner")) {
+                Thread.sleep(PAUSE_MILLIS);
+            }
+        }
+
+        // assert
+        final Map<String, Long> phases = metrics.phases();
+        assertThat(phases)
+                .containsOnlyKeys("inner", "outer");
+        assertThat(phases.get("inner"))
+                .isGreaterThanOrEqualTo(PAUSE_NANOS);
+        assertThat(phases.get("outer"))
+                .isLessThan(phases.get("inner"));
+        assertThat(metrics.totalPhaseTime())
+                .isEqualTo(phases.get("inner") + phases.get("outer"));
+    }
+
+    @Test
+    @SuppressWarnings("try")
+    void phase_AddsTogetherPhasesWithTheSameName() throws InterruptedException {
+        // arrange
+        final RecordingMetrics metrics = new RecordingMetrics();
+
+        // act
+        for (int i = 0; i < 2; i++) {
+            try (Metrics.Phase phase = metrics.phase(Metrics.PARSE)) {
+                Thread.sleep(PAUSE_MILLIS);
+            }
+        }
+
+        // assert
+        assertThat(metrics.phases())
+                .containsOnlyKeys(Metrics.PARSE);
+        assertThat(metrics.phases().get(Metrics.PARSE))
+                .isGreaterThanOrEqualTo(2 * PAUSE_NANOS);
+    }
+
+    @Test
+    void phase_IgnoresSecondClose() throws InterruptedException {
+        // arrange
+        final RecordingMetrics metrics = new RecordingMetrics();
+        final Metrics.Phase outer = metrics.phase("outer");
+        final Metrics.Phase inner = metrics.phase("inner");
+        inner.close();
+        final long innerTime = metrics.phases().get("inner");
+
+        // act
+        Thread.sleep(PAUSE_MILLIS);
+        inner.close();
+        outer.close();
+
+        // assert
+        assertThat(metrics.phases().get("inner"))
+                .isEqualTo(innerTime);
+        assertThat(metrics.phases().get("outer"))
+                .isGreaterThanOrEqualTo(PAUSE_NANOS);
+    }
+
+    // add
+
+    @Test
+    void add_SumsCountersInOrderOfFirstUpdate() {
+        // arrange
+        final RecordingMetrics metrics = new RecordingMetrics();
+
+        // act
+        metrics.increment("b");
+        metrics.add("a", 5);
+        metrics.increment("b");
+
+        // assert
+        assertThat(metrics.counters())
+                .containsExactly(Map.entry("b", 2L), Map.entry("a", 5L));
+    }
+
+    // phases
+
+    @Test
+    @SuppressWarnings("try")
+    void phases_AttributesUnrecordedTimeToSolve() {
+        // arrange
+        final RecordingMetrics metrics = new RecordingMetrics();
+        try (Metrics.Phase phase = metrics.phase(Metrics.PARSE)) {
+            // Nothing to do
+        }
+        final long parseTime = metrics.phases().get(Metrics.PARSE);
+
+        // act
+        final Map<String, Long> phases = metrics.phases(parseTime + 1_000);
+
+        // assert
+        assertThat(phases)
+                .containsExactly(Map.entry(Metrics.PARSE, parseTime), Map.entry(Metrics.SOLVE, 1_000L));
+    }
+
+    @Test
+    @SuppressWarnings("try")
+    void phases_MergesUnrecordedTimeIntoRecordedSolvePhase() {
+        // arrange
+        final RecordingMetrics metrics = new RecordingMetrics();
+        try (Metrics.Phase phase = metrics.phase(Metrics.SOLVE)) {
+            // Nothing to do
+        }
+        final long solveTime = metrics.phases().get(Metrics.SOLVE);
+
+        // act
+        final Map<String, Long> phases = metrics.phases(solveTime + 1_000);
+
+        // assert
+        assertThat(phases)
+                .containsExactly(Map.entry(Metrics.SOLVE, solveTime + 1_000));
+    }
+
+    @Test
+    @SuppressWarnings("try")
+    void phases_NeverAttributesNegativeTimeToSolve() {
+        // arrange
+        final RecordingMetrics metrics = new RecordingMetrics();
+        try (Metrics.Phase phase = metrics.phase(Metrics.PARSE)) {
+            // Nothing to do
+        }
+
+        // act
+        final Map<String, Long> phases = metrics.phases(0);
+
+        // assert
+        assertThat(phases.get(Metrics.SOLVE))
+                .isZero();
+    }
+
+    // disabled
+
+    @Test
+    void disabled_IsASingletonThatRecordsNothing() {
+        // arrange
+        final Metrics metrics = Metrics.disabled();
+
+        // act
+        final Metrics.Phase phase = metrics.phase(Metrics.PARSE);
+        phase.close();
+        phase.close();
+        metrics.increment("counter");
+
+        // assert
+        assertThat(metrics)
+                .isSameAs(Metrics.disabled());
+        assertThat(metrics.isEnabled())
+                .isFalse();
+        assertThat(phase)
+                .isSameAs(metrics.phase(Metrics.SOLVE));
+    }
+
+}
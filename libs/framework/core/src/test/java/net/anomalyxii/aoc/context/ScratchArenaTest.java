@@ -0,0 +1,157 @@
+package net.anomalyxii.aoc.context;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ScratchArenaTest {
+
+    // ****************************************
+    // Test Methods
+    // ****************************************
+
+    // ints
+
+    @Test
+    void ints_ReusesArrayAfterResetAndRestoresFill() {
+        // arrange
+        final ScratchArena arena = new ScratchArena();
+        final int[] first = arena.ints(4, -1);
+        first[2] = 42;
+        arena.reset();
+
+        // act
+        final int[] second = arena.ints(4, -1);
+
+        // assert
+        assertThat(second)
+                .isSameAs(first);
+        assertThat(second)
+                .containsExactly(-1, -1, -1, -1);
+    }
+
+    @Test
+    void ints_HandsOutSeparateArraysWithinRun() {
+        // arrange
+        final ScratchArena arena = new ScratchArena();
+
+        // act
+        final int[] first = arena.ints(4, 0);
+        final int[] second = arena.ints(4, 0);
+
+        // assert
+        assertThat(second)
+                .isNotSameAs(first);
+    }
+
+    @Test
+    void ints_ReallocatesWhenSizeChanges() {
+        // arrange
+        final ScratchArena arena = new ScratchArena();
+        final int[] first = arena.ints(4, 0);
+        arena.reset();
+
+        // act
+        final int[] second = arena.ints(5, 7);
+
+        // assert
+        assertThat(second)
+                .isNotSameAs(first);
+        assertThat(second)
+                .containsExactly(7, 7, 7, 7, 7);
+    }
+
+    // longs
+
+    @Test
+    void longs_ReusesArrayAfterResetAndRestoresFill() {
+        // arrange
+        final ScratchArena arena = new ScratchArena();
+        final long[] first = arena.longs(3, Long.MAX_VALUE);
+        first[0] = 0;
+        arena.reset();
+
+        // act
+        final long[] second = arena.longs(3, Long.MAX_VALUE);
+
+        // assert
+        assertThat(second)
+                .isSameAs(first);
+        assertThat(second)
+                .containsExactly(Long.MAX_VALUE, Long.MAX_VALUE, Long.MAX_VALUE);
+    }
+
+    // booleans
+
+    @Test
+    void booleans_ReusesArrayAfterResetAndClearsIt() {
+        // arrange
+        final ScratchArena arena = new ScratchArena();
+        final boolean[] first = arena.booleans(2);
+        first[1] = true;
+        arena.reset();
+
+        // act
+        final boolean[] second = arena.booleans(2);
+
+        // assert
+        assertThat(second)
+                .isSameAs(first);
+        assertThat(second)
+                .containsExactly(false, false);
+    }
+
+    // maxRetainedBytes
+
+    @Test
+    void reset_DoesNotKeepArraysBeyondMaxRetainedBytes() {
+        // arrange
+        final ScratchArena arena = new ScratchArena(4L * Integer.BYTES);
+        final int[] kept = arena.ints(4, 0);
+        final int[] dropped = arena.ints(1, 0);
+        arena.reset();
+
+        // act
+        final int[] first = arena.ints(4, 0);
+        final int[] second = arena.ints(1, 0);
+
+        // assert
+        assertThat(first)
+                .isSameAs(kept);
+        assertThat(second)
+                .isNotSameAs(dropped);
+    }
+
+    @Test
+    void reset_DoesNotKeepArrayLargerThanMaxRetainedBytes() {
+        // arrange
+        final ScratchArena arena = new ScratchArena(Long.BYTES);
+        final long[] first = arena.longs(2, 0);
+        arena.reset();
+
+        // act
+        final long[] second = arena.longs(2, 0);
+
+        // assert
+        assertThat(second)
+                .isNotSameAs(first);
+    }
+
+    // clear
+
+    @Test
+    void clear_DropsKeptArrays() {
+        // arrange
+        final ScratchArena arena = new ScratchArena();
+        final int[] first = arena.ints(4, 0);
+        arena.clear();
+
+        // act
+        final int[] second = arena.ints(4, 0);
+
+        // assert
+        assertThat(second)
+                .isNotSameAs(first);
+    }
+
+}
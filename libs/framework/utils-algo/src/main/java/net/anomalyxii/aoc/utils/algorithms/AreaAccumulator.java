@@ -0,0 +1,224 @@
+package net.anomalyxii.aoc.utils.algorithms;
+
+import net.anomalyxii.aoc.utils.geometry.Coordinate;
+
+import java.math.BigInteger;
+
+/**
+ * Incrementally calculate the area, boundary and interior of a lattice
+ * polygon, one vertex at a time.
+ * <p>
+ * The area is calculated using the shoelace algorithm, accumulated exactly
+ * in 128-bit arithmetic so that very large polygons do not lose precision;
+ * the number of interior points is then derived using Pick's theorem. Only
+ * the first and most recent vertices are retained, so arbitrarily long
+ * paths can be processed in constant memory.
+ * <p>
+ * The polygon is implicitly closed, from the last vertex back to the first,
+ * whenever a result is requested.
+ */
+public class AreaAccumulator {
+
+    // ****************************************
+    // Private Members
+    // ****************************************
+
+    private boolean empty = true;
+    private long firstX;
+    private long firstY;
+    private long lastX;
+    private long lastY;
+
+    // Twice the signed area, as a 128-bit value
+    private long doubledAreaHigh;
+    private long doubledAreaLow;
+
+    private long boundaryPoints;
+
+    // ****************************************
+    // Helper Methods
+    // ****************************************
+
+    /**
+     * Add the next vertex of the polygon.
+     *
+     * @param x the x-coordinate of the vertex
+     * @param y the y-coordinate of the vertex
+     * @return this {@link AreaAccumulator}, for chaining
+     */
+    public AreaAccumulator add(final long x, final long y) {
+        if (empty) {
+            empty = false;
+            firstX = x;
+            firstY = y;
+        } else {
+            accumulateEdge(lastX, lastY, x, y);
+        }
+
+        lastX = x;
+        lastY = y;
+        return this;
+    }
+
+    /**
+     * Add the next vertex of the polygon.
+     *
+     * @param vertex the {@link Coordinate} of the vertex
+     * @return this {@link AreaAccumulator}, for chaining
+     */
+    public AreaAccumulator add(final Coordinate vertex) {
+        return add(vertex.x(), vertex.y());
+    }
+
+    /**
+     * Add the next vertex of the polygon, relative to the previous vertex.
+     * <p>
+     * If no vertices have been added yet, the polygon is assumed to start at
+     * the origin.
+     *
+     * @param dx the change in the x-coordinate
+     * @param dy the change in the y-coordinate
+     * @return this {@link AreaAccumulator}, for chaining
+     */
+    public AreaAccumulator move(final long dx, final long dy) {
+        if (empty) add(0, 0);
+        return add(lastX + dx, lastY + dy);
+    }
+
+    /**
+     * Calculate twice the area of the polygon.
+     * <p>
+     * Twice the area of a lattice polygon is always a whole number.
+     *
+     * @return twice the area
+     * @throws ArithmeticException if the result does not fit in a {@code long}
+     */
+    public long doubledArea() {
+        final long[] closed = closedDoubledArea();
+        long high = closed[0];
+        long low = closed[1];
+        if (high < 0) {
+            low = -low;
+            high = ~high + (low == 0 ? 1 : 0);
+        }
+
+        if (high != 0 || low < 0)
+            throw new ArithmeticException("Area is too large to fit in a long");
+        return low;
+    }
+
+    /**
+     * Calculate twice the area of the polygon, without any risk of overflow.
+     *
+     * @return twice the area
+     */
+    public BigInteger exactDoubledArea() {
+        final long[] closed = closedDoubledArea();
+        return BigInteger.valueOf(closed[0])
+                .shiftLeft(Long.SIZE)
+                .add(new BigInteger(Long.toUnsignedString(closed[1])))
+                .abs();
+    }
+
+    /**
+     * Calculate the area of the polygon, rounded down to the nearest whole
+     * number.
+     *
+     * @return the area
+     * @throws ArithmeticException if the result does not fit in a {@code long}
+     */
+    public long area() {
+        return doubledArea() / 2;
+    }
+
+    /**
+     * Calculate the number of lattice points on the boundary of the polygon.
+     * <p>
+     * For a rectilinear polygon this is the same as the perimeter.
+     *
+     * @return the number of boundary points
+     */
+    public long boundaryPoints() {
+        if (empty) return 0;
+        return boundaryPoints + latticePointsOnEdge(lastX, lastY, firstX, firstY);
+    }
+
+    /**
+     * Calculate the number of lattice points strictly inside the polygon,
+     * using Pick's theorem.
+     *
+     * @return the number of interior points
+     * @throws ArithmeticException if the area does not fit in a {@code long}
+     */
+    public long interiorPoints() {
+        // Pick's theorem: A = i + (b / 2) - 1, so i = (2A - b + 2) / 2
+        return (doubledArea() - boundaryPoints() + 2) / 2;
+    }
+
+    /**
+     * Calculate the number of lattice points that are either inside, or on
+     * the boundary of, the polygon.
+     *
+     * @return the number of enclosed points
+     * @throws ArithmeticException if the area does not fit in a {@code long}
+     */
+    public long enclosedPoints() {
+        return interiorPoints() + boundaryPoints();
+    }
+
+    // ****************************************
+    // Private Helper Methods
+    // ****************************************
+
+    /*
+     * Accumulate the contribution of a single edge.
+     */
+    private void accumulateEdge(final long x1, final long y1, final long x2, final long y2) {
+        // Add `x1 * y2`...
+        final long plusLow = x1 * y2;
+        final long afterPlus = doubledAreaLow + plusLow;
+        doubledAreaHigh += Math.multiplyHigh(x1, y2) + (Long.compareUnsigned(afterPlus, doubledAreaLow) < 0 ? 1 : 0);
+
+        // ... then subtract `x2 * y1`
+        final long minusLow = x2 * y1;
+        doubledAreaLow = afterPlus - minusLow;
+        doubledAreaHigh -= Math.multiplyHigh(x2, y1) + (Long.compareUnsigned(afterPlus, minusLow) < 0 ? 1 : 0);
+
+        boundaryPoints += latticePointsOnEdge(x1, y1, x2, y2);
+    }
+
+    /*
+     * Calculate twice the signed area, including the closing edge, as a
+     * 128-bit `{high, low}` pair.
+     */
+    private long[] closedDoubledArea() {
+        if (empty) return new long[]{0, 0};
+
+        final long high = doubledAreaHigh;
+        final long low = doubledAreaLow;
+        final long boundary = boundaryPoints;
+        try {
+            accumulateEdge(lastX, lastY, firstX, firstY);
+            return new long[]{doubledAreaHigh, doubledAreaLow};
+        } finally {
+            doubledAreaHigh = high;
+            doubledAreaLow = low;
+            boundaryPoints = boundary;
+        }
+    }
+
+    /*
+     * Count the lattice points on an edge, excluding the start point.
+     */
+    private static long latticePointsOnEdge(final long x1, final long y1, final long x2, final long y2) {
+        long a = Math.abs(x2 - x1);
+        long b = Math.abs(y2 - y1);
+        while (b != 0) {
+            final long t = a % b;
+            a = b;
+            b = t;
+        }
+        return a;
+    }
+
+}
@@ -0,0 +1,288 @@
+package net.anomalyxii.aoc.utils.algorithms;
+
+import net.anomalyxii.aoc.utils.collections.Hashing;
+import net.anomalyxii.aoc.utils.collections.LongIntMap;
+
+import java.util.Arrays;
+import java.util.function.LongUnaryOperator;
+import java.util.function.ToLongFunction;
+import java.util.function.UnaryOperator;
+
+/**
+ * Detect when a sequence of states starts to repeat, so that the result of
+ * some very large number of steps can be extrapolated without simulating
+ * every step.
+ * <p>
+ * A {@link CycleDetector} instance works in <i>hash-based</i> mode: each
+ * step is {@link #observe(long, long) observed} as a compact {@code long}
+ * fingerprint of the state plus a per-step metric (such as a score, or a
+ * height). Fingerprints are held in a primitive {@link LongIntMap}, so
+ * observing a step is cheap enough to do on every iteration. Once a
+ * fingerprint is seen for a second time the {@link Cycle} is known, and
+ * the metric for any later step can be {@link #extrapolate(long) extrapolated}
+ * from those already recorded.
+ * <p>
+ * Alternatively, for states that can be re-generated cheaply from a pure
+ * step function, the static {@link #floyd(long, LongUnaryOperator) Floyd}
+ * and {@link #brent(long, LongUnaryOperator) Brent} methods find the
+ * {@link Cycle} in constant memory.
+ * <p>
+ * Since fingerprints are compared rather than full states, two different
+ * states with the same fingerprint will be treated as the same; for a good
+ * 64-bit fingerprint this is vanishingly unlikely.
+ */
+public class CycleDetector {
+
+    /*
+     * Initial capacity of the metric table.
+     */
+    private static final int INITIAL_CAPACITY = 128;
+
+    // ****************************************
+    // Private Members
+    // ****************************************
+
+    private final LongIntMap steps = new LongIntMap(INITIAL_CAPACITY);
+    private long[] metrics = new long[INITIAL_CAPACITY];
+
+    private int size = 0;
+    private Cycle cycle = null;
+
+    // ****************************************
+    // Getters
+    // ****************************************
+
+    /**
+     * Get the number of steps observed so far.
+     *
+     * @return the number of steps
+     */
+    public long steps() {
+        return size;
+    }
+
+    /**
+     * Get the {@link Cycle}, if one has been detected.
+     *
+     * @return the {@link Cycle}, or {@code null} if no cycle has been detected yet
+     */
+    public Cycle cycle() {
+        return cycle;
+    }
+
+    // ****************************************
+    // Helper Methods
+    // ****************************************
+
+    /**
+     * Observe the state at the next step.
+     * <p>
+     * Steps are numbered from {@code 0}, in the order in which they are
+     * observed. Once a cycle has been detected, any further observations
+     * are ignored.
+     *
+     * @param fingerprint a compact fingerprint of the state
+     * @param metric      the metric to record for this step
+     * @return {@code true} if a cycle has been detected; {@code false} otherwise
+     */
+    public boolean observe(final long fingerprint, final long metric) {
+        if (cycle != null) return true;
+
+        final int previous = steps.putIfAbsent(fingerprint, size);
+        if (previous != LongIntMap.NO_VALUE) {
+            cycle = new Cycle(previous, size - previous);
+            return true;
+        }
+
+        if (size == metrics.length) metrics = Arrays.copyOf(metrics, size << 1);
+        metrics[size++] = metric;
+        return false;
+    }
+
+    /**
+     * Observe the state at the next step.
+     *
+     * @param fingerprint a compact fingerprint of the state
+     * @param metric      the metric to record for this step
+     * @return {@code true} if a cycle has been detected; {@code false} otherwise
+     * @see #observe(long, long)
+     * @see #fingerprint(byte[])
+     */
+    public boolean observe(final byte[] fingerprint, final long metric) {
+        return observe(fingerprint(fingerprint), metric);
+    }
+
+    /**
+     * Get the metric recorded for a given step, extrapolating from the
+     * detected {@link Cycle} if the step has not been observed.
+     *
+     * @param step the step
+     * @return the metric at that step
+     * @throws IllegalStateException if the step has not been observed, and no cycle has been detected
+     */
+    public long extrapolate(final long step) {
+        if (step < 0) throw new IllegalArgumentException("Invalid step: " + step);
+        if (step < size) return metrics[(int) step];
+        if (cycle == null)
+            throw new IllegalStateException("Cannot extrapolate to step " + step + " before a cycle is detected");
+        return metrics[(int) cycle.equivalentStep(step)];
+    }
+
+    // ****************************************
+    // Static Helper Methods
+    // ****************************************
+
+    /**
+     * Find a {@link Cycle} using Floyd's "tortoise and hare" algorithm.
+     *
+     * @param initial the initial state
+     * @param step    the (pure) step function
+     * @return the {@link Cycle}
+     */
+    public static Cycle floyd(final long initial, final LongUnaryOperator step) {
+        long tortoise = step.applyAsLong(initial);
+        long hare = step.applyAsLong(tortoise);
+        while (tortoise != hare) {
+            tortoise = step.applyAsLong(tortoise);
+            hare = step.applyAsLong(step.applyAsLong(hare));
+        }
+
+        long start = 0;
+        tortoise = initial;
+        while (tortoise != hare) {
+            tortoise = step.applyAsLong(tortoise);
+            hare = step.applyAsLong(hare);
+            ++start;
+        }
+
+        long length = 1;
+        hare = step.applyAsLong(tortoise);
+        while (tortoise != hare) {
+            hare = step.applyAsLong(hare);
+            ++length;
+        }
+
+        return new Cycle(start, length);
+    }
+
+    /**
+     * Find a {@link Cycle} using Brent's algorithm.
+     * <p>
+     * This typically requires fewer applications of the step function than
+     * {@link #floyd(long, LongUnaryOperator) Floyd's algorithm}.
+     *
+     * @param initial the initial state
+     * @param step    the (pure) step function
+     * @return the {@link Cycle}
+     */
+    public static Cycle brent(final long initial, final LongUnaryOperator step) {
+        long power = 1;
+        long length = 1;
+        long tortoise = initial;
+        long hare = step.applyAsLong(initial);
+        while (tortoise != hare) {
+            if (power == length) {
+                tortoise = hare;
+                power <<= 1;
+                length = 0;
+            }
+            hare = step.applyAsLong(hare);
+            ++length;
+        }
+
+        tortoise = initial;
+        hare = initial;
+        for (long i = 0; i < length; i++)
+            hare = step.applyAsLong(hare);
+
+        long start = 0;
+        while (tortoise != hare) {
+            tortoise = step.applyAsLong(tortoise);
+            hare = step.applyAsLong(hare);
+            ++start;
+        }
+
+        return new Cycle(start, length);
+    }
+
+    /**
+     * Find a {@link Cycle} using Brent's algorithm, comparing states by
+     * their fingerprints.
+     *
+     * @param <S>         the type of state
+     * @param initial     the initial state
+     * @param step        the (pure) step function
+     * @param fingerprint a function to calculate the fingerprint of a state
+     * @return the {@link Cycle}
+     */
+    public static <S> Cycle brent(final S initial, final UnaryOperator<S> step, final ToLongFunction<S> fingerprint) {
+        long power = 1;
+        long length = 1;
+        long tortoise = fingerprint.applyAsLong(initial);
+        S hareState = step.apply(initial);
+        long hare = fingerprint.applyAsLong(hareState);
+        while (tortoise != hare) {
+            if (power == length) {
+                tortoise = hare;
+                power <<= 1;
+                length = 0;
+            }
+            hareState = step.apply(hareState);
+            hare = fingerprint.applyAsLong(hareState);
+            ++length;
+        }
+
+        S tortoiseState = initial;
+        hareState = initial;
+        for (long i = 0; i < length; i++)
+            hareState = step.apply(hareState);
+
+        long start = 0;
+        while (fingerprint.applyAsLong(tortoiseState) != fingerprint.applyAsLong(hareState)) {
+            tortoiseState = step.apply(tortoiseState);
+            hareState = step.apply(hareState);
+            ++start;
+        }
+
+        return new Cycle(start, length);
+    }
+
+    /**
+     * Calculate a 64-bit fingerprint of an array of bytes.
+     *
+     * @param state the bytes to fingerprint
+     * @return the fingerprint
+     * @see Hashing#fingerprint(byte[])
+     */
+    public static long fingerprint(final byte[] state) {
+        return Hashing.fingerprint(state);
+    }
+
+    // ****************************************
+    // Helper Classes
+    // ****************************************
+
+    /**
+     * A detected cycle.
+     *
+     * @param start  the first step that is part of the cycle
+     * @param length the number of steps in the cycle
+     */
+    public record Cycle(long start, long length) {
+
+        // Helper Methods
+
+        /**
+         * Find the earliest step that is equivalent to the given step.
+         *
+         * @param step the step
+         * @return the equivalent step, which is always less than {@code start + length}
+         */
+        public long equivalentStep(final long step) {
+            if (step < start) return step;
+            return start + (step - start) % length;
+        }
+
+    }
+
+}
@@ -4,11 +4,11 @@ import net.anomalyxii.aoc.utils.geometry.Coordinate;
 import net.anomalyxii.aoc.utils.geometry.Direction;
 import net.anomalyxii.aoc.utils.geometry.Grid;
 
-import java.lang.reflect.Array;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.Objects;
 import java.util.PriorityQueue;
+import java.util.function.IntFunction;
 
 /**
  * A {@link ShortestPath} implementation using Dijkstra's algorithm.
@@ -29,6 +29,7 @@ public class Dijkstra implements ShortestPath {
     // ****************************************
 
     private final PriorityFunction priorityFunction;
+    private final IntFunction<long[]> distances;
 
     // ****************************************
     // Constructors
@@ -39,7 +40,22 @@ public class Dijkstra implements ShortestPath {
     }
 
     public Dijkstra(final PriorityFunction priorityFunction) {
+        this(priorityFunction, long[]::new);
+    }
+
+    /**
+     * Create a {@link Dijkstra} that takes its working array from the given
+     * source, for example so that it can be reused between runs.
+     * <p>
+     * The source is given the number of cells in the {@link Grid}, and must
+     * return an array at least that long; its contents will be overwritten.
+     *
+     * @param priorityFunction the {@link PriorityFunction}
+     * @param distances        the source of the working array
+     */
+    public Dijkstra(final PriorityFunction priorityFunction, final IntFunction<long[]> distances) {
         this.priorityFunction = priorityFunction;
+        this.distances = distances;
     }
 
     // ****************************************
@@ -49,9 +65,9 @@ public class Dijkstra implements ShortestPath {
     @Override
     public long solve(final Grid grid, final Coordinate from, final Coordinate to) {
         final int size = grid.height() * grid.width();
-        final long[] dist = (long[]) Array.newInstance(long.class, size);
+        final long[] dist = distances.apply(size);
 
-        Arrays.fill(dist, NO_VAL);
+        Arrays.fill(dist, 0, size, NO_VAL);
         dist[offset(grid, from)] = 0;
 
         final PriorityQueue<CoordinateWithPriority> queue = new PriorityQueue<>(CoordinateWithPriority.COMPARATOR);
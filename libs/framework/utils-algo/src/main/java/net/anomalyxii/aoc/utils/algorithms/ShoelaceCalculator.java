@@ -6,6 +6,8 @@ import java.util.List;
 
 /**
  * An {@link AreaCalculator} that uses the shoelace algorithm.
+ *
+ * @see AreaAccumulator
  */
 public class ShoelaceCalculator implements AreaCalculator {
 
@@ -15,16 +17,11 @@ public class ShoelaceCalculator implements AreaCalculator {
 
     @Override
     public long area(final List<Coordinate> corners) {
-        long plus = 0;
-        long minus = 0;
-        for (int x = 0; x < corners.size(); x++) {
-            final int y = x == corners.size() - 1 ? 0 : x + 1;
+        final AreaAccumulator accumulator = new AreaAccumulator();
+        for (final Coordinate corner : corners)
+            accumulator.add(corner);
 
-            plus += (long) corners.get(x).x() * corners.get(y).y();
-            minus += (long) corners.get(y).x() * corners.get(x).y();
-        }
-
-        return (long) (0.5 * Math.abs(plus - minus));
+        return accumulator.area();
     }
 
 }
@@ -0,0 +1,124 @@
+package net.anomalyxii.aoc.utils.algorithms;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class AreaAccumulatorTest {
+
+    // ****************************************
+    // Test Methods
+    // ****************************************
+
+    // area
+
+    @Test
+    void area_Square() {
+        // arrange
+        final AreaAccumulator accumulator = new AreaAccumulator()
+                .add(0, 0)
+                .add(4, 0)
+                .add(4, 4)
+                .add(0, 4);
+
+        // act
+        final long area = accumulator.area();
+
+        // assert
+        assertThat(area)
+                .isEqualTo(16L);
+    }
+
+    @Test
+    void area_AnticlockwiseTriangle() {
+        // arrange
+        final AreaAccumulator accumulator = new AreaAccumulator()
+                .add(0, 0)
+                .add(0, 3)
+                .add(3, 0);
+
+        // act
+        final long doubledArea = accumulator.doubledArea();
+
+        // assert
+        assertThat(doubledArea)
+                .isEqualTo(9L);
+    }
+
+    @Test
+    void area_ThrowsExceptionIfTooLarge() {
+        // arrange
+        final long big = 1L << 40;
+        final AreaAccumulator accumulator = new AreaAccumulator()
+                .add(0, 0)
+                .add(big, 0)
+                .add(big, big)
+                .add(0, big);
+
+        // act
+        final ArithmeticException error = assertThrows(ArithmeticException.class, accumulator::area);
+
+        // assert
+        assertThat(error)
+                .isNotNull();
+    }
+
+    // exactDoubledArea
+
+    @Test
+    void exactDoubledArea_VeryLargeSquare() {
+        // arrange
+        final long big = 1L << 40;
+        final AreaAccumulator accumulator = new AreaAccumulator()
+                .add(0, 0)
+                .add(big, 0)
+                .add(big, big)
+                .add(0, big);
+
+        // act
+        final BigInteger doubledArea = accumulator.exactDoubledArea();
+
+        // assert
+        assertThat(doubledArea)
+                .isEqualTo(BigInteger.ONE.shiftLeft(81));
+    }
+
+    // boundaryPoints, interiorPoints & enclosedPoints
+
+    @Test
+    void points_Rectangle() {
+        // arrange
+        final AreaAccumulator accumulator = new AreaAccumulator()
+                .move(6, 0)
+                .move(0, 5)
+                .move(-6, 0)
+                .move(0, -5);
+
+        // act + assert
+        assertThat(accumulator.boundaryPoints())
+                .isEqualTo(22L);
+        assertThat(accumulator.interiorPoints())
+                .isEqualTo(20L);
+        assertThat(accumulator.enclosedPoints())
+                .isEqualTo(42L);
+    }
+
+    @Test
+    void points_DiagonalEdges() {
+        // arrange
+        final AreaAccumulator accumulator = new AreaAccumulator()
+                .add(0, 0)
+                .add(4, 4)
+                .add(8, 0);
+
+        // act + assert
+        assertThat(accumulator.boundaryPoints())
+                .isEqualTo(16L);
+        assertThat(accumulator.interiorPoints())
+                .isEqualTo(9L);
+    }
+
+}
@@ -0,0 +1,121 @@
+package net.anomalyxii.aoc.utils.algorithms;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.function.LongUnaryOperator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CycleDetectorTest {
+
+    /*
+     * A sequence with a tail of 3 steps, then a cycle of length 5:
+     *   0 -> 1 -> 2 -> 3 -> 4 -> 5 -> 6 -> 7 -> 3 -> ...
+     */
+    private static final LongUnaryOperator STEP = value -> value == 7 ? 3 : value + 1;
+
+    // ****************************************
+    // Test Methods
+    // ****************************************
+
+    // observe & extrapolate
+
+    @Test
+    void observe_DetectsCycle() {
+        // arrange
+        final CycleDetector detector = new CycleDetector();
+
+        // act
+        long state = 0;
+        while (!detector.observe(state, state * 10))
+            state = STEP.applyAsLong(state);
+
+        // assert
+        assertThat(detector.cycle())
+                .isEqualTo(new CycleDetector.Cycle(3, 5));
+        assertThat(detector.extrapolate(2))
+                .isEqualTo(20L);
+        assertThat(detector.extrapolate(1_000_000_000L))
+                .isEqualTo(30L + 10L * ((1_000_000_000L - 3) % 5));
+    }
+
+    @Test
+    void observe_DetectsCycleWithManyStates() {
+        // arrange
+        final CycleDetector detector = new CycleDetector();
+
+        // act
+        long state = 0;
+        while (!detector.observe(state, state))
+            state = (state + 1) % 10_000;
+
+        // assert
+        assertThat(detector.cycle())
+                .isEqualTo(new CycleDetector.Cycle(0, 10_000));
+        assertThat(detector.extrapolate(123_456_789L))
+                .isEqualTo(6_789L);
+    }
+
+    @Test
+    void observe_DetectsCycleWithByteFingerprints() {
+        // arrange
+        final CycleDetector detector = new CycleDetector();
+
+        // act
+        int state = 0;
+        while (!detector.observe(new byte[]{(byte) state, (byte) (state >> 8)}, state))
+            state = (state + 3) % 1_000;
+
+        // assert
+        assertThat(detector.cycle())
+                .isEqualTo(new CycleDetector.Cycle(0, 1_000));
+    }
+
+    @Test
+    void extrapolate_ThrowsExceptionIfNoCycle() {
+        // arrange
+        final CycleDetector detector = new CycleDetector();
+        detector.observe(1, 1);
+
+        // act
+        final IllegalStateException error = assertThrows(IllegalStateException.class, () -> detector.extrapolate(10));
+
+        // assert
+        assertThat(error)
+                .isNotNull();
+    }
+
+    // floyd & brent
+
+    @Test
+    void floyd_FindsCycle() {
+        // act
+        final CycleDetector.Cycle cycle = CycleDetector.floyd(0, STEP);
+
+        // assert
+        assertThat(cycle)
+                .isEqualTo(new CycleDetector.Cycle(3, 5));
+    }
+
+    @Test
+    void brent_FindsCycle() {
+        // act
+        final CycleDetector.Cycle cycle = CycleDetector.brent(0, STEP);
+
+        // assert
+        assertThat(cycle)
+                .isEqualTo(new CycleDetector.Cycle(3, 5));
+    }
+
+    @Test
+    void brent_FindsCycleUsingFingerprints() {
+        // act
+        final CycleDetector.Cycle cycle = CycleDetector.brent("0", s -> String.valueOf(STEP.applyAsLong(Long.parseLong(s))), Long::parseLong);
+
+        // assert
+        assertThat(cycle)
+                .isEqualTo(new CycleDetector.Cycle(3, 5));
+    }
+
+}
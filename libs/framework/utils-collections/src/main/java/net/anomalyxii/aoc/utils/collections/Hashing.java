@@ -0,0 +1,99 @@
+package net.anomalyxii.aoc.utils.collections;
+
+/**
+ * Hash functions for primitive keys, and fingerprints of arrays.
+ */
+public final class Hashing {
+
+    /*
+     * The odd constant, derived from the golden ratio, that SplitMix64 adds
+     * between outputs; it stops a zero fingerprint and a zero value from
+     * mixing to zero.
+     */
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    // ****************************************
+    // Constructors
+    // ****************************************
+
+    private Hashing() {
+    }
+
+    // ****************************************
+    // Static Helper Methods
+    // ****************************************
+
+    /**
+     * Scramble the bits of a {@code long}, so that keys that differ in only
+     * a few bits are spread evenly across a hash table.
+     * <p>
+     * This is the finaliser from SplitMix64; it is a bijection, so distinct
+     * inputs always produce distinct outputs.
+     *
+     * @param value the value to scramble
+     * @return the scrambled value
+     */
+    public static long mix(final long value) {
+        long z = value;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Add a value to a fingerprint.
+     * <p>
+     * Each value is {@link #mix(long) mixed} into the whole fingerprint, so
+     * fingerprints of sequences that differ in only a few bits are still
+     * unlikely to collide.
+     *
+     * @param fingerprint the fingerprint so far
+     * @param value       the value to add
+     * @return the new fingerprint
+     */
+    public static long combine(final long fingerprint, final long value) {
+        return mix((fingerprint + GOLDEN_GAMMA) ^ value);
+    }
+
+    /**
+     * Calculate a 64-bit fingerprint of an array of bytes.
+     * <p>
+     * The bytes are {@link #combine(long, long) combined} eight at a time,
+     * followed by the length of the array.
+     *
+     * @param values the bytes to fingerprint
+     * @return the fingerprint
+     */
+    public static long fingerprint(final byte[] values) {
+        long fingerprint = 0;
+        long word = 0;
+        for (int i = 0; i < values.length; i++) {
+            word = (word << Byte.SIZE) | (values[i] & 0xFF);
+            if ((i & 7) == 7) {
+                fingerprint = combine(fingerprint, word);
+                word = 0;
+            }
+        }
+        if ((values.length & 7) != 0) fingerprint = combine(fingerprint, word);
+        return combine(fingerprint, values.length);
+    }
+
+    /**
+     * Calculate a 64-bit fingerprint of an array of {@code int}s.
+     * <p>
+     * The values are {@link #combine(long, long) combined} two at a time,
+     * followed by the length of the array.
+     *
+     * @param values the values to fingerprint
+     * @return the fingerprint
+     */
+    public static long fingerprint(final int[] values) {
+        long fingerprint = 0;
+        int i = 0;
+        for (; i + 1 < values.length; i += 2)
+            fingerprint = combine(fingerprint, ((long) values[i] << Integer.SIZE) | (values[i + 1] & 0xFFFFFFFFL));
+        if (i < values.length) fingerprint = combine(fingerprint, values[i] & 0xFFFFFFFFL);
+        return combine(fingerprint, values.length);
+    }
+
+}
@@ -0,0 +1,131 @@
+package net.anomalyxii.aoc.utils.collections;
+
+import java.util.Arrays;
+
+/**
+ * A map from {@code long} keys to non-negative {@code int} values, without
+ * boxing.
+ * <p>
+ * Entries are held in an open-addressed table with linear probing, keyed
+ * by the {@link Hashing#mix(long) mixed} key, which doubles in size
+ * whenever it becomes half full. Entries cannot be removed.
+ */
+public class LongIntMap {
+
+    /**
+     * The value returned when there is no value for a key.
+     */
+    public static final int NO_VALUE = -1;
+
+    /*
+     * The minimum capacity of the table; must be a power of two.
+     */
+    private static final int MIN_CAPACITY = 16;
+
+    // ****************************************
+    // Private Members
+    // ****************************************
+
+    private long[] keys;
+    private int[] values;
+    private int size = 0;
+
+    // ****************************************
+    // Constructors
+    // ****************************************
+
+    public LongIntMap() {
+        this(MIN_CAPACITY / 2);
+    }
+
+    public LongIntMap(final int expectedSize) {
+        if (expectedSize < 0) throw new IllegalArgumentException("Invalid expected size: " + expectedSize);
+
+        final int capacity = Math.max(MIN_CAPACITY, Integer.highestOneBit(Math.max(1, expectedSize) * 2 - 1) << 1);
+        this.keys = new long[capacity];
+        this.values = new int[capacity];
+        Arrays.fill(values, NO_VALUE);
+    }
+
+    // ****************************************
+    // Getters
+    // ****************************************
+
+    /**
+     * Get the number of entries.
+     *
+     * @return the number of entries
+     */
+    public int size() {
+        return size;
+    }
+
+    // ****************************************
+    // Helper Methods
+    // ****************************************
+
+    /**
+     * Get the value for a key.
+     *
+     * @param key the key
+     * @return the value, or {@link #NO_VALUE} if the key is not in the map
+     */
+    public int get(final long key) {
+        return values[slot(key)];
+    }
+
+    /**
+     * Add a value for a key, unless the key already has a value.
+     *
+     * @param key   the key
+     * @param value the value, which must not be negative
+     * @return the existing value, or {@link #NO_VALUE} if the given value was added
+     */
+    public int putIfAbsent(final long key, final int value) {
+        if (value < 0) throw new IllegalArgumentException("Invalid value: " + value);
+
+        final int slot = slot(key);
+        if (values[slot] != NO_VALUE) return values[slot];
+
+        keys[slot] = key;
+        values[slot] = value;
+        if (++size << 1 > values.length) resize();
+        return NO_VALUE;
+    }
+
+    // ****************************************
+    // Private Helper Methods
+    // ****************************************
+
+    /*
+     * Find the slot for a key: either the slot that already contains it, or
+     * the empty slot that it should be inserted into.
+     */
+    private int slot(final long key) {
+        final int mask = values.length - 1;
+        int slot = (int) Hashing.mix(key) & mask;
+        while (values[slot] != NO_VALUE && keys[slot] != key)
+            slot = (slot + 1) & mask;
+        return slot;
+    }
+
+    /*
+     * Double the size of the table.
+     */
+    private void resize() {
+        final long[] oldKeys = keys;
+        final int[] oldValues = values;
+
+        keys = new long[oldValues.length << 1];
+        values = new int[oldValues.length << 1];
+        Arrays.fill(values, NO_VALUE);
+
+        for (int i = 0; i < oldValues.length; i++) {
+            if (oldValues[i] == NO_VALUE) continue;
+            final int slot = slot(oldKeys[i]);
+            keys[slot] = oldKeys[i];
+            values[slot] = oldValues[i];
+        }
+    }
+
+}
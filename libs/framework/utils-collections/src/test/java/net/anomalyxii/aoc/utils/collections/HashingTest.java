@@ -0,0 +1,71 @@
+package net.anomalyxii.aoc.utils.collections;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HashingTest {
+
+    // ****************************************
+    // Test Methods
+    // ****************************************
+
+    // fingerprint(byte[])
+
+    @Test
+    void fingerprint_Bytes_IsTheSameForEqualArrays() {
+        // act
+        final long first = Hashing.fingerprint(new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9});
+        final long second = Hashing.fingerprint(new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9});
+
+        // assert
+        assertThat(first)
+                .isEqualTo(second);
+    }
+
+    @Test
+    void fingerprint_Bytes_DistinguishesSingleBitsAndLengths() {
+        // arrange
+        final Set<Long> fingerprints = new HashSet<>();
+
+        // act
+        for (int length = 0; length <= 16; length++) {
+            fingerprints.add(Hashing.fingerprint(new byte[length]));
+            for (int bit = 0; bit < length * Byte.SIZE; bit++) {
+                final byte[] values = new byte[length];
+                values[bit / Byte.SIZE] = (byte) (1 << (bit % Byte.SIZE));
+                fingerprints.add(Hashing.fingerprint(values));
+            }
+        }
+
+        // assert
+        assertThat(fingerprints)
+                .hasSize(17 + (8 * 16 * 17 / 2));
+    }
+
+    // fingerprint(int[])
+
+    @Test
+    void fingerprint_Ints_DistinguishesSingleBitsAndLengths() {
+        // arrange
+        final Set<Long> fingerprints = new HashSet<>();
+
+        // act
+        for (int length = 0; length <= 5; length++) {
+            fingerprints.add(Hashing.fingerprint(new int[length]));
+            for (int bit = 0; bit < length * Integer.SIZE; bit++) {
+                final int[] values = new int[length];
+                values[bit / Integer.SIZE] = 1 << (bit % Integer.SIZE);
+                fingerprints.add(Hashing.fingerprint(values));
+            }
+        }
+
+        // assert
+        assertThat(fingerprints)
+                .hasSize(6 + (32 * 5 * 6 / 2));
+    }
+
+}
@@ -0,0 +1,87 @@
+package net.anomalyxii.aoc.utils.collections;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LongIntMapTest {
+
+    // ****************************************
+    // Test Methods
+    // ****************************************
+
+    // get
+
+    @Test
+    void get_ReturnsNoValueForMissingKey() {
+        // arrange
+        final LongIntMap map = new LongIntMap();
+        map.putIfAbsent(0, 7);
+
+        // act
+        final int value = map.get(1);
+
+        // assert
+        assertThat(value)
+                .isEqualTo(LongIntMap.NO_VALUE);
+    }
+
+    // putIfAbsent
+
+    @Test
+    void putIfAbsent_KeepsTheFirstValue() {
+        // arrange
+        final LongIntMap map = new LongIntMap();
+
+        // act
+        final int first = map.putIfAbsent(Long.MIN_VALUE, 3);
+        final int second = map.putIfAbsent(Long.MIN_VALUE, 5);
+
+        // assert
+        assertThat(first)
+                .isEqualTo(LongIntMap.NO_VALUE);
+        assertThat(second)
+                .isEqualTo(3);
+        assertThat(map.get(Long.MIN_VALUE))
+                .isEqualTo(3);
+        assertThat(map.size())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void putIfAbsent_MatchesHashMapWhileGrowing() {
+        // arrange
+        final SplittableRandom random = new SplittableRandom(2020);
+        final LongIntMap map = new LongIntMap(1);
+        final Map<Long, Integer> expected = new HashMap<>();
+
+        // act
+        for (int i = 0; i < 10_000; i++) {
+            // Keys from a small range, so that some are repeated
+            final long key = random.nextLong(-5_000, 5_000) << 32;
+            final Integer previous = expected.putIfAbsent(key, i);
+            assertThat(map.putIfAbsent(key, i))
+                    .isEqualTo(previous == null ? LongIntMap.NO_VALUE : previous);
+        }
+
+        // assert
+        assertThat(map.size())
+                .isEqualTo(expected.size());
+        expected.forEach((key, value) -> assertThat(map.get(key)).isEqualTo(value));
+    }
+
+    @Test
+    void putIfAbsent_ThrowsExceptionForNegativeValue() {
+        // arrange
+        final LongIntMap map = new LongIntMap();
+
+        // act + assert
+        assertThrows(IllegalArgumentException.class, () -> map.putIfAbsent(1, -1));
+    }
+
+}
@@ -0,0 +1,269 @@
+package net.anomalyxii.aoc.utils.geometry;
+
+import java.util.Arrays;
+
+/**
+ * A set of points in N-dimensional space, stored as a list of disjoint,
+ * axis-aligned, inclusive boxes.
+ * <p>
+ * This is the N-dimensional counterpart of {@link IntervalSet}. Boxes are
+ * held in a single flat {@code long[]}, each box occupying {@code 2 * N}
+ * consecutive slots as {@code [min0, max0, min1, max1, ...]}. Removing a
+ * region splits every box that it overlaps into at most {@code 2 * N}
+ * smaller boxes, so the set stays disjoint and its volume is just the
+ * sum of the volumes of its boxes.
+ */
+public class BoxSet {
+
+    /*
+     * Initial capacity, in boxes.
+     */
+    private static final int INITIAL_CAPACITY = 16;
+
+    // ****************************************
+    // Private Members
+    // ****************************************
+
+    private final int dimensions;
+    private final int stride;
+
+    private long[] boxes;
+    private int size = 0;
+
+    // ****************************************
+    // Constructors
+    // ****************************************
+
+    public BoxSet(final int dimensions) {
+        if (dimensions < 1) throw new IllegalArgumentException("Invalid number of dimensions: " + dimensions);
+        this.dimensions = dimensions;
+        this.stride = 2 * dimensions;
+        this.boxes = new long[INITIAL_CAPACITY * stride];
+    }
+
+    // ****************************************
+    // Getters
+    // ****************************************
+
+    /**
+     * Get the number of dimensions.
+     *
+     * @return the number of dimensions
+     */
+    public int dimensions() {
+        return dimensions;
+    }
+
+    /**
+     * Get the number of disjoint boxes in this set.
+     *
+     * @return the number of boxes
+     */
+    public int boxCount() {
+        return size;
+    }
+
+    // ****************************************
+    // Helper Methods
+    // ****************************************
+
+    /**
+     * Check if this set is empty.
+     *
+     * @return {@code true} if this set is empty; {@code false} otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Calculate the total number of points in this set.
+     *
+     * @return the volume
+     * @throws ArithmeticException if the volume does not fit in a {@code long}
+     */
+    public long volume() {
+        long volume = 0;
+        for (int b = 0; b < size; b++) {
+            long boxVolume = 1;
+            for (int d = 0; d < dimensions; d++) {
+                final int idx = b * stride + 2 * d;
+                boxVolume = Math.multiplyExact(boxVolume, Math.addExact(Math.subtractExact(boxes[idx + 1], boxes[idx]), 1));
+            }
+            volume = Math.addExact(volume, boxVolume);
+        }
+        return volume;
+    }
+
+    /**
+     * Check if a point is contained in this set.
+     *
+     * @param point the coordinates of the point; one per dimension
+     * @return {@code true} if this set contains the point; {@code false} otherwise
+     */
+    public boolean contains(final long... point) {
+        checkDimensions(point);
+        for (int b = 0; b < size; b++) {
+            if (containsPoint(b * stride, point)) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Add every point in an inclusive box to this set.
+     *
+     * @param min the minimum coordinates of the box
+     * @param max the maximum coordinates of the box
+     * @return this {@link BoxSet}, for chaining
+     */
+    public BoxSet add(final long[] min, final long[] max) {
+        if (isEmptyBox(min, max)) return this;
+
+        remove(min, max);
+        ensureCapacity(size + 1);
+        final int base = size * stride;
+        for (int d = 0; d < dimensions; d++) {
+            boxes[base + 2 * d] = min[d];
+            boxes[base + 2 * d + 1] = max[d];
+        }
+        ++size;
+        return this;
+    }
+
+    /**
+     * Remove every point in an inclusive box from this set.
+     *
+     * @param min the minimum coordinates of the box
+     * @param max the maximum coordinates of the box
+     * @return this {@link BoxSet}, for chaining
+     */
+    public BoxSet remove(final long[] min, final long[] max) {
+        if (isEmptyBox(min, max)) return this;
+
+        final long[] original = boxes;
+        final int originalSize = size;
+        boxes = new long[Math.max(original.length, (originalSize + 1) * stride)];
+        size = 0;
+
+        final long[] piece = new long[stride];
+        for (int b = 0; b < originalSize; b++) {
+            final int base = b * stride;
+            if (!overlaps(original, base, min, max)) {
+                append(original, base);
+                continue;
+            }
+
+            // Carve off the parts of this box that lie outside the removed
+            // region, one dimension at a time
+            System.arraycopy(original, base, piece, 0, stride);
+            for (int d = 0; d < dimensions; d++) {
+                final int lo = 2 * d;
+                final int hi = lo + 1;
+                if (piece[lo] < min[d]) {
+                    final long end = piece[hi];
+                    piece[hi] = min[d] - 1;
+                    append(piece, 0);
+                    piece[hi] = end;
+                    piece[lo] = min[d];
+                }
+                if (piece[hi] > max[d]) {
+                    final long start = piece[lo];
+                    piece[lo] = max[d] + 1;
+                    append(piece, 0);
+                    piece[lo] = start;
+                    piece[hi] = max[d];
+                }
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Create a new {@link BoxSet} containing only the points in this set
+     * that are inside an inclusive box.
+     *
+     * @param min the minimum coordinates of the box
+     * @param max the maximum coordinates of the box
+     * @return the intersection
+     */
+    public BoxSet intersect(final long[] min, final long[] max) {
+        checkDimensions(min);
+        checkDimensions(max);
+
+        final BoxSet result = new BoxSet(dimensions);
+        final long[] piece = new long[stride];
+        for (int b = 0; b < size; b++) {
+            final int base = b * stride;
+            if (!overlaps(boxes, base, min, max)) continue;
+
+            for (int d = 0; d < dimensions; d++) {
+                piece[2 * d] = Math.max(boxes[base + 2 * d], min[d]);
+                piece[2 * d + 1] = Math.min(boxes[base + 2 * d + 1], max[d]);
+            }
+            result.append(piece, 0);
+        }
+        return result;
+    }
+
+    // ****************************************
+    // Private Helper Methods
+    // ****************************************
+
+    /*
+     * Check if a stored box overlaps an inclusive box.
+     */
+    private boolean overlaps(final long[] source, final int base, final long[] min, final long[] max) {
+        for (int d = 0; d < dimensions; d++) {
+            if (source[base + 2 * d] > max[d] || source[base + 2 * d + 1] < min[d]) return false;
+        }
+        return true;
+    }
+
+    /*
+     * Check if a stored box contains a point.
+     */
+    private boolean containsPoint(final int base, final long[] point) {
+        for (int d = 0; d < dimensions; d++) {
+            if (point[d] < boxes[base + 2 * d] || point[d] > boxes[base + 2 * d + 1]) return false;
+        }
+        return true;
+    }
+
+    /*
+     * Check if an inclusive box is empty, after verifying its dimensions.
+     */
+    private boolean isEmptyBox(final long[] min, final long[] max) {
+        checkDimensions(min);
+        checkDimensions(max);
+        for (int d = 0; d < dimensions; d++) {
+            if (min[d] > max[d]) return true;
+        }
+        return false;
+    }
+
+    /*
+     * Append a box, copied from the given source array.
+     */
+    private void append(final long[] source, final int base) {
+        ensureCapacity(size + 1);
+        System.arraycopy(source, base, boxes, size * stride, stride);
+        ++size;
+    }
+
+    /*
+     * Grow the backing array, if necessary.
+     */
+    private void ensureCapacity(final int capacity) {
+        if (capacity * stride <= boxes.length) return;
+        boxes = Arrays.copyOf(boxes, Math.max(capacity * stride, boxes.length << 1));
+    }
+
+    /*
+     * Verify that the correct number of coordinates have been provided.
+     */
+    private void checkDimensions(final long[] coordinates) {
+        if (coordinates.length != dimensions)
+            throw new IllegalArgumentException("Expected " + dimensions + " coordinates, but got " + coordinates.length);
+    }
+
+}
@@ -0,0 +1,565 @@
+package net.anomalyxii.aoc.utils.geometry;
+
+import java.util.Arrays;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
+
+/**
+ * A "life-like" cellular automaton, in between one and four dimensions,
+ * that considers every cell within a distance of one (in every dimension)
+ * to be a neighbour.
+ * <p>
+ * Cells are stored as bits in {@code long} words, with the first
+ * dimension packed along each word, and every generation is evaluated 64
+ * cells at a time: neighbours are counted with bitwise adders over a set
+ * of bit-planes (one per bit of the neighbour count) rather than cell by
+ * cell. The bounds of the automaton grow automatically, so live cells can
+ * spread indefinitely in every direction.
+ * <p>
+ * Rows of cells are independent of one another whilst a generation is
+ * being calculated, so they can optionally be partitioned across multiple
+ * threads.
+ */
+public class CellularAutomaton {
+
+    /*
+     * The maximum number of dimensions supported.
+     */
+    private static final int MAX_DIMENSIONS = 4;
+
+    /*
+     * The number of empty layers to maintain around the live cells.
+     */
+    private static final int MARGIN = 2;
+
+    /*
+     * The number of layers to grow by, on each side, in all dimensions
+     * other than the first.
+     */
+    private static final int GROWTH = 4;
+
+    // ****************************************
+    // Private Members
+    // ****************************************
+
+    private final Rule rule;
+    private final int dimensions;
+    private final int planes;
+    private final boolean parallel;
+
+    // Bounds: `origin` is the logical coordinate of index 0 in each
+    // dimension; `sizes[0]` is always a multiple of 64
+    private final int[] origin;
+    private final int[] sizes;
+    private int words;
+    private int rows;
+    private long[] cells;
+
+    private long generation = 0;
+
+    // ****************************************
+    // Constructors
+    // ****************************************
+
+    public CellularAutomaton(final int dimensions, final Rule rule) {
+        this(dimensions, rule, false);
+    }
+
+    public CellularAutomaton(final int dimensions, final Rule rule, final boolean parallel) {
+        if (dimensions < 1 || dimensions > MAX_DIMENSIONS)
+            throw new IllegalArgumentException("Unsupported number of dimensions: " + dimensions);
+
+        this.rule = rule;
+        this.dimensions = dimensions;
+        this.planes = Integer.SIZE - Integer.numberOfLeadingZeros(pow3(dimensions));
+        this.parallel = parallel;
+
+        this.origin = new int[dimensions];
+        this.sizes = new int[dimensions];
+        Arrays.fill(this.sizes, 1 + 2 * MARGIN);
+        this.sizes[0] = Long.SIZE;
+        Arrays.fill(this.origin, -MARGIN);
+        this.origin[0] = -Long.SIZE / 2;
+
+        this.words = 1;
+        this.rows = rowCount(sizes);
+        this.cells = new long[words * rows];
+    }
+
+    // ****************************************
+    // Getters
+    // ****************************************
+
+    /**
+     * Get the number of generations that have been simulated.
+     *
+     * @return the generation
+     */
+    public long generation() {
+        return generation;
+    }
+
+    // ****************************************
+    // Helper Methods
+    // ****************************************
+
+    /**
+     * Check if the cell at the given coordinates is alive.
+     *
+     * @param coordinates the coordinates of the cell; one per dimension
+     * @return {@code true} if the cell is alive; {@code false} otherwise
+     */
+    public boolean get(final int... coordinates) {
+        checkDimensions(coordinates);
+        for (int d = 0; d < dimensions; d++) {
+            final int idx = coordinates[d] - origin[d];
+            if (idx < 0 || idx >= sizes[d]) return false;
+        }
+
+        final int x = coordinates[0] - origin[0];
+        return (cells[wordIndex(coordinates) + (x >>> 6)] & (1L << x)) != 0;
+    }
+
+    /**
+     * Set the cell at the given coordinates to be alive.
+     *
+     * @param coordinates the coordinates of the cell; one per dimension
+     */
+    public void set(final int... coordinates) {
+        checkDimensions(coordinates);
+        ensureContains(coordinates);
+
+        final int x = coordinates[0] - origin[0];
+        cells[wordIndex(coordinates) + (x >>> 6)] |= 1L << x;
+    }
+
+    /**
+     * Count the number of live cells.
+     *
+     * @return the population
+     */
+    public long population() {
+        long population = 0;
+        for (final long word : cells)
+            population += Long.bitCount(word);
+        return population;
+    }
+
+    /**
+     * Simulate a number of generations.
+     *
+     * @param generations the number of generations to simulate
+     */
+    public void step(final int generations) {
+        for (int i = 0; i < generations; i++)
+            step();
+    }
+
+    /**
+     * Simulate the next generation.
+     */
+    public void step() {
+        ensureMargin();
+
+        // Sum each cell with its two neighbours along the first dimension,
+        // as a 2-bit number held in two bit-planes
+        final long[] low = new long[cells.length];
+        final long[] high = new long[cells.length];
+        rowRange().forEach(row -> sumRow(row, low, high));
+
+        final int[] neighbours = neighbouringRows();
+        final long[] next = new long[cells.length];
+        rowRange()
+                .filter(this::isInteriorRow)
+                .forEach(row -> evaluateRow(row, neighbours, low, high, next));
+
+        cells = next;
+        ++generation;
+    }
+
+    // ****************************************
+    // Private Helper Methods
+    // ****************************************
+
+    /*
+     * Sum each cell of a row with its left and right neighbours.
+     */
+    private void sumRow(final int row, final long[] low, final long[] high) {
+        final int base = row * words;
+        for (int w = 0; w < words; w++) {
+            final long mid = cells[base + w];
+            final long left = (mid << 1) | (w > 0 ? cells[base + w - 1] >>> 63 : 0);
+            final long right = (mid >>> 1) | (w < words - 1 ? cells[base + w + 1] << 63 : 0);
+
+            final long partial = left ^ mid;
+            low[base + w] = partial ^ right;
+            high[base + w] = (left & mid) | (partial & right);
+        }
+    }
+
+    /*
+     * Calculate the next generation of a row of cells.
+     */
+    private void evaluateRow(
+            final int row,
+            final int[] neighbours,
+            final long[] low,
+            final long[] high,
+            final long[] next
+    ) {
+        final long[] count = new long[planes];
+        final int base = row * words;
+        for (int w = 0; w < words; w++) {
+            Arrays.fill(count, 0);
+            for (final int neighbour : neighbours) {
+                final int idx = base + neighbour * words + w;
+                add(count, low[idx], high[idx]);
+            }
+
+            // The count includes the cell itself, so a live cell with `n`
+            // neighbours has a count of `n + 1`
+            final long alive = cells[base + w];
+            final long survives = matches(count, rule.survive() << 1);
+            final long born = matches(count, rule.birth());
+            next[base + w] = (alive & survives) | (~alive & born);
+        }
+    }
+
+    /*
+     * Add a 2-bit number to a bit-sliced counter.
+     */
+    private static void add(final long[] count, final long low, final long high) {
+        long carry = count[0] & low;
+        count[0] ^= low;
+
+        final long partial = count[1] ^ high;
+        final long carryOut = (count[1] & high) | (partial & carry);
+        count[1] = partial ^ carry;
+        carry = carryOut;
+
+        for (int i = 2; carry != 0 && i < count.length; i++) {
+            final long t = count[i] & carry;
+            count[i] ^= carry;
+            carry = t;
+        }
+    }
+
+    /*
+     * Find every cell whose count is one of the values in the given mask.
+     */
+    private static long matches(final long[] count, final long mask) {
+        long result = 0;
+        for (long remaining = mask; remaining != 0; remaining &= remaining - 1) {
+            final int value = Long.numberOfTrailingZeros(remaining);
+            if (value >>> count.length != 0) continue;
+
+            long equal = -1L;
+            for (int i = 0; i < count.length; i++)
+                equal &= ((value >>> i) & 1) != 0 ? count[i] : ~count[i];
+            result |= equal;
+        }
+        return result;
+    }
+
+    /*
+     * Get the rows to process, in parallel if requested.
+     */
+    private IntStream rowRange() {
+        final IntStream range = IntStream.range(0, rows);
+        return parallel ? range.parallel() : range;
+    }
+
+    /*
+     * Calculate the relative offsets of every row that neighbours a row,
+     * including the row itself.
+     */
+    private int[] neighbouringRows() {
+        int[] offsets = {0};
+        int stride = 1;
+        for (int d = 1; d < dimensions; d++) {
+            final int[] expanded = new int[offsets.length * 3];
+            for (int i = 0; i < offsets.length; i++) {
+                expanded[3 * i] = offsets[i] - stride;
+                expanded[3 * i + 1] = offsets[i];
+                expanded[3 * i + 2] = offsets[i] + stride;
+            }
+            offsets = expanded;
+            stride *= sizes[d];
+        }
+        return offsets;
+    }
+
+    /*
+     * Check if a row is strictly inside the bounds, in every dimension other
+     * than the first.
+     */
+    private boolean isInteriorRow(final int row) {
+        int remaining = row;
+        for (int d = 1; d < dimensions; d++) {
+            final int idx = remaining % sizes[d];
+            if (idx == 0 || idx == sizes[d] - 1) return false;
+            remaining /= sizes[d];
+        }
+        return true;
+    }
+
+    /*
+     * Grow the bounds, if necessary, so that there are always `MARGIN`
+     * empty layers around the live cells.
+     */
+    private void ensureMargin() {
+        final int[] lowest = new int[dimensions];
+        final int[] highest = new int[dimensions];
+        Arrays.fill(lowest, Integer.MAX_VALUE);
+        Arrays.fill(highest, Integer.MIN_VALUE);
+
+        for (int row = 0; row < rows; row++) {
+            int firstBit = -1;
+            int lastBit = -1;
+            for (int w = 0; w < words; w++) {
+                final long word = cells[row * words + w];
+                if (word == 0) continue;
+                if (firstBit < 0) firstBit = (w << 6) + Long.numberOfTrailingZeros(word);
+                lastBit = (w << 6) + 63 - Long.numberOfLeadingZeros(word);
+            }
+            if (firstBit < 0) continue;
+
+            lowest[0] = Math.min(lowest[0], firstBit);
+            highest[0] = Math.max(highest[0], lastBit);
+            int remaining = row;
+            for (int d = 1; d < dimensions; d++) {
+                final int idx = remaining % sizes[d];
+                lowest[d] = Math.min(lowest[d], idx);
+                highest[d] = Math.max(highest[d], idx);
+                remaining /= sizes[d];
+            }
+        }
+
+        if (lowest[0] == Integer.MAX_VALUE) return;
+
+        final int[] growBelow = new int[dimensions];
+        final int[] growAbove = new int[dimensions];
+        boolean grow = false;
+        for (int d = 0; d < dimensions; d++) {
+            final int amount = d == 0 ? Long.SIZE : GROWTH;
+            if (lowest[d] < MARGIN) {
+                growBelow[d] = amount;
+                grow = true;
+            }
+            if (highest[d] >= sizes[d] - MARGIN) {
+                growAbove[d] = amount;
+                grow = true;
+            }
+        }
+
+        if (grow) resize(growBelow, growAbove);
+    }
+
+    /*
+     * Grow the bounds, if necessary, so that they contain the given
+     * coordinates with `MARGIN` empty layers around them.
+     */
+    private void ensureContains(final int[] coordinates) {
+        final int[] growBelow = new int[dimensions];
+        final int[] growAbove = new int[dimensions];
+        boolean grow = false;
+        for (int d = 0; d < dimensions; d++) {
+            final int amount = d == 0 ? Long.SIZE : GROWTH;
+            final int idx = coordinates[d] - origin[d];
+            if (idx < MARGIN) {
+                growBelow[d] = roundUp(MARGIN - idx, amount);
+                grow = true;
+            }
+            if (idx >= sizes[d] - MARGIN) {
+                growAbove[d] = roundUp(idx - sizes[d] + MARGIN + 1, amount);
+                grow = true;
+            }
+        }
+
+        if (grow) resize(growBelow, growAbove);
+    }
+
+    /*
+     * Resize the bounds, copying across every live cell.
+     */
+    private void resize(final int[] growBelow, final int[] growAbove) {
+        final int[] newSizes = new int[dimensions];
+        for (int d = 0; d < dimensions; d++)
+            newSizes[d] = sizes[d] + growBelow[d] + growAbove[d];
+
+        final int newWords = newSizes[0] >>> 6;
+        final int newRows = rowCount(newSizes);
+        final long[] newCells = new long[newWords * newRows];
+
+        final int wordShift = growBelow[0] >>> 6;
+        for (int row = 0; row < rows; row++) {
+            int remaining = row;
+            int newRow = 0;
+            int stride = 1;
+            for (int d = 1; d < dimensions; d++) {
+                newRow += (remaining % sizes[d] + growBelow[d]) * stride;
+                remaining /= sizes[d];
+                stride *= newSizes[d];
+            }
+            System.arraycopy(cells, row * words, newCells, newRow * newWords + wordShift, words);
+        }
+
+        for (int d = 0; d < dimensions; d++) {
+            origin[d] -= growBelow[d];
+            sizes[d] = newSizes[d];
+        }
+        words = newWords;
+        rows = newRows;
+        cells = newCells;
+    }
+
+    /*
+     * Find the index of the first word of the row containing the given
+     * coordinates.
+     */
+    private int wordIndex(final int[] coordinates) {
+        int row = 0;
+        int stride = 1;
+        for (int d = 1; d < dimensions; d++) {
+            row += (coordinates[d] - origin[d]) * stride;
+            stride *= sizes[d];
+        }
+        return row * words;
+    }
+
+    /*
+     * Verify that the correct number of coordinates have been provided.
+     */
+    private void checkDimensions(final int[] coordinates) {
+        if (coordinates.length != dimensions)
+            throw new IllegalArgumentException("Expected " + dimensions + " coordinates, but got " + coordinates.length);
+    }
+
+    // ****************************************
+    // Static Helper Methods
+    // ****************************************
+
+    /**
+     * Create a new {@link CellularAutomaton} with the live cells of a
+     * {@link Grid} on the plane where every other coordinate is zero.
+     *
+     * @param grid       the {@link Grid}
+     * @param alive      a test to determine whether a value in the {@link Grid} represents a live cell
+     * @param dimensions the number of dimensions (at least two)
+     * @param rule       the {@link Rule}
+     * @return the new {@link CellularAutomaton}
+     */
+    public static CellularAutomaton of(final Grid grid, final IntPredicate alive, final int dimensions, final Rule rule) {
+        if (dimensions < 2) throw new IllegalArgumentException("A Grid requires at least two dimensions");
+
+        final CellularAutomaton automaton = new CellularAutomaton(dimensions, rule);
+        final int[] coordinates = new int[dimensions];
+        grid.forEachValue((coordinate, value) -> {
+            if (!alive.test(value)) return;
+            coordinates[0] = coordinate.x();
+            coordinates[1] = coordinate.y();
+            automaton.set(coordinates);
+        });
+        return automaton;
+    }
+
+    /*
+     * Calculate the total number of rows for the given bounds.
+     */
+    private static int rowCount(final int[] sizes) {
+        int rows = 1;
+        for (int d = 1; d < sizes.length; d++)
+            rows = Math.multiplyExact(rows, sizes[d]);
+        return rows;
+    }
+
+    /*
+     * Calculate 3 raised to the given power.
+     */
+    private static int pow3(final int exponent) {
+        int result = 1;
+        for (int i = 0; i < exponent; i++)
+            result *= 3;
+        return result;
+    }
+
+    /*
+     * Round a value up to the nearest multiple of a given amount.
+     */
+    private static int roundUp(final int value, final int amount) {
+        return ((value + amount - 1) / amount) * amount;
+    }
+
+    // ****************************************
+    // Helper Classes
+    // ****************************************
+
+    /**
+     * The rule that determines which cells are alive in the next
+     * generation, based on the number of live neighbours.
+     * <p>
+     * Each rule is a bit-mask, where bit {@code n} is set if the rule
+     * applies to a cell with {@code n} live neighbours. Cells can never be
+     * born with zero live neighbours, since that would fill the infinite
+     * space.
+     *
+     * @param birth   the neighbour counts at which a dead cell becomes alive
+     * @param survive the neighbour counts at which a live cell stays alive
+     */
+    public record Rule(long birth, long survive) {
+
+        /**
+         * Conway's Game of Life: {@code B3/S23}.
+         */
+        public static final Rule CONWAY = of("B3/S23");
+
+        // Constructors
+
+        public Rule {
+            if ((birth & 1) != 0)
+                throw new IllegalArgumentException("Cells cannot be born with zero live neighbours");
+            if (survive < 0)
+                throw new IllegalArgumentException("Cells cannot survive with 63 or more live neighbours");
+        }
+
+        // Static Helper Methods
+
+        /**
+         * Create a {@link Rule} from neighbour counts.
+         *
+         * @param birth   the neighbour counts at which a dead cell becomes alive
+         * @param survive the neighbour counts at which a live cell stays alive
+         * @return the {@link Rule}
+         */
+        public static Rule of(final int[] birth, final int[] survive) {
+            long birthMask = 0;
+            for (final int count : birth) birthMask |= 1L << count;
+            long surviveMask = 0;
+            for (final int count : survive) surviveMask |= 1L << count;
+            return new Rule(birthMask, surviveMask);
+        }
+
+        /**
+         * Parse a {@link Rule} in the standard {@code B3/S23} notation.
+         *
+         * @param rule the rule to parse
+         * @return the {@link Rule}
+         */
+        public static Rule of(final String rule) {
+            final String[] parts = rule.toUpperCase().split("/");
+            if (parts.length != 2 || !parts[0].startsWith("B") || !parts[1].startsWith("S"))
+                throw new IllegalArgumentException("Invalid rule: " + rule);
+
+            return of(digits(parts[0].substring(1)), digits(parts[1].substring(1)));
+        }
+
+        /*
+         * Convert a string of digits to an array of counts.
+         */
+        private static int[] digits(final String counts) {
+            return counts.chars().map(c -> c - '0').toArray();
+        }
+
+    }
+
+}
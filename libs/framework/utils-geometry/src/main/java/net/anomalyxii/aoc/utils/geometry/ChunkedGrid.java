@@ -0,0 +1,234 @@
+package net.anomalyxii.aoc.utils.geometry;
+
+import net.anomalyxii.aoc.utils.collections.LongIntMap;
+
+import java.util.Arrays;
+
+/**
+ * A sparse, unbounded, mutable grid of small values.
+ * <p>
+ * Cells are stored in fixed-size {@code 64x64} tiles of bytes, which are
+ * only allocated when a cell inside them is first set. Tiles are located
+ * through a primitive {@link LongIntMap} of packed tile coordinates, and
+ * the most recently used tile is cached, so runs of nearby accesses cost the
+ * same as indexing into an array. Unset cells have the value {@code 0}.
+ * <p>
+ * Each cell holds a value between {@code 0} and {@code 255}.
+ */
+public class ChunkedGrid {
+
+    /*
+     * The number of bits of a coordinate used to index within a tile.
+     */
+    private static final int TILE_BITS = 6;
+
+    /*
+     * The width and height of a tile.
+     */
+    private static final int TILE_SIZE = 1 << TILE_BITS;
+
+    /*
+     * Mask for the position of a coordinate within a tile.
+     */
+    private static final int TILE_MASK = TILE_SIZE - 1;
+
+    /*
+     * Initial capacity of the tile table.
+     */
+    private static final int INITIAL_CAPACITY = 16;
+
+    // ****************************************
+    // Private Members
+    // ****************************************
+
+    private final LongIntMap tileIndices = new LongIntMap(INITIAL_CAPACITY);
+    private byte[][] tiles = new byte[INITIAL_CAPACITY][];
+    private int tileCount = 0;
+
+    private long lastKey;
+    private byte[] lastTile = null;
+
+    private int minX = Integer.MAX_VALUE;
+    private int maxX = Integer.MIN_VALUE;
+    private int minY = Integer.MAX_VALUE;
+    private int maxY = Integer.MIN_VALUE;
+
+    // ****************************************
+    // Getters
+    // ****************************************
+
+    /**
+     * Get the number of tiles that have been allocated.
+     *
+     * @return the number of tiles
+     */
+    public int tileCount() {
+        return tileCount;
+    }
+
+    // ****************************************
+    // Helper Methods
+    // ****************************************
+
+    /**
+     * Get the value of a cell.
+     *
+     * @param x the x-coordinate of the cell
+     * @param y the y-coordinate of the cell
+     * @return the value of the cell, or {@code 0} if it has not been set
+     */
+    public int get(final int x, final int y) {
+        final byte[] tile = tile(x, y, false);
+        return tile == null ? 0 : tile[offset(x, y)] & 0xFF;
+    }
+
+    /**
+     * Get the value of a cell.
+     *
+     * @param coordinate the {@link Coordinate} of the cell
+     * @return the value of the cell, or {@code 0} if it has not been set
+     */
+    public int get(final Coordinate coordinate) {
+        return get(coordinate.x(), coordinate.y());
+    }
+
+    /**
+     * Set the value of a cell.
+     *
+     * @param x     the x-coordinate of the cell
+     * @param y     the y-coordinate of the cell
+     * @param value the new value, between {@code 0} and {@code 255}
+     */
+    public void set(final int x, final int y, final int value) {
+        if ((value & ~0xFF) != 0) throw new IllegalArgumentException("Value out of range: " + value);
+
+        if (value == 0) {
+            final byte[] tile = tile(x, y, false);
+            if (tile != null) tile[offset(x, y)] = 0;
+            return;
+        }
+
+        tile(x, y, true)[offset(x, y)] = (byte) value;
+        minX = Math.min(minX, x);
+        maxX = Math.max(maxX, x);
+        minY = Math.min(minY, y);
+        maxY = Math.max(maxY, y);
+    }
+
+    /**
+     * Set the value of a cell.
+     *
+     * @param coordinate the {@link Coordinate} of the cell
+     * @param value      the new value, between {@code 0} and {@code 255}
+     */
+    public void set(final Coordinate coordinate, final int value) {
+        set(coordinate.x(), coordinate.y(), value);
+    }
+
+    /**
+     * Find which of the eight cells surrounding a cell are non-zero.
+     * <p>
+     * Bit {@code i} of the result is set if the neighbour in the
+     * {@code i}th position is non-zero, where the positions are numbered
+     * from the top-left, clockwise: {@code NW, N, NE, E, SE, S, SW, W}.
+     *
+     * @param x the x-coordinate of the cell
+     * @param y the y-coordinate of the cell
+     * @return a bit-mask of the non-zero neighbours
+     */
+    public int neighbours(final int x, final int y) {
+        final int tx = x & TILE_MASK;
+        final int ty = y & TILE_MASK;
+        if (tx == 0 || tx == TILE_MASK || ty == 0 || ty == TILE_MASK)
+            return neighboursAcrossTiles(x, y);
+
+        // Fast path: every neighbour is in the same tile
+        final byte[] tile = tile(x, y, false);
+        if (tile == null) return 0;
+
+        final int centre = (ty << TILE_BITS) | tx;
+        final int above = centre - TILE_SIZE;
+        final int below = centre + TILE_SIZE;
+        return bit(tile[above - 1], 0)
+                | bit(tile[above], 1)
+                | bit(tile[above + 1], 2)
+                | bit(tile[centre + 1], 3)
+                | bit(tile[below + 1], 4)
+                | bit(tile[below], 5)
+                | bit(tile[below - 1], 6)
+                | bit(tile[centre - 1], 7);
+    }
+
+    /**
+     * Get the smallest {@link Area} containing every cell that has been set
+     * to a non-zero value.
+     * <p>
+     * Cells that are later cleared are not removed from the {@link Area}.
+     *
+     * @return the populated {@link Area}, or {@link Area#NULL} if no cells have been set
+     */
+    public Area area() {
+        if (minX > maxX) return Area.NULL;
+        return Area.of(Bounds.of(minX, maxX), Bounds.of(minY, maxY));
+    }
+
+    // ****************************************
+    // Private Helper Methods
+    // ****************************************
+
+    /*
+     * Find the non-zero neighbours of a cell on the edge of a tile.
+     */
+    private int neighboursAcrossTiles(final int x, final int y) {
+        return bit(get(x - 1, y - 1), 0)
+                | bit(get(x, y - 1), 1)
+                | bit(get(x + 1, y - 1), 2)
+                | bit(get(x + 1, y), 3)
+                | bit(get(x + 1, y + 1), 4)
+                | bit(get(x, y + 1), 5)
+                | bit(get(x - 1, y + 1), 6)
+                | bit(get(x - 1, y), 7);
+    }
+
+    /*
+     * Find the tile containing a cell, optionally creating it if it does
+     * not exist yet.
+     */
+    private byte[] tile(final int x, final int y, final boolean create) {
+        final long key = ((long) (x >> TILE_BITS) << Integer.SIZE) | ((y >> TILE_BITS) & 0xFFFFFFFFL);
+        if (lastTile != null && key == lastKey) return lastTile;
+
+        int index = tileIndices.get(key);
+        if (index == LongIntMap.NO_VALUE) {
+            if (!create) return null;
+
+            index = tileCount++;
+            if (index == tiles.length) tiles = Arrays.copyOf(tiles, index << 1);
+            tiles[index] = new byte[TILE_SIZE * TILE_SIZE];
+            tileIndices.putIfAbsent(key, index);
+        }
+
+        lastKey = key;
+        lastTile = tiles[index];
+        return lastTile;
+    }
+
+    // ****************************************
+    // Static Helper Methods
+    // ****************************************
+
+    /*
+     * Find the offset of a cell within its tile.
+     */
+    private static int offset(final int x, final int y) {
+        return ((y & TILE_MASK) << TILE_BITS) | (x & TILE_MASK);
+    }
+
+    /*
+     * Convert a cell value to a bit in a neighbour mask.
+     */
+    private static int bit(final int value, final int position) {
+        return value != 0 ? 1 << position : 0;
+    }
+
+}
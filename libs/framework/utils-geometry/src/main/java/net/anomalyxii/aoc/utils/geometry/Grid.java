@@ -1,5 +1,7 @@
 package net.anomalyxii.aoc.utils.geometry;
 
+import net.anomalyxii.aoc.utils.collections.Hashing;
+
 import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.io.InputStream;
@@ -163,6 +165,112 @@ public class Grid implements TwoDimensionalSpace {
         return Arrays.compare(grid, other, Arrays::compare) == 0;
     }
 
+    /**
+     * Pack a region of this {@link Grid} into the low bits of an
+     * {@code int}, one bit per cell.
+     * <p>
+     * Cells are packed in row-major order, with the top-left cell of the
+     * region in the most significant bit; any non-zero value is treated as
+     * a set bit.
+     *
+     * @param x      the x-coordinate of the top-left of the region
+     * @param y      the y-coordinate of the top-left of the region
+     * @param width  the width of the region
+     * @param height the height of the region
+     * @return the packed bits
+     * @throws IllegalArgumentException if the region contains more than 32 cells
+     */
+    public int packBits(final int x, final int y, final int width, final int height) {
+        if (width * height > Integer.SIZE)
+            throw new IllegalArgumentException("Cannot pack " + width + "x" + height + " cells into an int");
+
+        int bits = 0;
+        for (int dy = 0; dy < height; dy++) {
+            final int[] row = grid[y + dy];
+            for (int dx = 0; dx < width; dx++)
+                bits = (bits << 1) | (row[x + dx] != 0 ? 1 : 0);
+        }
+        return bits;
+    }
+
+    /**
+     * Count the cells in this {@link Grid} with a given value.
+     *
+     * @param value the value to count
+     * @return the number of matching cells
+     */
+    public long count(final int value) {
+        final GridKernels kernels = GridKernels.instance();
+        long count = 0;
+        for (final int[] row : grid)
+            count += kernels.countEqual(row, value);
+        return count;
+    }
+
+    /**
+     * Count the cells in a row of this {@link Grid} with a given value.
+     *
+     * @param y     the y-coordinate of the row
+     * @param value the value to count
+     * @return the number of matching cells
+     */
+    public int countInRow(final int y, final int value) {
+        return GridKernels.instance().countEqual(grid[y], value);
+    }
+
+    /**
+     * Find the first cell in a row of this {@link Grid} with a given value.
+     *
+     * @param y     the y-coordinate of the row
+     * @param value the value to find
+     * @return the x-coordinate of the first matching cell, or {@code -1} if there is none
+     */
+    public int indexOfInRow(final int y, final int value) {
+        return GridKernels.instance().indexOf(grid[y], value);
+    }
+
+    /**
+     * Count the cells that differ between two rows of this {@link Grid}.
+     * <p>
+     * Two rows are equal, within a tolerance of {@code n} cells, if this
+     * returns at most {@code n}.
+     *
+     * @param first  the y-coordinate of the first row
+     * @param second the y-coordinate of the second row
+     * @return the number of differences
+     */
+    public int rowMismatches(final int first, final int second) {
+        return GridKernels.instance().countMismatches(grid[first], grid[second]);
+    }
+
+    /**
+     * Create a new {@link Grid} with the rows and columns of this
+     * {@link Grid} swapped.
+     * <p>
+     * Column operations can be performed as row operations on the
+     * transposed {@link Grid}.
+     *
+     * @return the transposed {@link Grid}
+     */
+    public Grid transpose() {
+        final int[][] transposed = new int[grid.length == 0 ? 0 : grid[0].length][grid.length];
+        GridKernels.instance().transpose(grid, transposed);
+        return of(transposed);
+    }
+
+    /**
+     * Create a {@link GridView} over the values of this {@link Grid}.
+     * <p>
+     * The view covers the values the {@link Grid} was created from, even
+     * if this {@link Grid} repeats infinitely. Writes through the view are
+     * only allowed if this is a {@link MutableGrid}.
+     *
+     * @return the {@link GridView}
+     */
+    public GridView view() {
+        return new GridView(grid, this instanceof MutableGrid);
+    }
+
     /**
      * Run an action for each {@link Coordinate} and its associated value in
      * the {@link Grid grid}.
@@ -236,6 +344,22 @@ public class Grid implements TwoDimensionalSpace {
         return Arrays.deepHashCode(grid);
     }
 
+    /**
+     * Calculate a 64-bit fingerprint for the content of this {@link Grid}.
+     * <p>
+     * This is much less likely to collide than {@link #calculateHash()}, so
+     * is suitable for detecting repeated states over many iterations.
+     *
+     * @return the fingerprint of this {@link Grid}
+     * @see Hashing#fingerprint(int[])
+     */
+    public long fingerprint() {
+        long fingerprint = grid.length;
+        for (final int[] row : grid)
+            fingerprint = Hashing.combine(fingerprint, Hashing.fingerprint(row));
+        return fingerprint;
+    }
+
     // ****************************************
     // Private Helper Methods
     // ****************************************
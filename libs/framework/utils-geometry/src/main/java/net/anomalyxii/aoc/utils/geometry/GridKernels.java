@@ -0,0 +1,105 @@
+package net.anomalyxii.aoc.utils.geometry;
+
+import java.util.ServiceLoader;
+
+/**
+ * Bulk operations over rows of {@link Grid} values.
+ * <p>
+ * A {@link #scalar() scalar} implementation is always available. Faster
+ * implementations (for example, ones using SIMD instructions) can be
+ * provided as a {@link ServiceLoader service}; the first one that loads
+ * successfully is used by every {@link Grid}, unless the system property
+ * {@value #DISABLE_PROPERTY} is set to {@code true}.
+ */
+public interface GridKernels {
+
+    /**
+     * System property that, if {@code true}, forces the scalar kernels to be
+     * used.
+     */
+    String DISABLE_PROPERTY = "aoc.grid.kernels.scalar";
+
+    // ****************************************
+    // Interface Methods
+    // ****************************************
+
+    /**
+     * Count the values in a row that are equal to a given value.
+     *
+     * @param row   the row
+     * @param value the value to count
+     * @return the number of matching values
+     */
+    int countEqual(int[] row, int value);
+
+    /**
+     * Find the index of the first value in a row that is equal to a given
+     * value.
+     *
+     * @param row   the row
+     * @param value the value to find
+     * @return the index of the first matching value, or {@code -1} if there is none
+     */
+    int indexOf(int[] row, int value);
+
+    /**
+     * Count the positions at which two rows of the same length differ.
+     *
+     * @param first  the first row
+     * @param second the second row
+     * @return the number of differences
+     */
+    int countMismatches(int[] first, int[] second);
+
+    // ****************************************
+    // Default Methods
+    // ****************************************
+
+    /**
+     * Transpose a rectangular block of values, so that each column of the
+     * source becomes a row of the destination.
+     *
+     * @param source      the source rows
+     * @param destination the destination rows; must be {@code source[0].length} rows of {@code source.length} values
+     */
+    default void transpose(final int[][] source, final int[][] destination) {
+        // Work in small tiles, so both sides stay in cache
+        final int block = 16;
+        final int height = source.length;
+        final int width = height == 0 ? 0 : source[0].length;
+        for (int by = 0; by < height; by += block) {
+            final int maxY = Math.min(height, by + block);
+            for (int bx = 0; bx < width; bx += block) {
+                final int maxX = Math.min(width, bx + block);
+                for (int y = by; y < maxY; y++) {
+                    final int[] row = source[y];
+                    for (int x = bx; x < maxX; x++)
+                        destination[x][y] = row[x];
+                }
+            }
+        }
+    }
+
+    // ****************************************
+    // Static Helper Methods
+    // ****************************************
+
+    /**
+     * Get the preferred {@link GridKernels}.
+     *
+     * @return the {@link GridKernels}
+     */
+    static GridKernels instance() {
+        return GridKernelsLoader.INSTANCE;
+    }
+
+    /**
+     * Get the scalar {@link GridKernels}.
+     *
+     * @return the scalar {@link GridKernels}
+     */
+    static GridKernels scalar() {
+        return ScalarGridKernels.INSTANCE;
+    }
+
+}
@@ -0,0 +1,43 @@
+package net.anomalyxii.aoc.utils.geometry;
+
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+
+/*
+ * Lazily locate the preferred `GridKernels`.
+ */
+final class GridKernelsLoader {
+
+    /*
+     * The preferred `GridKernels`.
+     */
+    static final GridKernels INSTANCE = load();
+
+    // ****************************************
+    // Constructors
+    // ****************************************
+
+    private GridKernelsLoader() {
+    }
+
+    // ****************************************
+    // Private Helper Methods
+    // ****************************************
+
+    /*
+     * Load the first available `GridKernels` service, falling back to the
+     * scalar implementation.
+     */
+    private static GridKernels load() {
+        if (Boolean.getBoolean(GridKernels.DISABLE_PROPERTY)) return GridKernels.scalar();
+        try {
+            for (final GridKernels kernels : ServiceLoader.load(GridKernels.class))
+                return kernels;
+        } catch (final ServiceConfigurationError | LinkageError e) {
+            // The provider could not be loaded (for example, because the
+            // module that it needs is not enabled)
+        }
+        return GridKernels.scalar();
+    }
+
+}
@@ -0,0 +1,358 @@
+package net.anomalyxii.aoc.utils.geometry;
+
+import java.util.function.ObjIntConsumer;
+
+/**
+ * A rotated, reflected and/or windowed view of a {@link Grid}.
+ * <p>
+ * A {@link GridView} does not copy any values; instead, it remaps each
+ * position in the view onto the backing {@link Grid} with a fixed affine
+ * transform. Creating a new view is therefore {@code O(1)}, regardless of
+ * the size of the {@link Grid}, and views can be chained freely. Positions
+ * in a view always run from {@code (0, 0)} to
+ * {@code (width - 1, height - 1)}.
+ * <p>
+ * Reading through a view costs slightly more than reading a {@link Grid}
+ * directly; code that reads a view many times can {@link #materialise()}
+ * it into a new, contiguous {@link Grid} first.
+ */
+public final class GridView {
+
+    // ****************************************
+    // Private Members
+    // ****************************************
+
+    private final int[][] grid;
+    private final boolean mutable;
+
+    private final int originX;
+    private final int originY;
+    private final int xx;
+    private final int xy;
+    private final int yx;
+    private final int yy;
+
+    private final int width;
+    private final int height;
+
+    // ****************************************
+    // Constructors
+    // ****************************************
+
+    GridView(final int[][] grid, final boolean mutable) {
+        this(grid, mutable, 0, 0, 1, 0, 0, 1, grid.length == 0 ? 0 : grid[0].length, grid.length);
+    }
+
+    /*
+     * A position (x, y) in the view maps to the backing position:
+     *
+     *   (originX + x * xx + y * yx, originY + x * xy + y * yy)
+     */
+    private GridView(
+            final int[][] grid,
+            final boolean mutable,
+            final int originX,
+            final int originY,
+            final int xx,
+            final int xy,
+            final int yx,
+            final int yy,
+            final int width,
+            final int height
+    ) {
+        this.grid = grid;
+        this.mutable = mutable;
+        this.originX = originX;
+        this.originY = originY;
+        this.xx = xx;
+        this.xy = xy;
+        this.yx = yx;
+        this.yy = yy;
+        this.width = width;
+        this.height = height;
+    }
+
+    // ****************************************
+    // Getters
+    // ****************************************
+
+    /**
+     * Get the width of this view.
+     *
+     * @return the width
+     */
+    public int width() {
+        return width;
+    }
+
+    /**
+     * Get the height of this view.
+     *
+     * @return the height
+     */
+    public int height() {
+        return height;
+    }
+
+    // ****************************************
+    // Helper Methods
+    // ****************************************
+
+    /**
+     * Get the value at a given position in this view.
+     * <p>
+     * As with {@link Grid#get(Coordinate)}, no bounds check is done.
+     *
+     * @param x the x-coordinate, relative to this view
+     * @param y the y-coordinate, relative to this view
+     * @return the value
+     */
+    public int get(final int x, final int y) {
+        return grid[originY + x * xy + y * yy][originX + x * xx + y * yx];
+    }
+
+    /**
+     * Get the value at a given {@link Coordinate} in this view.
+     *
+     * @param coordinate the {@link Coordinate}, relative to this view
+     * @return the value
+     */
+    public int get(final Coordinate coordinate) {
+        return get(coordinate.x(), coordinate.y());
+    }
+
+    /**
+     * Set the value at a given position in this view.
+     * <p>
+     * The value is written through to the backing {@link Grid}.
+     *
+     * @param x     the x-coordinate, relative to this view
+     * @param y     the y-coordinate, relative to this view
+     * @param value the new value
+     * @throws UnsupportedOperationException if the backing {@link Grid} is not a {@link Grid.MutableGrid}
+     */
+    public void set(final int x, final int y, final int value) {
+        if (!mutable) throw new UnsupportedOperationException("Cannot modify an immutable Grid");
+        grid[originY + x * xy + y * yy][originX + x * xx + y * yx] = value;
+    }
+
+    /**
+     * Run an action for each position and its associated value in this
+     * view, in row-major order.
+     *
+     * @param consumer the action to run
+     */
+    public void forEachValue(final ObjIntConsumer<Coordinate> consumer) {
+        for (int y = 0; y < height; y++)
+            for (int x = 0; x < width; x++)
+                consumer.accept(new Coordinate(x, y), get(x, y));
+    }
+
+    /**
+     * Create a view of this view with a {@link Symmetry} applied.
+     *
+     * @param symmetry the {@link Symmetry} to apply
+     * @return the transformed {@link GridView}
+     */
+    public GridView transform(final Symmetry symmetry) {
+        return symmetry.apply(this);
+    }
+
+    /**
+     * Create a view of this view with its rows and columns swapped.
+     *
+     * @return the transposed {@link GridView}
+     */
+    public GridView transpose() {
+        return new GridView(grid, mutable, originX, originY, yx, yy, xx, xy, height, width);
+    }
+
+    /**
+     * Create a view of this view mirrored left-to-right.
+     *
+     * @return the flipped {@link GridView}
+     */
+    public GridView flipHorizontally() {
+        final int right = width - 1;
+        return new GridView(
+                grid, mutable,
+                originX + right * xx, originY + right * xy,
+                -xx, -xy, yx, yy,
+                width, height);
+    }
+
+    /**
+     * Create a view of this view mirrored top-to-bottom.
+     *
+     * @return the flipped {@link GridView}
+     */
+    public GridView flipVertically() {
+        final int bottom = height - 1;
+        return new GridView(
+                grid, mutable,
+                originX + bottom * yx, originY + bottom * yy,
+                xx, xy, -yx, -yy,
+                width, height);
+    }
+
+    /**
+     * Create a view of this view rotated 90 degrees clockwise.
+     *
+     * @return the rotated {@link GridView}
+     */
+    public GridView rotateClockwise() {
+        return transpose().flipHorizontally();
+    }
+
+    /**
+     * Create a view of this view rotated 90 degrees anti-clockwise.
+     *
+     * @return the rotated {@link GridView}
+     */
+    public GridView rotateAntiClockwise() {
+        return transpose().flipVertically();
+    }
+
+    /**
+     * Create a view of a rectangular region of this view.
+     *
+     * @param x      the x-coordinate of the top-left of the region
+     * @param y      the y-coordinate of the top-left of the region
+     * @param width  the width of the region
+     * @param height the height of the region
+     * @return the windowed {@link GridView}
+     * @throws IllegalArgumentException if the region is not within this view
+     */
+    public GridView window(final int x, final int y, final int width, final int height) {
+        if (x < 0 || y < 0 || width < 0 || height < 0 || x + width > this.width || y + height > this.height)
+            throw new IllegalArgumentException(
+                    "Invalid window: " + width + "x" + height + " at (" + x + ", " + y + ") of " + this.width + "x" + this.height);
+
+        return new GridView(
+                grid, mutable,
+                originX + x * xx + y * yx, originY + x * xy + y * yy,
+                xx, xy, yx, yy,
+                width, height);
+    }
+
+    /**
+     * Copy the values in this view into a new, contiguous {@link Grid}.
+     *
+     * @return the new {@link Grid}
+     */
+    public Grid materialise() {
+        final int[][] values = new int[height][width];
+        for (int y = 0; y < height; y++) {
+            final int[] row = values[y];
+            if (xx == 1 && xy == 0) {
+                // Rows are not reversed or transposed, so can be copied directly
+                System.arraycopy(grid[originY + y * yy], originX + y * yx, row, 0, width);
+                continue;
+            }
+            for (int x = 0; x < width; x++)
+                row[x] = get(x, y);
+        }
+        return Grid.of(values);
+    }
+
+    // ****************************************
+    // Helper Classes
+    // ****************************************
+
+    /**
+     * The eight symmetries of a rectangle: four rotations, and each of those
+     * rotations mirrored.
+     */
+    public enum Symmetry {
+
+        /**
+         * Leave the view unchanged.
+         */
+        IDENTITY {
+            @Override
+            GridView apply(final GridView view) {
+                return view;
+            }
+        },
+
+        /**
+         * Rotate 90 degrees clockwise.
+         */
+        ROTATE_90 {
+            @Override
+            GridView apply(final GridView view) {
+                return view.rotateClockwise();
+            }
+        },
+
+        /**
+         * Rotate 180 degrees.
+         */
+        ROTATE_180 {
+            @Override
+            GridView apply(final GridView view) {
+                return view.flipHorizontally().flipVertically();
+            }
+        },
+
+        /**
+         * Rotate 270 degrees clockwise.
+         */
+        ROTATE_270 {
+            @Override
+            GridView apply(final GridView view) {
+                return view.rotateAntiClockwise();
+            }
+        },
+
+        /**
+         * Mirror left-to-right.
+         */
+        FLIP_HORIZONTAL {
+            @Override
+            GridView apply(final GridView view) {
+                return view.flipHorizontally();
+            }
+        },
+
+        /**
+         * Mirror top-to-bottom.
+         */
+        FLIP_VERTICAL {
+            @Override
+            GridView apply(final GridView view) {
+                return view.flipVertically();
+            }
+        },
+
+        /**
+         * Mirror along the leading diagonal.
+         */
+        TRANSPOSE {
+            @Override
+            GridView apply(final GridView view) {
+                return view.transpose();
+            }
+        },
+
+        /**
+         * Mirror along the trailing diagonal.
+         */
+        ANTI_TRANSPOSE {
+            @Override
+            GridView apply(final GridView view) {
+                return view.transpose().flipHorizontally().flipVertically();
+            }
+        },
+
+        // End of constants
+        ;
+
+        /*
+         * Apply this symmetry to a view.
+         */
+        abstract GridView apply(GridView view);
+
+    }
+
+}
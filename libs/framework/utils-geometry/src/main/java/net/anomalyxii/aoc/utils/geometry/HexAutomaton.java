@@ -0,0 +1,289 @@
+package net.anomalyxii.aoc.utils.geometry;
+
+import net.anomalyxii.aoc.utils.geometry.CellularAutomaton.Rule;
+
+import java.util.Arrays;
+
+/**
+ * A "life-like" cellular automaton on a {@link HexGrid hexagonal grid},
+ * where every cell has six neighbours.
+ * <p>
+ * Cells are stored in a dense, bounded array indexed by their axial
+ * coordinates, so the neighbours of a cell are at fixed offsets from it.
+ * Live cells can only spread by one ring of hexagons per generation, so
+ * each generation only evaluates the bounding box of the live cells, grown
+ * by one cell in each direction; the array itself is resized, with some
+ * spare room, whenever that box gets too close to its edges.
+ */
+public class HexAutomaton {
+
+    /*
+     * The number of empty cells to maintain around the bounding box of the
+     * live cells: one ring that may come alive, plus one ring of neighbours.
+     */
+    private static final int MARGIN = 2;
+
+    /*
+     * The minimum number of cells to grow by, on each side, when resizing.
+     */
+    private static final int GROWTH = 16;
+
+    // ****************************************
+    // Private Members
+    // ****************************************
+
+    // Whether a cell with `n` live neighbours will be alive in the next
+    // generation, for dead (`[0][n]`) and live (`[1][n]`) cells
+    private final byte[][] transitions = new byte[2][HexGrid.Direction.values().length + 1];
+
+    // Bounds: `originQ` and `originR` are the axial coordinates of index 0
+    private int originQ;
+    private int originR;
+    private int width;
+    private int height;
+    private byte[] cells;
+    private byte[] next;
+
+    // Bounding box of the live cells, as array indices; empty if `minX > maxX`
+    private int minX = Integer.MAX_VALUE;
+    private int maxX = Integer.MIN_VALUE;
+    private int minY = Integer.MAX_VALUE;
+    private int maxY = Integer.MIN_VALUE;
+
+    private long generation = 0;
+
+    // ****************************************
+    // Constructors
+    // ****************************************
+
+    public HexAutomaton(final Rule rule) {
+        for (int n = 0; n < transitions[0].length; n++) {
+            transitions[0][n] = (byte) ((rule.birth() >>> n) & 1);
+            transitions[1][n] = (byte) ((rule.survive() >>> n) & 1);
+        }
+
+        this.width = 1 + 2 * GROWTH;
+        this.height = 1 + 2 * GROWTH;
+        this.originQ = -GROWTH;
+        this.originR = -GROWTH;
+        this.cells = new byte[width * height];
+        this.next = new byte[width * height];
+    }
+
+    // ****************************************
+    // Getters
+    // ****************************************
+
+    /**
+     * Get the number of generations that have been simulated.
+     *
+     * @return the generation
+     */
+    public long generation() {
+        return generation;
+    }
+
+    // ****************************************
+    // Helper Methods
+    // ****************************************
+
+    /**
+     * Check if the cell at the given packed {@link HexGrid} coordinate is
+     * alive.
+     *
+     * @param hex the packed coordinate
+     * @return {@code true} if the cell is alive; {@code false} otherwise
+     */
+    public boolean get(final long hex) {
+        final int x = HexGrid.q(hex) - originQ;
+        final int y = HexGrid.r(hex) - originR;
+        if (x < 0 || x >= width || y < 0 || y >= height) return false;
+        return cells[y * width + x] != 0;
+    }
+
+    /**
+     * Set the cell at the given packed {@link HexGrid} coordinate to be
+     * alive.
+     *
+     * @param hex the packed coordinate
+     */
+    public void set(final long hex) {
+        final int index = indexOf(hex);
+        cells[index] = 1;
+    }
+
+    /**
+     * Flip the cell at the given packed {@link HexGrid} coordinate, from
+     * alive to dead or from dead to alive.
+     *
+     * @param hex the packed coordinate
+     */
+    public void toggle(final long hex) {
+        final int index = indexOf(hex);
+        cells[index] ^= 1;
+    }
+
+    /**
+     * Count the number of live cells.
+     *
+     * @return the population
+     */
+    public long population() {
+        long population = 0;
+        for (int y = minY; y <= maxY; y++)
+            for (int x = minX, i = y * width + minX; x <= maxX; x++, i++)
+                population += cells[i];
+        return population;
+    }
+
+    /**
+     * Simulate a number of generations.
+     *
+     * @param generations the number of generations to simulate
+     */
+    public void step(final int generations) {
+        // Live cells spread by at most one ring each generation, so make
+        // room for every generation up front
+        ensureCapacity(generations);
+        for (int i = 0; i < generations; i++)
+            evaluate();
+    }
+
+    /**
+     * Simulate the next generation.
+     */
+    public void step() {
+        step(1);
+    }
+
+    // ****************************************
+    // Private Helper Methods
+    // ****************************************
+
+    /*
+     * Calculate the next generation, assuming there is enough room around
+     * the live cells.
+     */
+    private void evaluate() {
+        ++generation;
+        if (minX > maxX) return;
+
+        final int fromX = minX - 1;
+        final int toX = maxX + 1;
+        final int fromY = minY - 1;
+        final int toY = maxY + 1;
+
+        int newMinX = Integer.MAX_VALUE;
+        int newMaxX = Integer.MIN_VALUE;
+        int newMinY = Integer.MAX_VALUE;
+        int newMaxY = Integer.MIN_VALUE;
+
+        // Neighbours, in axial coordinates, are at (±1, 0), (0, ±1),
+        // (+1, -1) and (-1, +1)
+        final int w = width;
+        for (int y = fromY; y <= toY; y++) {
+            for (int x = fromX, i = y * w + fromX; x <= toX; x++, i++) {
+                final int neighbours = cells[i - 1] + cells[i + 1]
+                        + cells[i - w] + cells[i - w + 1]
+                        + cells[i + w] + cells[i + w - 1];
+
+                final byte alive = transitions[cells[i]][neighbours];
+                next[i] = alive;
+                if (alive != 0) {
+                    if (x < newMinX) newMinX = x;
+                    if (x > newMaxX) newMaxX = x;
+                    if (y < newMinY) newMinY = y;
+                    newMaxY = y;
+                }
+            }
+        }
+
+        // Clear the old generation so the spare array is empty again
+        for (int y = minY; y <= maxY; y++)
+            Arrays.fill(cells, y * w + minX, y * w + maxX + 1, (byte) 0);
+
+        final byte[] swap = cells;
+        cells = next;
+        next = swap;
+
+        minX = newMinX;
+        maxX = newMaxX;
+        minY = newMinY;
+        maxY = newMaxY;
+    }
+
+    /*
+     * Find the index of a cell, growing the bounds and the bounding box of
+     * the live cells to include it.
+     */
+    private int indexOf(final long hex) {
+        final int q = HexGrid.q(hex);
+        final int r = HexGrid.r(hex);
+        final int lowQ = Math.min(q, minX > maxX ? q : minX + originQ);
+        final int highQ = Math.max(q, minX > maxX ? q : maxX + originQ);
+        final int lowR = Math.min(r, minX > maxX ? r : minY + originR);
+        final int highR = Math.max(r, minX > maxX ? r : maxY + originR);
+        ensureContains(lowQ, highQ, lowR, highR, 0);
+
+        minX = lowQ - originQ;
+        maxX = highQ - originQ;
+        minY = lowR - originR;
+        maxY = highR - originR;
+        return (r - originR) * width + (q - originQ);
+    }
+
+    /*
+     * Grow the bounds, if necessary, so that the live cells can spread for
+     * the given number of generations.
+     */
+    private void ensureCapacity(final int generations) {
+        if (minX > maxX) return;
+        ensureContains(minX + originQ, maxX + originQ, minY + originR, maxY + originR, generations);
+    }
+
+    /*
+     * Grow the bounds, if necessary, so that they contain the given box,
+     * plus `MARGIN` and the given number of additional rings.
+     */
+    private void ensureContains(final int lowQ, final int highQ, final int lowR, final int highR, final int rings) {
+        final int space = MARGIN + rings;
+        final int growLeft = Math.max(0, originQ - (lowQ - space));
+        final int growRight = Math.max(0, (highQ + space) - (originQ + width - 1));
+        final int growUp = Math.max(0, originR - (lowR - space));
+        final int growDown = Math.max(0, (highR + space) - (originR + height - 1));
+        if (growLeft == 0 && growRight == 0 && growUp == 0 && growDown == 0) return;
+
+        resize(
+                growLeft == 0 ? 0 : Math.max(growLeft, GROWTH),
+                growRight == 0 ? 0 : Math.max(growRight, GROWTH),
+                growUp == 0 ? 0 : Math.max(growUp, GROWTH),
+                growDown == 0 ? 0 : Math.max(growDown, GROWTH)
+        );
+    }
+
+    /*
+     * Resize the bounds, copying across every live cell.
+     */
+    private void resize(final int growLeft, final int growRight, final int growUp, final int growDown) {
+        final int newWidth = width + growLeft + growRight;
+        final int newHeight = height + growUp + growDown;
+        final byte[] newCells = new byte[Math.multiplyExact(newWidth, newHeight)];
+        for (int y = 0; y < height; y++)
+            System.arraycopy(cells, y * width, newCells, (y + growUp) * newWidth + growLeft, width);
+
+        originQ -= growLeft;
+        originR -= growUp;
+        width = newWidth;
+        height = newHeight;
+        cells = newCells;
+        next = new byte[newCells.length];
+
+        if (minX <= maxX) {
+            minX += growLeft;
+            maxX += growLeft;
+            minY += growUp;
+            maxY += growUp;
+        }
+    }
+
+}
@@ -0,0 +1,211 @@
+package net.anomalyxii.aoc.utils.geometry;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Helpers for working with a grid of "pointy-topped" hexagons, using axial
+ * coordinates.
+ * <p>
+ * The {@code q} axis runs east and the {@code r} axis runs south-east, so
+ * every hexagon has exactly one {@code (q, r)} coordinate. To avoid
+ * allocating an object per hexagon, a coordinate is packed into a single
+ * {@code long}: {@code q} in the upper 32 bits and {@code r} in the lower
+ * 32 bits.
+ */
+public final class HexGrid {
+
+    /**
+     * The packed coordinate of the origin, {@code (0, 0)}.
+     */
+    public static final long ORIGIN = pack(0, 0);
+
+    // ****************************************
+    // Constructors
+    // ****************************************
+
+    private HexGrid() {
+    }
+
+    // ****************************************
+    // Static Helper Methods
+    // ****************************************
+
+    /**
+     * Pack an axial coordinate into a {@code long}.
+     *
+     * @param q the {@code q} (east) coordinate
+     * @param r the {@code r} (south-east) coordinate
+     * @return the packed coordinate
+     */
+    public static long pack(final int q, final int r) {
+        return ((long) q << Integer.SIZE) | (r & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Get the {@code q} (east) coordinate of a packed coordinate.
+     *
+     * @param hex the packed coordinate
+     * @return the {@code q} coordinate
+     */
+    public static int q(final long hex) {
+        return (int) (hex >> Integer.SIZE);
+    }
+
+    /**
+     * Get the {@code r} (south-east) coordinate of a packed coordinate.
+     *
+     * @param hex the packed coordinate
+     * @return the {@code r} coordinate
+     */
+    public static int r(final long hex) {
+        return (int) hex;
+    }
+
+    /**
+     * Move one step from a packed coordinate in the given {@link Direction}.
+     *
+     * @param hex       the packed coordinate
+     * @param direction the {@link Direction} to move in
+     * @return the packed coordinate of the neighbouring hexagon
+     */
+    public static long move(final long hex, final Direction direction) {
+        return pack(q(hex) + direction.dq, r(hex) + direction.dr);
+    }
+
+    /**
+     * Follow a path of directions from the origin.
+     *
+     * @param path the path; see {@link #walk(byte[], int, int)}
+     * @return the packed coordinate at the end of the path
+     * @throws IllegalArgumentException if the path contains an unknown direction
+     */
+    public static long walk(final CharSequence path) {
+        final byte[] bytes = new byte[path.length()];
+        for (int i = 0; i < bytes.length; i++)
+            bytes[i] = (byte) path.charAt(i);
+        return walk(bytes, 0, bytes.length);
+    }
+
+    /**
+     * Follow a path of directions from the origin.
+     * <p>
+     * The path is a sequence of the directions {@code e}, {@code se},
+     * {@code sw}, {@code w}, {@code nw} and {@code ne}, with no delimiters.
+     * It is scanned byte-by-byte: {@code e} and {@code w} are single steps,
+     * and {@code n} or {@code s} are always followed by {@code e} or
+     * {@code w}.
+     *
+     * @param path the bytes of the path
+     * @param from the index of the first byte of the path
+     * @param to   the index after the last byte of the path
+     * @return the packed coordinate at the end of the path
+     * @throws IllegalArgumentException if the path contains an unknown direction
+     */
+    public static long walk(final byte[] path, final int from, final int to) {
+        int q = 0;
+        int r = 0;
+        for (int i = from; i < to; i++) {
+            switch (path[i]) {
+                case 'e' -> ++q;
+                case 'w' -> --q;
+                case 'n' -> {
+                    if (++i < to && path[i] == 'e') ++q;
+                    else if (i >= to || path[i] != 'w') throw unknownDirection(path, i - 1, to);
+                    --r;
+                }
+                case 's' -> {
+                    if (++i < to && path[i] == 'w') --q;
+                    else if (i >= to || path[i] != 'e') throw unknownDirection(path, i - 1, to);
+                    ++r;
+                }
+                default -> throw unknownDirection(path, i, to);
+            }
+        }
+        return pack(q, r);
+    }
+
+    /*
+     * Create an exception for an unknown direction at the given index.
+     */
+    private static IllegalArgumentException unknownDirection(final byte[] path, final int index, final int to) {
+        final String direction = new String(path, index, Math.min(2, to - index), StandardCharsets.US_ASCII);
+        return new IllegalArgumentException("Unknown direction '" + direction + "' at index " + index);
+    }
+
+    // ****************************************
+    // Helper Classes
+    // ****************************************
+
+    /**
+     * A direction from one hexagon to one of its six neighbours.
+     */
+    public enum Direction {
+
+        /**
+         * East: {@code e}.
+         */
+        EAST(1, 0),
+
+        /**
+         * South-East: {@code se}.
+         */
+        SOUTH_EAST(0, 1),
+
+        /**
+         * South-West: {@code sw}.
+         */
+        SOUTH_WEST(-1, 1),
+
+        /**
+         * West: {@code w}.
+         */
+        WEST(-1, 0),
+
+        /**
+         * North-West: {@code nw}.
+         */
+        NORTH_WEST(0, -1),
+
+        /**
+         * North-East: {@code ne}.
+         */
+        NORTH_EAST(1, -1),
+
+        // End of constants
+        ;
+
+        private final int dq;
+        private final int dr;
+
+        // Constructors
+
+        Direction(final int dq, final int dr) {
+            this.dq = dq;
+            this.dr = dr;
+        }
+
+        // Getters
+
+        /**
+         * Get the change in the {@code q} coordinate when moving in this
+         * {@link Direction}.
+         *
+         * @return the change in {@code q}
+         */
+        public int dq() {
+            return dq;
+        }
+
+        /**
+         * Get the change in the {@code r} coordinate when moving in this
+         * {@link Direction}.
+         *
+         * @return the change in {@code r}
+         */
+        public int dr() {
+            return dr;
+        }
+
+    }
+
+}
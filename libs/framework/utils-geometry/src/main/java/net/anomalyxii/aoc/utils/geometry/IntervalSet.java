@@ -0,0 +1,549 @@
+package net.anomalyxii.aoc.utils.geometry;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+/**
+ * A set of {@code long} values, stored as a sorted list of disjoint,
+ * non-adjacent, inclusive intervals.
+ * <p>
+ * Intervals are held in primitive arrays, so locating the intervals
+ * affected by an update is a binary search, in {@code O(log n)} for a set
+ * of {@code n} intervals; any intervals that are merged or split are then
+ * replaced with a single bulk array move. That move shifts every later
+ * interval, so a single {@link #add(long, long)} or
+ * {@link #remove(long, long)} is {@code O(n)} in the worst case. Adjacent
+ * and overlapping intervals are always coalesced, so two sets containing
+ * the same values will always have the same representation.
+ */
+public class IntervalSet {
+
+    /*
+     * Initial capacity, in intervals.
+     */
+    private static final int INITIAL_CAPACITY = 8;
+
+    // ****************************************
+    // Private Members
+    // ****************************************
+
+    private long[] starts;
+    private long[] ends;
+    private int size = 0;
+
+    // ****************************************
+    // Constructors
+    // ****************************************
+
+    public IntervalSet() {
+        this.starts = new long[INITIAL_CAPACITY];
+        this.ends = new long[INITIAL_CAPACITY];
+    }
+
+    public IntervalSet(final IntervalSet other) {
+        this.starts = Arrays.copyOf(other.starts, Math.max(INITIAL_CAPACITY, other.size));
+        this.ends = Arrays.copyOf(other.ends, Math.max(INITIAL_CAPACITY, other.size));
+        this.size = other.size;
+    }
+
+    // ****************************************
+    // Getters
+    // ****************************************
+
+    /**
+     * Get the number of disjoint intervals in this set.
+     *
+     * @return the number of intervals
+     */
+    public int intervalCount() {
+        return size;
+    }
+
+    /**
+     * Get the (inclusive) start of an interval.
+     *
+     * @param idx the index of the interval
+     * @return the start of the interval
+     */
+    public long start(final int idx) {
+        return starts[checkIndex(idx)];
+    }
+
+    /**
+     * Get the (inclusive) end of an interval.
+     *
+     * @param idx the index of the interval
+     * @return the end of the interval
+     */
+    public long end(final int idx) {
+        return ends[checkIndex(idx)];
+    }
+
+    // ****************************************
+    // Helper Methods
+    // ****************************************
+
+    /**
+     * Check if this set is empty.
+     *
+     * @return {@code true} if this set is empty; {@code false} otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Get the smallest value in this set.
+     *
+     * @return the smallest value
+     * @throws IllegalStateException if this set is empty
+     */
+    public long min() {
+        if (size == 0) throw new IllegalStateException("IntervalSet is empty");
+        return starts[0];
+    }
+
+    /**
+     * Get the largest value in this set.
+     *
+     * @return the largest value
+     * @throws IllegalStateException if this set is empty
+     */
+    public long max() {
+        if (size == 0) throw new IllegalStateException("IntervalSet is empty");
+        return ends[size - 1];
+    }
+
+    /**
+     * Count the number of values in this set.
+     *
+     * @return the number of values
+     * @throws ArithmeticException if the count does not fit in a {@code long}
+     */
+    public long count() {
+        long count = 0;
+        for (int i = 0; i < size; i++)
+            count = Math.addExact(count, Math.addExact(Math.subtractExact(ends[i], starts[i]), 1));
+        return count;
+    }
+
+    /**
+     * Check if a value is contained in this set.
+     *
+     * @param value the value to check
+     * @return {@code true} if this set contains the value; {@code false} otherwise
+     */
+    public boolean contains(final long value) {
+        final int idx = firstEndingAtOrAfter(value);
+        return idx < size && starts[idx] <= value;
+    }
+
+    /**
+     * Add every value in an inclusive interval to this set.
+     * <p>
+     * This takes {@code O(log n)} to find the affected intervals, plus
+     * {@code O(n)} to shift the intervals after them.
+     *
+     * @param start the start of the interval
+     * @param end   the end of the interval
+     * @return this {@link IntervalSet}, for chaining
+     */
+    public IntervalSet add(final long start, final long end) {
+        if (start > end) return this;
+
+        // Find the intervals that overlap, or are adjacent to, the new interval
+        final int first = firstEndingAtOrAfter(start == Long.MIN_VALUE ? start : start - 1);
+        final int last = lastStartingAtOrBefore(end == Long.MAX_VALUE ? end : end + 1);
+
+        if (first > last) {
+            replace(first, first, start, end);
+        } else {
+            replace(first, last + 1, Math.min(start, starts[first]), Math.max(end, ends[last]));
+        }
+        return this;
+    }
+
+    /**
+     * Add every value in another {@link IntervalSet} to this set.
+     *
+     * @param other the other {@link IntervalSet}
+     * @return this {@link IntervalSet}, for chaining
+     */
+    public IntervalSet addAll(final IntervalSet other) {
+        for (int i = 0; i < other.size; i++)
+            add(other.starts[i], other.ends[i]);
+        return this;
+    }
+
+    /**
+     * Remove every value in an inclusive interval from this set.
+     * <p>
+     * This takes {@code O(log n)} to find the affected intervals, plus
+     * {@code O(n)} to shift the intervals after them.
+     *
+     * @param start the start of the interval
+     * @param end   the end of the interval
+     * @return this {@link IntervalSet}, for chaining
+     */
+    public IntervalSet remove(final long start, final long end) {
+        if (start > end) return this;
+
+        final int first = firstEndingAtOrAfter(start);
+        final int last = lastStartingAtOrBefore(end);
+        if (first > last) return this;
+
+        final long leftStart = starts[first];
+        final long rightEnd = ends[last];
+        final boolean keepLeft = leftStart < start;
+        final boolean keepRight = rightEnd > end;
+
+        if (keepLeft && keepRight) {
+            replace(first, last + 1, leftStart, start - 1);
+            replace(first + 1, first + 1, end + 1, rightEnd);
+        } else if (keepLeft) {
+            replace(first, last + 1, leftStart, start - 1);
+        } else if (keepRight) {
+            replace(first, last + 1, end + 1, rightEnd);
+        } else {
+            delete(first, last + 1);
+        }
+        return this;
+    }
+
+    /**
+     * Remove every value in another {@link IntervalSet} from this set.
+     *
+     * @param other the other {@link IntervalSet}
+     * @return this {@link IntervalSet}, for chaining
+     */
+    public IntervalSet removeAll(final IntervalSet other) {
+        for (int i = 0; i < other.size; i++)
+            remove(other.starts[i], other.ends[i]);
+        return this;
+    }
+
+    /**
+     * Create a new {@link IntervalSet} containing only the values that are
+     * in both this set and another.
+     *
+     * @param other the other {@link IntervalSet}
+     * @return the intersection
+     */
+    public IntervalSet intersect(final IntervalSet other) {
+        final IntervalSet result = new IntervalSet();
+
+        int i = 0;
+        int j = 0;
+        while (i < size && j < other.size) {
+            final long start = Math.max(starts[i], other.starts[j]);
+            final long end = Math.min(ends[i], other.ends[j]);
+            if (start <= end) result.append(start, end);
+
+            if (ends[i] < other.ends[j]) ++i;
+            else ++j;
+        }
+        return result;
+    }
+
+    /**
+     * Create a new {@link IntervalSet} containing only the values that are
+     * in this set and inside an inclusive interval.
+     * <p>
+     * This takes {@code O(log n + k)}, where {@code k} is the number of
+     * intervals in the result.
+     *
+     * @param start the start of the interval
+     * @param end   the end of the interval
+     * @return the intersection
+     */
+    public IntervalSet intersect(final long start, final long end) {
+        final IntervalSet result = new IntervalSet();
+        if (start > end) return result;
+
+        final int first = firstEndingAtOrAfter(start);
+        final int last = lastStartingAtOrBefore(end);
+        for (int i = first; i <= last; i++)
+            result.append(Math.max(start, starts[i]), Math.min(end, ends[i]));
+        return result;
+    }
+
+    /**
+     * Create a new {@link IntervalSet} containing every value inside an
+     * inclusive interval that is <i>not</i> in this set.
+     *
+     * @param start the start of the interval
+     * @param end   the end of the interval
+     * @return the complement
+     */
+    public IntervalSet complement(final long start, final long end) {
+        return new IntervalSet().add(start, end).removeAll(this);
+    }
+
+    /**
+     * Map every value in this set through a piecewise-linear function.
+     * <p>
+     * Any value that falls inside one of the {@link Translation Translations}
+     * is shifted by that translation's offset; any value that does not is
+     * left unchanged. If the translations overlap, the first matching
+     * translation wins.
+     * <p>
+     * The translations are first split into disjoint pieces, sorted by
+     * their start, and the intervals of this set are then split against
+     * those pieces in a single sweep. Since the translated intervals are
+     * no longer in order, they are sorted before being coalesced; for
+     * {@code T} translations, this takes {@code O((n + T) log(n + T))}.
+     *
+     * @param translations the {@link Translation Translations} to apply
+     * @return a new {@link IntervalSet} containing the mapped values
+     */
+    public IntervalSet map(final List<Translation> translations) {
+        final Translation[] pieces = splitIntoDisjointPieces(translations);
+
+        final List<long[]> mapped = new ArrayList<>(size + pieces.length);
+        int j = 0;
+        for (int i = 0; i < size; i++) {
+            long cursor = starts[i];
+            while (true) {
+                while (j < pieces.length && pieces[j].end() < cursor) ++j;
+                if (j == pieces.length || pieces[j].start() > ends[i]) {
+                    mapped.add(new long[]{cursor, ends[i]});
+                    break;
+                }
+                if (pieces[j].start() > cursor) {
+                    mapped.add(new long[]{cursor, pieces[j].start() - 1});
+                    cursor = pieces[j].start();
+                }
+
+                final long end = Math.min(ends[i], pieces[j].end());
+                mapped.add(new long[]{
+                        Math.addExact(cursor, pieces[j].offset()),
+                        Math.addExact(end, pieces[j].offset())});
+                if (end == ends[i]) break;
+                cursor = end + 1;
+            }
+        }
+
+        mapped.sort(Comparator.comparingLong(interval -> interval[0]));
+        final IntervalSet result = new IntervalSet();
+        for (final long[] interval : mapped)
+            result.append(interval[0], interval[1]);
+        return result;
+    }
+
+    /**
+     * Visit every interval in this set, in ascending order.
+     *
+     * @param consumer the {@link IntervalConsumer} to visit each interval
+     */
+    public void forEachInterval(final IntervalConsumer consumer) {
+        for (int i = 0; i < size; i++)
+            consumer.accept(starts[i], ends[i]);
+    }
+
+    // ****************************************
+    // Equals & Hash Code
+    // ****************************************
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (!(o instanceof IntervalSet that)) return false;
+        return size == that.size
+                && Arrays.equals(starts, 0, size, that.starts, 0, size)
+                && Arrays.equals(ends, 0, size, that.ends, 0, size);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 1;
+        for (int i = 0; i < size; i++)
+            result = 31 * (31 * result + Long.hashCode(starts[i])) + Long.hashCode(ends[i]);
+        return result;
+    }
+
+    // ****************************************
+    // To String
+    // ****************************************
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("{");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) sb.append(", ");
+            sb.append('[').append(starts[i]).append("..").append(ends[i]).append(']');
+        }
+        return sb.append('}').toString();
+    }
+
+    // ****************************************
+    // Private Helper Methods
+    // ****************************************
+
+    /*
+     * Find the index of the first interval that ends at or after the given
+     * value, or `size` if there is none.
+     */
+    private int firstEndingAtOrAfter(final long value) {
+        int lo = 0;
+        int hi = size;
+        while (lo < hi) {
+            final int mid = (lo + hi) >>> 1;
+            if (ends[mid] < value) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    /*
+     * Find the index of the last interval that starts at or before the
+     * given value, or `-1` if there is none.
+     */
+    private int lastStartingAtOrBefore(final long value) {
+        int lo = 0;
+        int hi = size;
+        while (lo < hi) {
+            final int mid = (lo + hi) >>> 1;
+            if (starts[mid] <= value) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo - 1;
+    }
+
+    /*
+     * Replace the intervals in `[from, to)` with a single interval.
+     */
+    private void replace(final int from, final int to, final long start, final long end) {
+        final int delta = 1 - (to - from);
+        if (delta > 0) ensureCapacity(size + delta);
+        if (delta != 0) {
+            System.arraycopy(starts, to, starts, from + 1, size - to);
+            System.arraycopy(ends, to, ends, from + 1, size - to);
+            size += delta;
+        }
+        starts[from] = start;
+        ends[from] = end;
+    }
+
+    /*
+     * Delete the intervals in `[from, to)`.
+     */
+    private void delete(final int from, final int to) {
+        System.arraycopy(starts, to, starts, from, size - to);
+        System.arraycopy(ends, to, ends, from, size - to);
+        size -= to - from;
+    }
+
+    /*
+     * Append an interval that starts at or after every existing interval,
+     * merging it into the last interval if they overlap or are adjacent.
+     */
+    private void append(final long start, final long end) {
+        if (size > 0 && ends[size - 1] != Long.MAX_VALUE && ends[size - 1] + 1 >= start) {
+            ends[size - 1] = Math.max(ends[size - 1], end);
+            return;
+        }
+        ensureCapacity(size + 1);
+        starts[size] = start;
+        ends[size] = end;
+        ++size;
+    }
+
+    /*
+     * Grow the backing arrays, if necessary.
+     */
+    private void ensureCapacity(final int capacity) {
+        if (capacity <= starts.length) return;
+        final int newCapacity = Math.max(capacity, starts.length << 1);
+        starts = Arrays.copyOf(starts, newCapacity);
+        ends = Arrays.copyOf(ends, newCapacity);
+    }
+
+    /*
+     * Verify that an interval index is valid.
+     */
+    private int checkIndex(final int idx) {
+        return Objects.checkIndex(idx, size);
+    }
+
+    // ****************************************
+    // Private Static Helper Methods
+    // ****************************************
+
+    /*
+     * Split a list of translations into disjoint pieces, sorted by their
+     * start, so that each value is covered by the first translation in the
+     * list that contains it.
+     */
+    private static Translation[] splitIntoDisjointPieces(final List<Translation> translations) {
+        final int[] byStart = IntStream.range(0, translations.size())
+                .filter(i -> translations.get(i).start() <= translations.get(i).end())
+                .boxed()
+                .sorted(Comparator.comparingLong(i -> translations.get(i).start()))
+                .mapToInt(Integer::intValue)
+                .toArray();
+
+        // The same translations cover every value between two boundaries
+        final long[] boundaries = Arrays.stream(byStart)
+                .mapToObj(translations::get)
+                .flatMapToLong(t -> t.end() == Long.MAX_VALUE
+                        ? LongStream.of(t.start())
+                        : LongStream.of(t.start(), t.end() + 1))
+                .sorted()
+                .distinct()
+                .toArray();
+
+        final List<Translation> pieces = new ArrayList<>();
+        final PriorityQueue<Integer> active = new PriorityQueue<>();
+        int next = 0;
+        for (int k = 0; k < boundaries.length; k++) {
+            final long from = boundaries[k];
+            while (next < byStart.length && translations.get(byStart[next]).start() == from)
+                active.add(byStart[next++]);
+            while (!active.isEmpty() && translations.get(active.peek()).end() < from)
+                active.poll();
+            if (active.isEmpty()) continue;
+
+            final long to = k + 1 < boundaries.length ? boundaries[k + 1] - 1 : Long.MAX_VALUE;
+            pieces.add(new Translation(from, to, translations.get(active.peek()).offset()));
+        }
+        return pieces.toArray(Translation[]::new);
+    }
+
+    // ****************************************
+    // Helper Classes
+    // ****************************************
+
+    /**
+     * One piece of a piecewise-linear function: every value in the
+     * inclusive interval {@code [start, end]} is shifted by {@code offset}.
+     *
+     * @param start  the start of the interval
+     * @param end    the end of the interval
+     * @param offset the amount to shift each value by
+     */
+    public record Translation(long start, long end, long offset) {
+    }
+
+    /**
+     * A consumer of inclusive intervals.
+     */
+    @FunctionalInterface
+    public interface IntervalConsumer {
+
+        /**
+         * Visit an interval.
+         *
+         * @param start the start of the interval
+         * @param end   the end of the interval
+         */
+        void accept(long start, long end);
+
+    }
+
+}
@@ -0,0 +1,47 @@
+package net.anomalyxii.aoc.utils.geometry;
+
+/**
+ * {@link GridKernels} implemented with plain loops.
+ */
+final class ScalarGridKernels implements GridKernels {
+
+    /*
+     * The singleton instance.
+     */
+    static final ScalarGridKernels INSTANCE = new ScalarGridKernels();
+
+    // ****************************************
+    // Constructors
+    // ****************************************
+
+    private ScalarGridKernels() {
+    }
+
+    // ****************************************
+    // GridKernels Methods
+    // ****************************************
+
+    @Override
+    public int countEqual(final int[] row, final int value) {
+        int count = 0;
+        for (final int v : row)
+            if (v == value) ++count;
+        return count;
+    }
+
+    @Override
+    public int indexOf(final int[] row, final int value) {
+        for (int i = 0; i < row.length; i++)
+            if (row[i] == value) return i;
+        return -1;
+    }
+
+    @Override
+    public int countMismatches(final int[] first, final int[] second) {
+        int count = 0;
+        for (int i = 0; i < first.length; i++)
+            if (first[i] != second[i]) ++count;
+        return count;
+    }
+
+}
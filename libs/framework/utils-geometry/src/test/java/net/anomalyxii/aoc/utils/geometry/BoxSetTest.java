@@ -0,0 +1,63 @@
+package net.anomalyxii.aoc.utils.geometry;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BoxSetTest {
+
+    // ****************************************
+    // Test Methods
+    // ****************************************
+
+    // add & remove
+
+    @Test
+    void add_OverlappingBoxesAreCountedOnce() {
+        // arrange
+        final BoxSet set = new BoxSet(3);
+
+        // act
+        set.add(new long[]{10, 10, 10}, new long[]{12, 12, 12});
+        set.add(new long[]{11, 11, 11}, new long[]{13, 13, 13});
+
+        // assert
+        assertThat(set.volume())
+                .isEqualTo(27L + 19L);
+    }
+
+    @Test
+    void remove_CarvesHoles() {
+        // arrange
+        final BoxSet set = new BoxSet(3)
+                .add(new long[]{10, 10, 10}, new long[]{12, 12, 12})
+                .add(new long[]{11, 11, 11}, new long[]{13, 13, 13});
+
+        // act
+        set.remove(new long[]{9, 9, 9}, new long[]{11, 11, 11});
+        set.add(new long[]{10, 10, 10}, new long[]{10, 10, 10});
+
+        // assert
+        assertThat(set.volume())
+                .isEqualTo(39L);
+        assertThat(set.contains(10, 10, 10))
+                .isTrue();
+        assertThat(set.contains(11, 11, 11))
+                .isFalse();
+    }
+
+    @Test
+    void intersect_ClipsBoxes() {
+        // arrange
+        final BoxSet set = new BoxSet(2)
+                .add(new long[]{0, 0}, new long[]{9, 9});
+
+        // act
+        final BoxSet result = set.intersect(new long[]{5, -5}, new long[]{20, 2});
+
+        // assert
+        assertThat(result.volume())
+                .isEqualTo(15L);
+    }
+
+}
@@ -0,0 +1,161 @@
+package net.anomalyxii.aoc.utils.geometry;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CellularAutomatonTest {
+
+    // ****************************************
+    // Test Methods
+    // ****************************************
+
+    // step
+
+    @Test
+    void step_BlinkerOscillates() {
+        // arrange
+        final CellularAutomaton automaton = new CellularAutomaton(2, CellularAutomaton.Rule.CONWAY);
+        automaton.set(-1, 0);
+        automaton.set(0, 0);
+        automaton.set(1, 0);
+
+        // act
+        automaton.step();
+
+        // assert
+        assertThat(automaton.population())
+                .isEqualTo(3L);
+        assertThat(automaton.get(0, -1) && automaton.get(0, 0) && automaton.get(0, 1))
+                .isTrue();
+        assertThat(automaton.get(-1, 0) || automaton.get(1, 0))
+                .isFalse();
+    }
+
+    @Test
+    void step_GliderTravelsAcrossWordBoundaries() {
+        // arrange
+        final CellularAutomaton automaton = new CellularAutomaton(2, CellularAutomaton.Rule.CONWAY);
+        automaton.set(1, 0);
+        automaton.set(2, 1);
+        automaton.set(0, 2);
+        automaton.set(1, 2);
+        automaton.set(2, 2);
+
+        // act
+        automaton.step(4 * 100);
+
+        // assert
+        assertThat(automaton.population())
+                .isEqualTo(5L);
+        assertThat(automaton.get(101, 100) && automaton.get(102, 101) && automaton.get(100, 102))
+                .isTrue();
+        assertThat(automaton.generation())
+                .isEqualTo(400L);
+    }
+
+    @Test
+    void step_MatchesNaiveSimulationIn4Dimensions() {
+        // arrange
+        final Random random = new Random(2020);
+        final CellularAutomaton sequential = new CellularAutomaton(4, CellularAutomaton.Rule.CONWAY);
+        final CellularAutomaton parallel = new CellularAutomaton(4, CellularAutomaton.Rule.CONWAY, true);
+        Set<String> expected = new HashSet<>();
+        for (int x = 0; x < 8; x++) {
+            for (int y = 0; y < 8; y++) {
+                if (random.nextBoolean()) {
+                    sequential.set(x, y, 0, 0);
+                    parallel.set(x, y, 0, 0);
+                    expected.add(key(x, y, 0, 0));
+                }
+            }
+        }
+
+        // act
+        for (int i = 0; i < 3; i++)
+            expected = naiveStep(expected);
+        sequential.step(3);
+        parallel.step(3);
+
+        // assert
+        assertThat(sequential.population())
+                .isEqualTo(expected.size());
+        assertThat(parallel.population())
+                .isEqualTo(expected.size());
+        for (final String cell : expected) {
+            final int[] coordinates = parse(cell);
+            assertThat(sequential.get(coordinates) && parallel.get(coordinates))
+                    .isTrue();
+        }
+    }
+
+    // Rule
+
+    @Test
+    void rule_ThrowsExceptionIfBornWithNoNeighbours() {
+        // act + assert
+        assertThrows(IllegalArgumentException.class, () -> CellularAutomaton.Rule.of("B03/S23"));
+    }
+
+    // ****************************************
+    // Private Helper Methods
+    // ****************************************
+
+    /*
+     * Step a 4-dimensional Game of Life, one cell at a time.
+     */
+    private static Set<String> naiveStep(final Set<String> alive) {
+        final Set<String> candidates = new HashSet<>();
+        for (final String cell : alive)
+            forEachNeighbour(parse(cell), true, n -> candidates.add(key(n)));
+
+        final Set<String> next = new HashSet<>();
+        for (final String candidate : candidates) {
+            final int[] count = {0};
+            forEachNeighbour(parse(candidate), false, n -> count[0] += alive.contains(key(n)) ? 1 : 0);
+            final boolean isAlive = alive.contains(candidate);
+            if (count[0] == 3 || (isAlive && count[0] == 2)) next.add(candidate);
+        }
+        return next;
+    }
+
+    /*
+     * Visit each neighbour of a 4-dimensional cell.
+     */
+    private static void forEachNeighbour(final int[] c, final boolean includeSelf, final Consumer<int[]> consumer) {
+        for (int dx = -1; dx <= 1; dx++)
+            for (int dy = -1; dy <= 1; dy++)
+                for (int dz = -1; dz <= 1; dz++)
+                    for (int dw = -1; dw <= 1; dw++) {
+                        if (!includeSelf && dx == 0 && dy == 0 && dz == 0 && dw == 0) continue;
+                        consumer.accept(new int[]{c[0] + dx, c[1] + dy, c[2] + dz, c[3] + dw});
+                    }
+    }
+
+    /*
+     * Convert a 4-dimensional cell to a key.
+     */
+    private static String key(final int... c) {
+        return c[0] + "," + c[1] + "," + c[2] + "," + c[3];
+    }
+
+    /*
+     * Convert a key back to a 4-dimensional cell.
+     */
+    private static int[] parse(final String key) {
+        final String[] parts = key.split(",");
+        return new int[]{
+                Integer.parseInt(parts[0]),
+                Integer.parseInt(parts[1]),
+                Integer.parseInt(parts[2]),
+                Integer.parseInt(parts[3]),
+        };
+    }
+
+}
@@ -0,0 +1,99 @@
+package net.anomalyxii.aoc.utils.geometry;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ChunkedGridTest {
+
+    // ****************************************
+    // Test Methods
+    // ****************************************
+
+    // get & set
+
+    @Test
+    void set_AllocatesTilesOnDemand() {
+        // arrange
+        final ChunkedGrid grid = new ChunkedGrid();
+
+        // act
+        grid.set(0, 0, 1);
+        grid.set(-1, -1, 2);
+        grid.set(1_000_000, -1_000_000, 255);
+
+        // assert
+        assertThat(grid.get(0, 0))
+                .isEqualTo(1);
+        assertThat(grid.get(-1, -1))
+                .isEqualTo(2);
+        assertThat(grid.get(1_000_000, -1_000_000))
+                .isEqualTo(255);
+        assertThat(grid.get(5, 5))
+                .isEqualTo(0);
+        assertThat(grid.tileCount())
+                .isEqualTo(3);
+    }
+
+    @Test
+    void set_GrowsTileTable() {
+        // arrange
+        final ChunkedGrid grid = new ChunkedGrid();
+
+        // act
+        for (int i = 0; i < 100; i++)
+            grid.set(i * 64, -i * 64, i + 1);
+
+        // assert
+        for (int i = 0; i < 100; i++)
+            assertThat(grid.get(i * 64, -i * 64)).isEqualTo(i + 1);
+        assertThat(grid.tileCount())
+                .isEqualTo(100);
+    }
+
+    @Test
+    void set_ThrowsExceptionIfValueOutOfRange() {
+        // arrange
+        final ChunkedGrid grid = new ChunkedGrid();
+
+        // act + assert
+        assertThrows(IllegalArgumentException.class, () -> grid.set(0, 0, 256));
+    }
+
+    // neighbours
+
+    @Test
+    void neighbours_WithinAndAcrossTiles() {
+        // arrange
+        final ChunkedGrid grid = new ChunkedGrid();
+        grid.set(9, 9, 1);
+        grid.set(11, 10, 1);
+        grid.set(-1, 0, 1);
+        grid.set(1, 1, 1);
+
+        // act + assert
+        assertThat(grid.neighbours(10, 10))
+                .isEqualTo(0b00001001);
+        assertThat(grid.neighbours(0, 0))
+                .isEqualTo(0b10010000);
+    }
+
+    // area
+
+    @Test
+    void area_CoversPopulatedCells() {
+        // arrange
+        final ChunkedGrid grid = new ChunkedGrid();
+        grid.set(-5, 3, 1);
+        grid.set(70, -2, 1);
+
+        // act
+        final Area area = grid.area();
+
+        // assert
+        assertThat(area)
+                .isEqualTo(Area.of(Bounds.of(-5, 70), Bounds.of(-2, 3)));
+    }
+
+}
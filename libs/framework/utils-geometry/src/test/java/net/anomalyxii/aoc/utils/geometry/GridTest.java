@@ -7,6 +7,7 @@ import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatObject;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class GridTest {
 
@@ -324,4 +325,116 @@ class GridTest {
                 );
     }
 
-}
\ No newline at end of file
+    // packBits
+
+    @Test
+    void packBits_PacksRegionInRowMajorOrder() {
+        // arrange
+        final int[][] raw = {
+                new int[]{0, 0, 0, 1},
+                new int[]{0, 0, 2, 0},
+                new int[]{0, 3, 0, 1},
+        };
+
+        final Grid grid = Grid.of(raw);
+
+        // act
+        final int bits = grid.packBits(1, 0, 3, 3);
+
+        // assert
+        assertThat(bits).isEqualTo(0b001_010_101);
+    }
+
+    @Test
+    void packBits_ThrowsExceptionIfTooManyCells() {
+        // arrange
+        final Grid grid = Grid.of(new int[9][4]);
+
+        // act
+        final IllegalArgumentException error = assertThrows(IllegalArgumentException.class, () -> grid.packBits(0, 0, 4, 9));
+
+        // assert
+        assertThat(error)
+                .isNotNull();
+    }
+
+    // count
+
+    @Test
+    void count_CountsMatchingCells() {
+        // arrange
+        final Grid grid = Grid.of(new int[][]{
+                new int[]{0, 0, 0, 1},
+                new int[]{0, 0, 2, 0},
+                new int[]{0, 3, 0, 1},
+        });
+
+        // act + assert
+        assertThatObject(grid)
+                .returns(8L, g -> g.count(0))
+                .returns(2L, g -> g.count(1))
+                .returns(0L, g -> g.count(4))
+                .returns(1, g -> g.countInRow(2, 1));
+    }
+
+    // indexOfInRow
+
+    @Test
+    void indexOfInRow_FindsFirstMatchingCell() {
+        // arrange
+        final Grid grid = Grid.of(new int[][]{
+                new int[]{0, 0, 0, 1},
+                new int[]{0, 0, 2, 0},
+                new int[]{0, 3, 0, 1},
+        });
+
+        // act + assert
+        assertThatObject(grid)
+                .returns(3, g -> g.indexOfInRow(0, 1))
+                .returns(0, g -> g.indexOfInRow(1, 0))
+                .returns(-1, g -> g.indexOfInRow(1, 3));
+    }
+
+    // rowMismatches
+
+    @Test
+    void rowMismatches_CountsDifferences() {
+        // arrange
+        final Grid grid = Grid.of(new int[][]{
+                new int[]{0, 0, 0, 1},
+                new int[]{0, 0, 2, 0},
+                new int[]{0, 3, 0, 1},
+                new int[]{0, 0, 0, 1},
+        });
+
+        // act + assert
+        assertThatObject(grid)
+                .returns(0, g -> g.rowMismatches(0, 3))
+                .returns(1, g -> g.rowMismatches(0, 2))
+                .returns(3, g -> g.rowMismatches(1, 2));
+    }
+
+    // transpose
+
+    @Test
+    void transpose_SwapsRowsAndColumns() {
+        // arrange
+        final Grid grid = Grid.of(new int[][]{
+                new int[]{0, 0, 0, 1},
+                new int[]{0, 0, 2, 0},
+                new int[]{0, 3, 0, 1},
+        });
+
+        // act
+        final Grid transposed = grid.transpose();
+
+        // assert
+        assertThatObject(transposed)
+                .returns(3, Grid::width)
+                .returns(4, Grid::height)
+                .returns(1, g -> g.get(new Coordinate(0, 3)))
+                .returns(2, g -> g.get(new Coordinate(1, 2)))
+                .returns(3, g -> g.get(new Coordinate(2, 1)));
+    }
+
+}
@@ -0,0 +1,161 @@
+package net.anomalyxii.aoc.utils.geometry;
+
+import net.anomalyxii.aoc.utils.geometry.GridView.Symmetry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class GridViewTest {
+
+    // ****************************************
+    // Data Provider Methods
+    // ****************************************
+
+    /*
+     * The expected result of each symmetry of a 3x2 grid.
+     */
+    private static Stream<Arguments> symmetries() {
+        return Stream.of(
+                Arguments.of(Symmetry.IDENTITY, new int[][]{{1, 2, 3}, {4, 5, 6}}),
+                Arguments.of(Symmetry.ROTATE_90, new int[][]{{4, 1}, {5, 2}, {6, 3}}),
+                Arguments.of(Symmetry.ROTATE_180, new int[][]{{6, 5, 4}, {3, 2, 1}}),
+                Arguments.of(Symmetry.ROTATE_270, new int[][]{{3, 6}, {2, 5}, {1, 4}}),
+                Arguments.of(Symmetry.FLIP_HORIZONTAL, new int[][]{{3, 2, 1}, {6, 5, 4}}),
+                Arguments.of(Symmetry.FLIP_VERTICAL, new int[][]{{4, 5, 6}, {1, 2, 3}}),
+                Arguments.of(Symmetry.TRANSPOSE, new int[][]{{1, 4}, {2, 5}, {3, 6}}),
+                Arguments.of(Symmetry.ANTI_TRANSPOSE, new int[][]{{6, 3}, {5, 2}, {4, 1}})
+        );
+    }
+
+    // ****************************************
+    // Test Methods
+    // ****************************************
+
+    // transform
+
+    @ParameterizedTest
+    @MethodSource("symmetries")
+    void transform_RemapsValues(final Symmetry symmetry, final int[][] expected) {
+        // arrange
+        final Grid grid = Grid.of(new int[][]{
+                new int[]{1, 2, 3},
+                new int[]{4, 5, 6},
+        });
+
+        // act
+        final GridView view = grid.view().transform(symmetry);
+
+        // assert
+        assertThat(view.materialise().matches(expected))
+                .isTrue();
+    }
+
+    @Test
+    void transform_AllSymmetriesAreDistinct() {
+        // arrange
+        final Grid grid = Grid.of(new int[][]{
+                new int[]{1, 2},
+                new int[]{3, 4},
+        });
+
+        // act
+        final Set<Long> fingerprints = new HashSet<>();
+        for (final Symmetry symmetry : Symmetry.values())
+            fingerprints.add(grid.view().transform(symmetry).materialise().fingerprint());
+
+        // assert
+        assertThat(fingerprints)
+                .hasSize(8);
+    }
+
+    @Test
+    void rotateClockwise_FourTimesIsIdentity() {
+        // arrange
+        final Grid grid = Grid.of(new int[][]{
+                new int[]{1, 2, 3},
+                new int[]{4, 5, 6},
+        });
+
+        // act
+        final GridView view = grid.view()
+                .rotateClockwise()
+                .rotateClockwise()
+                .rotateClockwise()
+                .rotateClockwise();
+
+        // assert
+        assertThat(view.materialise().matches(new int[][]{{1, 2, 3}, {4, 5, 6}}))
+                .isTrue();
+    }
+
+    // window
+
+    @Test
+    void window_OfTransformedView() {
+        // arrange
+        final Grid grid = Grid.of(new int[][]{
+                new int[]{1, 2, 3, 4},
+                new int[]{5, 6, 7, 8},
+                new int[]{9, 10, 11, 12},
+        });
+
+        // act
+        final GridView view = grid.view()
+                .flipHorizontally()
+                .window(1, 1, 2, 2);
+
+        // assert
+        assertThat(view.materialise().matches(new int[][]{{7, 6}, {11, 10}}))
+                .isTrue();
+    }
+
+    @Test
+    void window_ThrowsExceptionIfOutOfBounds() {
+        // arrange
+        final GridView view = Grid.of(new int[3][4]).view();
+
+        // act
+        final IllegalArgumentException error = assertThrows(IllegalArgumentException.class, () -> view.window(2, 0, 3, 1));
+
+        // assert
+        assertThat(error)
+                .isNotNull();
+    }
+
+    // set
+
+    @Test
+    void set_WritesThroughToMutableGrid() {
+        // arrange
+        final Grid.MutableGrid grid = Grid.ofMutable(new int[2][3]);
+
+        // act
+        grid.view().rotateClockwise().set(0, 2, 9);
+
+        // assert
+        assertThat(grid.get(new Coordinate(2, 1)))
+                .isEqualTo(9);
+    }
+
+    @Test
+    void set_ThrowsExceptionIfGridIsImmutable() {
+        // arrange
+        final GridView view = Grid.of(new int[2][3]).view();
+
+        // act
+        final UnsupportedOperationException error = assertThrows(UnsupportedOperationException.class, () -> view.set(0, 0, 1));
+
+        // assert
+        assertThat(error)
+                .isNotNull();
+    }
+
+}
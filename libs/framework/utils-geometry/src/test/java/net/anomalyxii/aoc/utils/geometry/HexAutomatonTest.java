@@ -0,0 +1,109 @@
+package net.anomalyxii.aoc.utils.geometry;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HexAutomatonTest {
+
+    // ****************************************
+    // Test Methods
+    // ****************************************
+
+    // toggle
+
+    @Test
+    void toggle_FlipsCellsBackToDead() {
+        // arrange
+        final HexAutomaton automaton = new HexAutomaton(CellularAutomaton.Rule.of("B2/S12"));
+
+        // act
+        automaton.toggle(HexGrid.pack(1, 2));
+        automaton.toggle(HexGrid.pack(-100, 50));
+        automaton.toggle(HexGrid.pack(1, 2));
+
+        // assert
+        assertThat(automaton.population())
+                .isEqualTo(1L);
+        assertThat(automaton.get(HexGrid.pack(-100, 50)))
+                .isTrue();
+        assertThat(automaton.get(HexGrid.pack(1, 2)))
+                .isFalse();
+    }
+
+    // step
+
+    @Test
+    void step_MatchesNaiveSimulation() {
+        // arrange
+        final Random random = new Random(2020);
+        final HexAutomaton automaton = new HexAutomaton(CellularAutomaton.Rule.of("B2/S12"));
+        Set<Long> expected = new HashSet<>();
+        for (int q = -5; q <= 5; q++) {
+            for (int r = -5; r <= 5; r++) {
+                if (random.nextBoolean()) {
+                    automaton.set(HexGrid.pack(q, r));
+                    expected.add(HexGrid.pack(q, r));
+                }
+            }
+        }
+
+        // act
+        for (int i = 0; i < 40; i++)
+            expected = naiveStep(expected);
+        automaton.step(15);
+        automaton.step(25);
+
+        // assert
+        assertThat(automaton.population())
+                .isEqualTo(expected.size());
+        for (final long hex : expected)
+            assertThat(automaton.get(hex))
+                    .isTrue();
+        assertThat(automaton.generation())
+                .isEqualTo(40L);
+    }
+
+    @Test
+    void step_EmptyAutomatonStaysEmpty() {
+        // arrange
+        final HexAutomaton automaton = new HexAutomaton(CellularAutomaton.Rule.of("B2/S12"));
+
+        // act
+        automaton.step(10);
+
+        // assert
+        assertThat(automaton.population())
+                .isEqualTo(0L);
+    }
+
+    // ****************************************
+    // Private Helper Methods
+    // ****************************************
+
+    /*
+     * Step a "B2/S12" hexagonal automaton, one cell at a time.
+     */
+    private static Set<Long> naiveStep(final Set<Long> alive) {
+        final Set<Long> candidates = new HashSet<>(alive);
+        for (final long hex : alive)
+            for (final HexGrid.Direction direction : HexGrid.Direction.values())
+                candidates.add(HexGrid.move(hex, direction));
+
+        final Set<Long> next = new HashSet<>();
+        for (final long candidate : candidates) {
+            int count = 0;
+            for (final HexGrid.Direction direction : HexGrid.Direction.values())
+                if (alive.contains(HexGrid.move(candidate, direction))) ++count;
+
+            final boolean isAlive = alive.contains(candidate);
+            if (count == 2 || (isAlive && count == 1)) next.add(candidate);
+        }
+        return next;
+    }
+
+}
@@ -0,0 +1,84 @@
+package net.anomalyxii.aoc.utils.geometry;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class HexGridTest {
+
+    // ****************************************
+    // Data Provider Methods
+    // ****************************************
+
+    static Stream<Arguments> paths() {
+        return Stream.of(
+                Arguments.of("", 0, 0),
+                Arguments.of("esew", 0, 1),
+                Arguments.of("nwwswee", 0, 0),
+                Arguments.of("nenenene", 4, -4),
+                Arguments.of("swswsw", -3, 3)
+        );
+    }
+
+    // ****************************************
+    // Test Methods
+    // ****************************************
+
+    // pack
+
+    @Test
+    void pack_RoundTripsNegativeCoordinates() {
+        // act
+        final long hex = HexGrid.pack(-7, -123456);
+
+        // assert
+        assertThat(HexGrid.q(hex))
+                .isEqualTo(-7);
+        assertThat(HexGrid.r(hex))
+                .isEqualTo(-123456);
+    }
+
+    // move
+
+    @Test
+    void move_EveryDirectionReturnsToTheOrigin() {
+        // arrange
+        long hex = HexGrid.ORIGIN;
+
+        // act
+        for (final HexGrid.Direction direction : HexGrid.Direction.values())
+            hex = HexGrid.move(hex, direction);
+
+        // assert
+        assertThat(hex)
+                .isEqualTo(HexGrid.ORIGIN);
+    }
+
+    // walk
+
+    @ParameterizedTest
+    @MethodSource("paths")
+    void walk(final String path, final int expectedQ, final int expectedR) {
+        // act
+        final long hex = HexGrid.walk(path);
+
+        // assert
+        assertThat(hex)
+                .isEqualTo(HexGrid.pack(expectedQ, expectedR));
+    }
+
+    @Test
+    void walk_ThrowsExceptionForUnknownDirection() {
+        // act + assert
+        assertThrows(IllegalArgumentException.class, () -> HexGrid.walk("nesn"));
+        assertThrows(IllegalArgumentException.class, () -> HexGrid.walk("en"));
+        assertThrows(IllegalArgumentException.class, () -> HexGrid.walk("x"));
+    }
+
+}
@@ -0,0 +1,176 @@
+package net.anomalyxii.aoc.utils.geometry;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IntervalSetTest {
+
+    // ****************************************
+    // Test Methods
+    // ****************************************
+
+    // add
+
+    @Test
+    void add_MergesOverlappingAndAdjacentIntervals() {
+        // arrange
+        final IntervalSet set = new IntervalSet()
+                .add(1, 3)
+                .add(10, 12)
+                .add(20, 25);
+
+        // act
+        set.add(4, 10);
+
+        // assert
+        assertThat(set)
+                .isEqualTo(new IntervalSet().add(1, 12).add(20, 25));
+        assertThat(set.intervalCount())
+                .isEqualTo(2);
+        assertThat(set.count())
+                .isEqualTo(18L);
+    }
+
+    @Test
+    void add_HandlesExtremeValues() {
+        // arrange
+        final IntervalSet set = new IntervalSet()
+                .add(Long.MIN_VALUE, -1);
+
+        // act
+        set.add(0, Long.MAX_VALUE);
+
+        // assert
+        assertThat(set.intervalCount())
+                .isEqualTo(1);
+        assertThat(set.contains(Long.MIN_VALUE) && set.contains(Long.MAX_VALUE))
+                .isTrue();
+    }
+
+    // remove
+
+    @Test
+    void remove_SplitsIntervals() {
+        // arrange
+        final IntervalSet set = new IntervalSet()
+                .add(0, 100);
+
+        // act
+        set.remove(10, 19).remove(50, 200);
+
+        // assert
+        assertThat(set)
+                .isEqualTo(new IntervalSet().add(0, 9).add(20, 49));
+        assertThat(set.contains(15))
+                .isFalse();
+        assertThat(set.contains(20))
+                .isTrue();
+    }
+
+    // intersect & complement
+
+    @Test
+    void intersect_KeepsCommonValues() {
+        // arrange
+        final IntervalSet first = new IntervalSet().add(0, 10).add(20, 30);
+        final IntervalSet second = new IntervalSet().add(5, 25);
+
+        // act
+        final IntervalSet result = first.intersect(second);
+
+        // assert
+        assertThat(result)
+                .isEqualTo(new IntervalSet().add(5, 10).add(20, 25));
+    }
+
+    @Test
+    void intersect_ClipsIntervalsToRange() {
+        // arrange
+        final IntervalSet set = new IntervalSet().add(0, 10).add(20, 30).add(40, 50).add(60, 70);
+
+        // act
+        final IntervalSet result = set.intersect(25, 45);
+
+        // assert
+        assertThat(result)
+                .isEqualTo(new IntervalSet().add(25, 30).add(40, 45));
+        assertThat(set.intersect(31, 39).isEmpty())
+                .isTrue();
+        assertThat(set.intersect(Long.MIN_VALUE, Long.MAX_VALUE))
+                .isEqualTo(set);
+    }
+
+    @Test
+    void complement_FindsGaps() {
+        // arrange
+        final IntervalSet set = new IntervalSet().add(2, 4).add(8, 8);
+
+        // act
+        final IntervalSet result = set.complement(0, 10);
+
+        // assert
+        assertThat(result)
+                .isEqualTo(new IntervalSet().add(0, 1).add(5, 7).add(9, 10));
+    }
+
+    // map
+
+    @Test
+    void map_TranslatesCoveredValuesOnly() {
+        // arrange
+        final IntervalSet seeds = new IntervalSet().add(79, 92).add(55, 67);
+        final List<IntervalSet.Translation> translations = List.of(
+                new IntervalSet.Translation(98, 99, -48),
+                new IntervalSet.Translation(50, 97, 2));
+
+        // act
+        final IntervalSet result = seeds.map(translations);
+
+        // assert
+        assertThat(result)
+                .isEqualTo(new IntervalSet().add(81, 94).add(57, 69));
+    }
+
+    @Test
+    void map_UsesFirstMatchingTranslationWhereTheyOverlap() {
+        // arrange
+        final IntervalSet set = new IntervalSet().add(0, 30);
+        final List<IntervalSet.Translation> translations = List.of(
+                new IntervalSet.Translation(10, 14, 100),
+                new IntervalSet.Translation(5, 24, 1000),
+                new IntervalSet.Translation(12, 40, -1000));
+
+        // act
+        final IntervalSet result = set.map(translations);
+
+        // assert
+        assertThat(result)
+                .isEqualTo(new IntervalSet()
+                        .add(-975, -970)
+                        .add(0, 4)
+                        .add(110, 114)
+                        .add(1005, 1009)
+                        .add(1015, 1024));
+    }
+
+    @Test
+    void map_MergesTranslatedIntervalsThatMeet() {
+        // arrange
+        final IntervalSet set = new IntervalSet().add(0, 9).add(20, 29);
+        final List<IntervalSet.Translation> translations = List.of(
+                new IntervalSet.Translation(20, Long.MAX_VALUE, -10));
+
+        // act
+        final IntervalSet result = set.map(translations);
+
+        // assert
+        assertThat(result)
+                .isEqualTo(new IntervalSet().add(0, 19));
+        assertThat(result.intervalCount())
+                .isEqualTo(1);
+    }
+
+}
@@ -0,0 +1,133 @@
+package net.anomalyxii.aoc.utils.maths;
+
+/**
+ * Some maths utility functions for solving systems of linear equations
+ * exactly.
+ */
+public class LinearEquations {
+
+    // ****************************************
+    // Linear Equation Methods
+    // ****************************************
+
+    /**
+     * Solve the system of linear equations {@code Ax = b}, using Gaussian
+     * elimination over the rationals.
+     *
+     * @param coefficients the square matrix of coefficients, {@code A}
+     * @param constants    the constant terms, {@code b}
+     * @return the unique solution, {@code x}
+     * @throws IllegalArgumentException if the dimensions do not match
+     * @throws ArithmeticException      if the system has no unique solution
+     */
+    public static Rational[] solve(final Rational[][] coefficients, final Rational[] constants) {
+        final int n = constants.length;
+        if (coefficients.length != n)
+            throw new IllegalArgumentException("Expected " + n + " rows of coefficients");
+
+        // Build the augmented matrix, [A|b]
+        final Rational[][] matrix = new Rational[n][n + 1];
+        for (int row = 0; row < n; row++) {
+            if (coefficients[row].length != n)
+                throw new IllegalArgumentException("Expected " + n + " coefficients in row " + row);
+            System.arraycopy(coefficients[row], 0, matrix[row], 0, n);
+            matrix[row][n] = constants[row];
+        }
+
+        for (int col = 0; col < n; col++) {
+            final int pivot = findPivot(matrix, col);
+            if (pivot < 0) throw new ArithmeticException("System has no unique solution");
+
+            final Rational[] tmp = matrix[pivot];
+            matrix[pivot] = matrix[col];
+            matrix[col] = tmp;
+
+            // Normalise the pivot row...
+            final Rational scale = matrix[col][col];
+            for (int c = col; c <= n; c++)
+                matrix[col][c] = matrix[col][c].divide(scale);
+
+            // ... then eliminate this column from every other row
+            for (int row = 0; row < n; row++) {
+                if (row == col || matrix[row][col].isZero()) continue;
+                final Rational factor = matrix[row][col];
+                for (int c = col; c <= n; c++)
+                    matrix[row][c] = matrix[row][c].subtract(factor.multiply(matrix[col][c]));
+            }
+        }
+
+        final Rational[] solution = new Rational[n];
+        for (int row = 0; row < n; row++)
+            solution[row] = matrix[row][n];
+        return solution;
+    }
+
+    /**
+     * Solve the system of linear equations {@code Ax = b}, with whole number
+     * coefficients.
+     *
+     * @param coefficients the square matrix of coefficients, {@code A}
+     * @param constants    the constant terms, {@code b}
+     * @return the unique solution, {@code x}
+     * @throws IllegalArgumentException if the dimensions do not match
+     * @throws ArithmeticException      if the system has no unique solution
+     * @see #solve(Rational[][], Rational[])
+     */
+    public static Rational[] solve(final long[][] coefficients, final long[] constants) {
+        final Rational[][] a = new Rational[coefficients.length][];
+        for (int row = 0; row < coefficients.length; row++) {
+            a[row] = new Rational[coefficients[row].length];
+            for (int col = 0; col < coefficients[row].length; col++)
+                a[row][col] = Rational.of(coefficients[row][col]);
+        }
+
+        final Rational[] b = new Rational[constants.length];
+        for (int row = 0; row < constants.length; row++)
+            b[row] = Rational.of(constants[row]);
+
+        return solve(a, b);
+    }
+
+    /**
+     * Solve a pair of linear equations in two unknowns, using Cramer's rule:
+     * <pre>
+     *   a1 * x + b1 * y = c1
+     *   a2 * x + b2 * y = c2
+     * </pre>
+     *
+     * @param a1 the coefficient of {@code x} in the first equation
+     * @param b1 the coefficient of {@code y} in the first equation
+     * @param c1 the constant term of the first equation
+     * @param a2 the coefficient of {@code x} in the second equation
+     * @param b2 the coefficient of {@code y} in the second equation
+     * @param c2 the constant term of the second equation
+     * @return the solution, {@code [x, y]}
+     * @throws ArithmeticException if the equations have no unique solution
+     */
+    public static Rational[] solve(
+            final long a1, final long b1, final long c1,
+            final long a2, final long b2, final long c2
+    ) {
+        final long determinant = Math.subtractExact(Math.multiplyExact(a1, b2), Math.multiplyExact(a2, b1));
+        if (determinant == 0) throw new ArithmeticException("System has no unique solution");
+
+        final long x = Math.subtractExact(Math.multiplyExact(c1, b2), Math.multiplyExact(c2, b1));
+        final long y = Math.subtractExact(Math.multiplyExact(a1, c2), Math.multiplyExact(a2, c1));
+        return new Rational[]{Rational.of(x, determinant), Rational.of(y, determinant)};
+    }
+
+    // ****************************************
+    // Private Helper Methods
+    // ****************************************
+
+    /*
+     * Find the first row, at or below the diagonal, with a non-zero entry in
+     * the given column.
+     */
+    private static int findPivot(final Rational[][] matrix, final int col) {
+        for (int row = col; row < matrix.length; row++)
+            if (!matrix[row][col].isZero()) return row;
+        return -1;
+    }
+
+}
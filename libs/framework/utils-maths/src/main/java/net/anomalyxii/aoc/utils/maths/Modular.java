@@ -0,0 +1,255 @@
+package net.anomalyxii.aoc.utils.maths;
+
+import net.anomalyxii.aoc.utils.collections.LongIntMap;
+
+/**
+ * Some maths utility functions related to modular arithmetic.
+ * <p>
+ * Unless otherwise stated, every modulus must be positive and results are
+ * always normalised into the range {@code [0, modulus)}. Intermediate
+ * products are calculated in 128-bit arithmetic, so any {@code long}
+ * modulus can be used without risk of overflow.
+ */
+public class Modular {
+
+    /*
+     * The largest number of baby steps that will be tabulated by
+     * `discreteLog`, which bounds the table to 2^25 slots of 12 bytes each
+     * (384MiB), and so limits the modulus to 2^48.
+     */
+    private static final long MAX_BABY_STEPS = 1L << 24;
+
+    // ****************************************
+    // Modular Arithmetic Methods
+    // ****************************************
+
+    /**
+     * Reduce a number into the range {@code [0, modulus)}.
+     *
+     * @param value   the number to reduce
+     * @param modulus the modulus
+     * @return the reduced value
+     * @throws ArithmeticException if the modulus is not positive
+     */
+    public static long mod(final long value, final long modulus) {
+        requirePositive(modulus);
+        return Math.floorMod(value, modulus);
+    }
+
+    /**
+     * Multiply two numbers, modulo a given modulus, without overflowing.
+     *
+     * @param first   the first number
+     * @param second  the second number
+     * @param modulus the modulus
+     * @return {@code (first * second) mod modulus}
+     * @throws ArithmeticException if the modulus is not positive
+     */
+    public static long mulMod(final long first, final long second, final long modulus) {
+        final long a = mod(first, modulus);
+        final long b = mod(second, modulus);
+
+        // Both operands are non-negative, so the 128-bit product is unsigned
+        final long high = Math.multiplyHigh(a, b);
+        final long low = a * b;
+        if (high == 0 && low >= 0) return low % modulus;
+
+        // (high * 2^64 + low) mod m, one bit at a time from the top
+        long result = high % modulus;
+        for (int bit = Long.SIZE - 1; bit >= 0; bit--) {
+            result = addMod(result, result, modulus);
+            if (((low >>> bit) & 1) != 0) result = addMod(result, 1, modulus);
+        }
+        return result;
+    }
+
+    /**
+     * Raise a number to a power, modulo a given modulus.
+     *
+     * @param base     the base
+     * @param exponent the (non-negative) exponent
+     * @param modulus  the modulus
+     * @return {@code base^exponent mod modulus}
+     * @throws ArithmeticException if the exponent is negative, or the modulus is not positive
+     */
+    public static long powMod(final long base, final long exponent, final long modulus) {
+        if (exponent < 0) throw new ArithmeticException("Negative exponent: " + exponent);
+
+        long result = mod(1, modulus);
+        long b = mod(base, modulus);
+        for (long e = exponent; e > 0; e >>>= 1) {
+            if ((e & 1) != 0) result = mulMod(result, b, modulus);
+            b = mulMod(b, b, modulus);
+        }
+        return result;
+    }
+
+    /**
+     * Find the multiplicative inverse of a number, modulo a given modulus.
+     *
+     * @param value   the number to invert
+     * @param modulus the modulus
+     * @return the inverse, {@code x}, such that {@code value * x = 1 (mod modulus)}
+     * @throws ArithmeticException if the number and modulus are not co-prime
+     */
+    public static long modInverse(final long value, final long modulus) {
+        final long[] egcd = extendedGcd(mod(value, modulus), modulus);
+        if (egcd[0] != 1)
+            throw new ArithmeticException(value + " has no inverse modulo " + modulus);
+        return mod(egcd[1], modulus);
+    }
+
+    /**
+     * Find the discrete logarithm of a number, modulo a given modulus.
+     * <p>
+     * Uses the baby-step giant-step algorithm: the first
+     * {@code m = ceil(sqrt(modulus))} powers of the base are tabulated, and
+     * then the target is repeatedly multiplied by {@code base^-m} until it
+     * lands in the table. This takes {@code O(sqrt(modulus))} time and
+     * space: the table holds a {@code long} key and an {@code int} value
+     * for up to {@code 2m} slots, so about {@code 24 * sqrt(modulus)}
+     * bytes. To keep that below 384MiB, only moduli up to {@code 2^48}
+     * are supported.
+     *
+     * @param base    the base, which must be co-prime to the modulus
+     * @param target  the number to find the logarithm of
+     * @param modulus the modulus
+     * @return the smallest non-negative {@code x} such that {@code base^x = target (mod modulus)}
+     * @throws ArithmeticException if there is no solution, the base is not co-prime to the modulus, or the modulus is too large
+     */
+    public static long discreteLog(final long base, final long target, final long modulus) {
+        final long b = mod(base, modulus);
+        final long t = mod(target, modulus);
+        if (t == mod(1, modulus)) return 0;
+
+        if (modulus > MAX_BABY_STEPS * MAX_BABY_STEPS)
+            throw new ArithmeticException("Modulus too large for a discrete logarithm: " + modulus);
+        final long steps = ceilSqrt(modulus);
+
+        // Baby steps: b^j for 0 <= j < steps, keeping the smallest j for
+        // each value
+        final LongIntMap babySteps = new LongIntMap((int) steps);
+        long power = mod(1, modulus);
+        for (int j = 0; j < steps; j++) {
+            babySteps.putIfAbsent(power, j);
+            power = mulMod(power, b, modulus);
+        }
+
+        // Giant steps: t * b^(-i * steps) for 0 <= i <= steps
+        final long giantStep = modInverse(power, modulus);
+        long gamma = t;
+        for (long i = 0; i <= steps; i++) {
+            final int j = babySteps.get(gamma);
+            if (j != LongIntMap.NO_VALUE) return i * steps + j;
+            gamma = mulMod(gamma, giantStep, modulus);
+        }
+
+        throw new ArithmeticException(target + " is not a power of " + base + " modulo " + modulus);
+    }
+
+    /**
+     * Run the extended Euclidean algorithm.
+     * <p>
+     * Returns the triple {@code [g, x, y]} such that {@code g} is the
+     * (non-negative) highest common factor of the two numbers, and
+     * {@code first * x + second * y = g}.
+     *
+     * @param first  the first number
+     * @param second the second number
+     * @return the highest common factor, and the Bézout coefficients
+     */
+    public static long[] extendedGcd(final long first, final long second) {
+        long oldR = first;
+        long r = second;
+        long oldS = 1;
+        long s = 0;
+        long oldT = 0;
+        long t = 1;
+        while (r != 0) {
+            final long q = oldR / r;
+
+            long tmp = r;
+            r = oldR - q * r;
+            oldR = tmp;
+
+            tmp = s;
+            s = oldS - q * s;
+            oldS = tmp;
+
+            tmp = t;
+            t = oldT - q * t;
+            oldT = tmp;
+        }
+
+        if (oldR < 0) return new long[]{-oldR, -oldS, -oldT};
+        return new long[]{oldR, oldS, oldT};
+    }
+
+    /**
+     * Solve a system of congruences using the Chinese Remainder Theorem.
+     * <p>
+     * Find the smallest non-negative {@code x} such that
+     * {@code x = residues[i] (mod moduli[i])} for every {@code i}. The moduli
+     * do not need to be pairwise co-prime, so long as the congruences are
+     * consistent.
+     *
+     * @param residues the residues
+     * @param moduli   the moduli
+     * @return the solution, modulo the lowest common multiple of the moduli
+     * @throws ArithmeticException if the congruences have no solution, or the combined modulus overflows
+     */
+    public static long chineseRemainder(final long[] residues, final long[] moduli) {
+        if (residues.length != moduli.length)
+            throw new IllegalArgumentException("Expected the same number of residues and moduli");
+
+        long result = 0;
+        long modulus = 1;
+        for (int i = 0; i < residues.length; i++) {
+            final long m = moduli[i];
+            final long r = mod(residues[i], m);
+
+            // Solve: result + modulus * k = r (mod m)
+            final long[] egcd = extendedGcd(modulus, m);
+            final long g = egcd[0];
+            final long diff = r - mod(result, m);
+            if (diff % g != 0)
+                throw new ArithmeticException("Congruences have no solution");
+
+            final long step = m / g;
+            final long k = mulMod(diff / g, egcd[1], step);
+            final long combined = Math.multiplyExact(modulus, step);
+            result = addMod(result, mulMod(modulus, k, combined), combined);
+            modulus = combined;
+        }
+        return result;
+    }
+
+    // ****************************************
+    // Private Helper Methods
+    // ****************************************
+
+    /*
+     * Add two numbers, already in `[0, modulus)`, without overflowing.
+     */
+    private static long addMod(final long a, final long b, final long modulus) {
+        return a >= modulus - b ? a - (modulus - b) : a + b;
+    }
+
+    /*
+     * Verify that a modulus is positive.
+     */
+    private static void requirePositive(final long modulus) {
+        if (modulus <= 0) throw new ArithmeticException("Modulus must be positive: " + modulus);
+    }
+
+    /*
+     * Calculate the smallest `n` such that `n * n >= value`.
+     */
+    private static long ceilSqrt(final long value) {
+        long root = (long) Math.sqrt((double) value);
+        while (root * root > value) --root;
+        while (root * root < value) ++root;
+        return root;
+    }
+
+}
@@ -0,0 +1,198 @@
+package net.anomalyxii.aoc.utils.maths;
+
+/**
+ * An exact rational number, represented as a pair of {@code long}s.
+ * <p>
+ * Rationals are always kept in lowest terms with a positive denominator,
+ * so two equal values will always have the same representation. All
+ * arithmetic is exact, and will throw an {@link ArithmeticException}
+ * rather than silently overflowing.
+ *
+ * @param numerator   the numerator
+ * @param denominator the (positive) denominator
+ */
+public record Rational(long numerator, long denominator) implements Comparable<Rational> {
+
+    /**
+     * The rational number {@code 0}.
+     */
+    public static final Rational ZERO = new Rational(0, 1);
+
+    /**
+     * The rational number {@code 1}.
+     */
+    public static final Rational ONE = new Rational(1, 1);
+
+    // ****************************************
+    // Constructors
+    // ****************************************
+
+    public Rational {
+        if (denominator == 0) throw new ArithmeticException("Denominator must not be zero");
+
+        final long hcf = Math.abs(Factors.highestCommonFactor(numerator, denominator));
+        final long sign = denominator < 0 ? -1 : 1;
+        numerator = Math.multiplyExact(sign, numerator / hcf);
+        denominator = Math.multiplyExact(sign, denominator / hcf);
+    }
+
+    // ****************************************
+    // Helper Methods
+    // ****************************************
+
+    /**
+     * Add another {@link Rational} to this one.
+     *
+     * @param other the {@link Rational} to add
+     * @return the sum
+     */
+    public Rational add(final Rational other) {
+        final long hcf = Factors.highestCommonFactor(denominator, other.denominator);
+        final long lcm = Math.multiplyExact(denominator / hcf, other.denominator);
+        return new Rational(
+                Math.addExact(
+                        Math.multiplyExact(numerator, lcm / denominator),
+                        Math.multiplyExact(other.numerator, lcm / other.denominator)),
+                lcm);
+    }
+
+    /**
+     * Subtract another {@link Rational} from this one.
+     *
+     * @param other the {@link Rational} to subtract
+     * @return the difference
+     */
+    public Rational subtract(final Rational other) {
+        return add(other.negate());
+    }
+
+    /**
+     * Multiply this {@link Rational} by another.
+     *
+     * @param other the {@link Rational} to multiply by
+     * @return the product
+     */
+    public Rational multiply(final Rational other) {
+        // Cross-cancel first to keep the intermediate values small
+        final long hcf1 = Math.abs(Factors.highestCommonFactor(numerator, other.denominator));
+        final long hcf2 = Math.abs(Factors.highestCommonFactor(other.numerator, denominator));
+        return new Rational(
+                Math.multiplyExact(numerator / hcf1, other.numerator / hcf2),
+                Math.multiplyExact(denominator / hcf2, other.denominator / hcf1));
+    }
+
+    /**
+     * Divide this {@link Rational} by another.
+     *
+     * @param other the {@link Rational} to divide by
+     * @return the quotient
+     * @throws ArithmeticException if the divisor is zero
+     */
+    public Rational divide(final Rational other) {
+        return multiply(other.reciprocal());
+    }
+
+    /**
+     * Negate this {@link Rational}.
+     *
+     * @return the negated value
+     */
+    public Rational negate() {
+        return new Rational(Math.negateExact(numerator), denominator);
+    }
+
+    /**
+     * Invert this {@link Rational}.
+     *
+     * @return the reciprocal
+     * @throws ArithmeticException if this {@link Rational} is zero
+     */
+    public Rational reciprocal() {
+        return new Rational(denominator, numerator);
+    }
+
+    /**
+     * Check if this {@link Rational} is zero.
+     *
+     * @return {@code true} if this is zero; {@code false} otherwise
+     */
+    public boolean isZero() {
+        return numerator == 0;
+    }
+
+    /**
+     * Check if this {@link Rational} is a whole number.
+     *
+     * @return {@code true} if this is a whole number; {@code false} otherwise
+     */
+    public boolean isInteger() {
+        return denominator == 1;
+    }
+
+    /**
+     * Convert this {@link Rational} to a {@code long}.
+     *
+     * @return the whole number value
+     * @throws ArithmeticException if this {@link Rational} is not a whole number
+     */
+    public long longValueExact() {
+        if (!isInteger()) throw new ArithmeticException(this + " is not a whole number");
+        return numerator;
+    }
+
+    /**
+     * Convert this {@link Rational} to a {@code double}.
+     *
+     * @return the approximate value
+     */
+    public double doubleValue() {
+        return (double) numerator / denominator;
+    }
+
+    // ****************************************
+    // Comparable Methods
+    // ****************************************
+
+    @Override
+    public int compareTo(final Rational other) {
+        return Long.compare(
+                Math.multiplyExact(numerator, other.denominator),
+                Math.multiplyExact(other.numerator, denominator));
+    }
+
+    // ****************************************
+    // Object Methods
+    // ****************************************
+
+    @Override
+    public String toString() {
+        return isInteger() ? Long.toString(numerator) : numerator + "/" + denominator;
+    }
+
+    // ****************************************
+    // Static Helper Methods
+    // ****************************************
+
+    /**
+     * Create a {@link Rational} from a whole number.
+     *
+     * @param value the whole number
+     * @return the {@link Rational}
+     */
+    public static Rational of(final long value) {
+        return new Rational(value, 1);
+    }
+
+    /**
+     * Create a {@link Rational} from a numerator and denominator.
+     *
+     * @param numerator   the numerator
+     * @param denominator the denominator
+     * @return the {@link Rational}
+     * @throws ArithmeticException if the denominator is zero
+     */
+    public static Rational of(final long numerator, final long denominator) {
+        return new Rational(numerator, denominator);
+    }
+
+}
@@ -0,0 +1,58 @@
+package net.anomalyxii.aoc.utils.maths;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LinearEquationsTest {
+
+    // ****************************************
+    // Test Methods
+    // ****************************************
+
+    @Test
+    void solve_finds_exact_solution() {
+        // arrange
+        final long[][] coefficients = {
+                {2, 1, -1},
+                {-3, -1, 2},
+                {-2, 1, 2},
+        };
+        final long[] constants = {8, -11, -3};
+
+        // act
+        final Rational[] solution = LinearEquations.solve(coefficients, constants);
+
+        // assert
+        assertThat(solution)
+                .containsExactly(Rational.of(2), Rational.of(3), Rational.of(-1));
+    }
+
+    @Test
+    void solve_finds_fractional_solution() {
+        // arrange
+        // Nothing to see here! :)
+
+        // act
+        final Rational[] solution = LinearEquations.solve(94, 22, 8400, 34, 67, 5400);
+
+        // assert
+        assertThat(solution)
+                .containsExactly(Rational.of(80), Rational.of(40));
+    }
+
+    @Test
+    void solve_throws_if_singular() {
+        // arrange
+        final long[][] coefficients = {
+                {1, 2},
+                {2, 4},
+        };
+        final long[] constants = {3, 6};
+
+        // act + assert
+        assertThrows(ArithmeticException.class, () -> LinearEquations.solve(coefficients, constants));
+    }
+
+}
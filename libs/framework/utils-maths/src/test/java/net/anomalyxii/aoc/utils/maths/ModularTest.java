@@ -0,0 +1,205 @@
+package net.anomalyxii.aoc.utils.maths;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.math.BigInteger;
+import java.util.stream.Stream;
+
+import static net.anomalyxii.aoc.utils.maths.Modular.chineseRemainder;
+import static net.anomalyxii.aoc.utils.maths.Modular.discreteLog;
+import static net.anomalyxii.aoc.utils.maths.Modular.extendedGcd;
+import static net.anomalyxii.aoc.utils.maths.Modular.mod;
+import static net.anomalyxii.aoc.utils.maths.Modular.modInverse;
+import static net.anomalyxii.aoc.utils.maths.Modular.mulMod;
+import static net.anomalyxii.aoc.utils.maths.Modular.powMod;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ModularTest {
+
+    // ****************************************
+    // Data Provider Methods
+    // ****************************************
+
+    /*
+     * Example modular multiplications.
+     */
+    private static Stream<Arguments> mulModExamples() {
+        return Stream.of(
+                Arguments.of(7L, 8L, 5L),
+                Arguments.of(-7L, 8L, 5L),
+                Arguments.of(Long.MAX_VALUE, Long.MAX_VALUE, Long.MAX_VALUE - 24),
+                Arguments.of(1L << 62, 3L << 60, 1_000_000_007L)
+        );
+    }
+
+    /*
+     * Example modular exponentiations.
+     */
+    private static Stream<Arguments> powModExamples() {
+        return Stream.of(
+                Arguments.of(2L, 10L, 1000L),
+                Arguments.of(7L, 0L, 13L),
+                Arguments.of(3L, 1_000_000L, 20201227L),
+                Arguments.of(-5L, 3L, 7L)
+        );
+    }
+
+    /*
+     * Example discrete logarithms.
+     */
+    private static Stream<Arguments> discreteLogExamples() {
+        return Stream.of(
+                Arguments.of(7L, 5764801L, 20201227L, 8L),
+                Arguments.of(7L, 17807724L, 20201227L, 11L),
+                Arguments.of(2L, 1L, 11L, 0L),
+                Arguments.of(2L, 6L, 11L, 9L),
+                Arguments.of(3L, 158_385_573L, 1_000_000_007L, 172_983_090L)
+        );
+    }
+
+    // ****************************************
+    // Test Methods
+    // ****************************************
+
+    @ParameterizedTest
+    @MethodSource("mulModExamples")
+    void mulMod_is_correct(final long first, final long second, final long modulus) {
+        // arrange
+        final long expected = BigInteger.valueOf(first)
+                .multiply(BigInteger.valueOf(second))
+                .mod(BigInteger.valueOf(modulus))
+                .longValueExact();
+
+        // act
+        final long result = mulMod(first, second, modulus);
+
+        // assert
+        assertThat(result)
+                .isEqualTo(expected);
+    }
+
+    @ParameterizedTest
+    @MethodSource("powModExamples")
+    void powMod_is_correct(final long base, final long exponent, final long modulus) {
+        // arrange
+        final long expected = BigInteger.valueOf(base)
+                .modPow(BigInteger.valueOf(exponent), BigInteger.valueOf(modulus))
+                .longValueExact();
+
+        // act
+        final long result = powMod(base, exponent, modulus);
+
+        // assert
+        assertThat(result)
+                .isEqualTo(expected);
+    }
+
+    @Test
+    void extendedGcd_returns_bezout_coefficients() {
+        // arrange
+        // Nothing to see here! :)
+
+        // act
+        final long[] result = extendedGcd(240, 46);
+
+        // assert
+        assertThat(result[0])
+                .isEqualTo(2L);
+        assertThat(240 * result[1] + 46 * result[2])
+                .isEqualTo(2L);
+    }
+
+    @Test
+    void modInverse_is_correct() {
+        // arrange
+        // Nothing to see here! :)
+
+        // act
+        final long inverse = modInverse(3, 11);
+
+        // assert
+        assertThat(inverse)
+                .isEqualTo(4L);
+    }
+
+    @Test
+    void modInverse_throws_if_not_coprime() {
+        // act + assert
+        assertThrows(ArithmeticException.class, () -> modInverse(4, 10));
+    }
+
+    @Test
+    void chineseRemainder_solves_coprime_moduli() {
+        // arrange
+        // Nothing to see here! :)
+
+        // act
+        final long result = chineseRemainder(new long[]{0, -1, -4, -6, -7}, new long[]{7, 13, 59, 31, 19});
+
+        // assert
+        assertThat(result)
+                .isEqualTo(1068781L);
+    }
+
+    @Test
+    void chineseRemainder_solves_non_coprime_moduli() {
+        // arrange
+        // Nothing to see here! :)
+
+        // act
+        final long result = chineseRemainder(new long[]{2, 8}, new long[]{6, 10});
+
+        // assert
+        assertThat(result)
+                .isEqualTo(8L);
+    }
+
+    @Test
+    void chineseRemainder_throws_if_inconsistent() {
+        // act + assert
+        assertThrows(ArithmeticException.class, () -> chineseRemainder(new long[]{1, 2}, new long[]{4, 6}));
+    }
+
+    @ParameterizedTest
+    @MethodSource("discreteLogExamples")
+    void discreteLog_is_correct(final long base, final long target, final long modulus, final long expected) {
+        // act
+        final long result = discreteLog(base, target, modulus);
+
+        // assert
+        assertThat(result)
+                .isEqualTo(expected);
+        assertThat(powMod(base, result, modulus))
+                .isEqualTo(mod(target, modulus));
+    }
+
+    @Test
+    void discreteLog_returns_smallest_exponent() {
+        // arrange
+        // 2 has order 4 modulo 5
+
+        // act
+        final long result = discreteLog(2, 3 + 5 * 7, 5);
+
+        // assert
+        assertThat(result)
+                .isEqualTo(3L);
+    }
+
+    @Test
+    void discreteLog_throws_if_no_solution() {
+        // act + assert
+        assertThrows(ArithmeticException.class, () -> discreteLog(2, 3, 7));
+    }
+
+    @Test
+    void discreteLog_throws_if_modulus_too_large() {
+        // act + assert
+        assertThrows(ArithmeticException.class, () -> discreteLog(3, 2, (1L << 48) + 1));
+    }
+
+}
@@ -0,0 +1,61 @@
+package net.anomalyxii.aoc.utils.maths;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class RationalTest {
+
+    // ****************************************
+    // Test Methods
+    // ****************************************
+
+    @Test
+    void rational_is_normalised() {
+        // arrange
+        // Nothing to see here! :)
+
+        // act
+        final Rational rational = Rational.of(6, -4);
+
+        // assert
+        assertThat(rational)
+                .isEqualTo(new Rational(-3, 2));
+        assertThat(rational.denominator())
+                .isEqualTo(2L);
+    }
+
+    @Test
+    void arithmetic_is_exact() {
+        // arrange
+        final Rational third = Rational.of(1, 3);
+        final Rational sixth = Rational.of(1, 6);
+
+        // act + assert
+        assertThat(third.add(sixth))
+                .isEqualTo(Rational.of(1, 2));
+        assertThat(third.subtract(sixth))
+                .isEqualTo(sixth);
+        assertThat(third.multiply(sixth))
+                .isEqualTo(Rational.of(1, 18));
+        assertThat(third.divide(sixth))
+                .isEqualTo(Rational.of(2));
+    }
+
+    @Test
+    void longValueExact_throws_if_not_whole() {
+        // act + assert
+        assertThrows(ArithmeticException.class, () -> Rational.of(1, 2).longValueExact());
+    }
+
+    @Test
+    void compareTo_orders_by_value() {
+        // act + assert
+        assertThat(Rational.of(2, 3).compareTo(Rational.of(3, 4)))
+                .isNegative();
+        assertThat(Rational.of(-1, 2).compareTo(Rational.of(-2, 3)))
+                .isPositive();
+    }
+
+}
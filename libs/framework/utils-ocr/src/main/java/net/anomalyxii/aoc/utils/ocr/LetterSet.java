@@ -8,6 +8,16 @@ import net.anomalyxii.aoc.utils.geometry.Grid;
  */
 public interface LetterSet {
 
+    /**
+     * The width of a packed glyph.
+     */
+    int GLYPH_WIDTH = 5;
+
+    /**
+     * The height of a packed glyph.
+     */
+    int GLYPH_HEIGHT = 6;
+
     // ****************************************
     // Interface Methods
     // ****************************************
@@ -23,6 +33,34 @@ public interface LetterSet {
      */
     char match(Grid grid);
 
+    // ****************************************
+    // Default Methods
+    // ****************************************
+
+    /**
+     * Check if this {@link LetterSet} can match
+     * {@link #matchPacked(int) packed glyphs}.
+     *
+     * @return {@literal true} if packed glyphs are supported; {@literal false} otherwise
+     */
+    default boolean supportsPackedGlyphs() {
+        return false;
+    }
+
+    /**
+     * Attempt to match a {@link #GLYPH_WIDTH 5}x{@link #GLYPH_HEIGHT 6}
+     * glyph, packed one bit per pixel in row-major order (with the top-left
+     * pixel in the most significant bit), to a known {@link Character}.
+     *
+     * @param glyph the packed glyph
+     * @return the {@link Character}
+     * @throws IllegalArgumentException      if no {@link Character} is matched
+     * @throws UnsupportedOperationException if this {@link LetterSet} does not support packed glyphs
+     */
+    default char matchPacked(final int glyph) {
+        throw new UnsupportedOperationException("Packed glyphs are not supported by this LetterSet");
+    }
+
     // ****************************************
     // Helper Methods
     // ****************************************
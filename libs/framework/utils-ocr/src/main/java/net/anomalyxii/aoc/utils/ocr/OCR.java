@@ -2,9 +2,13 @@ package net.anomalyxii.aoc.utils.ocr;
 
 import net.anomalyxii.aoc.utils.geometry.Grid;
 
+import java.util.BitSet;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import static net.anomalyxii.aoc.utils.ocr.LetterSet.GLYPH_HEIGHT;
+import static net.anomalyxii.aoc.utils.ocr.LetterSet.GLYPH_WIDTH;
+
 /**
  * Match letters rendered in a {@link Grid grid} of 5x6 characters.
  */
@@ -37,6 +41,13 @@ public class OCR {
      * @return a {@link String} containing the recognised characters
      */
     public String recognise(final Grid grid) {
+        if (letters.supportsPackedGlyphs() && grid.height() == GLYPH_HEIGHT && grid.width() % GLYPH_WIDTH == 0) {
+            final char[] result = new char[grid.width() / GLYPH_WIDTH];
+            for (int i = 0; i < result.length; i++)
+                result[i] = letters.matchPacked(grid.packBits(i * GLYPH_WIDTH, 0, GLYPH_WIDTH, GLYPH_HEIGHT));
+            return new String(result);
+        }
+
         final Grid[] grids = grid.partition(5, -1);
         return Stream.of(grids)
                 .map(letters::match)
@@ -44,6 +55,35 @@ public class OCR {
                 .collect(Collectors.joining());
     }
 
+    /**
+     * Detect a {@link String} of {@link Character characters} from a
+     * {@link BitSet} of lit pixels, where the pixel at {@code (x, y)} is
+     * represented by bit {@code (y * width) + x}. Each
+     * {@link Character character} is expected to be contained within a 5x6
+     * sub-grid.
+     *
+     * @param pixels the lit pixels
+     * @param width  the width of the display
+     * @return a {@link String} containing the recognised characters
+     * @throws IllegalArgumentException if the width is not a whole number of characters
+     */
+    public String recognise(final BitSet pixels, final int width) {
+        if (!letters.supportsPackedGlyphs() || width % GLYPH_WIDTH != 0)
+            return recognise(Grid.size(width, GLYPH_HEIGHT, c -> pixels.get((c.y() * width) + c.x()) ? 1 : 0));
+
+        final char[] result = new char[width / GLYPH_WIDTH];
+        for (int i = 0; i < result.length; i++) {
+            int glyph = 0;
+            for (int y = 0; y < GLYPH_HEIGHT; y++) {
+                final int offset = (y * width) + (i * GLYPH_WIDTH);
+                for (int x = 0; x < GLYPH_WIDTH; x++)
+                    glyph = (glyph << 1) | (pixels.get(offset + x) ? 1 : 0);
+            }
+            result[i] = letters.matchPacked(glyph);
+        }
+        return new String(result);
+    }
+
     // ****************************************
     // Public Static Helper Methods
     // ****************************************
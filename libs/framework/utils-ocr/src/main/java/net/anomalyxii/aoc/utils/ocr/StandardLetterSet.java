@@ -2,6 +2,8 @@ package net.anomalyxii.aoc.utils.ocr;
 
 import net.anomalyxii.aoc.utils.geometry.Grid;
 
+import java.util.Arrays;
+
 /**
  * A {@link LetterSet} containing {@link Character characters} 'A' - 'Z'.
  */
@@ -221,6 +223,31 @@ class StandardLetterSet implements LetterSet {
             },
     };
 
+    /*
+     * Perfect hash of each packed letter: `(glyph * HASH_MULTIPLIER) >>> HASH_SHIFT`
+     * maps each letter to a distinct slot in `PACKED_GLYPHS` / `PACKED_LETTERS`.
+     */
+    private static final int HASH_BITS = 7;
+    private static final int HASH_SHIFT = Integer.SIZE - HASH_BITS;
+    private static final int HASH_MULTIPLIER;
+    private static final int[] PACKED_GLYPHS = new int[1 << HASH_BITS];
+    private static final char[] PACKED_LETTERS = new char[1 << HASH_BITS];
+
+    static {
+        final int[] glyphs = new int[LETTERS.length];
+        for (int l = 0; l < LETTERS.length; l++)
+            glyphs[l] = pack(LETTERS[l]);
+
+        HASH_MULTIPLIER = findPerfectHashMultiplier(glyphs);
+        Arrays.fill(PACKED_GLYPHS, -1);
+        for (int l = 0; l < glyphs.length; l++) {
+            final int slot = slot(glyphs[l], HASH_MULTIPLIER);
+            if (PACKED_GLYPHS[slot] == glyphs[l]) continue; // Match the first letter, like `match(Grid)`
+            PACKED_GLYPHS[slot] = glyphs[l];
+            PACKED_LETTERS[slot] = (char) ('A' + l);
+        }
+    }
+
     // ****************************************
     // LetterSet Methods
     // ****************************************
@@ -233,4 +260,58 @@ class StandardLetterSet implements LetterSet {
 
         throw new IllegalArgumentException("Failed to match a letter :(");
     }
+
+    @Override
+    public boolean supportsPackedGlyphs() {
+        return true;
+    }
+
+    @Override
+    public char matchPacked(final int glyph) {
+        final int slot = slot(glyph, HASH_MULTIPLIER);
+        if (PACKED_GLYPHS[slot] == glyph)
+            return PACKED_LETTERS[slot];
+
+        throw new IllegalArgumentException("Failed to match a letter :(");
+    }
+
+    // ****************************************
+    // Private Helper Methods
+    // ****************************************
+
+    /*
+     * Pack a 5x6 letter into the low 30 bits of an `int`.
+     */
+    private static int pack(final int[][] letter) {
+        int bits = 0;
+        for (final int[] row : letter)
+            for (final int pixel : row)
+                bits = (bits << 1) | (pixel != 0 ? 1 : 0);
+        return bits;
+    }
+
+    /*
+     * Find a multiplier that hashes every distinct glyph to a distinct slot.
+     */
+    private static int findPerfectHashMultiplier(final int[] glyphs) {
+        final int[] slots = new int[1 << HASH_BITS];
+        for (int multiplier = 0x9E3779B1; ; multiplier += 2) {
+            Arrays.fill(slots, -1);
+            boolean collision = false;
+            for (int i = 0; i < glyphs.length && !collision; i++) {
+                final int slot = slot(glyphs[i], multiplier);
+                collision = slots[slot] != -1 && slots[slot] != glyphs[i];
+                slots[slot] = glyphs[i];
+            }
+            if (!collision) return multiplier;
+        }
+    }
+
+    /*
+     * Find the slot for a given glyph.
+     */
+    private static int slot(final int glyph, final int multiplier) {
+        return (glyph * multiplier) >>> HASH_SHIFT;
+    }
+
 }
@@ -0,0 +1,119 @@
+package net.anomalyxii.aoc.utils.ocr;
+
+import net.anomalyxii.aoc.utils.geometry.Grid;
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class OCRTest {
+
+    /*
+     * "HELLO", rendered in the standard 5x6 font.
+     */
+    private static final String[] HELLO = {
+            "#..#.####.#....#....####.",
+            "#..#.#....#....#....#..#.",
+            "####.###..#....#....#..#.",
+            "#..#.#....#....#....#..#.",
+            "#..#.#....#....#....#..#.",
+            "#..#.####.####.####.####.",
+    };
+
+    // ****************************************
+    // Test Methods
+    // ****************************************
+
+    // recognise(Grid)
+
+    @Test
+    void recognise_Grid_StandardLetters() {
+        // arrange
+        final OCR ocr = OCR.ofLetters(LetterSet.standardLetters());
+        final Grid grid = Grid.size(HELLO[0].length(), HELLO.length, c -> HELLO[c.y()].charAt(c.x()) == '#' ? 1 : 0);
+
+        // act
+        final String result = ocr.recognise(grid);
+
+        // assert
+        assertThat(result)
+                .isEqualTo("HELLO");
+    }
+
+    @Test
+    void recognise_Grid_LetterSetWithoutPackedGlyphs() {
+        // arrange
+        final LetterSet standard = LetterSet.standardLetters();
+        final OCR ocr = OCR.ofLetters(standard::match);
+        final Grid grid = Grid.size(HELLO[0].length(), HELLO.length, c -> HELLO[c.y()].charAt(c.x()) == '#' ? 1 : 0);
+
+        // act
+        final String result = ocr.recognise(grid);
+
+        // assert
+        assertThat(result)
+                .isEqualTo("HELLO");
+    }
+
+    // recognise(BitSet)
+
+    @Test
+    void recognise_BitSet_StandardLetters() {
+        // arrange
+        final OCR ocr = OCR.ofLetters(LetterSet.standardLetters());
+        final int width = HELLO[0].length();
+        final BitSet pixels = toPixels(width);
+
+        // act
+        final String result = ocr.recognise(pixels, width);
+
+        // assert
+        assertThat(result)
+                .isEqualTo("HELLO");
+    }
+
+    @Test
+    void recognise_BitSet_LetterSetWithoutPackedGlyphs() {
+        // arrange
+        final LetterSet standard = LetterSet.standardLetters();
+        final OCR ocr = OCR.ofLetters(standard::match);
+        final int width = HELLO[0].length();
+        final BitSet pixels = toPixels(width);
+
+        // act
+        final String result = ocr.recognise(pixels, width);
+
+        // assert
+        assertThat(result)
+                .isEqualTo("HELLO");
+    }
+
+    @Test
+    void recognise_BitSet_ThrowsExceptionForPartialLetter() {
+        // arrange
+        final OCR ocr = OCR.ofLetters(LetterSet.standardLetters());
+        final int width = HELLO[0].length() - 1;
+        final BitSet pixels = toPixels(width);
+
+        // act + assert
+        assertThrows(IllegalArgumentException.class, () -> ocr.recognise(pixels, width));
+    }
+
+    // ****************************************
+    // Private Helper Methods
+    // ****************************************
+
+    /*
+     * Render the first `width` columns of "HELLO" as a set of lit pixels.
+     */
+    private static BitSet toPixels(final int width) {
+        final BitSet pixels = new BitSet();
+        for (int y = 0; y < HELLO.length; y++)
+            for (int x = 0; x < width; x++)
+                if (HELLO[y].charAt(x) == '#') pixels.set((y * width) + x);
+        return pixels;
+    }
+
+}
@@ -0,0 +1,127 @@
+package net.anomalyxii.aoc.utils.vector;
+
+import net.anomalyxii.aoc.utils.geometry.GridKernels;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToLongFunction;
+
+/**
+ * Compare the scalar and vectorised {@link GridKernels} on a large grid.
+ * <p>
+ * Usage: {@code GridKernelsBenchmark [size] [iterations]}. Each kernel is
+ * warmed up before being timed, and the best of several timed runs is
+ * reported.
+ */
+public class GridKernelsBenchmark {
+
+    /*
+     * Default size of the (square) grid.
+     */
+    private static final int DEFAULT_SIZE = 4096;
+
+    /*
+     * Default number of passes over the grid per timed run.
+     */
+    private static final int DEFAULT_ITERATIONS = 20;
+
+    /*
+     * Number of timed runs.
+     */
+    private static final int RUNS = 5;
+
+    // ****************************************
+    // Main Method
+    // ****************************************
+
+    /**
+     * Run the benchmark.
+     *
+     * @param args any command line arguments
+     */
+    public static void main(final String[] args) {
+        final int size = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_SIZE;
+        final int iterations = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_ITERATIONS;
+
+        final Random random = new Random(2024);
+        final int[][] grid = new int[size][size];
+        for (final int[] row : grid)
+            for (int x = 0; x < size; x++)
+                row[x] = random.nextInt(4) == 0 ? '#' : '.';
+
+        final GridKernels scalar = GridKernels.scalar();
+        final GridKernels vector = new VectorGridKernels();
+
+        System.out.printf("Grid: %dx%d, %d iterations%n", size, size, iterations);
+        System.out.printf("%-16s %12s %12s %8s%n", "Kernel", "Scalar", "Vector", "Speed-up");
+        compare("countEqual", scalar, vector, kernels -> {
+            long result = 0;
+            for (int i = 0; i < iterations; i++)
+                for (final int[] row : grid)
+                    result += kernels.countEqual(row, '#');
+            return result;
+        });
+        compare("indexOf", scalar, vector, kernels -> {
+            long result = 0;
+            for (int i = 0; i < iterations; i++)
+                for (final int[] row : grid)
+                    result += kernels.indexOf(row, 'X');
+            return result;
+        });
+        compare("countMismatches", scalar, vector, kernels -> {
+            long result = 0;
+            for (int i = 0; i < iterations; i++)
+                for (int y = 1; y < grid.length; y++)
+                    result += kernels.countMismatches(grid[y - 1], grid[y]);
+            return result;
+        });
+    }
+
+    // ****************************************
+    // Private Helper Methods
+    // ****************************************
+
+    /*
+     * Time a kernel using both implementations, and print the results.
+     */
+    private static void compare(
+            final String name,
+            final GridKernels scalar,
+            final GridKernels vector,
+            final ToLongFunction<GridKernels> kernel
+    ) {
+        final long expected = kernel.applyAsLong(scalar);
+        if (kernel.applyAsLong(vector) != expected)
+            throw new IllegalStateException("Vector result does not match scalar result for " + name);
+
+        final long scalarTime = time(scalar, kernel);
+        final long vectorTime = time(vector, kernel);
+        System.out.printf(
+                "%-16s %10dus %10dus %7.2fx%n",
+                name,
+                TimeUnit.NANOSECONDS.toMicros(scalarTime),
+                TimeUnit.NANOSECONDS.toMicros(vectorTime),
+                (double) scalarTime / vectorTime);
+    }
+
+    /*
+     * Find the best time, in nanoseconds, to run a kernel.
+     */
+    private static long time(final GridKernels kernels, final ToLongFunction<GridKernels> kernel) {
+        // Warm up...
+        long sink = 0;
+        for (int i = 0; i < RUNS; i++)
+            sink += kernel.applyAsLong(kernels);
+
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < RUNS; i++) {
+            final long start = System.nanoTime();
+            sink += kernel.applyAsLong(kernels);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+
+        if (sink == Long.MIN_VALUE) System.out.println("(ignore)");
+        return best;
+    }
+
+}
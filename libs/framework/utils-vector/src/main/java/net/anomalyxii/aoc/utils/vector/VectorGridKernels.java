@@ -0,0 +1,78 @@
+package net.anomalyxii.aoc.utils.vector;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+import net.anomalyxii.aoc.utils.geometry.GridKernels;
+
+/**
+ * {@link GridKernels} implemented with the (incubating) Java Vector API.
+ * <p>
+ * Each kernel processes as many values per instruction as the preferred
+ * vector shape of the platform allows, then finishes any remaining values
+ * with a scalar loop. This class is registered as a service, and is used
+ * in preference to the scalar kernels whenever the JVM is started with
+ * {@code --add-modules=jdk.incubator.vector}.
+ */
+public class VectorGridKernels implements GridKernels {
+
+    /*
+     * The preferred vector shape for this platform.
+     */
+    private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+
+    // ****************************************
+    // GridKernels Methods
+    // ****************************************
+
+    @Override
+    public int countEqual(final int[] row, final int value) {
+        final int bound = SPECIES.loopBound(row.length);
+
+        int count = 0;
+        int i = 0;
+        for (; i < bound; i += SPECIES.length()) {
+            final IntVector v = IntVector.fromArray(SPECIES, row, i);
+            count += v.eq(value).trueCount();
+        }
+
+        for (; i < row.length; i++)
+            if (row[i] == value) ++count;
+        return count;
+    }
+
+    @Override
+    public int indexOf(final int[] row, final int value) {
+        final int bound = SPECIES.loopBound(row.length);
+
+        int i = 0;
+        for (; i < bound; i += SPECIES.length()) {
+            final VectorMask<Integer> matches = IntVector.fromArray(SPECIES, row, i).eq(value);
+            if (matches.anyTrue()) return i + matches.firstTrue();
+        }
+
+        for (; i < row.length; i++)
+            if (row[i] == value) return i;
+        return -1;
+    }
+
+    @Override
+    public int countMismatches(final int[] first, final int[] second) {
+        final int length = first.length;
+        final int bound = SPECIES.loopBound(length);
+
+        int count = 0;
+        int i = 0;
+        for (; i < bound; i += SPECIES.length()) {
+            final IntVector a = IntVector.fromArray(SPECIES, first, i);
+            final IntVector b = IntVector.fromArray(SPECIES, second, i);
+            count += a.compare(VectorOperators.NE, b).trueCount();
+        }
+
+        for (; i < length; i++)
+            if (first[i] != second[i]) ++count;
+        return count;
+    }
+
+}
@@ -0,0 +1,39 @@
+package net.anomalyxii.aoc.utils.vector;
+
+import net.anomalyxii.aoc.utils.geometry.GridKernels;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VectorGridKernelsTest {
+
+    // ****************************************
+    // Test Methods
+    // ****************************************
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 7, 8, 15, 16, 17, 100, 1000})
+    void kernels_MatchScalarImplementation(final int length) {
+        // arrange
+        final Random random = new Random(length);
+        final int[] first = random.ints(length, 0, 3).toArray();
+        final int[] second = random.ints(length, 0, 3).toArray();
+
+        final GridKernels scalar = GridKernels.scalar();
+        final GridKernels vector = new VectorGridKernels();
+
+        // act + assert
+        assertThat(vector.countEqual(first, 1))
+                .isEqualTo(scalar.countEqual(first, 1));
+        assertThat(vector.indexOf(first, 2))
+                .isEqualTo(scalar.indexOf(first, 2));
+        assertThat(vector.indexOf(first, 3))
+                .isEqualTo(-1);
+        assertThat(vector.countMismatches(first, second))
+                .isEqualTo(scalar.countMismatches(first, second));
+    }
+
+}
@@ -1,10 +1,15 @@
 package net.anomalyxii.aoc;
 
+import net.anomalyxii.aoc.context.Metrics;
+import net.anomalyxii.aoc.context.RecordingMetrics;
+import net.anomalyxii.aoc.context.Scratch;
+import net.anomalyxii.aoc.context.ScratchArena;
 import net.anomalyxii.aoc.context.SolutionContext;
 import net.anomalyxii.aoc.result.Tuple;
 
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
 
 
 /**
@@ -14,6 +19,35 @@ import java.nio.file.Path;
  */
 public class AdventOfCode {
 
+    /*
+     * The first year that has solutions.
+     */
+    static final int FIRST_YEAR = 2020;
+
+    /*
+     * The last year that has solutions.
+     */
+    static final int LAST_YEAR = 2024;
+
+    /*
+     * Whether to report where the time was spent (on `stderr`, so the
+     * output that AoC Bench reads is unaffected).
+     */
+    static final boolean RECORD_METRICS = Boolean.getBoolean("aoc.metrics");
+
+    /*
+     * How many times to solve the challenge within the one process. When
+     * more than once, the runs share a `ScratchArena`, so that the timings
+     * of the later runs (reported on `stderr`) are for steady-state compute
+     * rather than allocation.
+     */
+    static final int ITERATIONS = Math.max(1, Integer.getInteger("aoc.iterations", 1));
+
+    /*
+     * The maximum number of bytes of working arrays to keep between runs.
+     */
+    static final long MAX_SCRATCH_BYTES = 1L << 30;
+
     // ****************************************
     // Main Method
     // ****************************************
@@ -36,14 +70,38 @@ public class AdventOfCode {
 
         final SolutionWrapper<?, ?> challenge = findChallenge(year, day);
 
-        final SolutionContext context = loadContext(args[2]);
-        final Tuple<?, ?> results = challenge.calculateAnswers(context);
+        final ScratchArena arena = ITERATIONS > 1 ? new ScratchArena(MAX_SCRATCH_BYTES) : null;
+
+        RecordingMetrics metrics = null;
+        Tuple<?, ?> results = null;
+        long duration = 0;
+        long warmDuration = 0;
+        for (int iteration = 0; iteration < ITERATIONS; iteration++) {
+            if (arena != null) arena.reset();
+
+            metrics = RECORD_METRICS ? new RecordingMetrics() : null;
+            final SolutionContext context = loadContext(
+                    args[2],
+                    metrics != null ? metrics : Metrics.disabled(),
+                    arena != null ? arena : Scratch.allocating()
+            );
+
+            final long start = System.nanoTime();
+            results = challenge.calculateAnswers(context);
+            final long end = System.nanoTime();
+
+            duration = end - start;
+            if (iteration > 0) warmDuration += duration;
+        }
 
         System.out.print("Part 1: ");
         System.out.println(results.getAnswer1());
 
         System.out.print("Part 2: ");
         System.out.println(results.getAnswer2());
+
+        if (ITERATIONS > 1) reportIterations(warmDuration / (ITERATIONS - 1));
+        if (metrics != null) reportMetrics(metrics, duration);
     }
 
     // ****************************************
@@ -52,21 +110,36 @@ public class AdventOfCode {
 
     /*
      * Look up solutions for a given year and day.
+     *
+     * Only the `SolutionTableXXXX` for the requested year is referenced, and
+     * it only initialises the solution for the requested day, so no other
+     * solutions are loaded.
      */
     private static SolutionWrapper<?, ?> findChallenge(final int year, final int day) {
-        return findChallengesForYear(year).solutions(day);
+        try {
+            return switch (year) {
+                case 2020 -> SolutionTable2020.solutions(day);
+                case 2021 -> SolutionTable2021.solutions(day);
+                case 2022 -> SolutionTable2022.solutions(day);
+                case 2023 -> SolutionTable2023.solutions(day);
+                case 2024 -> SolutionTable2024.solutions(day);
+                default -> fatalError("Unable to find any challenges for year " + year);
+            };
+        } catch (final IllegalArgumentException e) {
+            return fatalError("Unable to find a solution for year " + year + " day " + day);
+        }
     }
 
     /*
-     * Look up solutions for a given year.
+     * Look up every solution for a given year, indexed by day.
      */
-    private static Solutions findChallengesForYear(final int year) {
+    static SolutionWrapper<?, ?>[] findChallengesForYear(final int year) {
         return switch (year) {
-            case 2020 -> Solutions2020.AOC_2020;
-            case 2021 -> Solutions2021.AOC_2021;
-            case 2022 -> Solutions2022.AOC_2022;
-            case 2023 -> Solutions2023.AOC_2023;
-            case 2024 -> Solutions2024.AOC_2024;
+            case 2020 -> SolutionTable2020.table();
+            case 2021 -> SolutionTable2021.table();
+            case 2022 -> SolutionTable2022.table();
+            case 2023 -> SolutionTable2023.table();
+            case 2024 -> SolutionTable2024.table();
             default -> fatalError("Unable to find any challenges for year " + year);
         };
     }
@@ -74,12 +147,31 @@ public class AdventOfCode {
     /*
      * Load an input file to solve for.
      */
-    private static SolutionContext loadContext(final String input) {
+    private static SolutionContext loadContext(final String input, final Metrics metrics, final Scratch scratch) {
         final Path inputPath = Path.of(input).toAbsolutePath();
         if (!Files.exists(inputPath))
             return fatalError("Failed to find challenge input: " + input);
 
-        return SolutionContext.builder().path(inputPath.toString()).build();
+        return SolutionContext.builder()
+                .path(inputPath.toString())
+                .withMetrics(metrics)
+                .withScratch(scratch)
+                .build();
+    }
+
+    /*
+     * Print the mean time of every run after the first.
+     */
+    private static void reportIterations(final long meanDuration) {
+        System.err.printf("%-16s %12dμs%n", "mean (warm)", TimeUnit.NANOSECONDS.toMicros(meanDuration));
+    }
+
+    /*
+     * Print the recorded metrics (of the last run).
+     */
+    private static void reportMetrics(final RecordingMetrics metrics, final long duration) {
+        metrics.phases(duration).forEach((phase, nanos) -> System.err.printf("%-16s %12dμs%n", phase, TimeUnit.NANOSECONDS.toMicros(nanos)));
+        metrics.counters().forEach((counter, value) -> System.err.printf("%-16s %12d%n", counter, value));
     }
 
     /*
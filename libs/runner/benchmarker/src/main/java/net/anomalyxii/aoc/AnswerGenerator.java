@@ -1,6 +1,7 @@
 package net.anomalyxii.aoc;
 
 import net.anomalyxii.aoc.context.SolutionContext;
+import net.anomalyxii.aoc.result.Tuple;
 
 import java.io.IOException;
 import java.io.InputStream;
@@ -9,12 +10,30 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static java.nio.file.StandardOpenOption.CREATE;
 import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
 
 /**
  * Generate the input and answer files for benchmarking.
+ * <p>
+ * Challenges are processed in parallel, using at most {@code --threads=N}
+ * threads (defaulting to the number of available processors). Answers are
+ * generated using the combined {@link Challenge#calculateAnswers(SolutionContext)}
+ * solver.
+ * <p>
+ * If {@code --verify} is specified then no files are written; instead, for
+ * every challenge, the combined answers are checked against the answers from
+ * solving each part individually and against the existing answers file, and
+ * any mismatches are reported.
  */
 public class AnswerGenerator {
 
@@ -23,6 +42,9 @@ public class AnswerGenerator {
      */
     private static final String RESOURCES_DIRECTORY_FORMAT = "solutions/aoc%d/src/main/resources/";
 
+    private static final String VERIFY_FLAG = "--verify";
+    private static final String THREADS_FLAG = "--threads=";
+
     // ****************************************
     // Main Method
     // ****************************************
@@ -33,16 +55,38 @@ public class AnswerGenerator {
      * @param args any command line arguments
      */
     public static void main(final String[] args) {
-        if (args.length == 0) {
-            System.err.println("Usage: AnswerGenerator <directory> [year] [day] [replace]");
+        final List<String> positional = new ArrayList<>();
+        boolean verify = false;
+        int threads = Runtime.getRuntime().availableProcessors();
+        for (final String arg : args) {
+            if (VERIFY_FLAG.equals(arg)) verify = true;
+            else if (arg.startsWith(THREADS_FLAG)) threads = Integer.parseInt(arg.substring(THREADS_FLAG.length()));
+            else positional.add(arg);
+        }
+
+        if (positional.isEmpty() || threads < 1) {
+            System.err.println("Usage: AnswerGenerator [--verify] [--threads=N] <directory> [year] [day] [replace]");
             System.exit(1);
+            return;
         }
 
-        final SolutionLoader loader = new SpiSolutionLoader();
-        final Path workingDirectory = Path.of(args[0]).toAbsolutePath();
-        loader.allChallenges().stream()
-                .filter(challenge -> challenge.matches(intArg(args, 1), intArg(args, 2)))
-                .forEach(challenge -> generateFilesForChallenge(challenge, workingDirectory, boolArg(args, 3)));
+        final String[] positionalArgs = positional.toArray(new String[0]);
+        final Path workingDirectory = Path.of(positionalArgs[0]).toAbsolutePath();
+        final boolean replaceExisting = boolArg(positionalArgs, 3);
+        final List<Challenge<?, ?>> challenges = new SpiSolutionLoader().allChallenges().stream()
+                .filter(challenge -> challenge.matches(intArg(positionalArgs, 1), intArg(positionalArgs, 2)))
+                .sorted()
+                .toList();
+
+        final List<Result> results = processAll(challenges, threads, verify, workingDirectory, replaceExisting);
+
+        long failures = 0;
+        for (final Result result : results) {
+            result.print();
+            if (!result.ok()) ++failures;
+        }
+        System.out.printf("%d challenges processed, %d failed%n", results.size(), failures);
+        if (failures > 0) System.exit(3);
     }
 
     // ****************************************
@@ -65,17 +109,61 @@ public class AnswerGenerator {
         return false;
     }
 
+    /*
+     * Generate or verify the answers for every `Challenge`, using a bounded
+     * pool of threads, and return the results in `Challenge` order.
+     */
+    private static List<Result> processAll(
+            final List<Challenge<?, ?>> challenges,
+            final int threads,
+            final boolean verify,
+            final Path workingDirectory,
+            final boolean replaceExisting
+    ) {
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            final List<Future<Result>> futures = new ArrayList<>(challenges.size());
+            for (final Challenge<?, ?> challenge : challenges) {
+                futures.add(executor.submit(() -> verify
+                        ? verifyAnswersForChallenge(challenge, workingDirectory)
+                        : generateFilesForChallenge(challenge, workingDirectory, replaceExisting)));
+            }
+
+            final List<Result> results = new ArrayList<>(futures.size());
+            for (int i = 0; i < futures.size(); i++) {
+                results.add(awaitResult(challenges.get(i), futures.get(i)));
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /*
+     * Wait for the `Result` of processing a `Challenge`.
+     */
+    private static Result awaitResult(final Challenge<?, ?> challenge, final Future<Result> future) {
+        try {
+            return future.get();
+        } catch (final ExecutionException e) {
+            return Result.failed(challenge, String.valueOf(e.getCause()));
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted whilst waiting for " + challenge.tag(), e);
+        }
+    }
+
     /*
      * Extract the input for a given `Challenge`.
      */
-    private static void generateFilesForChallenge(
+    private static Result generateFilesForChallenge(
             final Challenge<?, ?> challenge,
             final Path workingDirectory,
             final boolean replaceExisting) {
         final Path resourceDirectory = workingDirectory
                 .resolve(RESOURCES_DIRECTORY_FORMAT.formatted(challenge.year()));
-        final String inputFile = String.format("%d/day%d.txt", challenge.year(), challenge.day());
-        final String answersFile = String.format("%d/day%d-answers.txt", challenge.year(), challenge.day());
+        final String inputFile = inputFile(challenge);
+        final String answersFile = answersFile(challenge);
 
         if (!Files.exists(resourceDirectory.resolve(inputFile)) || replaceExisting) {
             try {
@@ -87,11 +175,13 @@ public class AnswerGenerator {
 
         if (!Files.exists(resourceDirectory.resolve(answersFile)) || replaceExisting) {
             try {
-                generateAnswers(challenge, resourceDirectory, inputFile, answersFile);
+                return generateAnswers(challenge, resourceDirectory, inputFile, answersFile);
             } catch (IOException e) {
                 throw new RuntimeException("Failed to generate input for Challenge", e);
             }
         }
+
+        return Result.skipped(challenge);
     }
 
     /*
@@ -110,22 +200,139 @@ public class AnswerGenerator {
     /*
      * Generate the expected answers for a given `Challenge`.
      */
-    private static void generateAnswers(
+    private static Result generateAnswers(
             final Challenge<?, ?> challenge,
             final Path resourceDirectory,
             final String inputFile,
             final String answersFile
     ) throws IOException {
-        final SolutionContext context = SolutionContext.builder()
-                .path(resourceDirectory.resolve(inputFile).toAbsolutePath().toString())
-                .build();
+        final SolutionContext context = contextFor(resourceDirectory, inputFile);
+
+        final long start = System.nanoTime();
+        final Tuple<?, ?> answers = challenge.calculateAnswers(context);
+        final long end = System.nanoTime();
 
         try (OutputStream out = Files.newOutputStream(resourceDirectory.resolve(answersFile), CREATE, TRUNCATE_EXISTING)) {
-            out.write(String.valueOf(challenge.calculateAnswerForPart1(context)).getBytes(StandardCharsets.UTF_8));
+            out.write(String.valueOf(answers.getAnswer1()).getBytes(StandardCharsets.UTF_8));
             out.write('\n');
-            out.write(String.valueOf(challenge.calculateAnswerForPart2(context)).getBytes(StandardCharsets.UTF_8));
+            out.write(String.valueOf(answers.getAnswer2()).getBytes(StandardCharsets.UTF_8));
             out.write('\n');
         }
+
+        return Result.generated(challenge, end - start);
+    }
+
+    /*
+     * Verify the answers for a given `Challenge`.
+     *
+     * The answers from the combined solver are compared against the answers
+     * for each individual part, as well as the existing answers file.
+     */
+    private static Result verifyAnswersForChallenge(final Challenge<?, ?> challenge, final Path workingDirectory) throws IOException {
+        final Path resourceDirectory = workingDirectory
+                .resolve(RESOURCES_DIRECTORY_FORMAT.formatted(challenge.year()));
+        final Path answersPath = resourceDirectory.resolve(answersFile(challenge));
+        final List<String> expected = Files.exists(answersPath)
+                ? Files.readAllLines(answersPath, StandardCharsets.UTF_8)
+                : List.of();
+
+        final SolutionContext context = contextFor(resourceDirectory, inputFile(challenge));
+
+        final long start = System.nanoTime();
+        final Tuple<?, ?> answers = challenge.calculateAnswers(context);
+        final long mid = System.nanoTime();
+        final String part1 = String.valueOf(challenge.calculateAnswerForPart1(context));
+        final long mid2 = System.nanoTime();
+        final String part2 = String.valueOf(challenge.calculateAnswerForPart2(context));
+        final long end = System.nanoTime();
+
+        final String answer1 = String.valueOf(answers.getAnswer1());
+        final String answer2 = String.valueOf(answers.getAnswer2());
+
+        final List<String> mismatches = new ArrayList<>();
+        if (!answer1.equals(part1)) mismatches.add("combined part I [%s] != part I [%s]".formatted(answer1, part1));
+        if (!answer2.equals(part2)) mismatches.add("combined part II [%s] != part II [%s]".formatted(answer2, part2));
+        if (expected.isEmpty()) {
+            mismatches.add("no answers file [" + answersPath + "]");
+        } else {
+            final String expected1 = expected.get(0);
+            final String expected2 = expected.size() > 1 ? expected.get(1) : null;
+            if (!answer1.equals(expected1)) mismatches.add("part I [%s] != expected [%s]".formatted(answer1, expected1));
+            if (!Objects.equals(answer2, expected2)) mismatches.add("part II [%s] != expected [%s]".formatted(answer2, expected2));
+        }
+
+        return new Result(
+                challenge.tag(),
+                mismatches.isEmpty() ? "OK" : String.join("; ", mismatches),
+                mismatches.isEmpty(),
+                formatTimings(mid - start, mid2 - mid, end - mid2)
+        );
+    }
+
+    /*
+     * Format a number of durations, in nanoseconds, for display.
+     */
+    private static String formatTimings(final long... durations) {
+        final StringBuilder timings = new StringBuilder();
+        for (final long duration : durations) {
+            if (!timings.isEmpty()) timings.append(" / ");
+            timings.append(TimeUnit.NANOSECONDS.toMicros(duration)).append("μs");
+        }
+        return timings.toString();
+    }
+
+    /*
+     * Create a `SolutionContext` for an input file.
+     */
+    private static SolutionContext contextFor(final Path resourceDirectory, final String inputFile) {
+        return SolutionContext.builder()
+                .path(resourceDirectory.resolve(inputFile).toAbsolutePath().toString())
+                .build();
+    }
+
+    /*
+     * The input file for a given `Challenge`.
+     */
+    private static String inputFile(final Challenge<?, ?> challenge) {
+        return String.format("%d/day%d.txt", challenge.year(), challenge.day());
+    }
+
+    /*
+     * The answers file for a given `Challenge`.
+     */
+    private static String answersFile(final Challenge<?, ?> challenge) {
+        return String.format("%d/day%d-answers.txt", challenge.year(), challenge.day());
+    }
+
+    // ****************************************
+    // Private Helper Classes
+    // ****************************************
+
+    /*
+     * The result of generating, or verifying, the answers for a `Challenge`.
+     */
+    private record Result(String tag, String status, boolean ok, String timings) {
+
+        // Static Helper Methods
+
+        static Result generated(final Challenge<?, ?> challenge, final long duration) {
+            return new Result(challenge.tag(), "GENERATED", true, formatTimings(duration));
+        }
+
+        static Result skipped(final Challenge<?, ?> challenge) {
+            return new Result(challenge.tag(), "SKIPPED", true, "");
+        }
+
+        static Result failed(final Challenge<?, ?> challenge, final String reason) {
+            return new Result(challenge.tag(), "FAILED: " + reason, false, "");
+        }
+
+        // Helper Methods
+
+        void print() {
+            System.out.printf("[%s] %-60s %s%n", tag, status, timings);
+        }
+
     }
 
 }
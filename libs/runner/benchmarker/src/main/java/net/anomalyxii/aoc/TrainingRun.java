@@ -0,0 +1,45 @@
+package net.anomalyxii.aoc;
+
+import net.anomalyxii.aoc.context.SolutionContext;
+
+/**
+ * Run every available challenge once, so that a JVM started with
+ * {@code -XX:ArchiveClassesAtExit} will record all the classes needed by
+ * the {@link AdventOfCode benchmarker} in a CDS archive.
+ * <p>
+ * Challenges are solved against the inputs on the classpath; any challenge
+ * that fails (for example, because the inputs are still encrypted) is
+ * reported and skipped, since it will still have loaded most of the
+ * classes that it needs. This includes running out of stack or heap, which
+ * garbage inputs can easily cause.
+ */
+public class TrainingRun {
+
+    // ****************************************
+    // Main Method
+    // ****************************************
+
+    /**
+     * Run the training run.
+     *
+     * @param args any command line arguments
+     */
+    public static void main(final String[] args) {
+        int failures = 0;
+        for (int year = AdventOfCode.FIRST_YEAR; year <= AdventOfCode.LAST_YEAR; year++) {
+            final SolutionWrapper<?, ?>[] days = AdventOfCode.findChallengesForYear(year);
+            for (int day = 1; day < days.length; day++) {
+                if (days[day] == null) continue;
+                try {
+                    days[day].calculateAnswers(SolutionContext.live(year, day));
+                } catch (final RuntimeException | StackOverflowError | OutOfMemoryError e) {
+                    System.err.printf("Training run for %04d Day %02d failed: %s%n", year, day, e);
+                    ++failures;
+                }
+            }
+        }
+
+        System.err.printf("Training run complete (%d failures)%n", failures);
+    }
+
+}
@@ -0,0 +1,26 @@
+#!/usr/bin/env bash
+#
+# Run the benchmarker from its deploy jar, using a CDS archive.
+#
+# Usage: benchmarker-cds.sh <java> <deploy jar> <archive> <year> <day> <input>
+#
+# The first three arguments are runfiles paths. The benchmarker must be run
+# with exactly the classpath that the archive was dumped with - the deploy
+# jar on its own - otherwise the JVM will silently ignore the archive.
+#
+# Extra JVM flags can be passed using CDS_JVM_FLAGS.
+
+RUNFILES="${RUNFILES_DIR:-${TEST_SRCDIR:-$0.runfiles}}/_main"
+
+JAVA="${RUNFILES}/$1"
+DEPLOY_JAR="${RUNFILES}/$2"
+ARCHIVE="${RUNFILES}/$3"
+shift 3
+
+# shellcheck disable=SC2086
+exec "${JAVA}" \
+  -Xshare:auto \
+  -XX:SharedArchiveFile="${ARCHIVE}" \
+  ${CDS_JVM_FLAGS:-} \
+  -cp "${DEPLOY_JAR}" \
+  net.anomalyxii.aoc.AdventOfCode "$@"
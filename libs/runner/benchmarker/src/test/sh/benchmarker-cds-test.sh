@@ -0,0 +1,25 @@
+#!/usr/bin/env bash
+#
+# Check that the benchmarker-cds wrapper actually loads the benchmarker from
+# its CDS archive: with -Xshare:on, the JVM refuses to start if the archive
+# cannot be used, and class loading is logged so the source can be checked.
+#
+# Usage: benchmarker-cds-test.sh <wrapper> <wrapper args...>
+
+WRAPPER="$1"
+shift
+
+OUTPUT=$(CDS_JVM_FLAGS="-Xshare:on -Xlog:class+load=info" "${WRAPPER}" "$@")
+STATUS=$?
+
+if [ "${STATUS}" -ne 0 ]
+then
+  echo "${OUTPUT}"
+  echo "Benchmarker exited with status ${STATUS}" >&2
+  exit 1
+elif ! grep -q "net.anomalyxii.aoc.AdventOfCode source: shared objects file" <<< "${OUTPUT}"
+then
+  echo "${OUTPUT}"
+  echo 'Benchmarker was not loaded from the CDS archive' >&2
+  exit 1
+fi
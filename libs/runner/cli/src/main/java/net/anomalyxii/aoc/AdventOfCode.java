@@ -1,5 +1,7 @@
 package net.anomalyxii.aoc;
 
+import net.anomalyxii.aoc.context.Metrics;
+import net.anomalyxii.aoc.context.RecordingMetrics;
 import net.anomalyxii.aoc.context.SolutionContext;
 import net.sourceforge.argparse4j.inf.ArgumentParser;
 import net.sourceforge.argparse4j.inf.ArgumentParserException;
@@ -7,6 +9,7 @@ import net.sourceforge.argparse4j.inf.Namespace;
 
 import java.util.concurrent.TimeUnit;
 import java.util.function.BiFunction;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
@@ -36,10 +39,11 @@ public class AdventOfCode {
             return;
         }
 
+        final boolean recordMetrics = namespace.getBoolean("metrics");
         SOLUTION_LOADER.allChallenges(namespace.getInt("year"), namespace.getInt("day")).stream()
                 .sorted()
                 .parallel()
-                .flatMap(AdventOfCode::solve)
+                .flatMap(day -> solve(day, recordMetrics))
                 .forEachOrdered(Solution::print);
     }
 
@@ -50,12 +54,12 @@ public class AdventOfCode {
     /*
      * Solve all parts of the given challenge, timing how long each takes.
      */
-    private static Stream<Solution> solve(final Challenge<?, ?> day) {
+    private static Stream<Solution> solve(final Challenge<?, ?> day, final boolean recordMetrics) {
         final Stream.Builder<Solution> builder = Stream.builder();
-        builder.add(solveAndTimeChallengeSolution(day, "I", Challenge::calculateAnswerForPart1));
-        builder.add(solveAndTimeChallengeSolution(day, "II", Challenge::calculateAnswerForPart2));
+        builder.add(solveAndTimeChallengeSolution(day, "I", Challenge::calculateAnswerForPart1, recordMetrics));
+        builder.add(solveAndTimeChallengeSolution(day, "II", Challenge::calculateAnswerForPart2, recordMetrics));
         if (day.hasOptimisedSolution()) {
-            builder.add(solveAndTimeChallengeSolution(day, "&", Challenge::calculateAnswers));
+            builder.add(solveAndTimeChallengeSolution(day, "&", Challenge::calculateAnswers, recordMetrics));
         }
         return builder.build();
     }
@@ -66,16 +70,33 @@ public class AdventOfCode {
     private static Solution solveAndTimeChallengeSolution(
             final Challenge<?, ?> challenge,
             final String part,
-            final BiFunction<Challenge<?, ?>, SolutionContext, ?> function
+            final BiFunction<Challenge<?, ?>, SolutionContext, ?> function,
+            final boolean recordMetrics
     ) {
-        final SolutionContext context = SolutionContext.live(challenge.year(), challenge.day());
+        final RecordingMetrics metrics = recordMetrics ? new RecordingMetrics() : null;
+        final SolutionContext context = SolutionContext.builder()
+                .live(challenge.year(), challenge.day())
+                .withMetrics(metrics != null ? metrics : Metrics.disabled())
+                .build();
 
         final long start = System.nanoTime();
         final Object answer = function.apply(challenge, context);
         final long end = System.nanoTime();
 
         final String answerStr = String.valueOf(answer);
-        return new Solution(challenge.tag(), part, answerStr, TimeUnit.NANOSECONDS.toMicros(end - start));
+        final String breakdown = metrics != null ? describe(metrics, end - start) : "";
+        return new Solution(challenge.tag(), part, answerStr, TimeUnit.NANOSECONDS.toMicros(end - start), breakdown);
+    }
+
+    /*
+     * Describe the recorded metrics.
+     */
+    private static String describe(final RecordingMetrics metrics, final long duration) {
+        final Stream<String> timings = metrics.phases(duration).entrySet().stream()
+                .map(e -> e.getKey() + "=" + TimeUnit.NANOSECONDS.toMicros(e.getValue()) + "μs");
+        final Stream<String> counters = metrics.counters().entrySet().stream()
+                .map(e -> e.getKey() + "=" + e.getValue());
+        return Stream.concat(timings, counters).collect(Collectors.joining(", ", " [", "]"));
     }
 
     // ****************************************
@@ -85,12 +106,12 @@ public class AdventOfCode {
     /*
      * The solution to a `Challenge`.
      */
-    private record Solution(String tag, String part, String result, long duration) {
+    private record Solution(String tag, String part, String result, long duration, String breakdown) {
 
         // Helper Methods
 
         public void print() {
-            System.out.printf("[%s PART %2s] %-49s (%12dμs)%n", tag, part, result, duration);
+            System.out.printf("[%s PART %2s] %-49s (%12dμs)%s%n", tag, part, result, duration, breakdown);
         }
 
     }
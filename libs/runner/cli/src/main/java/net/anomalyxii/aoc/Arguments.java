@@ -5,6 +5,8 @@ import net.sourceforge.argparse4j.inf.ArgumentParser;
 
 import java.util.stream.IntStream;
 
+import static net.sourceforge.argparse4j.impl.Arguments.storeTrue;
+
 /**
  * Command line arguments for {@link AdventOfCode}.
  */
@@ -34,6 +36,9 @@ public class Arguments {
                 .choices(IntStream.rangeClosed(1, 25).boxed()
                                  .toArray())
                 .help("Specify a day to run");
+        parser.addArgument("-m", "--metrics")
+                .action(storeTrue())
+                .help("Show where the time was spent in each solution");
 
         return parser;
 
@@ -1,8 +1,10 @@
 package net.anomalyxii.aoc.aoc2020;
 
+import net.anomalyxii.aoc.annotations.Optimised;
 import net.anomalyxii.aoc.annotations.Part;
 import net.anomalyxii.aoc.annotations.Solution;
 import net.anomalyxii.aoc.context.SolutionContext;
+import net.anomalyxii.aoc.result.LongTuple;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -44,6 +46,22 @@ public class Day1 {
         return findProductOf2020Triples(context.process(Integer::parseInt));
     }
 
+    // ****************************************
+    // Optimised Challenge Methods
+    // ****************************************
+
+    /**
+     * An optimised solution for parts 1 and 2.
+     *
+     * @param context the {@link SolutionContext} to solve against
+     * @return a {@link LongTuple} containing the answers for both parts
+     */
+    @Optimised
+    public LongTuple calculateAnswers(final SolutionContext context) {
+        final List<Integer> numbers = context.process(Integer::parseInt);
+        return new LongTuple(findProductOf2020Pairs(numbers), findProductOf2020Triples(numbers));
+    }
+
     // ****************************************
     // Helper Methods
     // ****************************************
@@ -1,8 +1,10 @@
 package net.anomalyxii.aoc.aoc2020;
 
+import net.anomalyxii.aoc.annotations.Optimised;
 import net.anomalyxii.aoc.annotations.Part;
 import net.anomalyxii.aoc.annotations.Solution;
 import net.anomalyxii.aoc.context.SolutionContext;
+import net.anomalyxii.aoc.result.LongTuple;
 
 import java.util.Arrays;
 import java.util.List;
@@ -120,4 +122,63 @@ public class Day10 {
         return memo[adaptors.size() - 1];
     }
 
+    // ****************************************
+    // Optimised Challenge Methods
+    // ****************************************
+
+    /**
+     * An optimised solution for parts 1 and 2.
+     *
+     * @param context the {@link SolutionContext} to solve against
+     * @return a {@link LongTuple} containing the answers for both parts
+     */
+    @Optimised
+    public LongTuple calculateAnswers(final SolutionContext context) {
+        final int[] adaptors = context.stream()
+                .mapToInt(Integer::parseInt)
+                .sorted()
+                .toArray();
+
+        if (adaptors.length == 0) {
+            return LongTuple.NULL;
+        }
+
+        // ways[i] is the number of arrangements that reach the i-th joltage,
+        // where the 0th joltage is the outlet itself
+        final long[] ways = new long[adaptors.length + 1];
+        ways[0] = 1;
+
+        long oneStep = 0;
+        long threeStep = 0;
+        for (int i = 0; i < adaptors.length; i++) {
+            final int adaptor = adaptors[i];
+            final int difference = adaptor - joltage(adaptors, i);
+            switch (difference) {
+                case 1 -> ++oneStep;
+                case 2 -> {
+                    // Don't need to care?
+                }
+                case 3 -> ++threeStep;
+                default -> throw new IllegalStateException("Invalid difference in adaptor joltages: [" + adaptor + " => " + difference + " ]");
+            }
+
+            for (int j = i; j >= 0 && adaptor - joltage(adaptors, j) <= 3; j--)
+                ways[i + 1] += ways[j];
+        }
+
+        return new LongTuple(oneStep * (threeStep + 1), ways[adaptors.length]);
+    }
+
+    // ****************************************
+    // Private Helper Methods
+    // ****************************************
+
+    /*
+     * Get the joltage of the adaptor before the i-th adaptor, treating the
+     * outlet as a 0-jolt adaptor.
+     */
+    private static int joltage(final int[] adaptors, final int i) {
+        return i == 0 ? 0 : adaptors[i - 1];
+    }
+
 }
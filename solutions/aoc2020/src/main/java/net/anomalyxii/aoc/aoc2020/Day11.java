@@ -1,15 +1,13 @@
 package net.anomalyxii.aoc.aoc2020;
 
+import net.anomalyxii.aoc.annotations.Optimised;
 import net.anomalyxii.aoc.annotations.Part;
 import net.anomalyxii.aoc.annotations.Solution;
 import net.anomalyxii.aoc.context.SolutionContext;
-import net.anomalyxii.aoc.utils.geometry.Coordinate;
-import net.anomalyxii.aoc.utils.geometry.Grid;
-import net.anomalyxii.aoc.utils.geometry.Grid.MutableGrid;
-import net.anomalyxii.aoc.utils.geometry.Velocity;
+import net.anomalyxii.aoc.result.LongTuple;
 
-import java.util.concurrent.atomic.AtomicLong;
-import java.util.function.BooleanSupplier;
+import java.util.Arrays;
+import java.util.List;
 
 import static net.anomalyxii.aoc.annotations.Part.PartNumber.I;
 import static net.anomalyxii.aoc.annotations.Part.PartNumber.II;
@@ -20,6 +18,15 @@ import static net.anomalyxii.aoc.annotations.Part.PartNumber.II;
 @Solution(year = 2020, day = 11, title = "Seating System")
 public class Day11 {
 
+    /*
+     * The (dx, dy) of each of the 8 directions a passenger can look in.
+     */
+    private static final int[][] DIRECTIONS = {
+            {-1, -1}, {0, -1}, {1, -1},
+            {-1, 0}, {1, 0},
+            {-1, 1}, {0, 1}, {1, 1},
+    };
+
     // ****************************************
     // Challenge Methods
     // ****************************************
@@ -32,20 +39,8 @@ public class Day11 {
      */
     @Part(part = I)
     public long calculateAnswerForPart1(final SolutionContext context) {
-        final MutableGrid seatingPlan = context.readMutableGrid(c -> c);
-
-        final AtomicLong occupiedSeats = new AtomicLong();
-        whileSeatsAreInFlux(() -> {
-            seatingPlan.forEachMatching(
-                    point -> !isEmptySpace(seatingPlan, point),
-                    point -> occupiedSeats.addAndGet(countOccupiedSeats(seatingPlan, point, 1, 4))
-            );
-
-            // Update the placeholder positions
-            return finaliseUpdatedSeatingPlan(seatingPlan);
-        });
-
-        return occupiedSeats.longValue();
+        final List<String> seatingPlan = context.read();
+        return countOccupiedSeatsOnceStable(SeatingPlan.of(seatingPlan, 1), 4);
     }
 
     /**
@@ -56,20 +51,27 @@ public class Day11 {
      */
     @Part(part = II)
     public long calculateAnswerForPart2(final SolutionContext context) {
-        final MutableGrid seatingPlan = context.readMutableGrid(c -> c);
-
-        final AtomicLong occupiedSeats = new AtomicLong(0);
-        whileSeatsAreInFlux(() -> {
-            seatingPlan.forEachMatching(
-                    point -> !isEmptySpace(seatingPlan, point),
-                    point -> occupiedSeats.addAndGet(countOccupiedSeats(seatingPlan, point, Integer.MAX_VALUE, 5))
-            );
+        final List<String> seatingPlan = context.read();
+        return countOccupiedSeatsOnceStable(SeatingPlan.of(seatingPlan, Integer.MAX_VALUE), 5);
+    }
 
-            // Update the placeholder positions
-            return finaliseUpdatedSeatingPlan(seatingPlan);
-        });
+    // ****************************************
+    // Optimised Challenge Methods
+    // ****************************************
 
-        return occupiedSeats.longValue();
+    /**
+     * An optimised solution for parts 1 and 2.
+     *
+     * @param context the {@link SolutionContext} to solve against
+     * @return a {@link LongTuple} containing the answers for both parts
+     */
+    @Optimised
+    public LongTuple calculateAnswers(final SolutionContext context) {
+        final List<String> seatingPlan = context.read();
+        return new LongTuple(
+                countOccupiedSeatsOnceStable(SeatingPlan.of(seatingPlan, 1), 4),
+                countOccupiedSeatsOnceStable(SeatingPlan.of(seatingPlan, Integer.MAX_VALUE), 5)
+        );
     }
 
     // ****************************************
@@ -77,103 +79,155 @@ public class Day11 {
     // ****************************************
 
     /*
-     * Repeat an action until the seat occupation stops changing.
+     * Simulate the seating plan until it stops changing, and count how many
+     * seats are then occupied.
+     *
+     * Only seats next to a seat that changed in the previous round can
+     * change in the next round, so each round just re-evaluates those.
      */
-    private static void whileSeatsAreInFlux(final BooleanSupplier action) {
-        boolean shouldContinue;
-        do {
-            // Run...
-            shouldContinue = action.getAsBoolean();
-        } while (shouldContinue);
-    }
+    private static long countOccupiedSeatsOnceStable(final SeatingPlan seatingPlan, final int antisocialness) {
+        final int seats = seatingPlan.seats();
+        final int[] offsets = seatingPlan.offsets;
+        final int[] neighbours = seatingPlan.neighbours;
+
+        final byte[] current = seatingPlan.occupied.clone();
+        final byte[] next = current.clone();
+
+        // Every seat is dirty to begin with
+        final int[] dirty = new int[seats];
+        int dirtyCount = seats;
+        for (int seat = 0; seat < seats; seat++)
+            dirty[seat] = seat;
+
+        final int[] changed = new int[seats];
+        final int[] queuedInRound = new int[seats];
+        for (int round = 1; dirtyCount > 0; round++) {
+            int changedCount = 0;
+            for (int i = 0; i < dirtyCount; i++) {
+                final int seat = dirty[i];
+
+                int surroundingSeats = 0;
+                for (int n = offsets[seat]; n < offsets[seat + 1]; n++)
+                    surroundingSeats += current[neighbours[n]];
+
+                if (current[seat] == 0 && surroundingSeats == 0) {
+                    next[seat] = 1;
+                    changed[changedCount++] = seat;
+                } else if (current[seat] != 0 && surroundingSeats >= antisocialness) {
+                    next[seat] = 0;
+                    changed[changedCount++] = seat;
+                }
+            }
 
-    /*
-     * Count how many seats are occupied (and mark them as such).
-     */
-    private int countOccupiedSeats(
-            final MutableGrid seatingPlan,
-            final Coordinate coordinate,
-            final int limit,
-            final int antisocialness
-    ) {
-        final long surroundingSeats = Velocity.directions()
-                .filter(direction -> isFirstSeatInDirectionOccupied(seatingPlan, coordinate, direction, limit))
-                .count();
-
-        return maybeUpdateCurrentSeat(seatingPlan, coordinate, surroundingSeats, antisocialness);
+            // Apply the changes, and queue up the seats that can see them
+            dirtyCount = 0;
+            for (int i = 0; i < changedCount; i++) {
+                final int seat = changed[i];
+                current[seat] = next[seat];
+                for (int n = offsets[seat]; n < offsets[seat + 1]; n++) {
+                    final int neighbour = neighbours[n];
+                    if (queuedInRound[neighbour] == round) continue;
+                    queuedInRound[neighbour] = round;
+                    dirty[dirtyCount++] = neighbour;
+                }
+            }
+        }
+
+        long occupiedSeats = 0;
+        for (final byte seat : current)
+            occupiedSeats += seat;
+        return occupiedSeats;
     }
 
+    // ****************************************
+    // Private Helper Classes
+    // ****************************************
+
     /*
-     * Update the seating plan if anyone will occupy or leave a seat.
+     * The seats of a seating plan, and which other seats each one can see.
+     *
+     * Which seats are visible never changes, so the neighbours of every
+     * seat are worked out once and stored in a compressed sparse row
+     * layout: the neighbours of `seat` are
+     * `neighbours[offsets[seat] .. offsets[seat + 1])`.
      */
-    private static int maybeUpdateCurrentSeat(
-            final MutableGrid seatingPlan,
-            final Coordinate coordinate,
-            final long surroundingSeats,
-            final int antisocialness
-    ) {
-        final boolean currentSeatOccupied = isOccupiedSeat(seatingPlan, coordinate);
-        if (!currentSeatOccupied && surroundingSeats == 0) {
-            seatingPlan.set(coordinate, '~');
-            return 1;
-        }
+    private record SeatingPlan(byte[] occupied, int[] offsets, int[] neighbours) {
 
-        if (currentSeatOccupied && surroundingSeats >= antisocialness) {
-            seatingPlan.set(coordinate, 'l');
-            return -1;
+        // Helper Methods
+
+        int seats() {
+            return occupied.length;
         }
 
-        return 0;
-    }
+        // Static Helper Methods
 
-    /*
-     * Update the seating plan with any changed seats.
-     */
-    private static boolean finaliseUpdatedSeatingPlan(final MutableGrid seatingPlan) {
-        final boolean[] updated = new boolean[1];
-        seatingPlan.forEach(point -> {
-            if (seatingPlan.get(point) == 'l') {
-                seatingPlan.set(point, 'L');
-                updated[0] = true;
-            } else if (seatingPlan.get(point) == '~') {
-                seatingPlan.set(point, '#');
-                updated[0] = true;
+        /*
+         * Find the seats in a seating plan, and the first seat that each
+         * one can see, within `limit` places, in each direction.
+         */
+        static SeatingPlan of(final List<String> lines, final int limit) {
+            final int height = lines.size();
+            final int width = lines.stream().mapToInt(String::length).max().orElse(0);
+
+            final int[] seatIds = new int[width * height];
+            Arrays.fill(seatIds, -1);
+
+            int seats = 0;
+            for (int y = 0; y < height; y++) {
+                final String line = lines.get(y);
+                for (int x = 0; x < line.length(); x++)
+                    if (line.charAt(x) != '.') seatIds[y * width + x] = seats++;
             }
-        });
-        return updated[0];
-    }
 
-    /*
-     * Check if the first seat in a given direction is occupied.
-     */
-    private static boolean isFirstSeatInDirectionOccupied(
-            final Grid seatingPlan,
-            final Coordinate coordinate,
-            final Velocity dir,
-            final int limit
-    ) {
-        Coordinate nextCoordinate = coordinate.adjustBy(dir);
-        for (int l = 0; l < limit && seatingPlan.contains(nextCoordinate); l++, nextCoordinate = nextCoordinate.adjustBy(dir)) {
-            if (isEmptySpace(seatingPlan, nextCoordinate)) continue;
-            return isOccupiedSeat(seatingPlan, nextCoordinate);
-        }
+            final byte[] occupied = new byte[seats];
+            final int[] offsets = new int[seats + 1];
+            int[] neighbours = new int[seats * 4];
+            int count = 0;
+            for (int y = 0; y < height; y++) {
+                final String line = lines.get(y);
+                for (int x = 0; x < line.length(); x++) {
+                    final int seat = seatIds[y * width + x];
+                    if (seat < 0) continue;
+
+                    occupied[seat] = (byte) (line.charAt(x) == '#' ? 1 : 0);
+                    for (final int[] direction : DIRECTIONS) {
+                        final int neighbour = findFirstSeatInDirection(seatIds, width, height, x, y, direction, limit);
+                        if (neighbour < 0) continue;
+
+                        if (count == neighbours.length) neighbours = Arrays.copyOf(neighbours, count * 2);
+                        neighbours[count++] = neighbour;
+                    }
+                    offsets[seat + 1] = count;
+                }
+            }
 
-        return false;
-    }
+            return new SeatingPlan(occupied, offsets, Arrays.copyOf(neighbours, count));
+        }
 
-    /*
-     * Check if the given coordinate is an empty space.
-     */
-    private static boolean isEmptySpace(final Grid seatingPlan, final Coordinate coordinate) {
-        return !seatingPlan.contains(coordinate) || seatingPlan.get(coordinate) == '.';
-    }
+        /*
+         * Find the first seat in a given direction, or -1 if there is none.
+         */
+        private static int findFirstSeatInDirection(
+                final int[] seatIds,
+                final int width,
+                final int height,
+                final int x,
+                final int y,
+                final int[] direction,
+                final int limit
+        ) {
+            int nx = x + direction[0];
+            int ny = y + direction[1];
+            for (int l = 0; l < limit && nx >= 0 && nx < width && ny >= 0 && ny < height; l++) {
+                final int seat = seatIds[ny * width + nx];
+                if (seat >= 0) return seat;
+
+                nx += direction[0];
+                ny += direction[1];
+            }
+            return -1;
+        }
 
-    /*
-     * Check if the given coordinate is an occupied seat.
-     */
-    private static boolean isOccupiedSeat(final Grid seatingPlan, final Coordinate coordinate) {
-        return seatingPlan.contains(coordinate)
-                && (seatingPlan.get(coordinate) == '#' || seatingPlan.get(coordinate) == 'l');
     }
 
 }
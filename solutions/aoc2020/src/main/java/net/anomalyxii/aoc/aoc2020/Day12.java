@@ -1,8 +1,10 @@
 package net.anomalyxii.aoc.aoc2020;
 
+import net.anomalyxii.aoc.annotations.Optimised;
 import net.anomalyxii.aoc.annotations.Part;
 import net.anomalyxii.aoc.annotations.Solution;
 import net.anomalyxii.aoc.context.SolutionContext;
+import net.anomalyxii.aoc.result.LongTuple;
 
 import static net.anomalyxii.aoc.annotations.Part.PartNumber.I;
 import static net.anomalyxii.aoc.annotations.Part.PartNumber.II;
@@ -57,6 +59,32 @@ public class Day12 {
         return waypoint.ship.calculateManhattanDistance();
     }
 
+    // ****************************************
+    // Optimised Challenge Methods
+    // ****************************************
+
+    /**
+     * An optimised solution for parts 1 and 2.
+     *
+     * @param context the {@link SolutionContext} to solve against
+     * @return a {@link LongTuple} containing the answers for both parts
+     */
+    @Optimised
+    public LongTuple calculateAnswers(final SolutionContext context) {
+        final Ship ship = new Ship();
+        final Waypoint waypoint = new Waypoint();
+
+        context.consume(inst -> {
+            final char command = inst.charAt(0);
+            final long delta = Long.parseLong(inst.substring(1));
+
+            ship.process(command, delta);
+            waypoint.process(command, delta);
+        });
+
+        return new LongTuple(ship.info.calculateManhattanDistance(), waypoint.ship.calculateManhattanDistance());
+    }
+
     // ****************************************
     // Private Helper Classes
     // ****************************************
@@ -1,12 +1,14 @@
 package net.anomalyxii.aoc.aoc2020;
 
+import net.anomalyxii.aoc.annotations.Optimised;
 import net.anomalyxii.aoc.annotations.Part;
 import net.anomalyxii.aoc.annotations.Solution;
 import net.anomalyxii.aoc.context.SolutionContext;
+import net.anomalyxii.aoc.result.LongTuple;
+import net.anomalyxii.aoc.utils.maths.Modular;
 
 import java.util.Arrays;
 import java.util.List;
-import java.util.stream.IntStream;
 
 import static net.anomalyxii.aoc.annotations.Part.PartNumber.I;
 import static net.anomalyxii.aoc.annotations.Part.PartNumber.II;
@@ -63,41 +65,70 @@ public class Day13 {
      */
     @Part(part = II)
     public long calculateAnswerForPart2(final SolutionContext context) {
-        final int[] busIds = Arrays.stream(context.read().get(1).split(","))
-                .mapToInt(id -> "x".equalsIgnoreCase(id)
-                        ? -1
-                        : Integer.parseInt(id))
-                .toArray();
-
-        final int[] offsets = IntStream.range(0, busIds.length)
-                .filter(i -> busIds[i] > 0)
-                .toArray();
+        return findEarliestTimestamp(context.read().get(1).split(","));
+    }
 
-        final int[] filteredBusIds = IntStream.of(offsets)
-                .map(i -> busIds[i])
-                .toArray();
+    // ****************************************
+    // Optimised Challenge Methods
+    // ****************************************
 
+    /**
+     * An optimised solution for parts 1 and 2.
+     *
+     * @param context the {@link SolutionContext} to solve against
+     * @return a {@link LongTuple} containing the answers for both parts
+     */
+    @Optimised
+    public LongTuple calculateAnswers(final SolutionContext context) {
+        final List<String> lines = context.read();
 
-        long stepSize = filteredBusIds[0];
+        final long arrivalTime = Long.parseLong(lines.getFirst());
+        final String[] ids = lines.get(1).split(",");
 
-        outer:
-        for (long time = stepSize; time < Long.MAX_VALUE; time += stepSize) {
-            for (int i = 0; i < offsets.length; i++) {
-                if ((time + offsets[i]) % filteredBusIds[i] != 0) {
-                    final long newMultiplier = Arrays.stream(filteredBusIds, 0, i)
-                            .reduce(1, (x, y) -> x * y);
+        long id = -1;
+        long remainingMinutes = Long.MAX_VALUE;
 
-                    if (newMultiplier > stepSize) {
-                        stepSize = newMultiplier;
-                    }
+        for (final String token : ids) {
+            if ("x".equalsIgnoreCase(token)) continue;
 
-                    continue outer;
-                }
+            final long busId = Long.parseLong(token);
+            final long timeToWait = busId - (arrivalTime % busId);
+            if (timeToWait < remainingMinutes) {
+                id = busId;
+                remainingMinutes = timeToWait;
             }
-            return time;
         }
 
-        throw new IllegalStateException("Did not find a solution :(");
+        return new LongTuple(id * remainingMinutes, findEarliestTimestamp(ids));
+    }
+
+    // ****************************************
+    // Private Helper Methods
+    // ****************************************
+
+    /*
+     * Find the earliest timestamp at which each bus departs at its offset
+     * in the list of bus IDs.
+     */
+    private static long findEarliestTimestamp(final String[] ids) {
+        // Each bus imposes the congruence `time + offset = 0 (mod busId)`
+        final long[] residues = new long[ids.length];
+        final long[] moduli = new long[ids.length];
+        int buses = 0;
+
+        for (int offset = 0; offset < ids.length; offset++) {
+            if ("x".equalsIgnoreCase(ids[offset])) continue;
+
+            residues[buses] = -offset;
+            moduli[buses] = Long.parseLong(ids[offset]);
+            ++buses;
+        }
+
+        try {
+            return Modular.chineseRemainder(Arrays.copyOf(residues, buses), Arrays.copyOf(moduli, buses));
+        } catch (final ArithmeticException e) {
+            throw new IllegalStateException("Did not find a solution :(", e);
+        }
     }
 
 }
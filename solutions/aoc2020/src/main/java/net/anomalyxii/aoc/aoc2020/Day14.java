@@ -1,15 +1,15 @@
 package net.anomalyxii.aoc.aoc2020;
 
+import net.anomalyxii.aoc.annotations.Optimised;
 import net.anomalyxii.aoc.annotations.Part;
 import net.anomalyxii.aoc.annotations.Solution;
 import net.anomalyxii.aoc.context.SolutionContext;
+import net.anomalyxii.aoc.result.LongTuple;
 
-import java.util.Collections;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import static net.anomalyxii.aoc.annotations.Part.PartNumber.I;
 import static net.anomalyxii.aoc.annotations.Part.PartNumber.II;
@@ -131,30 +131,71 @@ public class Day14 {
     public long calculateAnswerForPart2(final SolutionContext context) {
         final List<String> instructions = context.read();
 
-        final String[] bitMasks = new String[1];
+        final long[] bitMasks = {0L, 0L};
         final long[] assignment = {-1L, 0L};
 
-        final Map<Long, Long> memory = new HashMap<>();
+        final FloatingMemory memory = new FloatingMemory();
         instructions.forEach(inst -> {
             if (inst.startsWith("mask")) {
-                parseVariableBitMasks(inst, bitMasks);
+                parseFloatingBitMasks(inst, bitMasks);
                 return;
             }
 
             if (inst.startsWith("mem")) {
                 parseMemoryAssignment(inst, assignment);
 
-                final List<Long> maskedAddresses = maskAddress(assignment[0], bitMasks[0]);
-                maskedAddresses.forEach(maddr -> memory.put(maddr, assignment[1]));
+                memory.write(assignment[0] | bitMasks[0], bitMasks[1], assignment[1]);
                 return;
             }
 
             throw new IllegalArgumentException("Invalid instruction: '" + inst + "'");
         });
 
-        return memory.values().stream()
-                .mapToLong(val -> val)
-                .sum();
+        return memory.sum();
+    }
+
+    // ****************************************
+    // Optimised Challenge Methods
+    // ****************************************
+
+    /**
+     * An optimised solution for parts 1 and 2.
+     *
+     * @param context the {@link SolutionContext} to solve against
+     * @return a {@link LongTuple} containing the answers for both parts
+     */
+    @Optimised
+    public LongTuple calculateAnswers(final SolutionContext context) {
+        final List<String> instructions = context.read();
+
+        final long[] bitMasks = {-1L, 0L};
+        final long[] floatingBitMasks = {0L, 0L};
+        final long[] assignment = {-1L, 0L};
+
+        final Map<Long, Long> version1Memory = new HashMap<>();
+        final FloatingMemory version2Memory = new FloatingMemory();
+        instructions.forEach(inst -> {
+            if (inst.startsWith("mask = ")) {
+                parseBitMasks(inst, bitMasks);
+                parseFloatingBitMasks(inst, floatingBitMasks);
+                return;
+            }
+
+            if (inst.startsWith("mem[")) {
+                parseMemoryAssignment(inst, assignment);
+
+                version1Memory.put(assignment[0], maskValue(assignment[1], bitMasks));
+                version2Memory.write(assignment[0] | floatingBitMasks[0], floatingBitMasks[1], assignment[1]);
+                return;
+            }
+
+            throw new IllegalArgumentException("Invalid instruction: '" + inst + "'");
+        });
+
+        return new LongTuple(
+                version1Memory.values().stream().mapToLong(val -> val).sum(),
+                version2Memory.sum()
+        );
     }
 
     // ****************************************
@@ -172,10 +213,15 @@ public class Day14 {
     }
 
     /*
-     * Parse a variable bitmask definition.
+     * Parse a floating bitmask definition:
+     *   - bitMasks[0] = orMask
+     *   - bitMasks[1] = floatingMask
      */
-    private static void parseVariableBitMasks(final String inst, final String[] bitMasks) {
-        bitMasks[0] = inst.substring(7);
+    private static void parseFloatingBitMasks(final String inst, final long[] bitMasks) {
+        final String mask = inst.substring(7);
+
+        bitMasks[0] = orMask(mask);
+        bitMasks[1] = floatingMask(mask);
     }
 
     /*
@@ -206,6 +252,15 @@ public class Day14 {
                 .reduce(0L, (result, val) -> (result << 1) | val);
     }
 
+    /*
+     * Create a bitmask of the floating bits.
+     */
+    private static long floatingMask(final String mask) {
+        return mask.chars()
+                .mapToLong(chr -> chr == 'X' ? 1L : 0L)
+                .reduce(0L, (result, val) -> (result << 1) | val);
+    }
+
     /*
      * Mask the given long value with the two provided bitmasks:
      *   - bitMasks[0] = andMask
@@ -215,47 +270,99 @@ public class Day14 {
         return (value & bitMasks[0]) | bitMasks[1];
     }
 
+    // ****************************************
+    // Private Helper Classes
+    // ****************************************
+
     /*
-     * Mask the given address with a variable bitmask.
+     * The memory of a version 2 decoder chip.
+     *
+     * Each write covers every address that matches a pattern of fixed and
+     * floating bits. Rather than expanding the pattern into addresses, the
+     * memory is kept as a set of disjoint patterns, each holding a single
+     * value. Writing a new pattern subtracts it from every older pattern it
+     * overlaps, by splitting the older pattern on each bit that is fixed in
+     * the new pattern but floating in the older one.
      */
-    private static List<Long> maskAddress(final long address, final String bitMask) {
-
-        final long baseMask = andMask(bitMask);
-        final long baseAddress = address | baseMask;
+    private static final class FloatingMemory {
+
+        // Private Members
+
+        private long[] addresses = new long[64];
+        private long[] floating = new long[64];
+        private long[] values = new long[64];
+        private int size = 0;
+
+        // Helper Methods
+
+        /*
+         * Write a value to every address matching the given pattern.
+         */
+        void write(final long address, final long floatingBits, final long value) {
+            final long fixedAddress = address & ~floatingBits;
+
+            // Keep the patterns that do not overlap in place, and append
+            // the pieces left over from those that do
+            final int existing = size;
+            int kept = 0;
+            for (int i = 0; i < existing; i++) {
+                final long commonFixedBits = ~floating[i] & ~floatingBits;
+                if (((addresses[i] ^ fixedAddress) & commonFixedBits) != 0) {
+                    addresses[kept] = addresses[i];
+                    floating[kept] = floating[i];
+                    values[kept] = values[i];
+                    ++kept;
+                    continue;
+                }
+
+                long remainingAddress = addresses[i];
+                long remainingFloating = floating[i];
+                for (long split = floating[i] & ~floatingBits; split != 0; split &= split - 1) {
+                    final long bit = split & -split;
+                    remainingFloating &= ~bit;
+
+                    // The half that differs from the new pattern survives...
+                    add(remainingAddress | (~fixedAddress & bit), remainingFloating, values[i]);
+
+                    // ... and the half that matches is split further
+                    remainingAddress |= fixedAddress & bit;
+                }
+            }
 
-        final List<Long> maskedAddresses = produceFluxBitMasks(bitMask);
-        return maskedAddresses.stream()
-                .map(mask -> baseAddress & mask)
-                .collect(Collectors.toList());
-    }
+            final int pieces = size - existing;
+            System.arraycopy(addresses, existing, addresses, kept, pieces);
+            System.arraycopy(floating, existing, floating, kept, pieces);
+            System.arraycopy(values, existing, values, kept, pieces);
+            size = kept + pieces;
 
-    /*
-     * Produce all the variations for the given variable bitmask.
-     */
-    private static List<Long> produceFluxBitMasks(final String bitMask) {
-        if (bitMask.isEmpty()) {
-            return Collections.singletonList(0L);
+            if (value != 0) add(fixedAddress, floatingBits, value);
         }
 
-        final char maskChr = bitMask.charAt(0);
-        final List<Long> subMasks = produceFluxBitMasks(bitMask.substring(1));
-
-        if (maskChr == '0' || maskChr == '1') {
-            return subMasks.stream()
-                    .map(mask -> (1L << bitMask.length() - 1) | mask)
-                    .collect(Collectors.toList());
+        /*
+         * Sum the values at every address.
+         */
+        long sum() {
+            long sum = 0;
+            for (int i = 0; i < size; i++)
+                sum += values[i] << Long.bitCount(floating[i]);
+            return sum;
         }
 
-        if (maskChr == 'X') {
-            return subMasks.stream()
-                    .flatMap(mask -> Stream.of(
-                            (~(1L << (bitMask.length() - 1))) & mask,
-                            (1L << (bitMask.length() - 1)) | mask
-                    ))
-                    .collect(Collectors.toList());
+        /*
+         * Add a pattern.
+         */
+        private void add(final long address, final long floatingBits, final long value) {
+            if (size == addresses.length) {
+                addresses = Arrays.copyOf(addresses, size * 2);
+                floating = Arrays.copyOf(floating, size * 2);
+                values = Arrays.copyOf(values, size * 2);
+            }
+            addresses[size] = address;
+            floating[size] = floatingBits;
+            values[size] = value;
+            ++size;
         }
 
-        throw new IllegalArgumentException("Invalid mask character: '" + maskChr + "'");
     }
 
 }
@@ -1,10 +1,17 @@
 package net.anomalyxii.aoc.aoc2020;
 
+import net.anomalyxii.aoc.annotations.Optimised;
 import net.anomalyxii.aoc.annotations.Part;
 import net.anomalyxii.aoc.annotations.Solution;
+import net.anomalyxii.aoc.context.Scratch;
 import net.anomalyxii.aoc.context.SolutionContext;
+import net.anomalyxii.aoc.result.LongTuple;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
 import java.util.Arrays;
+import java.util.stream.IntStream;
 
 import static net.anomalyxii.aoc.annotations.Part.PartNumber.I;
 import static net.anomalyxii.aoc.annotations.Part.PartNumber.II;
@@ -15,6 +22,12 @@ import static net.anomalyxii.aoc.annotations.Part.PartNumber.II;
 @Solution(year = 2020, day = 15, title = "Rambunctious Recitation")
 public class Day15 {
 
+    /*
+     * Games with a larger "last seen" table than this keep the table
+     * off-heap (512MiB of ints).
+     */
+    static final int OFF_HEAP_THRESHOLD = 1 << 27;
+
     // ****************************************
     // Challenge Methods
     // ****************************************
@@ -31,7 +44,7 @@ public class Day15 {
                 .flatMap(line -> Arrays.stream(line.split(",")))
                 .mapToInt(Integer::parseInt)
                 .toArray();
-        return playGame(2020, startingNumbers);
+        return playGame(context.scratch(), 2020, startingNumbers);
     }
 
     /**
@@ -46,42 +59,181 @@ public class Day15 {
                 .flatMap(line -> Arrays.stream(line.split(",")))
                 .mapToInt(Integer::parseInt)
                 .toArray();
-        return playGame(30000000, startingNumbers);
+        return playGame(context.scratch(), 30000000, startingNumbers);
     }
 
     // ****************************************
-    // Private Helper Methods
+    // Optimised Challenge Methods
+    // ****************************************
+
+    /**
+     * An optimised solution for parts 1 and 2.
+     *
+     * @param context the {@link SolutionContext} to solve against
+     * @return a {@link LongTuple} containing the answers for both parts
+     */
+    @Optimised
+    public LongTuple calculateAnswers(final SolutionContext context) {
+        final int[] startingNumbers = context.stream()
+                .flatMap(line -> Arrays.stream(line.split(",")))
+                .mapToInt(Integer::parseInt)
+                .toArray();
+        return new LongTuple(
+                playGame(context.scratch(), 2020, startingNumbers),
+                playGame(context.scratch(), 30000000, startingNumbers)
+        );
+    }
+
+    // ****************************************
+    // Helper Methods
     // ****************************************
 
     /**
      * Play the game, play the game, play the game....
+     * <p>
+     * The game only needs to remember the last turn on which each number
+     * was spoken, and no number can be larger than the number of rounds, so
+     * this is kept in a single flat table. Very long games keep the table
+     * off-heap.
      *
      * @param rounds the number of rounds to play for
      * @param inputs the starting numbers
      * @return the final number
      */
     public static long playGame(final int rounds, final int... inputs) {
-        final int[][] memo = new int[rounds][];
-
-        int previousNumber = 0;
-        for (int i = 0; i < rounds; i++) {
-            final int thisNumber = i < inputs.length
-                    ? inputs[i]
-                    : memo[previousNumber] != null
-                            ? memo[previousNumber][0] - memo[previousNumber][1]
-                            : 0;
-
-            if (memo[thisNumber] == null) {
-                memo[thisNumber] = new int[]{i, i};
-            } else {
-                memo[thisNumber][1] = memo[thisNumber][0];
-                memo[thisNumber][0] = i;
+        return playGame(Scratch.allocating(), rounds, inputs);
+    }
+
+    /**
+     * Play the game, using a {@link Scratch} for the "last seen" table.
+     *
+     * @param scratch the {@link Scratch} to take the "last seen" table from
+     * @param rounds  the number of rounds to play for
+     * @param inputs  the starting numbers
+     * @return the final number
+     */
+    static long playGame(final Scratch scratch, final int rounds, final int... inputs) {
+        if (rounds <= inputs.length) {
+            return rounds <= 0 ? 0 : inputs[rounds - 1];
+        }
+
+        final int size = tableSize(rounds, inputs);
+        if (size > OFF_HEAP_THRESHOLD) {
+            return playGame(new OffHeapTable(size), rounds, inputs);
+        }
+
+        return playGame(scratch.ints(size, 0), rounds, inputs);
+    }
+
+    /**
+     * Play the game, always keeping the "last seen" table off-heap.
+     *
+     * @param rounds the number of rounds to play for
+     * @param inputs the starting numbers
+     * @return the final number
+     */
+    static long playGameOffHeap(final int rounds, final int... inputs) {
+        if (rounds <= inputs.length) {
+            return rounds <= 0 ? 0 : inputs[rounds - 1];
+        }
+
+        return playGame(new OffHeapTable(tableSize(rounds, inputs)), rounds, inputs);
+    }
+
+    // ****************************************
+    // Private Helper Methods
+    // ****************************************
+
+    /*
+     * Work out how large the "last seen" table needs to be: every number
+     * spoken after the starting numbers is less than the number of rounds.
+     */
+    private static int tableSize(final int rounds, final int[] inputs) {
+        return Math.max(rounds, IntStream.of(inputs).max().orElse(0) + 1);
+    }
+
+    /*
+     * Play the game using an on-heap "last seen" table.
+     *
+     * The table records the (1-based) turn on which each number was last
+     * spoken, with 0 meaning the number has never been spoken.
+     */
+    private static long playGame(final int[] lastSeen, final int rounds, final int[] inputs) {
+        for (int turn = 1; turn < inputs.length; turn++)
+            lastSeen[inputs[turn - 1]] = turn;
+
+        int current = inputs[inputs.length - 1];
+        for (int turn = inputs.length; turn < rounds; turn++) {
+            final int seen = lastSeen[current];
+            lastSeen[current] = turn;
+            current = seen == 0 ? 0 : turn - seen;
+        }
+
+        return current;
+    }
+
+    /*
+     * Play the game using an off-heap "last seen" table.
+     */
+    private static long playGame(final OffHeapTable lastSeen, final int rounds, final int[] inputs) {
+        for (int turn = 1; turn < inputs.length; turn++)
+            lastSeen.set(inputs[turn - 1], turn);
+
+        int current = inputs[inputs.length - 1];
+        for (int turn = inputs.length; turn < rounds; turn++) {
+            final int seen = lastSeen.getAndSet(current, turn);
+            current = seen == 0 ? 0 : turn - seen;
+        }
+
+        return current;
+    }
+
+    // ****************************************
+    // Private Helper Classes
+    // ****************************************
+
+    /*
+     * A table of ints held in direct (off-heap) buffers.
+     *
+     * A single buffer can hold at most 2GiB, so the table is split into
+     * pages of 2^28 ints (1GiB) each.
+     */
+    private static final class OffHeapTable {
+
+        private static final int PAGE_SHIFT = 28;
+        private static final int PAGE_MASK = (1 << PAGE_SHIFT) - 1;
+
+        // Private Members
+
+        private final IntBuffer[] pages;
+
+        // Constructors
+
+        OffHeapTable(final int size) {
+            final int pageCount = ((size - 1) >>> PAGE_SHIFT) + 1;
+            this.pages = new IntBuffer[pageCount];
+            for (int page = 0; page < pageCount; page++) {
+                final int pageSize = Math.min(PAGE_MASK + 1, size - (page << PAGE_SHIFT));
+                pages[page] = ByteBuffer.allocateDirect(pageSize * Integer.BYTES)
+                        .order(ByteOrder.nativeOrder())
+                        .asIntBuffer();
             }
+        }
+
+        // Helper Methods
+
+        void set(final int index, final int value) {
+            pages[index >>> PAGE_SHIFT].put(index & PAGE_MASK, value);
+        }
 
-            previousNumber = thisNumber;
+        int getAndSet(final int index, final int value) {
+            final IntBuffer page = pages[index >>> PAGE_SHIFT];
+            final int offset = index & PAGE_MASK;
+            final int previous = page.get(offset);
+            page.put(offset, value);
+            return previous;
         }
 
-        return previousNumber;
     }
 
 }
@@ -1,8 +1,10 @@
 package net.anomalyxii.aoc.aoc2020;
 
+import net.anomalyxii.aoc.annotations.Optimised;
 import net.anomalyxii.aoc.annotations.Part;
 import net.anomalyxii.aoc.annotations.Solution;
 import net.anomalyxii.aoc.context.SolutionContext;
+import net.anomalyxii.aoc.result.LongTuple;
 
 import java.util.*;
 import java.util.concurrent.atomic.AtomicLong;
@@ -100,6 +102,46 @@ public class Day16 {
                 .reduce(1L, (result, val) -> result * val);
     }
 
+    // ****************************************
+    // Optimised Challenge Methods
+    // ****************************************
+
+    /**
+     * An optimised solution for parts 1 and 2.
+     *
+     * @param context the {@link SolutionContext} to solve against
+     * @return a {@link LongTuple} containing the answers for both parts
+     */
+    @Optimised
+    public LongTuple calculateAnswers(final SolutionContext context) {
+        final Map<String, Set<Integer>> rules = new HashMap<>();
+
+        final int[][] myTicket = new int[1][];
+        final List<int[]> validTickets = new ArrayList<>();
+
+        final AtomicLong errorRate = new AtomicLong(0);
+        forEachLineOfNotes(
+                context,
+                rule -> addRule(rules, rule),
+                ticket -> myTicket[0] = ticket,
+                ticket -> {
+                    final long error = validateTicket(rules, ticket);
+                    if (error == 0) {
+                        validTickets.add(ticket);
+                    }
+                    errorRate.addAndGet(error);
+                }
+        );
+
+        final Map<String, Integer> fieldMappings = resolveFieldMappings(rules, validTickets, myTicket[0]);
+        final long product = fieldMappings.entrySet().stream()
+                .filter(entry -> relevantFieldFilter.test(entry.getKey()))
+                .mapToLong(entry -> myTicket[0][entry.getValue()])
+                .reduce(1L, (result, val) -> result * val);
+
+        return new LongTuple(errorRate.longValue(), product);
+    }
+
     // ****************************************
     // Private Helper Methods
     // ****************************************
@@ -1,8 +1,10 @@
 package net.anomalyxii.aoc.aoc2020;
 
+import net.anomalyxii.aoc.annotations.Optimised;
 import net.anomalyxii.aoc.annotations.Part;
 import net.anomalyxii.aoc.annotations.Solution;
 import net.anomalyxii.aoc.context.SolutionContext;
+import net.anomalyxii.aoc.result.LongTuple;
 
 import java.util.ArrayDeque;
 import java.util.ArrayList;
@@ -49,6 +51,26 @@ public class Day18 {
                 .sum();
     }
 
+    // ****************************************
+    // Optimised Challenge Methods
+    // ****************************************
+
+    /**
+     * An optimised solution for parts 1 and 2.
+     *
+     * @param context the {@link SolutionContext} to solve against
+     * @return a {@link LongTuple} containing the answers for both parts
+     */
+    @Optimised
+    public LongTuple calculateAnswers(final SolutionContext context) {
+        final long[] sums = new long[2];
+        context.consume(equation -> {
+            sums[0] += evaluate(equation);
+            sums[1] += evaluateAdv(equation);
+        });
+        return new LongTuple(sums[0], sums[1]);
+    }
+
     // ****************************************
     // Helper Methods
     // ****************************************
@@ -1,13 +1,15 @@
 package net.anomalyxii.aoc.aoc2020;
 
+import net.anomalyxii.aoc.annotations.Optimised;
 import net.anomalyxii.aoc.annotations.Part;
 import net.anomalyxii.aoc.annotations.Solution;
 import net.anomalyxii.aoc.context.SolutionContext;
+import net.anomalyxii.aoc.result.LongTuple;
 
+import java.nio.charset.StandardCharsets;
 import java.util.*;
-import java.util.function.Consumer;
+import java.util.regex.Matcher;
 import java.util.regex.Pattern;
-import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static net.anomalyxii.aoc.annotations.Part.PartNumber.I;
@@ -19,6 +21,11 @@ import static net.anomalyxii.aoc.annotations.Part.PartNumber.II;
 @Solution(year = 2020, day = 19, title = "Monster Messages")
 public class Day19 {
 
+    /*
+     * A rule, in the form `<number>: <rule>`.
+     */
+    private static final Pattern RULE_PATTERN = Pattern.compile("^([0-9]+):(.+)$");
+
     // ****************************************
     // Challenge Methods
     // ****************************************
@@ -31,22 +38,13 @@ public class Day19 {
      */
     @Part(part = I)
     public long calculateAnswerForPart1(final SolutionContext context) {
-        final List<String> rules = new ArrayList<>();
-        final List<String> messages = new ArrayList<>();
-
-        context.consume(line -> {
-            if (!line.isBlank()) {
-                if (looksLikeRule(line)) {
-                    rules.add(line.replace(":", " -> "));
-                } else {
-                    messages.add(line.replaceAll("(.)", "$1 "));
-                }
-            }
-        });
+        final Map<Integer, String> rules = new HashMap<>();
+        final List<byte[]> messages = new ArrayList<>();
+        readRulesAndMessages(context, rules, messages);
 
-        final EarleyParser parser = EarleyParser.compile(rules.stream().sorted().toArray(String[]::new));
-        return messages.stream()
-                .filter(message -> isValid(parser, message))
+        final MessageValidator validator = MessageValidator.compile(rules);
+        return messages.parallelStream()
+                .filter(validator::matches)
                 .count();
     }
 
@@ -58,381 +56,327 @@ public class Day19 {
      */
     @Part(part = II)
     public long calculateAnswerForPart2(final SolutionContext context) {
-        final List<String> rules = new ArrayList<>();
-        final List<String> messages = new ArrayList<>();
-
-        context.consume(line -> {
-            if (!line.isBlank()) {
-                if (looksLikeRule(line)) {
-                    if (line.startsWith("8:")) {
-                        rules.add("8 -> 42 | 42 8");
-                    } else if (line.startsWith("11:")) {
-                        rules.add("11 -> 42 31 | 42 11 31");
-                    } else {
-                        rules.add(line.replace(":", " -> "));
-                    }
-                } else {
-                    messages.add(line.replaceAll("(.)", "$1 "));
-                }
-            }
-        });
+        final Map<Integer, String> rules = new HashMap<>();
+        final List<byte[]> messages = new ArrayList<>();
+        readRulesAndMessages(context, rules, messages);
 
-        final EarleyParser parser = EarleyParser.compile(rules.stream().sorted().toArray(String[]::new));
-        return messages.stream()
-                .filter(message -> isValid(parser, message))
+        final MessageValidator validator = MessageValidator.compile(withLoopingRules(rules));
+        return messages.parallelStream()
+                .filter(validator::matches)
                 .count();
     }
 
+    // ****************************************
+    // Optimised Challenge Methods
+    // ****************************************
+
+    /**
+     * An optimised solution for parts 1 and 2.
+     *
+     * @param context the {@link SolutionContext} to solve against
+     * @return a {@link LongTuple} containing the answers for both parts
+     */
+    @Optimised
+    public LongTuple calculateAnswers(final SolutionContext context) {
+        final Map<Integer, String> rules = new HashMap<>();
+        final List<byte[]> messages = new ArrayList<>();
+        readRulesAndMessages(context, rules, messages);
+
+        final MessageValidator validator = MessageValidator.compile(rules);
+        final MessageValidator loopingValidator = MessageValidator.compile(withLoopingRules(rules));
+
+        // The looping rules only add alternatives to the originals, so any
+        //  message that is valid for part 1 is also valid for part 2
+        final long[] counts = messages.parallelStream()
+                .map(message -> validator.matches(message)
+                        ? new long[]{1, 1}
+                        : new long[]{0, loopingValidator.matches(message) ? 1 : 0})
+                .reduce(new long[2], (a, b) -> new long[]{a[0] + b[0], a[1] + b[1]});
+
+        return new LongTuple(counts[0], counts[1]);
+    }
+
     // ****************************************
     // Helper Methods
     // ****************************************
 
     /**
-     * Check if the given message is valid for the specified rule.
+     * Check if the given message is valid for rule 0.
      *
      * @param message the message to validate
-     * @param rules   an indexed array of rules that may be referenced
+     * @param rules   an indexed array of rules, in the form {@code x y | z} or {@code "a"}
      * @return {@literal true} if the message is valid; {@literal false} otherwise
      */
     static boolean isValid(final String message, final String[] rules) {
-        final EarleyParser parser = EarleyParser.compile(rules);
-        return isValid(parser, message);
+        final Map<Integer, String> indexedRules = new HashMap<>();
+        for (int i = 0; i < rules.length; i++)
+            indexedRules.put(i, rules[i]);
+
+        return MessageValidator.compile(indexedRules)
+                .matches(message.getBytes(StandardCharsets.US_ASCII));
     }
 
     /**
-     * Check if the given message is valid for the specified rule.
+     * Replace rules 8 and 11 with their looping versions.
      *
-     * @param message the message to validate
-     * @param root    the rule to validate against
-     * @param refs    an indexed array of rules that may be referenced
-     * @return {@literal true} if the message is valid; {@literal false} otherwise
+     * @param rules the rules, keyed by their number
+     * @return a copy of the rules, with rules 8 and 11 replaced
      */
-    static boolean isValid(final String message, final String root, final String[] refs) {
-        final String[] rules = new String[refs.length + 1];
-        rules[0] = "root -> " + root;
-        IntStream.range(0, refs.length)
-                .forEach(i -> rules[i + 1] = i + " -> " + refs[i]);
-
-        return isValid(message, rules);
+    static Map<Integer, String> withLoopingRules(final Map<Integer, String> rules) {
+        final Map<Integer, String> loopingRules = new HashMap<>(rules);
+        loopingRules.computeIfPresent(8, (id, rule) -> "42 | 42 8");
+        loopingRules.computeIfPresent(11, (id, rule) -> "42 31 | 42 11 31");
+        return loopingRules;
     }
 
     // ****************************************
-    // Private Helper Classes
+    // Private Helper Methods
     // ****************************************
 
-    private static final Pattern RULE_PATTERN = Pattern.compile("^([0-9]+):(.+)$");
-
     /*
-     * Check if the given input looks like a rule.
+     * Read the rules, keyed by their number, and the messages.
      */
-    private static boolean looksLikeRule(final String line) {
-        return RULE_PATTERN.matcher(line).matches();
-    }
+    private static void readRulesAndMessages(
+            final SolutionContext context,
+            final Map<Integer, String> rules,
+            final List<byte[]> messages
+    ) {
+        context.consume(line -> {
+            if (line.isBlank()) {
+                return;
+            }
 
-    /*
-     * Check if the given message is valid for the rules; specifically,
-     * checking whether the rule is valid for the first rule in the provided
-     * array of rules.
-     */
-    private static boolean isValid(final EarleyParser parser, final String message) {
-        return parser.matches(message);
+            final Matcher matcher = RULE_PATTERN.matcher(line);
+            if (matcher.matches()) {
+                rules.put(Integer.parseInt(matcher.group(1)), matcher.group(2).trim());
+            } else {
+                messages.add(line.getBytes(StandardCharsets.US_ASCII));
+            }
+        });
     }
 
+    // ****************************************
+    // Helper Classes
+    // ****************************************
+
     /*
-     * An implementation of the Earley parsing algorithm.
+     * A recogniser for the message grammar, compiled from its rules.
+     *
+     * For each rule and starting offset within a message, the recogniser
+     * works out the set of offsets at which a match of that rule could
+     * end, as a bitset. Sequences are matched by stepping the set of
+     * offsets through each rule in turn, and each (rule, offset) pair is
+     * only worked out once per message. This handles any grammar without
+     * left-recursion, including the looping rules 8 and 11; a rule that
+     * refers back to itself without consuming any input is rejected.
+     *
+     * When rule 0 is `8 11` and those rules are in their looping form,
+     * a message matches if it is made up of m matches of rule 42 followed
+     * by n matches of rule 31, where m > n >= 1; this is checked directly.
      */
-    private record EarleyParser(String root, Map<String, Production[]> productions) {
+    static final class MessageValidator {
 
-        // Helper Methods
+        private static final int ROOT = 0;
+        private static final int[][] LOOPING_ROOT = {{8, 11}};
+        private static final int[][] LOOPING_8 = {{42}, {42, 8}};
+        private static final int[][] LOOPING_11 = {{42, 31}, {42, 11, 31}};
+        private static final Pattern TERMINAL_PATTERN = Pattern.compile("^\"([^\"]*)\"$");
 
         /*
-         * Check if a given String matches the grammar.
+         * Marks a (rule, offset) pair whose ends are still being worked out.
          */
-        public boolean matches(final String sentence) {
-            // Format the input into the correct shape
-            final String[] inputs = sentence.split(" +");
-            return matches(inputs);
-        }
+        private static final BitSet IN_PROGRESS = new BitSet();
 
-        /*
-         * Check if a given String matches the grammar.
-         */
-        public boolean matches(final String[] inputs) {
-            // INIT(words)
-            // S <- CREATE-ARRAY(LENGTH(words) + 1)
-            //    for k <- from 0 to LENGTH(words) do
-            final StateSet[] s = IntStream.rangeClosed(0, inputs.length)
-                    // S[k] <- EMPTY-ORDERED-SET
-                    .mapToObj(i -> new StateSet())
-                    .toArray(StateSet[]::new);
-
-            // ADD-TO-SET((γ -> •S, 0), S[0])
-            s[0].add(new State(new Production("_", new String[]{root}), 0, 0));
-
-            // for k <- from 0 to LENGTH(words) do
-            IntStream.rangeClosed(0, inputs.length)
-                    .forEachOrdered(k -> {
-                        // for each state in S[k] do  // S[k] can expand during this loop
-                        s[k].forEachFlux(state -> {
-                            // if not FINISHED(state) then
-                            if (!state.isFinished()) {
-                                // if NEXT-ELEMENT-OF(state) is a nonterminal then
-                                if (state.nextTokenIsNonTerminal()) {
-                                    // PREDICTOR(state, k, grammar)         // non-terminal
-                                    predictor(s, state, k, productions);
-                                } else { // else do
-                                    // SCANNER(state, k, words)             // terminal
-                                    scanner(s, state, k, inputs);
-                                }
-                            } else { // else do
-                                // COMPLETER(state, k)
-                                completer(s, state, k);
-                            }
-                            // end
-                        });
-                        // end
-                    });
-            return s[inputs.length].containsCompletedProduction(root);
+        // Private Members
+
+        private final int[][][] alternatives;
+        private final byte[][] terminals;
+        private final boolean looping;
+
+        // Constructors
+
+        MessageValidator(final int[][][] alternatives, final byte[][] terminals) {
+            this.alternatives = alternatives;
+            this.terminals = terminals;
+            this.looping = alternatives.length > 42
+                    && Arrays.deepEquals(alternatives[ROOT], LOOPING_ROOT)
+                    && Arrays.deepEquals(alternatives[8], LOOPING_8)
+                    && Arrays.deepEquals(alternatives[11], LOOPING_11);
         }
 
+        // Getters
+
         /*
-         * Perform the predictor process, as defined by the Earley parsing
-         * algorithm.
+         * Check if rules 0, 8 and 11 are in their looping form.
          */
-        // procedure PREDICTOR((A → α•Bβ, j), k, grammar)
-        private static void predictor(
-                final StateSet[] s,
-                final State state,
-                final int k,
-                final Map<String, Production[]> productions
-        ) {
-            final String token = state.nextToken();
-            final Production[] productionsForNonTerminal = productions.get(token);
-
-            // for each (B → γ) in GRAMMAR-RULES-FOR(B, grammar) do
-            Stream.of(productionsForNonTerminal)
-                    .forEach(p -> {
-                        // ADD-TO-SET((B → •γ, k), S[k])
-                        final State newState = new State(p, 0, k);
-                        s[k].add(newState);
-                    });
-            // end
+        boolean isLooping() {
+            return looping;
         }
 
+        // Helper Methods
+
         /*
-         * Perform the scanner process, as defined by the Earley parsing
-         * algorithm.
+         * Check if a message matches rule 0.
          */
-        // procedure SCANNER((A → α•aβ, j), k, words)
-        private static void scanner(final StateSet[] s, final State state, final int k, final String[] inputs) {
-            final String input = k < inputs.length ? inputs[k] : null;
-            final String token = state.nextToken();
-            assert token != null : "Token was null!";
-
-            // if a ⊂ PARTS-OF-SPEECH(words[k]) then
-            if (terminalMatchesWord(input, token)) {
-                // ADD-TO-SET((A → αa•β, j), S[k+1])
-                final State newState = new State(state.production, state.position + 1, state.origin);
-                s[k + 1].add(newState);
-            }
-            // end
+        boolean matches(final byte[] message) {
+            return looping
+                    ? matchesLoopingRoot(message)
+                    : matchesRoot(message);
         }
 
         /*
-         * Perform the completer process, as defined by the Earley parsing
-         * algorithm.
+         * Check if a message matches rule 0, using the general recogniser.
          */
-        // procedure COMPLETER((B → γ•, x), k)
-        private static void completer(final StateSet[] s, final State state, final int k) {
-            // for each (A → α•Bβ, j) in S[x] do
-            s[state.origin].forEachFlux(_state -> {
-                if (state.production.id.equals(_state.nextToken())) {
-                    // ADD-TO-SET((A → αB•β, j), S[k])
-                    final State newState = new State(_state.production, _state.position + 1, _state.origin);
-                    s[k].add(newState);
-                }
-            });
-            // end
+        boolean matchesRoot(final byte[] message) {
+            return new Recogniser(message).ends(ROOT, 0).get(message.length);
         }
 
         /*
-         * Check if the given literal (non-terminal) token matches the given
-         * input word.
-         *
-         * Since this is dealing with literals, we can simply strip the \"\"s off
-         * the token and do a direct `String` comparison?
+         * Check if a message matches rule 0, assuming rules 0, 8 and 11 are
+         * in their looping form.
          */
-        private static boolean terminalMatchesWord(final String input, final String token) {
-            return token.substring(1, token.length() - 1).equals(input);
+        boolean matchesLoopingRoot(final byte[] message) {
+            return new Recogniser(message).matchesLoopingRoot();
         }
 
+        // Static Helper Methods
+
         /*
-         * Compile the given grammar rules into a format that can be used by this
-         * Earley parser.
+         * Compile the rules, keyed by their number, into a validator.
          *
-         * Rules should be in the form: `A -> x y | "z"`.
+         * Rules should be in the form `x y | z` or `"a"`; a terminal can only
+         * appear as a rule on its own.
          */
-        private static EarleyParser compile(final String[] rules) {
-            String root = null;
-            final Map<String, Production[]> productions = new TreeMap<>();
-            for (final String rule : rules) {
-                final String[] parts = rule.split(" *-> *");
-                final String id = parts[0];
-                if (root == null) {
-                    // For simplicity, assume the root rule is the first one defined...
-                    root = id;
+        static MessageValidator compile(final Map<Integer, String> rules) {
+            final int size = rules.keySet().stream().mapToInt(Integer::intValue).max().orElse(0) + 1;
+            final int[][][] alternatives = new int[size][][];
+            final byte[][] terminals = new byte[size][];
+
+            rules.forEach((id, rule) -> {
+                final Matcher terminal = TERMINAL_PATTERN.matcher(rule);
+                if (terminal.matches()) {
+                    terminals[id] = terminal.group(1).getBytes(StandardCharsets.US_ASCII);
+                    return;
+                }
+                if (rule.indexOf('"') >= 0) {
+                    throw new IllegalArgumentException("Rule " + id + " must be either a single terminal or references to other rules: " + rule);
                 }
 
-                final String pattern = parts[1];
-                final Production[] disjunctions = Stream.of(pattern.split(" *[|] *"))
-                        .map(disjunction -> new Production(id, disjunction.split(" +")))
-                        .toArray(Production[]::new);
-
-                productions.put(id, disjunctions);
-            }
-
-            return new EarleyParser(root, productions);
-        }
-
-    }
-
-    /*
-     * A production, as defined by the Earley parsing algorithm.
-     */
-    private record Production(String id, String[] tokens) {
-
-        // To String
-
-        @Override
-        public String toString() {
-            return "(" + id + " -> " + String.join(" ", tokens) + ")";
-        }
-
-    }
-
-    /*
-     * A state in the Earley parsing process.
-     *
-     * In practice, this is a tuple of:
-     *   - a production;
-     *   - the current position within that production to match against;
-     *   - the original offset that this production matched from.
-     */
-    private static final class State {
-
-        // Private Members
-
-        private final Production production;
-        private final int position;
-        private final int origin;
-
-        private final String rep;
-
-        // Constructors
-
-        State(final Production production, final int position, final int origin) {
-            this.production = production;
-            this.position = position;
-            this.origin = origin;
+                alternatives[id] = Stream.of(rule.split(" *[|] *"))
+                        .map(alternative -> Stream.of(alternative.trim().split(" +"))
+                                .mapToInt(Integer::parseInt)
+                                .peek(ref -> {
+                                    if (ref >= size || !rules.containsKey(ref)) {
+                                        throw new IllegalArgumentException("Rule " + id + " refers to unknown rule " + ref);
+                                    }
+                                })
+                                .toArray())
+                        .toArray(int[][]::new);
+            });
 
-            final StringBuilder repBuilder = new StringBuilder(production.id);
-            repBuilder.append(" -> ");
-            for (int i = 0; i <= production.tokens.length; i++) {
-                if (i == position) {
-                    repBuilder.append("•");
-                }
-                if (i < production.tokens.length) {
-                    repBuilder.append(production.tokens[i]);
-                }
+            if (!rules.containsKey(ROOT)) {
+                throw new IllegalArgumentException("No rule " + ROOT + " was defined");
             }
-            repBuilder.append(", ");
-            repBuilder.append(origin);
-            this.rep = repBuilder.toString();
-        }
-
-        // Helper Methods
 
-        /*
-         * Check if this production has finished.
-         */
-        public boolean isFinished() {
-            return position >= production.tokens.length;
+            return new MessageValidator(alternatives, terminals);
         }
 
-        /*
-         * Get the next token in the production.
-         */
-        public String nextToken() {
-            return position < production.tokens.length ? production.tokens[position] : null;
-        }
+        // Helper Classes
 
         /*
-         * Check if the next token in the production is non-terminal.
+         * The state of matching a single message.
          */
-        public boolean nextTokenIsNonTerminal() {
-            final String next = nextToken();
-            assert next != null : "Next token was null!";
+        private final class Recogniser {
 
-            return !(next.startsWith("\"") && next.endsWith("\""));
-        }
+            // Private Members
 
-        // Equals & Hash Code
+            private final byte[] message;
+            private final BitSet[][] memo;
 
-        @Override
-        public boolean equals(final Object o) {
-            if (this == o) return true;
-            if (o == null || getClass() != o.getClass()) return false;
-            final State state = (State) o;
-            return position == state.position
-                    && origin == state.origin
-                    && production.equals(state.production);
-        }
+            // Constructors
 
-        @Override
-        public int hashCode() {
-            return Objects.hash(production, position, origin);
-        }
+            Recogniser(final byte[] message) {
+                this.message = message;
+                this.memo = new BitSet[alternatives.length][message.length + 1];
+            }
 
-        // To String
+            // Helper Methods
+
+            /*
+             * Check if the message is m matches of rule 42 followed by n
+             * matches of rule 31, where m > n >= 1.
+             */
+            boolean matchesLoopingRoot() {
+                BitSet heads = singleton(0);
+                for (int m = 1; !heads.isEmpty(); m++) {
+                    heads = step(42, heads);
+
+                    BitSet tails = heads;
+                    for (int n = 1; n < m && !tails.isEmpty(); n++) {
+                        tails = step(31, tails);
+                        if (tails.get(message.length)) return true;
+                    }
+                }
+                return false;
+            }
 
-        @Override
-        public String toString() {
-            return "((" + rep + "))";
-        }
+            /*
+             * Find every offset at which a match of a rule, starting at the
+             * given offset, could end.
+             */
+            BitSet ends(final int rule, final int start) {
+                final BitSet cached = memo[rule][start];
+                if (cached == IN_PROGRESS) {
+                    throw new IllegalArgumentException("Rule " + rule + " is left-recursive");
+                }
+                if (cached != null) {
+                    return cached;
+                }
 
-    }
+                final BitSet result = new BitSet(message.length + 1);
 
-    /*
-     * A set of states.
-     */
-    private static final class StateSet extends LinkedHashSet<State> {
+                final byte[] terminal = terminals[rule];
+                if (terminal != null) {
+                    if (Arrays.equals(
+                            message, start, Math.min(message.length, start + terminal.length),
+                            terminal, 0, terminal.length)) {
+                        result.set(start + terminal.length);
+                    }
+                    memo[rule][start] = result;
+                    return result;
+                }
 
-        // Helper Methods
+                memo[rule][start] = IN_PROGRESS;
+                for (final int[] alternative : alternatives[rule]) {
+                    BitSet offsets = singleton(start);
+                    for (int i = 0; i < alternative.length && !offsets.isEmpty(); i++)
+                        offsets = step(alternative[i], offsets);
+                    result.or(offsets);
+                }
+                memo[rule][start] = result;
+                return result;
+            }
 
-        /*
-         * Check if this StateSet contains a completed production with the
-         * specified LHS>
-         */
-        boolean containsCompletedProduction(final String id) {
-            return stream()
-                    .filter(state -> state.production.id.equals(id))
-                    .anyMatch(State::isFinished);
-        }
+            /*
+             * Find every offset at which a match of a rule, starting at any
+             * of the given offsets, could end.
+             */
+            private BitSet step(final int rule, final BitSet starts) {
+                final BitSet result = new BitSet(message.length + 1);
+                for (int start = starts.nextSetBit(0); start >= 0 && start <= message.length; start = starts.nextSetBit(start + 1))
+                    result.or(ends(rule, start));
+                return result;
+            }
 
-        /*
-         * Iterate over this StateSet, taking into account any changes that
-         * have occurred during the current iteration.
-         */
-        void forEachFlux(final Consumer<State> consumer) {
-            for (int i = 0; i < size(); i++) {
-                // THIS IS REALLY HACKY...
-                // Java doesn't really like iterating over a changing collection
-                //    and we can't directly index the elements in a Set, so...
-                //    ... yeah, this is a monstrosity but oh well!
-                final List<State> copy = new ArrayList<>(this);
-                final State state = copy.get(i);
-                consumer.accept(state);
+            /*
+             * Create a bitset containing a single offset.
+             */
+            private BitSet singleton(final int offset) {
+                final BitSet result = new BitSet(message.length + 1);
+                result.set(offset);
+                return result;
             }
+
         }
 
     }
@@ -1,8 +1,10 @@
 package net.anomalyxii.aoc.aoc2020;
 
+import net.anomalyxii.aoc.annotations.Optimised;
 import net.anomalyxii.aoc.annotations.Part;
 import net.anomalyxii.aoc.annotations.Solution;
 import net.anomalyxii.aoc.context.SolutionContext;
+import net.anomalyxii.aoc.result.LongTuple;
 
 import java.util.function.BiFunction;
 
@@ -45,6 +47,34 @@ public class Day2 {
                 .count();
     }
 
+    // ****************************************
+    // Optimised Challenge Methods
+    // ****************************************
+
+    /**
+     * An optimised solution for parts 1 and 2.
+     *
+     * @param context the {@link SolutionContext} to solve against
+     * @return a {@link LongTuple} containing the answers for both parts
+     */
+    @Optimised
+    public LongTuple calculateAnswers(final SolutionContext context) {
+        long validForOldCompany = 0;
+        long validForNewCompany = 0;
+        for (final String line : context.read()) {
+            // e.g. "1-3 a: abcde" => ["1", "3", "a", "abcde"]
+            final String[] parts = line.split("[-: ]+", 4);
+            final int first = Integer.parseInt(parts[0]);
+            final int second = Integer.parseInt(parts[1]);
+            final char chr = parts[2].charAt(0);
+
+            if (isPasswordValidForOldCompany(chr, first, second, parts[3])) ++validForOldCompany;
+            if (isPasswordValidForNewCompany(chr, first, second, parts[3])) ++validForNewCompany;
+        }
+
+        return new LongTuple(validForOldCompany, validForNewCompany);
+    }
+
     // ****************************************
     // Helper Members
     // ****************************************
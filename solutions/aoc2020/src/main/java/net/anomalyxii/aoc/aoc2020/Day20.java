@@ -1,14 +1,17 @@
 package net.anomalyxii.aoc.aoc2020;
 
+import net.anomalyxii.aoc.annotations.Optimised;
 import net.anomalyxii.aoc.annotations.Part;
 import net.anomalyxii.aoc.annotations.Solution;
 import net.anomalyxii.aoc.context.SolutionContext;
+import net.anomalyxii.aoc.result.LongTuple;
+import net.anomalyxii.aoc.utils.geometry.Grid;
+import net.anomalyxii.aoc.utils.geometry.GridView;
+import net.anomalyxii.aoc.utils.geometry.GridView.Symmetry;
 
-import java.util.*;
-import java.util.function.Function;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
-import java.util.stream.Stream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 import static net.anomalyxii.aoc.annotations.Part.PartNumber.I;
 import static net.anomalyxii.aoc.annotations.Part.PartNumber.II;
@@ -20,7 +23,29 @@ import static net.anomalyxii.aoc.annotations.Part.PartNumber.II;
 public class Day20 {
 
     private static final char NOISE_CHAR = '#';
-    private static final char MONSTER_CHAR = 'O';
+
+    private static final Symmetry[] SYMMETRIES = Symmetry.values();
+
+    // ----------------------
+    // |                  # |
+    // |#    ##    ##    ###|
+    // | #  #  #  #  #  #   |
+    // ----------------------
+    private static final String[] SEA_MONSTER = {
+            "                  # ",
+            "#    ##    ##    ###",
+            " #  #  #  #  #  #   ",
+    };
+    private static final int SEA_MONSTER_WIDTH = SEA_MONSTER[0].length();
+    private static final int SEA_MONSTER_HEIGHT = SEA_MONSTER.length;
+
+    /*
+     * Each row of the sea monster as a bitmask, where bit `x` is set if
+     * column `x` is part of the sea monster.
+     */
+    private static final long[] SEA_MONSTER_ROWS = Arrays.stream(SEA_MONSTER)
+            .mapToLong(row -> toBitmask(row.toCharArray()))
+            .toArray();
 
     // ****************************************
     // Challenge Methods
@@ -34,17 +59,10 @@ public class Day20 {
      */
     @Part(part = I)
     public long calculateAnswerForPart1(final SolutionContext context) {
-        final Map<String, TileContainer> tiles = readTiles(context);
-
-        final List<List<Tile>> image = scanImage(tiles);
+        final List<Tile> tiles = readTiles(context);
+        final EdgeIndex index = EdgeIndex.of(tiles);
 
-        final List<Tile> firstRow = image.getFirst();
-        final List<Tile> lastRow = image.getLast();
-
-        return firstRow.getFirst().id
-                * lastRow.getFirst().id
-                * firstRow.getLast().id
-                * lastRow.getLast().id;
+        return multiplyCornerIds(tiles, index);
     }
 
     /**
@@ -55,64 +73,30 @@ public class Day20 {
      */
     @Part(part = II)
     public long calculateAnswerForPart2(final SolutionContext context) {
-        final Map<String, TileContainer> tiles = readTiles(context);
-
-        // Start with a corner tile and rotate it so that it has
-        //   tiles bordering it to the left and south:
-
-        final List<List<Tile>> image = scanImage(tiles);
-
-        final int imgWidth = image.getFirst().size();
-        final int imgHeight = image.size();
-
-        final int tileWidth = image.getFirst().getFirst().width - 2;
-        final int tileHeight = image.getFirst().getFirst().height - 2;
-
-        char[][] rasterisedImage = new char[imgHeight * tileHeight][];
-        for (int iy = 0; iy < imgHeight; iy++) {
-            final List<Tile> iRow = image.get(iy);
-            for (int ty = 0; ty < tileHeight; ty++) {
-                final int y = iy * tileHeight + ty;
-                rasterisedImage[y] = new char[imgWidth * tileWidth];
-                for (int ix = 0; ix < imgWidth; ix++) {
-                    for (int tx = 0; tx < tileWidth; tx++) {
-                        final int x = ix * tileWidth + tx;
-                        rasterisedImage[y][x] = iRow.get(ix).tile[ty + 1][tx + 1];
-                    }
-                }
-            }
-        }
+        final List<Tile> tiles = readTiles(context);
+        final EdgeIndex index = EdgeIndex.of(tiles);
 
-        // Now we can _finally_ look for the sea monster...
-        // ----------------------
-        // |                  # |
-        // |#    ##    ##    ###|
-        // | #  #  #  #  #  #   |
-        // ----------------------
-
-        for (int r = 0; r < 4; r++) {
-            boolean found = findAndEnhanceSeaMonster(rasterisedImage);
-            if (found) break;
-
-            // flip the image and look some more
-            rasterisedImage = flip(rasterisedImage, true, false);
-            found = findAndEnhanceSeaMonster(rasterisedImage);
-            if (found) break;
-            // flip a different way the image and look some more
-            rasterisedImage = flip(rasterisedImage, false, true);
-            found = findAndEnhanceSeaMonster(rasterisedImage);
-            if (found) break;
-            // flip the image another way and look even more
-            rasterisedImage = flip(rasterisedImage, true, false);
-            found = findAndEnhanceSeaMonster(rasterisedImage);
-            if (found) break;
-
-            // Rotate the image and go around again...
-            rasterisedImage = flip(rasterisedImage, false, true); // restore first...
-            rasterisedImage = rotate(rasterisedImage, 90);
-        }
+        final Grid image = assembleImage(tiles, index);
+        return calculateWaterRoughness(image);
+    }
+
+    // ****************************************
+    // Optimised Challenge Methods
+    // ****************************************
+
+    /**
+     * An optimised solution for parts 1 and 2.
+     *
+     * @param context the {@link SolutionContext} to solve against
+     * @return a {@link LongTuple} containing the answers for both parts
+     */
+    @Optimised
+    public LongTuple calculateAnswers(final SolutionContext context) {
+        final List<Tile> tiles = readTiles(context);
+        final EdgeIndex index = EdgeIndex.of(tiles);
 
-        return countNoiseInImage(rasterisedImage);
+        final Grid image = assembleImage(tiles, index);
+        return new LongTuple(multiplyCornerIds(tiles, index), calculateWaterRoughness(image));
     }
 
     // ****************************************
@@ -120,28 +104,35 @@ public class Day20 {
     // ****************************************
 
     /**
-     * Find the {@link Set} of {@link Edge Borders} that match between the
-     * two given {@link Tile Tiles}.
+     * Work out the edge codes of a {@link Tile} in each of its eight
+     * orientations, where orientation {@code i} is the {@code i}th
+     * {@link Symmetry}.
      *
-     * @param tile  the {@link Tile} to check
-     * @param other the {@link Tile} to compare to
-     * @return a {@link Set} of {@link Edge Borders} that match
+     * @param tile the {@link Tile}
+     * @return the edge codes, indexed by orientation and then {@link Edge}
      */
-    static Set<Edge> findMatchingBorders(final Tile tile, final Tile other) {
-        final Set<Edge> borders = EnumSet.noneOf(Edge.class);
-        if (canBorderMatchWithTile(tile.top, other) != EdgeMatchType.NO_MATCH) {
-            borders.add(Edge.TOP);
-        }
-        if (canBorderMatchWithTile(tile.bottom, other) != EdgeMatchType.NO_MATCH) {
-            borders.add(Edge.BOTTOM);
-        }
-        if (canBorderMatchWithTile(tile.left, other) != EdgeMatchType.NO_MATCH) {
-            borders.add(Edge.LEFT);
-        }
-        if (canBorderMatchWithTile(tile.right, other) != EdgeMatchType.NO_MATCH) {
-            borders.add(Edge.RIGHT);
-        }
-        return borders;
+    static int[][] orientEdges(final Tile tile) {
+        final int[][] orientations = new int[SYMMETRIES.length][];
+        for (int i = 0; i < SYMMETRIES.length; i++)
+            orientations[i] = readEdges(tile.grid.view().transform(SYMMETRIES[i]));
+        return orientations;
+    }
+
+    /**
+     * Find the orientation of a tile that places the given edge code on
+     * the given side.
+     *
+     * @param orientations the edge codes of the tile in each orientation
+     * @param side         the {@link Edge} the code must be on
+     * @param edge         the edge code
+     * @return the orientation
+     * @throws IllegalStateException if no orientation places the code on that side
+     */
+    static int findOrientation(final int[][] orientations, final Edge side, final int edge) {
+        for (int orientation = 0; orientation < orientations.length; orientation++)
+            if (orientations[orientation][side.ordinal()] == edge)
+                return orientation;
+        throw new IllegalStateException("No orientation places edge " + edge + " on the " + side);
     }
 
     // ****************************************
@@ -151,411 +142,270 @@ public class Day20 {
     /*
      * Read in the tiles.
      */
-    private Map<String, TileContainer> readTiles(final SolutionContext context) {
-        final String[] lastTileId = new String[1];
-        final Map<String, List<String>> rawTiles = new HashMap<>();
-        // Reset
+    private static List<Tile> readTiles(final SolutionContext context) {
+        final List<Tile> tiles = new ArrayList<>();
+
+        final String[] name = new String[1];
+        final List<char[]> rows = new ArrayList<>();
         context.consume(line -> {
             if (line.isBlank()) {
-                // Reset
-                lastTileId[0] = null;
+                if (name[0] != null) tiles.add(Tile.createTile(name[0], rows.toArray(char[][]::new)));
+                name[0] = null;
+                rows.clear();
                 return;
             }
 
             if (line.startsWith("Tile ")) {
-                lastTileId[0] = line.substring(0, line.length() - 1);
+                name[0] = line.substring(0, line.length() - 1);
                 return;
             }
 
-            if (lastTileId[0] != null) {
-                rawTiles.computeIfAbsent(lastTileId[0], x -> new ArrayList<>()).add(line);
+            if (name[0] != null) {
+                rows.add(line.toCharArray());
             }
         });
 
-        final Set<Tile> tiles = rawTiles.entrySet().stream()
-                .map(entry -> Tile.createTile(entry.getKey(), entry.getValue().stream().map(String::toCharArray).toArray(char[][]::new)))
-                .collect(Collectors.toSet());
-
-
-        // Lazily populate the adjoining containers otherwise things just get complicated
-        final Map<String, TileContainer> containers = tiles.stream()
-                .map(tile -> new TileContainer(tile, new EnumMap<>(Edge.class)))
-                .collect(Collectors.toMap(tile -> tile.tile.name, Function.identity()));
-
-        tiles.forEach(tile -> {
-            final TileContainer container = containers.get(tile.name);
-            tiles.stream()
-                    .filter(other -> tile != other) // Ignore ourselves!
-                    .forEach(other -> {
-                        final TileContainer otherContainer = containers.get(other.name);
-                        final Set<Edge> borders = findMatchingBorders(tile, other);
-                        borders.forEach(border -> {
-                            final TileContainer replaced = container.borderingTiles.put(border, otherContainer);
-                            if (replaced != null) {
-                                throw new AssertionError("Replaced a bordering tile: this should not happen!");
-                            }
-                        });
-                    });
-        });
-
-        return containers;
-    }
-
-    /*
-     * Scan all the tiles to determine the correct layout of all the tiles.
-     */
-    private List<List<Tile>> scanImage(final Map<String, TileContainer> tiles) {
-        final TileContainer corner = tiles.values().stream()
-                .filter(TileContainer::isCornerTile)
-                .findAny()
-                .orElseThrow(AssertionError::new);
-
-        final boolean flipX = !corner.borderingTiles.containsKey(Edge.RIGHT);
-        final boolean flipY = !corner.borderingTiles.containsKey(Edge.BOTTOM);
-
-        // Create a copy of the corner tile and remove the original...
-        final char[][] copy = flip(corner.tile.tile, flipX, flipY);
-        final Tile copyTile = Tile.createTile(corner.tile.name, copy);
-        tiles.remove(copyTile.name);
-
-        return scanImageFromCornerTile(tiles, copyTile);
+        if (name[0] != null) tiles.add(Tile.createTile(name[0], rows.toArray(char[][]::new)));
+        return tiles;
     }
 
     /*
-     * Scan all the tiles to create an image that starts with the specified tile.
+     * Multiply the IDs of the four corner tiles.
+     *
+     * The corners are the only tiles with two edges that do not match any
+     * other tile, so there is no need to assemble the image first.
      */
-    private List<List<Tile>> scanImageFromCornerTile(final Map<String, TileContainer> tiles, final Tile start) {
-        // Represent the image as a 2D List of tiles
-        final List<List<Tile>> image = new ArrayList<>();
-
-        Tile previous = start;
-        do {
-            final List<Tile> row = scanRowFromBorderTile(tiles, previous);
-            image.add(row);
-
-            // Reached the end of the row...
-            //   if there are still tiles remaining, we'll need to
-            //   work out what the start of the next row should be...
-            final EdgeMatchResult result = findMatchForEdge(tiles, previous.bottom);
-            if (result == null) {
-                break;
-            }
-
-            final char[][] copy2 = rotateToMatchBottomEdge(result);
-            final Tile copyTile2 = Tile.createTile(result.match.tile.name, copy2);
-            if (!doBordersMatch(previous.bottom, copyTile2.top)) {
-                throw new AssertionError("Got our alignment wrong for match type " + result.matchType);
+    private static long multiplyCornerIds(final List<Tile> tiles, final EdgeIndex index) {
+        long result = 1;
+        int corners = 0;
+        for (final Tile tile : tiles) {
+            if (index.countUnmatchedEdges(tile) == 2) {
+                result *= tile.id;
+                ++corners;
             }
+        }
 
-            tiles.remove(result.match.tile.name);
-
-            previous = copyTile2;
-        } while (!tiles.isEmpty());
-        return image;
+        if (corners != 4) {
+            throw new IllegalStateException("Expected 4 corner tiles, but found " + corners);
+        }
+        return result;
     }
 
     /*
-     * Scan all the tiles to create a row that starts with the specified tile.
+     * Assemble the tiles into a single image, with the borders of each
+     * tile removed.
+     *
+     * Starting from a corner, oriented so its unmatched edges face up and
+     * left, each tile is found by looking up the edge it must share with
+     * the tile to its left (or, at the start of a row, the tile above) in
+     * the edge index.
      */
-    private List<Tile> scanRowFromBorderTile(final Map<String, TileContainer> tiles, final Tile start) {
-        final List<Tile> row = new ArrayList<>();
-        row.add(start);
-
-        Tile previous = start;
-        do {
-            // Get the right-hand border of the previous tile
-            final EdgeMatchResult result = findMatchForEdge(tiles, previous.right);
-
-            // If there are no tiles, then we've reached the end of this row!
-            if (result == null) {
-                break;
-            }
-
-            final char[][] copy = rotateToMatchRightEdge(result);
-            final Tile copyTile = Tile.createTile(result.match.tile.name, copy);
-            if (!doBordersMatch(previous.right, copyTile.left)) {
-                throw new AssertionError("Got our alignment wrong for match type " + result.matchType);
-            }
-
-            tiles.remove(result.match.tile.name);
-            row.add(copyTile);
+    private static Grid assembleImage(final List<Tile> tiles, final EdgeIndex index) {
+        final int size = (int) Math.round(Math.sqrt(tiles.size()));
+        if (size * size != tiles.size()) {
+            throw new IllegalStateException("Expected a square number of tiles, but got " + tiles.size());
+        }
 
-            previous = copyTile;
-        } while (!tiles.isEmpty());
+        final int[][][] orientations = tiles.stream()
+                .map(Day20::orientEdges)
+                .toArray(int[][][]::new);
+
+        final int inner = tiles.getFirst().width - 2;
+        final int[][] image = new int[size * inner][size * inner];
+
+        final int[] placedTiles = new int[size * size];
+        final int[] placedOrientations = new int[size * size];
+        for (int row = 0; row < size; row++) {
+            for (int col = 0; col < size; col++) {
+                final int tile;
+                final int orientation;
+                if (col > 0) {
+                    final int left = placedTiles[row * size + col - 1];
+                    final int edge = orientations[left][placedOrientations[row * size + col - 1]][Edge.RIGHT.ordinal()];
+                    tile = index.findOtherTile(edge, left);
+                    orientation = findOrientation(orientations[tile], Edge.LEFT, edge);
+                } else if (row > 0) {
+                    final int above = placedTiles[(row - 1) * size];
+                    final int edge = orientations[above][placedOrientations[(row - 1) * size]][Edge.BOTTOM.ordinal()];
+                    tile = index.findOtherTile(edge, above);
+                    orientation = findOrientation(orientations[tile], Edge.TOP, edge);
+                } else {
+                    tile = findCorner(tiles, index);
+                    orientation = findTopLeftOrientation(orientations[tile], index);
+                }
 
-        return row;
-    }
+                placedTiles[row * size + col] = tile;
+                placedOrientations[row * size + col] = orientation;
 
-    /*
-     * Try and find the sea monster, and make it stand out.
-     */
-    private static boolean findAndEnhanceSeaMonster(final char[][] rasterisedImage) {
-        boolean anyFound = false;
-
-        // We know that the monster can't be in the bottom two rows of the image...
-        for (int y = 0; y < rasterisedImage.length - 2; y++) {
-            // We know that the monster can't be under 19 "pixels" from the edge...
-            for (int x = 19; x < rasterisedImage[y].length - 1; x++) {
-                final char c = rasterisedImage[y][x];
-
-                final boolean foundHead = c == NOISE_CHAR
-                        && rasterisedImage[y + 1][x - 1] == NOISE_CHAR
-                        && rasterisedImage[y + 1][x] == NOISE_CHAR
-                        && rasterisedImage[y + 1][x + 1] == NOISE_CHAR;
-
-                final boolean foundBody = rasterisedImage[y + 1][x - 18] == NOISE_CHAR
-                        && rasterisedImage[y + 1][x - 13] == NOISE_CHAR
-                        && rasterisedImage[y + 1][x - 12] == NOISE_CHAR
-                        && rasterisedImage[y + 1][x - 7] == NOISE_CHAR
-                        && rasterisedImage[y + 1][x - 6] == NOISE_CHAR
-                        && rasterisedImage[y + 2][x - 17] == NOISE_CHAR
-                        && rasterisedImage[y + 2][x - 14] == NOISE_CHAR
-                        && rasterisedImage[y + 2][x - 11] == NOISE_CHAR
-                        && rasterisedImage[y + 2][x - 8] == NOISE_CHAR
-                        && rasterisedImage[y + 2][x - 5] == NOISE_CHAR
-                        && rasterisedImage[y + 2][x - 2] == NOISE_CHAR;
-
-                if (foundHead && foundBody) {
-                    anyFound = true;
-
-                    // Head
-                    rasterisedImage[y][x] = MONSTER_CHAR;
-                    rasterisedImage[y + 1][x - 1] = MONSTER_CHAR;
-                    rasterisedImage[y + 1][x] = MONSTER_CHAR;
-                    rasterisedImage[y + 1][x + 1] = MONSTER_CHAR;
-
-                    // Body
-                    rasterisedImage[y + 1][x - 18] = MONSTER_CHAR;
-                    rasterisedImage[y + 1][x - 13] = MONSTER_CHAR;
-                    rasterisedImage[y + 1][x - 12] = MONSTER_CHAR;
-                    rasterisedImage[y + 1][x - 7] = MONSTER_CHAR;
-                    rasterisedImage[y + 1][x - 6] = MONSTER_CHAR;
-                    rasterisedImage[y + 2][x - 17] = MONSTER_CHAR;
-                    rasterisedImage[y + 2][x - 14] = MONSTER_CHAR;
-                    rasterisedImage[y + 2][x - 11] = MONSTER_CHAR;
-                    rasterisedImage[y + 2][x - 8] = MONSTER_CHAR;
-                    rasterisedImage[y + 2][x - 5] = MONSTER_CHAR;
-                    rasterisedImage[y + 2][x - 2] = MONSTER_CHAR;
-                }
+                final GridView view = tiles.get(tile).grid.view()
+                        .transform(SYMMETRIES[orientation])
+                        .window(1, 1, inner, inner);
+                for (int y = 0; y < inner; y++)
+                    for (int x = 0; x < inner; x++)
+                        image[row * inner + y][col * inner + x] = view.get(x, y);
             }
         }
 
-        return anyFound;
+        return Grid.of(image);
     }
 
     /*
-     * Rotate the match result so that the tile will match against the
-     * right-hand edge.
+     * Find any corner tile.
      */
-    private char[][] rotateToMatchRightEdge(final EdgeMatchResult result) {
-        return switch (result.matchType) {
-            case TOP ->
-                // Make it match on the left by rotating -90 degrees and flipping
-                    flip(rotate(result.match.tile.tile, 270), false, true);
-            case TOP_FLIPPED ->
-                // Make it match on the left by rotating -90 degrees
-                    rotate(result.match.tile.tile, 270);
-            case LEFT ->
-                // Perfect match!
-                    result.match.tile.tile;
-            case LEFT_FLIPPED ->
-                // Almost a perfect match, make it match by flipping
-                    flip(result.match.tile.tile, false, true);
-            case BOTTOM ->
-                // Make it match on the left by rotating 90 degrees
-                    rotate(result.match.tile.tile, 90);
-            case BOTTOM_FLIPPED ->
-                // Make it match on the left by rotating 90 degrees and flipping
-                    flip(rotate(result.match.tile.tile, 90), false, true);
-            case RIGHT ->
-                // Make it match on the left by flipping
-                    flip(result.match.tile.tile, true, false);
-            case RIGHT_FLIPPED ->
-                // Make it match on the left by rotating 180 degrees
-                    rotate(result.match.tile.tile, 180);
-            default -> throw new AssertionError("Can not happen!");
-        };
+    private static int findCorner(final List<Tile> tiles, final EdgeIndex index) {
+        for (int i = 0; i < tiles.size(); i++)
+            if (index.countUnmatchedEdges(tiles.get(i)) == 2)
+                return i;
+        throw new IllegalStateException("No corner tile found");
     }
 
     /*
-     * Rotate the match result so that the tile will match against the
-     * bottom edge.
+     * Find the orientation of a corner tile that leaves its unmatched
+     * edges at the top and the left.
      */
-    private char[][] rotateToMatchBottomEdge(final EdgeMatchResult result) {
-        return switch (result.matchType) {
-            case TOP ->
-                // Perfect match!
-                    result.match.tile.tile;
-            case TOP_FLIPPED ->
-                // Almost a perfect match, make it match by flipping
-                    flip(result.match.tile.tile, true, false);
-            case LEFT ->
-                // Make it match on the top by rotating 90 degrees and flipping
-                    flip(rotate(result.match.tile.tile, 90), true, false);
-            case LEFT_FLIPPED ->
-                // Make it match on the top by rotating 90 degrees
-                    rotate(result.match.tile.tile, 90);
-            case BOTTOM ->
-                // Make it match on the top by flipping
-                    flip(result.match.tile.tile, false, true);
-            case BOTTOM_FLIPPED ->
-                // Make it match on the top by rotating 180 degrees
-                    rotate(result.match.tile.tile, 180);
-            case RIGHT ->
-                // Make it match on the top by rotating -90 degrees
-                    rotate(result.match.tile.tile, 270);
-            case RIGHT_FLIPPED ->
-                // Make it match on the left by rotating -90 degrees and flipping
-                    flip(rotate(result.match.tile.tile, 270), true, false);
-            default -> throw new AssertionError("Can not happen!");
-        };
+    private static int findTopLeftOrientation(final int[][] orientations, final EdgeIndex index) {
+        for (int orientation = 0; orientation < orientations.length; orientation++) {
+            final int[] edges = orientations[orientation];
+            if (index.isUnmatched(edges[Edge.TOP.ordinal()]) && index.isUnmatched(edges[Edge.LEFT.ordinal()]))
+                return orientation;
+        }
+        throw new IllegalStateException("Corner tile can not be oriented to the top-left");
     }
 
     /*
-     * Find a tile that matches the specified edge.
+     * Rasterise the assembled image, find the sea monsters and count how
+     * much of the remaining noise is rough water.
      */
-    private EdgeMatchResult findMatchForEdge(final Map<String, TileContainer> tiles, final char[] edgeToMatch) {
-        // Find a Tile that matches that edge
-        EdgeMatchResult result = null;
-        for (final TileContainer candidate : tiles.values()) {
-            final EdgeMatchType match = canBorderMatchWithTile(edgeToMatch, candidate.tile);
-            if (match != EdgeMatchType.NO_MATCH) {
-                result = new EdgeMatchResult(candidate, match);
-                break;
-            }
+    private static long calculateWaterRoughness(final Grid image) {
+        final long noise = image.count(NOISE_CHAR);
+        for (final Symmetry symmetry : SYMMETRIES) {
+            final GridView view = image.view().transform(symmetry);
+            final int monsterCells = findSeaMonsters(toBitRows(view), view.width());
+            if (monsterCells > 0)
+                return noise - monsterCells;
         }
-        return result;
+
+        throw new IllegalStateException("No sea monsters found :(");
     }
 
     /*
-     * Check if the given `Tile` can match against the specified edge.
+     * Find every sea monster in an orientation of the image, and count the
+     * cells that are part of at least one of them.
+     *
+     * Each row of the image is a bitmask, so checking for a sea monster at
+     * a given position is three shifts and ANDs against the rows of the
+     * sea monster.
      */
-    private static EdgeMatchType canBorderMatchWithTile(final char[] edge, final Tile other) {
-        if (edge.length == other.top.length) {
-            if (doBordersMatch(edge, other.top)) {
-                return EdgeMatchType.TOP;
-            }
-            if (doBordersMatch(edge, flipEdge(other.top))) {
-                return EdgeMatchType.TOP_FLIPPED;
-            }
-        }
-
-        if (edge.length == other.left.length) {
-            if (doBordersMatch(edge, other.left)) {
-                return EdgeMatchType.LEFT;
-            }
-            if (doBordersMatch(edge, flipEdge(other.left))) {
-                return EdgeMatchType.LEFT_FLIPPED;
+    private static int findSeaMonsters(final long[][] image, final int width) {
+        final long[][] monster = new long[image.length][image.length == 0 ? 0 : image[0].length];
+        for (int y = 0; y <= image.length - SEA_MONSTER_HEIGHT; y++) {
+            for (int x = 0; x <= width - SEA_MONSTER_WIDTH; x++) {
+                if (!isSeaMonsterAt(image, x, y)) continue;
+                for (int dy = 0; dy < SEA_MONSTER_HEIGHT; dy++)
+                    orBits(monster[y + dy], x, SEA_MONSTER_ROWS[dy]);
             }
         }
 
-        if (edge.length == other.bottom.length) {
-            if (doBordersMatch(edge, other.bottom)) {
-                return EdgeMatchType.BOTTOM;
-            }
-            if (doBordersMatch(edge, flipEdge(other.bottom))) {
-                return EdgeMatchType.BOTTOM_FLIPPED;
-            }
-        }
+        int monsterCells = 0;
+        for (final long[] row : monster)
+            for (final long word : row)
+                monsterCells += Long.bitCount(word);
+        return monsterCells;
+    }
 
-        if (edge.length == other.right.length) {
-            if (doBordersMatch(edge, other.right)) {
-                return EdgeMatchType.RIGHT;
-            }
-            if (doBordersMatch(edge, flipEdge(other.right))) {
-                return EdgeMatchType.RIGHT_FLIPPED;
-            }
-        }
+    /*
+     * Check if there is a sea monster with its top-left at the given
+     * position.
+     */
+    private static boolean isSeaMonsterAt(final long[][] image, final int x, final int y) {
+        for (int dy = 0; dy < SEA_MONSTER_HEIGHT; dy++)
+            if ((bitsAt(image[y + dy], x) & SEA_MONSTER_ROWS[dy]) != SEA_MONSTER_ROWS[dy])
+                return false;
+        return true;
+    }
 
-        return EdgeMatchType.NO_MATCH;
+    /*
+     * Convert a view of the image into rows of bitmasks.
+     */
+    private static long[][] toBitRows(final GridView view) {
+        final long[][] rows = new long[view.height()][(view.width() + Long.SIZE - 1) / Long.SIZE];
+        for (int y = 0; y < view.height(); y++)
+            for (int x = 0; x < view.width(); x++)
+                if (view.get(x, y) == NOISE_CHAR)
+                    rows[y][x >>> 6] |= 1L << (x & 63);
+        return rows;
     }
 
     /*
-     * Flip a tile, either on the x-axis, y-axis or both.
+     * Get (up to) 64 bits of a row, starting at the given column.
      */
-    private static char[][] flip(final char[][] tile, final boolean flipX, final boolean flipY) {
-        final char[][] flipped = new char[tile.length][];
-        for (int y = 0; y < flipped.length; y++) {
-            final char[] row = tile[flipY ? (tile.length - 1) - y : y];
-
-            flipped[y] = new char[row.length];
-            for (int x = 0; x < row.length; x++) {
-                flipped[y][x] = row[flipX ? (row.length - 1) - x : x];
-            }
-        }
+    private static long bitsAt(final long[] row, final int x) {
+        final int word = x >>> 6;
+        final int shift = x & 63;
 
-        return flipped;
+        long bits = row[word] >>> shift;
+        if (shift != 0 && word + 1 < row.length) bits |= row[word + 1] << (Long.SIZE - shift);
+        return bits;
     }
 
     /*
-     * Rotate a tile by 0, 90, 180 or 270 degrees.
+     * Set the given bits in a row, starting at the given column.
      */
-    private static char[][] rotate(final char[][] tile, final int degree) {
-        if (degree == 0) return flip(tile, false, false);
-        if (degree == 180) return flip(tile, true, true);
-        if (degree == 270) return rotate(flip(tile, true, true), 90);
-
-        if (degree == 90) {
-            final int width = tile[0].length;
-            final int height = tile.length;
-
-            // Pre-populate the rows/columns 'cause ugh
-            final char[][] rotated = new char[width][];
-            for (int y = 0; y < width; y++) {
-                rotated[y] = new char[height];
-            }
+    private static void orBits(final long[] row, final int x, final long bits) {
+        final int word = x >>> 6;
+        final int shift = x & 63;
 
-            for (int y = 0; y < height; y++) {
-                for (int x = 0; x < width; x++) {
-                    rotated[x][(width - 1) - y] = tile[y][x];
-                }
-            }
-            return rotated;
-        }
-
-        throw new IllegalArgumentException("Invalid rotation angle: '" + degree + "'");
+        row[word] |= bits << shift;
+        if (shift != 0 && word + 1 < row.length) row[word + 1] |= bits >>> (Long.SIZE - shift);
     }
 
     /*
-     * Flip a border.
+     * Read the edges of a view of a tile, as codes in `Edge` order.
+     *
+     * The top and bottom edges are read left-to-right, and the left and
+     * right edges top-to-bottom, so that the touching edges of two
+     * neighbouring tiles have the same code.
      */
-    private static char[] flipEdge(final char[] border) {
-        final char[] flipped = new char[border.length];
-        IntStream.range(0, border.length)
-                .forEach(i -> flipped[(border.length - 1) - i] = border[i]);
-        return flipped;
+    private static int[] readEdges(final GridView view) {
+        final int width = view.width();
+        final int height = view.height();
+
+        final int[] edges = new int[Edge.values().length];
+        edges[Edge.TOP.ordinal()] = readEdge(view, 0, 0, 1, 0, width);
+        edges[Edge.LEFT.ordinal()] = readEdge(view, 0, 0, 0, 1, height);
+        edges[Edge.BOTTOM.ordinal()] = readEdge(view, 0, height - 1, 1, 0, width);
+        edges[Edge.RIGHT.ordinal()] = readEdge(view, width - 1, 0, 0, 1, height);
+        return edges;
     }
 
     /*
-     * Test if two borders match.
+     * Read an edge of a view of a tile as a code, where each noise cell is
+     * a 1-bit and the first cell is the most significant bit.
      */
-    private static boolean doBordersMatch(final char[] border, final char[] other) {
-        if (border.length != other.length) {
-            return false;
-        }
-
-        for (int i = 0; i < border.length; i++) {
-            if (border[i] != other[i]) {
-                return false;
-            }
-        }
+    private static int readEdge(final GridView view, final int x, final int y, final int dx, final int dy, final int length) {
+        int code = 0;
+        for (int i = 0; i < length; i++)
+            code = (code << 1) | (view.get(x + i * dx, y + i * dy) == NOISE_CHAR ? 1 : 0);
+        return code;
+    }
 
-        return true;
+    /*
+     * Reverse the code of an edge of the given length.
+     */
+    private static int reverseEdge(final int code, final int length) {
+        return Integer.reverse(code) >>> (Integer.SIZE - length);
     }
 
     /*
-     * Scan a rasterised image, counting the amount of noise in it.
+     * Convert a row of characters into a bitmask, where bit `x` is set if
+     * the character at `x` is noise.
      */
-    private static long countNoiseInImage(final char[][] rasterisedImage) {
-        long noise = 0;
-        for (final char[] chars : rasterisedImage) {
-            for (final char c : chars) {
-                if (c == NOISE_CHAR) {
-                    noise++;
-                }
-            }
-        }
-        return noise;
+    private static long toBitmask(final char[] row) {
+        long bits = 0;
+        for (int x = 0; x < row.length; x++)
+            if (row[x] == NOISE_CHAR)
+                bits |= 1L << x;
+        return bits;
     }
 
     // ****************************************
@@ -563,7 +413,7 @@ public class Day20 {
     // ****************************************
 
     /**
-     * The side of a tile on which an edge matched.
+     * A side of a tile.
      */
     enum Edge {
 
@@ -586,38 +436,32 @@ public class Day20 {
 
         private final long id;
         private final String name;
-        private final char[][] tile;
+        private final Grid grid;
         private final int width;
         private final int height;
 
-        private final char[] top;
-        private final char[] left;
-        private final char[] bottom;
-        private final char[] right;
+        private final int[] edges;
 
         // Constructors
 
-        private Tile(
-                final String name,
-                final int width,
-                final int height,
-                final char[][] tile,
-                final char[] top,
-                final char[] bottom,
-                final char[] left,
-                final char[] right
-        ) {
+        private Tile(final String name, final Grid grid) {
             this.id = Integer.parseInt(name.substring(5));
 
             this.name = name;
-            this.tile = tile;
-            this.width = width;
-            this.height = height;
-
-            this.top = top;
-            this.bottom = bottom;
-            this.left = left;
-            this.right = right;
+            this.grid = grid;
+            this.width = grid.width();
+            this.height = grid.height();
+
+            this.edges = readEdges(grid.view());
+        }
+
+        // Helper Methods
+
+        /*
+         * Get the code of the given edge.
+         */
+        int edge(final Edge edge) {
+            return edges[edge.ordinal()];
         }
 
         @Override
@@ -625,79 +469,115 @@ public class Day20 {
             return name;
         }
 
-        static Tile createTile(final String name, final char[][] tile) {
-            final int width = tile[0].length;
-            final int height = tile.length;
-
-            final char[] top = new char[width];
-            copy(top, IntStream.range(0, width).mapToObj(i -> tile[0][i]));
-
-            final char[] bottom = new char[width];
-            copy(bottom, IntStream.range(0, width).mapToObj(i -> tile[height - 1][i]));
-
-            final char[] left = new char[height];
-            copy(left, IntStream.range(0, height).mapToObj(i -> tile[i][0]));
+        // Static Helper Methods
 
-            final char[] right = new char[height];
-            copy(right, IntStream.range(0, height).mapToObj(i -> tile[i][width - 1]));
-
-            return new Tile(name, width, height, tile, top, bottom, left, right);
-        }
-
-        static void copy(final char[] copy, final Stream<Character> border) {
-            final int[] i = {0};
-            border.forEach(c -> copy[i[0]++] = c);
+        static Tile createTile(final String name, final char[][] tile) {
+            final int[][] values = new int[tile.length][];
+            for (int y = 0; y < tile.length; y++) {
+                values[y] = new int[tile[y].length];
+                for (int x = 0; x < tile[y].length; x++)
+                    values[y][x] = tile[y][x];
+            }
+            return new Tile(name, Grid.of(values));
         }
 
     }
 
-    // ****************************************
-    // Private Helper Classes
-    // ****************************************
-
     /*
-     * Describes how an `Edge` matched.
+     * An index from each edge code to the (at most two) tiles that have
+     * that edge, in either direction.
+     *
+     * Edges are stored under the smaller of their code and their reversed
+     * code, so a lookup finds the neighbouring tile regardless of how
+     * either tile is oriented.
      */
-    private enum EdgeMatchType {
+    static final class EdgeIndex {
 
-        TOP,
-        TOP_FLIPPED,
-        LEFT,
-        LEFT_FLIPPED,
-        BOTTOM,
-        BOTTOM_FLIPPED,
-        RIGHT,
-        RIGHT_FLIPPED,
+        // Private Members
 
-        NO_MATCH,
+        private final int length;
+        private final int[] counts;
+        private final int[] owners;
 
-        // End of constants
-        ;
+        // Constructors
 
-    }
+        EdgeIndex(final int length) {
+            this.length = length;
+            this.counts = new int[1 << length];
+            this.owners = new int[2 << length];
+        }
 
-    /*
-     * The result of matching a `Tile` against a given `Edge`.
-     */
-    private record EdgeMatchResult(TileContainer match, EdgeMatchType matchType) {
-    }
+        // Helper Methods
 
-    /*
-     * Holds a `Tile` and some extra meta-information.
-     */
-    private record TileContainer(Tile tile, Map<Edge, TileContainer> borderingTiles) {
+        /*
+         * Check if an edge does not match any other tile.
+         */
+        boolean isUnmatched(final int edge) {
+            return counts[canonical(edge)] == 1;
+        }
 
-        // Helper Methods
+        /*
+         * Count the edges of a tile that do not match any other tile.
+         */
+        int countUnmatchedEdges(final Tile tile) {
+            int unmatched = 0;
+            for (final int edge : tile.edges)
+                if (isUnmatched(edge))
+                    ++unmatched;
+            return unmatched;
+        }
 
-        public boolean isCornerTile() {
-            return borderingTiles.size() < 3;
+        /*
+         * Find the other tile that shares an edge with the given tile.
+         */
+        int findOtherTile(final int edge, final int tile) {
+            final int key = canonical(edge);
+            if (counts[key] != 2) {
+                throw new IllegalStateException("Edge " + edge + " is not shared by exactly two tiles");
+            }
+            return owners[2 * key] == tile ? owners[2 * key + 1] : owners[2 * key];
         }
 
-        // To String
+        /*
+         * Add an edge of a tile.
+         */
+        private void add(final int edge, final int tile) {
+            final int key = canonical(edge);
+            if (counts[key] >= 2) {
+                throw new IllegalStateException("Edge " + edge + " is shared by more than two tiles");
+            }
+            owners[2 * key + counts[key]++] = tile;
+        }
 
-        @Override
-        public String toString() {
-            return "[" + tile.name + "]";
+        /*
+         * Get the key that an edge is stored under.
+         */
+        private int canonical(final int edge) {
+            return Math.min(edge, reverseEdge(edge, length));
+        }
+
+        // Static Helper Methods
+
+        /*
+         * Build the index for a set of square tiles of the same size.
+         */
+        static EdgeIndex of(final List<Tile> tiles) {
+            if (tiles.isEmpty()) {
+                throw new IllegalStateException("No tiles found");
+            }
+
+            final int length = tiles.getFirst().width;
+            final EdgeIndex index = new EdgeIndex(length);
+            for (int i = 0; i < tiles.size(); i++) {
+                final Tile tile = tiles.get(i);
+                if (tile.width != length || tile.height != length) {
+                    throw new IllegalStateException("Expected " + length + "x" + length + " tiles, but got " + tile.width + "x" + tile.height);
+                }
+
+                for (final int edge : tile.edges)
+                    index.add(edge, i);
+            }
+            return index;
         }
 
     }
@@ -1,8 +1,10 @@
 package net.anomalyxii.aoc.aoc2020;
 
+import net.anomalyxii.aoc.annotations.Optimised;
 import net.anomalyxii.aoc.annotations.Part;
 import net.anomalyxii.aoc.annotations.Solution;
 import net.anomalyxii.aoc.context.SolutionContext;
+import net.anomalyxii.aoc.result.ObjectTuple;
 
 import java.util.*;
 import java.util.regex.Matcher;
@@ -33,30 +35,8 @@ public class Day21 {
      */
     @Part(part = I)
     public long calculateAnswerForPart1(final SolutionContext context) {
-        final Map<String, Long> allIngredients = new HashMap<>();
-        final Map<String, Set<String>> allergensToPossibleIngredients = new HashMap<>();
-
-        context.consume(line -> {
-            final Matcher m = INGREDIENTS_PATTERN.matcher(line);
-            if (!m.matches()) {
-                throw new IllegalArgumentException("Invalid ingredient list: '" + line + "'");
-            }
-
-            final String ingredientList = m.group(1);
-            final List<String> ingredients = asList(ingredientList.split(" +"));
-            ingredients.forEach(ingredient -> {
-                final long count = allIngredients.getOrDefault(ingredient, 0L);
-                allIngredients.put(ingredient, count + 1);
-            });
-
-            maybeFilterAllergens(m, allergensToPossibleIngredients, ingredients);
-        });
-
-        return allIngredients.entrySet().stream()
-                .filter(entry -> allergensToPossibleIngredients.values().stream()
-                        .noneMatch(allergens -> allergens.contains(entry.getKey())))
-                .mapToLong(Map.Entry::getValue)
-                .sum();
+        final Foods foods = readFoods(context);
+        return countSafeIngredients(foods);
     }
 
     /**
@@ -67,6 +47,43 @@ public class Day21 {
      */
     @Part(part = II)
     public String calculateAnswerForPart2(final SolutionContext context) {
+        final Foods foods = readFoods(context);
+        return listDangerousIngredients(foods);
+    }
+
+    // ****************************************
+    // Optimised Challenge Methods
+    // ****************************************
+
+    /**
+     * An optimised solution for parts 1 and 2.
+     *
+     * @param context the {@link SolutionContext} to solve against
+     * @return an {@link ObjectTuple} containing the answers for both parts
+     */
+    @Optimised
+    public ObjectTuple<Long, String> calculateAnswers(final SolutionContext context) {
+        final Foods foods = readFoods(context);
+
+        // Count the safe ingredients first, as matching the allergens
+        //  consumes the candidate sets
+        final long safeIngredients = countSafeIngredients(foods);
+        final String dangerousIngredients = listDangerousIngredients(foods);
+
+        return new ObjectTuple<>(safeIngredients, dangerousIngredients);
+    }
+
+    // ****************************************
+    // Private Helper Methods
+    // ****************************************
+
+    /*
+     * Read the list of foods, counting how many foods each ingredient
+     * appears in and narrowing down which ingredients could contain each
+     * allergen.
+     */
+    private static Foods readFoods(final SolutionContext context) {
+        final Map<String, Long> ingredientCounts = new HashMap<>();
         final Map<String, Set<String>> allergensToPossibleIngredients = new HashMap<>();
 
         context.consume(line -> {
@@ -75,23 +92,38 @@ public class Day21 {
                 throw new IllegalArgumentException("Invalid ingredient list: '" + line + "'");
             }
 
-            final String ingredientList = m.group(1);
-            final List<String> ingredients1 = asList(ingredientList.split(" +"));
+            final List<String> ingredients = asList(m.group(1).split(" +"));
+            ingredients.forEach(ingredient -> ingredientCounts.merge(ingredient, 1L, Long::sum));
 
-            maybeFilterAllergens(m, allergensToPossibleIngredients, ingredients1);
+            maybeFilterAllergens(m, allergensToPossibleIngredients, ingredients);
         });
 
-        final Map<String, String> ingredientToAllergenMap = matchAllergenToIngredient(allergensToPossibleIngredients);
+        return new Foods(ingredientCounts, allergensToPossibleIngredients);
+    }
+
+    /*
+     * Count the appearances of every ingredient that cannot contain any
+     * allergen.
+     */
+    private static long countSafeIngredients(final Foods foods) {
+        return foods.ingredientCounts().entrySet().stream()
+                .filter(entry -> foods.allergensToPossibleIngredients().values().stream()
+                        .noneMatch(allergens -> allergens.contains(entry.getKey())))
+                .mapToLong(Map.Entry::getValue)
+                .sum();
+    }
+
+    /*
+     * List the ingredient that contains each allergen, sorted by allergen.
+     */
+    private static String listDangerousIngredients(final Foods foods) {
+        final Map<String, String> ingredientToAllergenMap = matchAllergenToIngredient(foods.allergensToPossibleIngredients());
         return ingredientToAllergenMap.entrySet().stream()
                 .sorted(Map.Entry.comparingByValue())
                 .map(Map.Entry::getKey)
                 .collect(Collectors.joining(","));
     }
 
-    // ****************************************
-    // Private Helper Methods
-    // ****************************************
-
     /*
      * Maybe filter the list of Allergens to the ones that may apply to each
      * ingredient.
@@ -102,7 +134,7 @@ public class Day21 {
             final List<String> ingredients
     ) {
 
-        if (m.groupCount() < 2) return;
+        if (m.group(2) == null) return;
 
         final String allergenList = m.group(2);
         final String[] allergens = allergenList.split(", +");
@@ -139,4 +171,15 @@ public class Day21 {
         return ingredientToAllergenMap;
     }
 
+    // ****************************************
+    // Private Helper Classes
+    // ****************************************
+
+    /*
+     * The foods: how many foods each ingredient appears in, and the
+     * ingredients that could contain each allergen.
+     */
+    private record Foods(Map<String, Long> ingredientCounts, Map<String, Set<String>> allergensToPossibleIngredients) {
+    }
+
 }
@@ -1,11 +1,17 @@
 package net.anomalyxii.aoc.aoc2020;
 
+import net.anomalyxii.aoc.annotations.Optimised;
 import net.anomalyxii.aoc.annotations.Part;
 import net.anomalyxii.aoc.annotations.Solution;
+import net.anomalyxii.aoc.context.Metrics;
 import net.anomalyxii.aoc.context.SolutionContext;
+import net.anomalyxii.aoc.result.LongTuple;
+import net.anomalyxii.aoc.utils.collections.LongIntMap;
 
-import java.util.*;
-import java.util.stream.Collectors;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
 
 import static net.anomalyxii.aoc.annotations.Part.PartNumber.I;
 import static net.anomalyxii.aoc.annotations.Part.PartNumber.II;
@@ -16,6 +22,23 @@ import static net.anomalyxii.aoc.annotations.Part.PartNumber.II;
 @Solution(year = 2020, day = 22, title = "Crab Combat")
 public class Day22 {
 
+    /*
+     * The largest card value that can be held in a deck.
+     */
+    private static final int MAX_CARD = 255;
+
+    /*
+     * The remembered outcomes of sub-games.
+     */
+    private static final int PLAYER_1_WINS = 1;
+    private static final int PLAYER_2_WINS = 2;
+
+    /*
+     * Counters for the sub-games that were not played out.
+     */
+    static final String MEMOISED_SUB_GAMES = "memoised-sub-games";
+    static final String SHORT_CIRCUITED_SUB_GAMES = "short-circuited-sub-games";
+
     // ****************************************
     // Challenge Methods
     // ****************************************
@@ -28,14 +51,11 @@ public class Day22 {
      */
     @Part(part = I)
     public long calculateAnswerForPart1(final SolutionContext context) {
-        final Deque<Integer> player1 = new ArrayDeque<>();
-        final Deque<Integer> player2 = new ArrayDeque<>();
-
-        buildDecks(context, player1, player2);
+        final Deck[] decks = buildDecks(context);
 
-        final Deque<Integer> winningDeck = playSimpleGame(player1, player2);
+        final Deck winningDeck = playSimpleGame(decks[0], decks[1]);
 
-        return calculateWinningScore(winningDeck);
+        return winningDeck.score();
     }
 
     /**
@@ -46,34 +66,31 @@ public class Day22 {
      */
     @Part(part = II)
     public long calculateAnswerForPart2(final SolutionContext context) {
-        final Deque<Integer> player1 = new ArrayDeque<>();
-        final Deque<Integer> player2 = new ArrayDeque<>();
+        final Deck[] decks = buildDecks(context);
 
-        buildDecks(context, player1, player2);
+        final Deck winningDeck = playRecursiveGame(decks[0], decks[1], context.metrics());
 
-        final Deque<Integer> winningDeck = playRecursiveGame(player1, player2);
-
-        return calculateWinningScore(winningDeck);
+        return winningDeck.score();
     }
 
     // ****************************************
-    // Helper Methods
+    // Optimised Challenge Methods
     // ****************************************
 
     /**
-     * Calculate the winning score.
+     * An optimised solution for parts 1 and 2.
      *
-     * @param cards the winning cards
-     * @return the score
+     * @param context the {@link SolutionContext} to solve against
+     * @return a {@link LongTuple} containing the answers for both parts
      */
-    static long calculateWinningScore(final Deque<Integer> cards) {
-        int count = 0;
-        long result = 0;
-        while (!cards.isEmpty()) {
-            final int nextCard = cards.removeLast();
-            result += ((long) ++count * nextCard);
-        }
-        return result;
+    @Optimised
+    public LongTuple calculateAnswers(final SolutionContext context) {
+        final Deck[] decks = buildDecks(context);
+
+        final Deck simpleWinningDeck = playSimpleGame(decks[0].copy(decks[0].size()), decks[1].copy(decks[1].size()));
+        final Deck recursiveWinningDeck = playRecursiveGame(decks[0], decks[1], context.metrics());
+
+        return new LongTuple(simpleWinningDeck.score(), recursiveWinningDeck.score());
     }
 
     // ****************************************
@@ -83,7 +100,10 @@ public class Day22 {
     /*
      * Build the decks for the two players.
      */
-    private void buildDecks(final SolutionContext context, final Deque<Integer> player1, final Deque<Integer> player2) {
+    private static Deck[] buildDecks(final SolutionContext context) {
+        final List<Integer> player1 = new ArrayList<>();
+        final List<Integer> player2 = new ArrayList<>();
+
         final String[] player = new String[1];
         context.consume(line -> {
             if (line.isBlank()) {
@@ -99,24 +119,36 @@ public class Day22 {
                 throw new IllegalStateException("No player specified!");
             }
 
-            ("Player 1:".equals(player[0]) ? player1 : player2).addLast(Integer.parseInt(line));
+            final int card = Integer.parseInt(line);
+            if (card < 1 || card > MAX_CARD) {
+                throw new IllegalArgumentException("Invalid card: " + card);
+            }
+
+            ("Player 1:".equals(player[0]) ? player1 : player2).add(card);
         });
+
+        final int capacity = capacityFor(player1.size() + player2.size());
+
+        final Deck[] decks = {new Deck(capacity), new Deck(capacity)};
+        player1.forEach(decks[0]::add);
+        player2.forEach(decks[1]::add);
+        return decks;
     }
 
     /*
      * Play a simple game of Combat with the crab.
      */
-    private static Deque<Integer> playSimpleGame(final Deque<Integer> player1, final Deque<Integer> player2) {
+    private static Deck playSimpleGame(final Deck player1, final Deck player2) {
         while (!player1.isEmpty() && !player2.isEmpty()) {
-            final int card1 = player1.removeFirst();
-            final int card2 = player2.removeFirst();
+            final int card1 = player1.draw();
+            final int card2 = player2.draw();
 
             if (card1 > card2) {
-                player1.addLast(card1);
-                player1.addLast(card2);
+                player1.add(card1);
+                player1.add(card2);
             } else if (card2 > card1) {
-                player2.addLast(card2);
-                player2.addLast(card1);
+                player2.add(card2);
+                player2.add(card1);
             } else {
                 throw new IllegalStateException("Should never be a tie!");
             }
@@ -125,49 +157,56 @@ public class Day22 {
     }
 
     /*
-     * Play a simple game of Combat with the crab.
+     * Play a recursive game of Combat with the crab.
      */
-    private static Deque<Integer> playRecursiveGame(final Deque<Integer> player1, final Deque<Integer> player2) {
-        return determineIfPlayer1WinsRecursiveGame(player1, player2, 1) ? player1 : player2;
+    private static Deck playRecursiveGame(final Deck player1, final Deck player2, final Metrics metrics) {
+        final boolean player1Wins = determineIfPlayer1WinsRecursiveGame(player1, player2, new LongIntMap(), metrics);
+        return player1Wins ? player1 : player2;
     }
 
     /*
      * Run a (recursive) game of Combat and determine if player 1 wins.
+     *
+     * The outcome of every sub-game is remembered in `outcomes`, keyed by
+     * the state of the decks it started with, in case the same sub-game is played again.
+     * States are compared by their 64-bit hash alone; with only thousands
+     * of states per game, a collision is vanishingly unlikely.
      */
     private static boolean determineIfPlayer1WinsRecursiveGame(
-            final Deque<Integer> player1,
-            final Deque<Integer> player2,
-            final int gameNo
+            final Deck player1,
+            final Deck player2,
+            final LongIntMap outcomes,
+            final Metrics metrics
     ) {
-        final Set<String> previousRoundDecks = new HashSet<>();
+        final LongIntMap previousRoundDecks = new LongIntMap();
         while (!player1.isEmpty() && !player2.isEmpty()) {
 
             // Check for previous deck
-            final String deck = deck2str(player1) + "|" + deck2str(player2);
-            if (!previousRoundDecks.add(deck)) {
+            if (previousRoundDecks.putIfAbsent(stateOf(player1, player2), 0) != LongIntMap.NO_VALUE) {
                 // End the _game_ in a win for player 1...
                 return true;
             }
 
-            final int card1 = player1.removeFirst();
-            final int card2 = player2.removeFirst();
+            final int card1 = player1.draw();
+            final int card2 = player2.draw();
 
             final boolean player1WinsRound;
             if (card1 <= player1.size() && card2 <= player2.size()) {
-                final Deque<Integer> player1Sub = new ArrayDeque<>(new ArrayList<>(player1).subList(0, card1));
-                final Deque<Integer> player2Sub = new ArrayDeque<>(new ArrayList<>(player2).subList(0, card2));
-                player1WinsRound = determineIfPlayer1WinsRecursiveGame(player1Sub, player2Sub, gameNo + 1);
+                player1WinsRound = determineIfPlayer1WinsSubGame(
+                        player1.copy(card1),
+                        player2.copy(card2),
+                        outcomes,
+                        metrics);
             } else {
                 player1WinsRound = (card1 > card2);
             }
 
-            // System.out.println("Player " + (player1WinsRound ? "1" : "2") + " wins round " + round + " of game " + gameNo);
             if (player1WinsRound) {
-                player1.addLast(card1);
-                player1.addLast(card2);
+                player1.add(card1);
+                player1.add(card2);
             } else {
-                player2.addLast(card2);
-                player2.addLast(card1);
+                player2.add(card2);
+                player2.add(card1);
             }
         }
 
@@ -175,10 +214,167 @@ public class Day22 {
     }
 
     /*
-     * Serialise the provided deck.
+     * Determine if player 1 wins a sub-game of recursive Combat.
      */
-    private static String deck2str(final Deque<Integer> player1) {
-        return player1.stream().map(String::valueOf).collect(Collectors.joining(","));
+    private static boolean determineIfPlayer1WinsSubGame(
+            final Deck player1,
+            final Deck player2,
+            final LongIntMap outcomes,
+            final Metrics metrics
+    ) {
+        // The highest card in the sub-game is larger than the number of
+        //  cards, so it can never trigger another sub-game and can never lose
+        //  a round. If player 1 holds it, they can never run out of cards,
+        //  so must win (either outright, or by repetition).
+        if (player1.max() > player2.max()) {
+            metrics.increment(SHORT_CIRCUITED_SUB_GAMES);
+            return true;
+        }
+
+        final long state = stateOf(player1, player2);
+        final int outcome = outcomes.get(state);
+        if (outcome != LongIntMap.NO_VALUE) {
+            metrics.increment(MEMOISED_SUB_GAMES);
+            return outcome == PLAYER_1_WINS;
+        }
+
+        final boolean result = determineIfPlayer1WinsRecursiveGame(player1, player2, outcomes, metrics);
+        outcomes.putIfAbsent(state, result ? PLAYER_1_WINS : PLAYER_2_WINS);
+        return result;
+    }
+
+    /*
+     * Combine the hashes of both decks into a single state.
+     */
+    private static long stateOf(final Deck player1, final Deck player2) {
+        return (player1.hash * Deck.BASE + player1.size) ^ Long.rotateLeft(player2.hash, 31);
+    }
+
+    /*
+     * Get the smallest power of two that can hold the given number of
+     * cards.
+     */
+    private static int capacityFor(final int cards) {
+        return Math.max(2, Integer.highestOneBit(Math.max(1, cards - 1)) << 1);
+    }
+
+    // ****************************************
+    // Helper Classes
+    // ****************************************
+
+    /*
+     * A deck of cards, held in a ring buffer.
+     *
+     * Each deck keeps a 64-bit hash of its cards, updated as cards are
+     * drawn and added: each card has a random key, and the hash is the
+     * polynomial sum(key(card[i]) * BASE^(size - 1 - i)). Drawing the
+     * top card subtracts its term; adding a card to the bottom multiplies
+     * through by BASE and adds the new key.
+     */
+    static final class Deck {
+
+        static final long BASE = 0x9E3779B97F4A7C15L;
+
+        private static final long[] KEYS = new long[MAX_CARD + 1];
+        private static final long[] POWERS = new long[MAX_CARD + 1];
+
+        static {
+            final SplittableRandom random = new SplittableRandom(2020_22);
+            Arrays.setAll(KEYS, i -> random.nextLong());
+
+            POWERS[0] = 1;
+            for (int i = 1; i < POWERS.length; i++)
+                POWERS[i] = POWERS[i - 1] * BASE;
+        }
+
+        // Private Members
+
+        private final byte[] cards;
+        private final int mask;
+
+        private int head = 0;
+        private int size = 0;
+        private long hash = 0;
+
+        // Constructors
+
+        Deck(final int capacity) {
+            this.cards = new byte[capacity];
+            this.mask = capacity - 1;
+        }
+
+        // Static Helper Methods
+
+        /*
+         * Create a deck holding the given cards, from top to bottom.
+         */
+        static Deck of(final int... cards) {
+            final Deck deck = new Deck(capacityFor(cards.length));
+            for (final int card : cards)
+                deck.add(card);
+            return deck;
+        }
+
+        // Helper Methods
+
+        int size() {
+            return size;
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        /*
+         * Draw the top card.
+         */
+        int draw() {
+            final int card = cards[head] & 0xFF;
+            head = (head + 1) & mask;
+            --size;
+            hash -= KEYS[card] * POWERS[size];
+            return card;
+        }
+
+        /*
+         * Add a card to the bottom of the deck.
+         */
+        void add(final int card) {
+            cards[(head + size) & mask] = (byte) card;
+            ++size;
+            hash = hash * BASE + KEYS[card];
+        }
+
+        /*
+         * Find the highest card in the deck.
+         */
+        int max() {
+            int max = 0;
+            for (int i = 0; i < size; i++)
+                max = Math.max(max, cards[(head + i) & mask] & 0xFF);
+            return max;
+        }
+
+        /*
+         * Copy the top cards of this deck into a new deck.
+         */
+        Deck copy(final int count) {
+            final Deck copy = new Deck(cards.length);
+            for (int i = 0; i < count; i++)
+                copy.add(cards[(head + i) & mask] & 0xFF);
+            return copy;
+        }
+
+        /*
+         * Calculate the score of this deck.
+         */
+        long score() {
+            long result = 0;
+            for (int i = 0; i < size; i++)
+                result += (long) (size - i) * (cards[(head + i) & mask] & 0xFF);
+            return result;
+        }
+
     }
 
 }
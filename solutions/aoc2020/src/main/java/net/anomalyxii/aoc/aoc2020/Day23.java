@@ -1,10 +1,10 @@
 package net.anomalyxii.aoc.aoc2020;
 
+import net.anomalyxii.aoc.annotations.Optimised;
 import net.anomalyxii.aoc.annotations.Part;
 import net.anomalyxii.aoc.annotations.Solution;
 import net.anomalyxii.aoc.context.SolutionContext;
-
-import java.util.stream.IntStream;
+import net.anomalyxii.aoc.result.LongTuple;
 
 import static net.anomalyxii.aoc.annotations.Part.PartNumber.I;
 import static net.anomalyxii.aoc.annotations.Part.PartNumber.II;
@@ -15,6 +15,36 @@ import static net.anomalyxii.aoc.annotations.Part.PartNumber.II;
 @Solution(year = 2020, day = 23, title = "Crab Cups")
 public class Day23 {
 
+    /*
+     * Default number of cups in the part 2 game.
+     */
+    private static final int DEFAULT_CUP_COUNT = 1_000_000;
+
+    /*
+     * Default number of moves in the part 2 game.
+     */
+    private static final int DEFAULT_MOVES = 10_000_000;
+
+    // ****************************************
+    // Private Members
+    // ****************************************
+
+    private final int cupCount;
+    private final int moves;
+
+    // ****************************************
+    // Constructors
+    // ****************************************
+
+    public Day23() {
+        this(DEFAULT_CUP_COUNT, DEFAULT_MOVES);
+    }
+
+    Day23(final int cupCount, final int moves) {
+        this.cupCount = cupCount;
+        this.moves = moves;
+    }
+
     // ****************************************
     // Challenge Methods
     // ****************************************
@@ -27,23 +57,12 @@ public class Day23 {
      */
     @Part(part = I)
     public long calculateAnswerForPart1(final SolutionContext context) {
-        final Cups cups = Cups.createFrom(context.stream()
-                                                  .flatMapToInt(String::chars)
-                                                  .map(i -> i - '0')
-                                                  .toArray());
+        final int[] labelledCups = readLabelledCups(context);
 
-        playCupGame(cups, 100);
+        final int[] next = new int[labelledCups.length + 1];
+        playCupGame(next, 100, labelledCups);
 
-        final Cup cup1 = cups.getNodeWithValue(1);
-
-        long result = 0;
-        Cup next = cup1.next;
-        do {
-            result = (result * 10) + next.value;
-            next = next.next;
-        } while (next != cup1);
-
-        return result;
+        return readLabelsAfterCup1(next);
     }
 
     /**
@@ -54,148 +73,125 @@ public class Day23 {
      */
     @Part(part = II)
     public long calculateAnswerForPart2(final SolutionContext context) {
-        final int[] labelledCups = context.stream()
-                .flatMapToInt(String::chars)
-                .map(i -> i - '0')
-                .toArray();
-        final int maxLabelledCup = IntStream.of(labelledCups).max().orElseThrow();
-        final int[] startingCups = IntStream.concat(
-                IntStream.of(labelledCups),
-                IntStream.rangeClosed(maxLabelledCup + 1, 1_000_000)
-        ).toArray();
+        final int[] labelledCups = readLabelledCups(context);
 
-        final Cups cups = Cups.createFrom(startingCups);
+        final int[] next = context.scratch().ints(cupCount + 1);
+        playCupGame(next, moves, labelledCups);
 
-        playCupGame(cups, 10_000_000);
-
-        final Cup cup1 = cups.getNodeWithValue(1);
-        final Cup next1 = cup1.next;
-        final Cup next2 = next1.next;
-        return ((long) next1.value * (long) next2.value);
+        return multiplyCupsAfterCup1(next);
     }
 
     // ****************************************
-    // Helper Methods
+    // Optimised Challenge Methods
     // ****************************************
 
-    /*
-     * Play the cups game.
+    /**
+     * An optimised solution for parts 1 and 2.
+     *
+     * @param context the {@link SolutionContext} to solve against
+     * @return a {@link LongTuple} containing the answers for both parts
      */
-    private static void playCupGame(final Cups cups, final int rounds) {
-        Cup currentCup = cups.root;
-
-        for (int round = 0; round < rounds; round++) {
-            final Cup next1 = currentCup.next;
-            final Cup next2 = next1.next;
-            final Cup next3 = next2.next;
+    @Optimised
+    public LongTuple calculateAnswers(final SolutionContext context) {
+        final int[] labelledCups = readLabelledCups(context);
 
-            currentCup.setNext(next3.next);
-
-            int destination = currentCup.value;
-            do {
-                destination = --destination < cups.min()
-                        ? cups.max()
-                        : destination;
-            } while (destination == next1.value || destination == next2.value || destination == next3.value);
+        final int[] smallGame = new int[labelledCups.length + 1];
+        playCupGame(smallGame, 100, labelledCups);
 
-            final Cup insertAfter = cups.getNodeWithValue(destination);
-            final Cup insertBefore = insertAfter.next;
+        final int[] largeGame = context.scratch().ints(cupCount + 1);
+        playCupGame(largeGame, moves, labelledCups);
 
-            insertAfter.setNext(next1);
-            next3.setNext(insertBefore);
-            currentCup = currentCup.next;
-        }
+        return new LongTuple(readLabelsAfterCup1(smallGame), multiplyCupsAfterCup1(largeGame));
     }
 
     // ****************************************
-    // Private Helper Classes
+    // Helper Methods
     // ****************************************
 
-    /*
-     * All the cups.
+    /**
+     * Play the cups game.
+     * <p>
+     * The circle of cups is held as a successor array: {@code next[label]}
+     * is the label of the cup clockwise of the cup with that label. The
+     * labelled cups are placed first, followed by every label from one more
+     * than the largest labelled cup up to {@code next.length - 1}.
+     *
+     * @param next         the successor array, which must be large enough to hold every labelled cup
+     * @param moves        the number of moves to play
+     * @param labelledCups the labels of the starting cups, in order
+     * @throws IllegalArgumentException if there are fewer than 5 cups
      */
-    private record Cups(Cup root, Cup[] lookupByValue) {
-
-        // Helper Methods
-
-        /*
-         * Get the minimum cup value.
-         */
-        public int min() {
-            return 1;
+    public static void playCupGame(final int[] next, final int moves, final int... labelledCups) {
+        final int max = next.length - 1;
+        if (max < 5 || labelledCups.length == 0) {
+            throw new IllegalArgumentException("Need at least 5 cups to play, but got " + max);
         }
 
-        /*
-         * Get the maximum cup value.
-         */
-        public int max() {
-            return lookupByValue.length;
+        // Link up the cups...
+        int last = 0;
+        int largestLabelledCup = 0;
+        for (final int cup : labelledCups) {
+            next[last] = cup;
+            last = cup;
+            largestLabelledCup = Math.max(largestLabelledCup, cup);
         }
-
-        /*
-         * Get the Cup with the given value.
-         */
-        public Cup getNodeWithValue(final int i) {
-            return lookupByValue[i - 1];
+        for (int cup = largestLabelledCup + 1; cup <= max; cup++) {
+            next[last] = cup;
+            last = cup;
         }
+        next[last] = labelledCups[0];
 
-        // Static Helper Methods
+        // ... and play!
+        int current = labelledCups[0];
+        for (int move = 0; move < moves; move++) {
+            final int next1 = next[current];
+            final int next2 = next[next1];
+            final int next3 = next[next2];
 
-        /*
-         * Create a new set of Cups.
-         */
-        public static Cups createFrom(final int[] cups) {
-            final Cup tmp = new Cup(0);
-            final Cup last = IntStream.of(cups)
-                    .mapToObj(Cup::new)
-                    .reduce(
-                            tmp, (result, next) -> {
-                                result.next = next;
-                                return next;
-                            }
-                    );
-
-            final Cup root = tmp.next;
-            last.next = root;
-
-            final Cup[] lookup = new Cup[cups.length];
-
-            Cup current = root;
+            int destination = current;
             do {
-                lookup[current.value - 1] = current;
-                current = current.next;
-            } while (current != root);
+                destination = destination == 1 ? max : destination - 1;
+            } while (destination == next1 || destination == next2 || destination == next3);
 
-            return new Cups(root, lookup);
-        }
+            next[current] = next[next3];
+            next[next3] = next[destination];
+            next[destination] = next1;
 
+            current = next[current];
+        }
     }
 
+    // ****************************************
+    // Private Helper Methods
+    // ****************************************
+
     /*
-     * One cup.
+     * Read the labels of the starting cups.
      */
-    private static final class Cup {
-
-        // Private Members
-
-        private final int value;
-        private Cup next;
-
-        // Constructors
-
-        Cup(final int value) {
-            this.value = value;
-        }
-
-        // Helper Methods
+    private static int[] readLabelledCups(final SolutionContext context) {
+        return context.stream()
+                .flatMapToInt(String::chars)
+                .map(i -> i - '0')
+                .toArray();
+    }
 
-        /*
-         * Set the next cup, implicitly making the reverse link.
-         */
-        public void setNext(final Cup other) {
-            this.next = other;
-        }
+    /*
+     * Read the labels of every cup clockwise of cup 1.
+     */
+    private static long readLabelsAfterCup1(final int[] next) {
+        long result = 0;
+        for (int cup = next[1]; cup != 1; cup = next[cup])
+            result = (result * 10) + cup;
+        return result;
+    }
 
+    /*
+     * Multiply the labels of the two cups clockwise of cup 1.
+     */
+    private static long multiplyCupsAfterCup1(final int[] next) {
+        final int next1 = next[1];
+        final int next2 = next[next1];
+        return (long) next1 * (long) next2;
     }
 
 }
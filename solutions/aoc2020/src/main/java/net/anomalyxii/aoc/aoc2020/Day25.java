@@ -1,9 +1,12 @@
 package net.anomalyxii.aoc.aoc2020;
 
 import net.anomalyxii.aoc.NoChallenge;
+import net.anomalyxii.aoc.annotations.Optimised;
 import net.anomalyxii.aoc.annotations.Part;
 import net.anomalyxii.aoc.annotations.Solution;
 import net.anomalyxii.aoc.context.SolutionContext;
+import net.anomalyxii.aoc.result.ObjectTuple;
+import net.anomalyxii.aoc.utils.maths.Modular;
 
 import static net.anomalyxii.aoc.annotations.Part.PartNumber.I;
 import static net.anomalyxii.aoc.annotations.Part.PartNumber.II;
@@ -14,6 +17,36 @@ import static net.anomalyxii.aoc.annotations.Part.PartNumber.II;
 @Solution(year = 2020, day = 25, title = "Combo Breaker")
 public class Day25 {
 
+    /*
+     * The subject number used to generate the public keys.
+     */
+    private static final long DEFAULT_SUBJECT = 7;
+
+    /*
+     * The modulus used by the handshake.
+     */
+    private static final long DEFAULT_MODULUS = 20201227;
+
+    // ****************************************
+    // Private Members
+    // ****************************************
+
+    private final long subject;
+    private final long modulus;
+
+    // ****************************************
+    // Constructors
+    // ****************************************
+
+    public Day25() {
+        this(DEFAULT_SUBJECT, DEFAULT_MODULUS);
+    }
+
+    Day25(final long subject, final long modulus) {
+        this.subject = subject;
+        this.modulus = modulus;
+    }
+
     // ****************************************
     // Challenge Methods
     // ****************************************
@@ -33,8 +66,8 @@ public class Day25 {
         final long cardPublicKey = keys[0];
         final long doorPublicKey = keys[1];
 
-        final int cardLoopSize = bruteForceLoopSize(cardPublicKey);
-        final int doorLoopSize = bruteForceLoopSize(doorPublicKey);
+        final long cardLoopSize = findLoopSize(cardPublicKey);
+        final long doorLoopSize = findLoopSize(doorPublicKey);
 
         final long encryptionKey1 = transform(doorPublicKey, cardLoopSize);
         final long encryptionKey2 = transform(cardPublicKey, doorLoopSize);
@@ -55,41 +88,50 @@ public class Day25 {
     }
 
     // ****************************************
-    // Private Helper Methods
+    // Optimised Challenge Methods
     // ****************************************
 
-    /*
-     * Brute force the loop size by transforming the `publicKey` until a
-     * match is found.
+    /**
+     * An optimised solution for parts 1 and 2.
+     *
+     * @param context the {@link SolutionContext} to solve against
+     * @return an {@link ObjectTuple} containing the answers for both parts
      */
-    private static int bruteForceLoopSize(final long publicKey) {
-        long value = 1;
-        for (int i = 0; i < Integer.MAX_VALUE; i++) {
-            if (value == publicKey)
-                return i;
-
-            value = transform(7, value);
-        }
+    @Optimised
+    public ObjectTuple<Long, NoChallenge> calculateAnswers(final SolutionContext context) {
+        final long[] keys = context.stream()
+                .mapToLong(Long::parseLong)
+                .toArray();
 
-        throw new IllegalStateException("Failed to brute force the key");
+        // Only one loop size is needed to derive the encryption key
+        final long cardLoopSize = findLoopSize(keys[0]);
+        return new ObjectTuple<>(transform(keys[1], cardLoopSize), NoChallenge.NO_CHALLENGE);
     }
 
+    // ****************************************
+    // Private Helper Methods
+    // ****************************************
+
     /*
-     * Transform the given `publicKey`.
+     * Find the loop size that transforms the subject number into the
+     * `publicKey`.
+     *
+     * Transforming is just modular exponentiation, so the loop size is the
+     * discrete logarithm of the `publicKey`.
      */
-    private static long transform(final long subject, final int loopSize) {
-        long value = 1;
-        for (int i = 0; i < loopSize; i++) {
-            value = transform(subject, value);
+    private long findLoopSize(final long publicKey) {
+        try {
+            return Modular.discreteLog(subject, publicKey, modulus);
+        } catch (final ArithmeticException e) {
+            throw new IllegalStateException("Failed to find the loop size for " + publicKey, e);
         }
-        return value;
     }
 
     /*
-     * Transform the given subject/value.
+     * Transform the given `subject` number.
      */
-    private static long transform(final long subject, final long value) {
-        return (value * subject) % 20201227;
+    private long transform(final long subject, final long loopSize) {
+        return Modular.powMod(subject, loopSize, modulus);
     }
 
 }
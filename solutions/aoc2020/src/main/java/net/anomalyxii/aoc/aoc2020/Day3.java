@@ -1,8 +1,10 @@
 package net.anomalyxii.aoc.aoc2020;
 
+import net.anomalyxii.aoc.annotations.Optimised;
 import net.anomalyxii.aoc.annotations.Part;
 import net.anomalyxii.aoc.annotations.Solution;
 import net.anomalyxii.aoc.context.SolutionContext;
+import net.anomalyxii.aoc.result.LongTuple;
 import net.anomalyxii.aoc.utils.geometry.Coordinate;
 import net.anomalyxii.aoc.utils.geometry.Grid;
 import net.anomalyxii.aoc.utils.geometry.Velocity;
@@ -49,6 +51,30 @@ public class Day3 {
                 * countTreesOnRoute(map, 1, 2);
     }
 
+    // ****************************************
+    // Optimised Challenge Methods
+    // ****************************************
+
+    /**
+     * An optimised solution for parts 1 and 2.
+     *
+     * @param context the {@link SolutionContext} to solve against
+     * @return a {@link LongTuple} containing the answers for both parts
+     */
+    @Optimised
+    public LongTuple calculateAnswers(final SolutionContext context) {
+        final Grid map = Grid.parseHorizontallyInfinite(context.stream());
+        final long part1 = countTreesOnRoute(map, 3, 1);
+        return new LongTuple(
+                part1,
+                countTreesOnRoute(map, 1, 1)
+                        * part1
+                        * countTreesOnRoute(map, 5, 1)
+                        * countTreesOnRoute(map, 7, 1)
+                        * countTreesOnRoute(map, 1, 2)
+        );
+    }
+
     // ****************************************
     // Helper Members
     // ****************************************
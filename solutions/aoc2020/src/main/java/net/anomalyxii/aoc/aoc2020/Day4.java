@@ -1,8 +1,10 @@
 package net.anomalyxii.aoc.aoc2020;
 
+import net.anomalyxii.aoc.annotations.Optimised;
 import net.anomalyxii.aoc.annotations.Part;
 import net.anomalyxii.aoc.annotations.Solution;
 import net.anomalyxii.aoc.context.SolutionContext;
+import net.anomalyxii.aoc.result.LongTuple;
 
 import java.util.HashMap;
 import java.util.List;
@@ -61,6 +63,30 @@ public class Day4 {
                 .count();
     }
 
+    // ****************************************
+    // Optimised Challenge Methods
+    // ****************************************
+
+    /**
+     * An optimised solution for parts 1 and 2.
+     *
+     * @param context the {@link SolutionContext} to solve against
+     * @return a {@link LongTuple} containing the answers for both parts
+     */
+    @Optimised
+    public LongTuple calculateAnswers(final SolutionContext context) {
+        return context.streamBatches()
+                .map(Day4::parsePassport)
+                .reduce(
+                        LongTuple.NULL,
+                        (tup, passport) -> tup.add(
+                                isPassportValid(passport) ? 1 : 0,
+                                isPassportValid(passport, Day4::validateField) ? 1 : 0
+                        ),
+                        LongTuple::add
+                );
+    }
+
     // ****************************************
     // Helper Methods
     // ****************************************
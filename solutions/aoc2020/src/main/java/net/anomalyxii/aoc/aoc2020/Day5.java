@@ -1,8 +1,10 @@
 package net.anomalyxii.aoc.aoc2020;
 
+import net.anomalyxii.aoc.annotations.Optimised;
 import net.anomalyxii.aoc.annotations.Part;
 import net.anomalyxii.aoc.annotations.Solution;
 import net.anomalyxii.aoc.context.SolutionContext;
+import net.anomalyxii.aoc.result.LongTuple;
 
 import java.util.List;
 
@@ -64,6 +66,37 @@ public class Day5 {
         return candidateForMySeat;
     }
 
+    // ****************************************
+    // Optimised Challenge Methods
+    // ****************************************
+
+    /**
+     * An optimised solution for parts 1 and 2.
+     *
+     * @param context the {@link SolutionContext} to solve against
+     * @return a {@link LongTuple} containing the answers for both parts
+     */
+    @Optimised
+    public LongTuple calculateAnswers(final SolutionContext context) {
+        final long[] seats = context.stream()
+                .mapToLong(Day5::calculateSeatId)
+                .sorted()
+                .toArray();
+
+        long candidateForMySeat = -1;
+        for (int i = 1; i < seats.length; i++) {
+            if (seats[i - 1] != (seats[i] - 1)) {
+                if (candidateForMySeat >= 0) {
+                    throw new IllegalStateException("Ambiguous missing seat!");
+                }
+
+                candidateForMySeat = seats[i] - 1;
+            }
+        }
+
+        return new LongTuple(seats.length == 0 ? 0 : seats[seats.length - 1], candidateForMySeat);
+    }
+
     // ****************************************
     // Helper Members
     // ****************************************
@@ -1,8 +1,10 @@
 package net.anomalyxii.aoc.aoc2020;
 
+import net.anomalyxii.aoc.annotations.Optimised;
 import net.anomalyxii.aoc.annotations.Part;
 import net.anomalyxii.aoc.annotations.Solution;
 import net.anomalyxii.aoc.context.SolutionContext;
+import net.anomalyxii.aoc.result.LongTuple;
 
 import java.util.HashSet;
 import java.util.Set;
@@ -54,6 +56,39 @@ public class Day6 {
                 .sum();
     }
 
+    // ****************************************
+    // Optimised Challenge Methods
+    // ****************************************
+
+    /**
+     * An optimised solution for parts 1 and 2.
+     *
+     * @param context the {@link SolutionContext} to solve against
+     * @return a {@link LongTuple} containing the answers for both parts
+     */
+    @Optimised
+    public LongTuple calculateAnswers(final SolutionContext context) {
+        return context.streamBatches()
+                .reduce(
+                        LongTuple.NULL,
+                        (tup, group) -> {
+                            // Track the questions as bits, 'a' => bit 0, ...
+                            int anyone = 0;
+                            int everyone = ~0;
+                            for (final String answers : group) {
+                                int questions = 0;
+                                for (int i = 0; i < answers.length(); i++)
+                                    questions |= 1 << (Character.toLowerCase(answers.charAt(i)) - 'a');
+
+                                anyone |= questions;
+                                everyone &= questions;
+                            }
+                            return tup.add(Integer.bitCount(anyone), Integer.bitCount(everyone));
+                        },
+                        LongTuple::add
+                );
+    }
+
     // ****************************************
     // Private Helper Members
     // ****************************************
@@ -1,8 +1,10 @@
 package net.anomalyxii.aoc.aoc2020;
 
+import net.anomalyxii.aoc.annotations.Optimised;
 import net.anomalyxii.aoc.annotations.Part;
 import net.anomalyxii.aoc.annotations.Solution;
 import net.anomalyxii.aoc.context.SolutionContext;
+import net.anomalyxii.aoc.result.LongTuple;
 
 import java.util.HashMap;
 import java.util.List;
@@ -59,6 +61,31 @@ public class Day7 {
         return countNestedBags(bagSpecsByName.get("shiny gold"), bagSpecsByName);
     }
 
+    // ****************************************
+    // Optimised Challenge Methods
+    // ****************************************
+
+    /**
+     * An optimised solution for parts 1 and 2.
+     *
+     * @param context the {@link SolutionContext} to solve against
+     * @return a {@link LongTuple} containing the answers for both parts
+     */
+    @Optimised
+    public LongTuple calculateAnswers(final SolutionContext context) {
+        final Map<String, Boolean> memo = new HashMap<>();
+        final Map<String, BagSpec> bagSpecsByName = new HashMap<>();
+
+        final List<BagSpec> bagSpecs = context.process(Day7::parseBagSpec);
+        bagSpecs.forEach(spec -> bagSpecsByName.put(spec.myColour, spec));
+
+        final long part1 = bagSpecs.stream()
+                .filter(spec -> hasPathToShinyGoldBag(spec, bagSpecsByName, memo))
+                .count();
+
+        return new LongTuple(part1, countNestedBags(bagSpecsByName.get("shiny gold"), bagSpecsByName));
+    }
+
     // ****************************************
     // Helper Members
     // ****************************************
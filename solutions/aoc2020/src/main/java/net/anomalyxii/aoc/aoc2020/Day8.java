@@ -1,8 +1,10 @@
 package net.anomalyxii.aoc.aoc2020;
 
+import net.anomalyxii.aoc.annotations.Optimised;
 import net.anomalyxii.aoc.annotations.Part;
 import net.anomalyxii.aoc.annotations.Solution;
 import net.anomalyxii.aoc.context.SolutionContext;
+import net.anomalyxii.aoc.result.LongTuple;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -54,6 +56,30 @@ public class Day8 {
         return runCodeAndAttemptToPatch(instructions);
     }
 
+    // ****************************************
+    // Optimised Challenge Methods
+    // ****************************************
+
+    /**
+     * An optimised solution for parts 1 and 2.
+     *
+     * @param context the {@link SolutionContext} to solve against
+     * @return a {@link LongTuple} containing the answers for both parts
+     */
+    @Optimised
+    public LongTuple calculateAnswers(final SolutionContext context) {
+        final List<String> instructions = context.read();
+
+        final AtomicLong accumulator = new AtomicLong(0);
+        try {
+            runCode(accumulator, new ArrayList<>(instructions));
+        } catch (final InfiniteLoopException e) {
+            return new LongTuple(accumulator.get(), runCodeAndAttemptToPatch(new ArrayList<>(instructions)));
+        }
+
+        throw new IllegalStateException("Expected an infinite loop!");
+    }
+
     // ****************************************
     // Private Helper Members
     // ****************************************
@@ -1,8 +1,10 @@
 package net.anomalyxii.aoc.aoc2020;
 
+import net.anomalyxii.aoc.annotations.Optimised;
 import net.anomalyxii.aoc.annotations.Part;
 import net.anomalyxii.aoc.annotations.Solution;
 import net.anomalyxii.aoc.context.SolutionContext;
+import net.anomalyxii.aoc.result.LongTuple;
 import net.anomalyxii.aoc.utils.geometry.Bounds;
 
 import java.util.List;
@@ -60,6 +62,23 @@ public class Day9 {
         return findEncryptionWeakness(numbers, target);
     }
 
+    // ****************************************
+    // Optimised Challenge Methods
+    // ****************************************
+
+    /**
+     * An optimised solution for parts 1 and 2.
+     *
+     * @param context the {@link SolutionContext} to solve against
+     * @return a {@link LongTuple} containing the answers for both parts
+     */
+    @Optimised
+    public LongTuple calculateAnswers(final SolutionContext context) {
+        final List<Long> numbers = context.process(Long::parseLong);
+        final long target = findEncryptionError(numbers, preambleLength);
+        return new LongTuple(target, findEncryptionWeakness(numbers, target));
+    }
+
     // ****************************************
     // Private Helper Methods
     // ****************************************
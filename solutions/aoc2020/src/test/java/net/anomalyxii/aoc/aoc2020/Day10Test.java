@@ -1,6 +1,7 @@
 package net.anomalyxii.aoc.aoc2020;
 
 import net.anomalyxii.aoc.context.SolutionContext;
+import net.anomalyxii.aoc.result.LongTuple;
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -70,4 +71,36 @@ class Day10Test {
                 .isEqualTo(1322306994176L);
     }
 
+    // calculateAnswers
+
+    @Test
+    void calculateAnswers_Example() {
+        // arrange
+        final Day10 challenge = new Day10();
+
+        // act
+        final LongTuple answer = challenge.calculateAnswers(EXAMPLE);
+
+        // assert
+        assertThat(answer.answer1())
+                .isEqualTo(220L);
+        assertThat(answer.answer2())
+                .isEqualTo(19208L);
+    }
+
+    @Test
+    void calculateAnswers_Live() {
+        // arrange
+        final Day10 challenge = new Day10();
+
+        // act
+        final LongTuple answer = challenge.calculateAnswers(LIVE);
+
+        // assert
+        assertThat(answer.answer1())
+                .isEqualTo(2048L);
+        assertThat(answer.answer2())
+                .isEqualTo(1322306994176L);
+    }
+
 }
\ No newline at end of file
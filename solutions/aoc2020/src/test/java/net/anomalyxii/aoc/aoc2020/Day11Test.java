@@ -1,6 +1,7 @@
 package net.anomalyxii.aoc.aoc2020;
 
 import net.anomalyxii.aoc.context.SolutionContext;
+import net.anomalyxii.aoc.result.LongTuple;
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -70,4 +71,36 @@ class Day11Test {
                 .isEqualTo(2013);
     }
 
+    // calculateAnswers
+
+    @Test
+    void calculateAnswers_Example() {
+        // arrange
+        final Day11 challenge = new Day11();
+
+        // act
+        final LongTuple answer = challenge.calculateAnswers(EXAMPLE);
+
+        // assert
+        assertThat(answer.answer1())
+                .isEqualTo(37L);
+        assertThat(answer.answer2())
+                .isEqualTo(26L);
+    }
+
+    @Test
+    void calculateAnswers_Live() {
+        // arrange
+        final Day11 challenge = new Day11();
+
+        // act
+        final LongTuple answer = challenge.calculateAnswers(LIVE);
+
+        // assert
+        assertThat(answer.answer1())
+                .isEqualTo(2238L);
+        assertThat(answer.answer2())
+                .isEqualTo(2013L);
+    }
+
 }
\ No newline at end of file
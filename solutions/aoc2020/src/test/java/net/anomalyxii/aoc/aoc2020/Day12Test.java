@@ -1,6 +1,7 @@
 package net.anomalyxii.aoc.aoc2020;
 
 import net.anomalyxii.aoc.context.SolutionContext;
+import net.anomalyxii.aoc.result.LongTuple;
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -70,4 +71,36 @@ class Day12Test {
                 .isEqualTo(62434);
     }
 
+    // calculateAnswers
+
+    @Test
+    void calculateAnswers_Example() {
+        // arrange
+        final Day12 challenge = new Day12();
+
+        // act
+        final LongTuple answer = challenge.calculateAnswers(EXAMPLE);
+
+        // assert
+        assertThat(answer.answer1())
+                .isEqualTo(25L);
+        assertThat(answer.answer2())
+                .isEqualTo(286L);
+    }
+
+    @Test
+    void calculateAnswers_Live() {
+        // arrange
+        final Day12 challenge = new Day12();
+
+        // act
+        final LongTuple answer = challenge.calculateAnswers(LIVE);
+
+        // assert
+        assertThat(answer.answer1())
+                .isEqualTo(1319L);
+        assertThat(answer.answer2())
+                .isEqualTo(62434L);
+    }
+
 }
\ No newline at end of file
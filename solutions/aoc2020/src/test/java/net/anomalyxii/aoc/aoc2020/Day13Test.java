@@ -1,6 +1,7 @@
 package net.anomalyxii.aoc.aoc2020;
 
 import net.anomalyxii.aoc.context.SolutionContext;
+import net.anomalyxii.aoc.result.LongTuple;
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -70,4 +71,36 @@ class Day13Test {
                 .isEqualTo(530015546283687L);
     }
 
+    // calculateAnswers
+
+    @Test
+    void calculateAnswers_Example() {
+        // arrange
+        final Day13 challenge = new Day13();
+
+        // act
+        final LongTuple answer = challenge.calculateAnswers(EXAMPLE);
+
+        // assert
+        assertThat(answer.answer1())
+                .isEqualTo(295L);
+        assertThat(answer.answer2())
+                .isEqualTo(1068781L);
+    }
+
+    @Test
+    void calculateAnswers_Live() {
+        // arrange
+        final Day13 challenge = new Day13();
+
+        // act
+        final LongTuple answer = challenge.calculateAnswers(LIVE);
+
+        // assert
+        assertThat(answer.answer1())
+                .isEqualTo(207L);
+        assertThat(answer.answer2())
+                .isEqualTo(530015546283687L);
+    }
+
 }
\ No newline at end of file
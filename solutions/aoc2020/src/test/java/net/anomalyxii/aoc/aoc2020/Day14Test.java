@@ -1,6 +1,7 @@
 package net.anomalyxii.aoc.aoc2020;
 
 import net.anomalyxii.aoc.context.SolutionContext;
+import net.anomalyxii.aoc.result.LongTuple;
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -9,6 +10,7 @@ class Day14Test {
 
     private static final SolutionContext EXAMPLE = SolutionContext.example(14);
     private static final SolutionContext EXAMPLE_2 = SolutionContext.example(14, 2);
+    private static final SolutionContext EXAMPLE_3 = SolutionContext.example(14, 3);
     private static final SolutionContext LIVE = SolutionContext.live(2020, 14);
 
     // ****************************************
@@ -58,6 +60,19 @@ class Day14Test {
                 .isEqualTo(208);
     }
 
+    @Test
+    void calculateAnswerForPart2_ExampleWithManyFloatingBits() {
+        // arrange
+        final Day14 challenge = new Day14();
+
+        // act
+        final long answer = challenge.calculateAnswerForPart2(EXAMPLE_3);
+
+        // assert
+        assertThat(answer)
+                .isEqualTo(3L * (1L << 36) - 6);
+    }
+
     @Test
     void calculateAnswerForPart2_Live() {
         // arrange
@@ -71,4 +86,21 @@ class Day14Test {
                 .isEqualTo(4877695371685L);
     }
 
+    // calculateAnswers
+
+    @Test
+    void calculateAnswers_Live() {
+        // arrange
+        final Day14 challenge = new Day14();
+
+        // act
+        final LongTuple answer = challenge.calculateAnswers(LIVE);
+
+        // assert
+        assertThat(answer.answer1())
+                .isEqualTo(9296748256641L);
+        assertThat(answer.answer2())
+                .isEqualTo(4877695371685L);
+    }
+
 }
\ No newline at end of file
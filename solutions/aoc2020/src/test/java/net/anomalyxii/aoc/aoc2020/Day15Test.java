@@ -1,6 +1,7 @@
 package net.anomalyxii.aoc.aoc2020;
 
 import net.anomalyxii.aoc.context.SolutionContext;
+import net.anomalyxii.aoc.result.LongTuple;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
@@ -96,6 +97,38 @@ class Day15Test {
                 .isEqualTo(16439);
     }
 
+    // calculateAnswers
+
+    @Test
+    void calculateAnswers_Example() {
+        // arrange
+        final Day15 challenge = new Day15();
+
+        // act
+        final LongTuple answer = challenge.calculateAnswers(EXAMPLE);
+
+        // assert
+        assertThat(answer.answer1())
+                .isEqualTo(436L);
+        assertThat(answer.answer2())
+                .isEqualTo(175594L);
+    }
+
+    @Test
+    void calculateAnswers_Live() {
+        // arrange
+        final Day15 challenge = new Day15();
+
+        // act
+        final LongTuple answer = challenge.calculateAnswers(LIVE);
+
+        // assert
+        assertThat(answer.answer1())
+                .isEqualTo(1665L);
+        assertThat(answer.answer2())
+                .isEqualTo(16439L);
+    }
+
     // playGame
 
     @ParameterizedTest
@@ -112,4 +145,33 @@ class Day15Test {
                 .isEqualTo(expected);
     }
 
+    // playGameOffHeap
+
+    @ParameterizedTest
+    @MethodSource("exampleGames")
+    public void playGameOffHeap_Example(final int[] startingNumbers, final int rounds, final long expected) {
+        // arrange
+        // Nothing to do? :)
+
+        // act
+        final long answer = Day15.playGameOffHeap(rounds, startingNumbers);
+
+        // assert
+        assertThat(answer)
+                .isEqualTo(expected);
+    }
+
+    @Test
+    void playGame_ReturnsStartingNumberIfGameEndsEarly() {
+        // arrange
+        final int[] startingNumbers = {0, 3, 6};
+
+        // act
+        final long answer = Day15.playGame(2, startingNumbers);
+
+        // assert
+        assertThat(answer)
+                .isEqualTo(3);
+    }
+
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package net.anomalyxii.aoc.aoc2020;
 
 import net.anomalyxii.aoc.context.SolutionContext;
+import net.anomalyxii.aoc.result.LongTuple;
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -71,4 +72,21 @@ class Day16Test {
                 .isEqualTo(3029180675981L);
     }
 
+    // calculateAnswers
+
+    @Test
+    void calculateAnswers_Live() {
+        // arrange
+        final Day16 challenge = new Day16();
+
+        // act
+        final LongTuple answer = challenge.calculateAnswers(LIVE);
+
+        // assert
+        assertThat(answer.answer1())
+                .isEqualTo(29851L);
+        assertThat(answer.answer2())
+                .isEqualTo(3029180675981L);
+    }
+
 }
\ No newline at end of file
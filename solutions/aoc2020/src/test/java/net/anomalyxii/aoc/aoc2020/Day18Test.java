@@ -1,6 +1,7 @@
 package net.anomalyxii.aoc.aoc2020;
 
 import net.anomalyxii.aoc.context.SolutionContext;
+import net.anomalyxii.aoc.result.LongTuple;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
@@ -101,6 +102,38 @@ class Day18Test {
                 .isEqualTo(8952864356993L);
     }
 
+    // calculateAnswers
+
+    @Test
+    void calculateAnswers_Example() {
+        // arrange
+        final Day18 challenge = new Day18();
+
+        // act
+        final LongTuple answer = challenge.calculateAnswers(EXAMPLE);
+
+        // assert
+        assertThat(answer.answer1())
+                .isEqualTo(26457L);
+        assertThat(answer.answer2())
+                .isEqualTo(694173L);
+    }
+
+    @Test
+    void calculateAnswers_Live() {
+        // arrange
+        final Day18 challenge = new Day18();
+
+        // act
+        final LongTuple answer = challenge.calculateAnswers(LIVE);
+
+        // assert
+        assertThat(answer.answer1())
+                .isEqualTo(654686398176L);
+        assertThat(answer.answer2())
+                .isEqualTo(8952864356993L);
+    }
+
     // evaluate
 
     @ParameterizedTest
@@ -1,14 +1,21 @@
 package net.anomalyxii.aoc.aoc2020;
 
 import net.anomalyxii.aoc.context.SolutionContext;
+import net.anomalyxii.aoc.result.LongTuple;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class Day19Test {
 
@@ -22,79 +29,97 @@ class Day19Test {
 
     private static Stream<Arguments> grammars() {
         return Stream.of(
-                Arguments.of("\"a\"", new String[0], "a", true),
-                Arguments.of("\"a\"", new String[0], "b", false),
-                Arguments.of("\"a\"", new String[0], "a a", false),
-                Arguments.of("\"a\"", new String[0], "", false),
-                Arguments.of("\"a\" \"a\"", new String[0], "a a", true),
-                Arguments.of("\"a\" \"a\"", new String[0], "a b", false),
-                Arguments.of("\"a\" \"a\"", new String[0], "a a b", false),
-                Arguments.of("\"a\" \"a\"", new String[0], "a", false),
-                Arguments.of("\"a\" \"b\" \"a\"", new String[0], "a b a", true),
-                Arguments.of("\"a\" \"b\" \"a\"", new String[0], "a b c", false),
-                Arguments.of("\"a\" | \"b\"", new String[0], "a", true),
-                Arguments.of("\"a\" | \"b\"", new String[0], "b", true),
-                Arguments.of("\"a\" | \"b\"", new String[0], "c", false),
-                Arguments.of("\"a\" | \"b\"", new String[0], "a a", false),
-                Arguments.of("\"a\" | \"b\"", new String[0], "a b", false),
-                Arguments.of("\"a\" | \"b\"", new String[0], "b a", false),
-                Arguments.of("\"a\" | \"b\"", new String[0], "c a", false),
-                Arguments.of("\"a\" \"a\" | \"a\" \"b\"", new String[0], "a b", true),
-                Arguments.of("\"a\" \"a\" | \"a\" \"b\"", new String[0], "a a", true),
-                Arguments.of("\"a\" \"a\" | \"a\" \"b\"", new String[0], "b a", false),
-                Arguments.of("\"a\" \"a\" | \"a\" \"b\"", new String[0], "a b a", false),
-                Arguments.of("\"a\" \"a\" | \"a\" \"b\"", new String[0], "a a b", false),
-                Arguments.of("\"a\" \"a\" | \"a\" \"b\"", new String[0], "b a a", false),
-                Arguments.of("0", new String[]{"\"a\""}, "a", true),
-                Arguments.of("0", new String[]{"\"a\""}, "b", false),
-                Arguments.of("0", new String[]{"\"a\""}, "a a", false),
-                Arguments.of("0", new String[]{"\"a\""}, "", false),
-                Arguments.of("0 0", new String[]{"\"a\""}, "a a", true),
-                Arguments.of("0 0", new String[]{"\"a\""}, "a b", false),
-                Arguments.of("0 0", new String[]{"\"a\""}, "a b a", false),
-                Arguments.of("0 0", new String[]{"\"a\""}, "a", false),
-                Arguments.of("0 \"b\"", new String[]{"\"a\""}, "a b", true),
-                Arguments.of("0 \"b\"", new String[]{"\"a\""}, "a a", false),
-                Arguments.of("0 \"b\"", new String[]{"\"a\""}, "a a b", false),
-                Arguments.of("0 \"b\"", new String[]{"\"a\""}, "a b a", false),
-                Arguments.of("0 0 \"b\"", new String[]{"\"a\""}, "a a b", true),
-                Arguments.of("0 0 \"b\"", new String[]{"\"a\""}, "a b", false),
-                Arguments.of("0 0 \"b\"", new String[]{"\"a\""}, "a a b a", false),
-                Arguments.of("0 0 \"b\"", new String[]{"\"a\""}, "a b a a", false),
-                Arguments.of("0 \"b\" 0", new String[]{"\"a\""}, "a b a", true),
-                Arguments.of("0 \"b\" 0", new String[]{"\"a\""}, "a a b", false),
-                Arguments.of("0 \"b\" 0", new String[]{"\"a\""}, "b a a", false),
-                Arguments.of("0 \"b\" 0", new String[]{"\"a\""}, "a b a a", false),
-                Arguments.of("0 | 1", new String[]{"\"a\"", "\"b\""}, "a", true),
-                Arguments.of("0 | 1", new String[]{"\"a\"", "\"b\""}, "b", true),
-                Arguments.of("0 | 1", new String[]{"\"a\"", "\"b\""}, "c", false),
-                Arguments.of("0 | 1", new String[]{"\"a\"", "\"b\""}, "a b", false),
-                Arguments.of("0 | 1", new String[]{"\"a\"", "\"b\""}, "b a", false),
-                Arguments.of("0 0 | 1 1", new String[]{"\"a\"", "\"b\""}, "a a", true),
-                Arguments.of("0 0 | 1 1", new String[]{"\"a\"", "\"b\""}, "b b", true),
-                Arguments.of("0 0 | 1 1", new String[]{"\"a\"", "\"b\""}, "a b", false),
-                Arguments.of("0 0 | 1 1", new String[]{"\"a\"", "\"b\""}, "b a", false),
-                Arguments.of("0 1 | 1 0", new String[]{"\"a\"", "\"b\""}, "a b", true),
-                Arguments.of("0 1 | 1 0", new String[]{"\"a\"", "\"b\""}, "b a", true),
-                Arguments.of("0 1 | 1 0", new String[]{"\"a\"", "\"b\""}, "a a", false),
-                Arguments.of("0 1 | 1 0", new String[]{"\"a\"", "\"b\""}, "b b", false),
-                Arguments.of("0", new String[]{"1 | 2", "\"a\"", "\"b\""}, "a", true),
-                Arguments.of("0", new String[]{"1 | 2", "\"a\"", "\"b\""}, "b", true),
-                Arguments.of("0", new String[]{"1 | 2", "\"a\"", "\"b\""}, "c", false),
-                Arguments.of("0 0", new String[]{"1 | 2", "\"a\"", "\"b\""}, "a a", true),
-                Arguments.of("0 0", new String[]{"1 | 2", "\"a\"", "\"b\""}, "a b", true),
-                Arguments.of("0 0", new String[]{"1 | 2", "\"a\"", "\"b\""}, "b a", true),
-                Arguments.of("0 0", new String[]{"1 | 2", "\"a\"", "\"b\""}, "b b", true),
-                Arguments.of("0 0", new String[]{"1 | 2", "\"a\"", "\"b\""}, "a a a", false),
-                Arguments.of("0 0", new String[]{"1 | 2", "\"a\"", "\"b\""}, "b b b", false),
-                Arguments.of("0 0", new String[]{"1 | 2", "\"a\"", "\"b\""}, "a b a", false),
-                Arguments.of("0 0", new String[]{"1 | 2", "\"a\"", "\"b\""}, "a b b", false),
-                Arguments.of("0 0", new String[]{"1 | 2", "\"a\"", "\"b\""}, "c c", false),
-                Arguments.of("4 1 5", new String[]{"-", "2 3 | 3 2", "4 4 | 5 5", "4 5 | 5 4", "\"a\"", "\"b\""}, "a b a b b b", true),
-                Arguments.of("4 1 5", new String[]{"-", "2 3 | 3 2", "4 4 | 5 5", "4 5 | 5 4", "\"a\"", "\"b\""}, "a b b b a b", true),
-                Arguments.of("4 1 5", new String[]{"-", "2 3 | 3 2", "4 4 | 5 5", "4 5 | 5 4", "\"a\"", "\"b\""}, "b a b a b a", false),
-                Arguments.of("4 1 5", new String[]{"-", "2 3 | 3 2", "4 4 | 5 5", "4 5 | 5 4", "\"a\"", "\"b\""}, "a a a b b b", false),
-                Arguments.of("4 1 5", new String[]{"-", "2 3 | 3 2", "4 4 | 5 5", "4 5 | 5 4", "\"a\"", "\"b\""}, "a a a a b b b", false)
+                Arguments.of(new String[]{"\"a\""}, "a", true),
+                Arguments.of(new String[]{"\"a\""}, "b", false),
+                Arguments.of(new String[]{"\"a\""}, "aa", false),
+                Arguments.of(new String[]{"\"a\""}, "", false),
+                Arguments.of(new String[]{"1 1", "\"a\""}, "aa", true),
+                Arguments.of(new String[]{"1 1", "\"a\""}, "ab", false),
+                Arguments.of(new String[]{"1 1", "\"a\""}, "aab", false),
+                Arguments.of(new String[]{"1 1", "\"a\""}, "a", false),
+                Arguments.of(new String[]{"1 2 1", "\"a\"", "\"b\""}, "aba", true),
+                Arguments.of(new String[]{"1 2 1", "\"a\"", "\"b\""}, "abc", false),
+                Arguments.of(new String[]{"1 | 2", "\"a\"", "\"b\""}, "a", true),
+                Arguments.of(new String[]{"1 | 2", "\"a\"", "\"b\""}, "b", true),
+                Arguments.of(new String[]{"1 | 2", "\"a\"", "\"b\""}, "c", false),
+                Arguments.of(new String[]{"1 | 2", "\"a\"", "\"b\""}, "aa", false),
+                Arguments.of(new String[]{"1 | 2", "\"a\"", "\"b\""}, "ab", false),
+                Arguments.of(new String[]{"1 | 2", "\"a\"", "\"b\""}, "ba", false),
+                Arguments.of(new String[]{"1 | 2", "\"a\"", "\"b\""}, "ca", false),
+                Arguments.of(new String[]{"1 1 | 1 2", "\"a\"", "\"b\""}, "ab", true),
+                Arguments.of(new String[]{"1 1 | 1 2", "\"a\"", "\"b\""}, "aa", true),
+                Arguments.of(new String[]{"1 1 | 1 2", "\"a\"", "\"b\""}, "ba", false),
+                Arguments.of(new String[]{"1 1 | 1 2", "\"a\"", "\"b\""}, "aba", false),
+                Arguments.of(new String[]{"1 1 | 1 2", "\"a\"", "\"b\""}, "aab", false),
+                Arguments.of(new String[]{"1 1 | 1 2", "\"a\"", "\"b\""}, "baa", false),
+                Arguments.of(new String[]{"1", "\"a\""}, "a", true),
+                Arguments.of(new String[]{"1", "\"a\""}, "b", false),
+                Arguments.of(new String[]{"1", "\"a\""}, "aa", false),
+                Arguments.of(new String[]{"1", "\"a\""}, "", false),
+                Arguments.of(new String[]{"1 1", "\"a\""}, "aba", false),
+                Arguments.of(new String[]{"1 2", "\"a\"", "\"b\""}, "ab", true),
+                Arguments.of(new String[]{"1 2", "\"a\"", "\"b\""}, "aa", false),
+                Arguments.of(new String[]{"1 2", "\"a\"", "\"b\""}, "aab", false),
+                Arguments.of(new String[]{"1 2", "\"a\"", "\"b\""}, "aba", false),
+                Arguments.of(new String[]{"1 1 2", "\"a\"", "\"b\""}, "aab", true),
+                Arguments.of(new String[]{"1 1 2", "\"a\"", "\"b\""}, "ab", false),
+                Arguments.of(new String[]{"1 1 2", "\"a\"", "\"b\""}, "aaba", false),
+                Arguments.of(new String[]{"1 1 2", "\"a\"", "\"b\""}, "abaa", false),
+                Arguments.of(new String[]{"1 2 1", "\"a\"", "\"b\""}, "aab", false),
+                Arguments.of(new String[]{"1 2 1", "\"a\"", "\"b\""}, "baa", false),
+                Arguments.of(new String[]{"1 2 1", "\"a\"", "\"b\""}, "abaa", false),
+                Arguments.of(new String[]{"1 1 | 2 2", "\"a\"", "\"b\""}, "aa", true),
+                Arguments.of(new String[]{"1 1 | 2 2", "\"a\"", "\"b\""}, "bb", true),
+                Arguments.of(new String[]{"1 1 | 2 2", "\"a\"", "\"b\""}, "ab", false),
+                Arguments.of(new String[]{"1 1 | 2 2", "\"a\"", "\"b\""}, "ba", false),
+                Arguments.of(new String[]{"1 2 | 2 1", "\"a\"", "\"b\""}, "ab", true),
+                Arguments.of(new String[]{"1 2 | 2 1", "\"a\"", "\"b\""}, "ba", true),
+                Arguments.of(new String[]{"1 2 | 2 1", "\"a\"", "\"b\""}, "aa", false),
+                Arguments.of(new String[]{"1 2 | 2 1", "\"a\"", "\"b\""}, "bb", false),
+                Arguments.of(new String[]{"1", "2 | 3", "\"a\"", "\"b\""}, "a", true),
+                Arguments.of(new String[]{"1", "2 | 3", "\"a\"", "\"b\""}, "b", true),
+                Arguments.of(new String[]{"1", "2 | 3", "\"a\"", "\"b\""}, "c", false),
+                Arguments.of(new String[]{"1 1", "2 | 3", "\"a\"", "\"b\""}, "aa", true),
+                Arguments.of(new String[]{"1 1", "2 | 3", "\"a\"", "\"b\""}, "ab", true),
+                Arguments.of(new String[]{"1 1", "2 | 3", "\"a\"", "\"b\""}, "ba", true),
+                Arguments.of(new String[]{"1 1", "2 | 3", "\"a\"", "\"b\""}, "bb", true),
+                Arguments.of(new String[]{"1 1", "2 | 3", "\"a\"", "\"b\""}, "aaa", false),
+                Arguments.of(new String[]{"1 1", "2 | 3", "\"a\"", "\"b\""}, "bbb", false),
+                Arguments.of(new String[]{"1 1", "2 | 3", "\"a\"", "\"b\""}, "aba", false),
+                Arguments.of(new String[]{"1 1", "2 | 3", "\"a\"", "\"b\""}, "abb", false),
+                Arguments.of(new String[]{"1 1", "2 | 3", "\"a\"", "\"b\""}, "cc", false),
+                Arguments.of(new String[]{"4 1 5", "2 3 | 3 2", "4 4 | 5 5", "4 5 | 5 4", "\"a\"", "\"b\""}, "ababbb", true),
+                Arguments.of(new String[]{"4 1 5", "2 3 | 3 2", "4 4 | 5 5", "4 5 | 5 4", "\"a\"", "\"b\""}, "abbbab", true),
+                Arguments.of(new String[]{"4 1 5", "2 3 | 3 2", "4 4 | 5 5", "4 5 | 5 4", "\"a\"", "\"b\""}, "bababa", false),
+                Arguments.of(new String[]{"4 1 5", "2 3 | 3 2", "4 4 | 5 5", "4 5 | 5 4", "\"a\"", "\"b\""}, "aaabbb", false),
+                Arguments.of(new String[]{"4 1 5", "2 3 | 3 2", "4 4 | 5 5", "4 5 | 5 4", "\"a\"", "\"b\""}, "aaaabbb", false)
+        );
+    }
+
+    private static Stream<Arguments> loopingExampleMessages() {
+        return Stream.of(
+                Arguments.of("abbbbbabbbaaaababbaabbbbabababbbabbbbbbabaaaa", false),
+                Arguments.of("bbabbbbaabaabba", true),
+                Arguments.of("babbbbaabbbbbabbbbbbaabaaabaaa", true),
+                Arguments.of("aaabbbbbbaaaabaababaabababbabaaabbababababaaa", true),
+                Arguments.of("bbbbbbbaaaabbbbaaabbabaaa", true),
+                Arguments.of("bbbababbbbaaaaaaaabbababaaababaabab", true),
+                Arguments.of("ababaaaaaabaaab", true),
+                Arguments.of("ababaaaaabbbaba", true),
+                Arguments.of("baabbaaaabbaaaababbaababb", true),
+                Arguments.of("abbbbabbbbaaaababbbbbbaaaababb", true),
+                Arguments.of("aaaaabbaabaaaaababaa", true),
+                Arguments.of("aaaabbaaaabbaaa", false),
+                Arguments.of("aaaabbaabbaaaaaaabbbabbbaaabbaabaaa", true),
+                Arguments.of("babaaabbbaaabaababbaabababaaab", false),
+                Arguments.of("aabbbbbaabbbaaaaaabbbbbababaaaaabbaaabba", true),
+                // Rejected: empty, too short, truncated, or with trailing input
+                Arguments.of("", false),
+                Arguments.of("a", false),
+                Arguments.of("bbabbbbaabaabb", false),
+                Arguments.of("bbabbbbaabaabbab", false),
+                Arguments.of("bbabbbbaabaabbabbabbbbaabaabba", false),
+                Arguments.of("bbabbbbaabaabbac", false)
         );
     }
 
@@ -171,45 +196,142 @@ class Day19Test {
                 .isEqualTo(314);
     }
 
-    // isValid
+    // calculateAnswers
 
     @Test
-    void isValid_ExampleGrammar() {
+    void calculateAnswers_Live() {
         // arrange
-        final String[] grammar = {
-                "P -> S",
-                "S -> S \"+\" M | M ",
-                "M -> M \"*\" T | T",
-                "T -> \"1\" | \"2\" | \"3\" | \"4\"",
-        };
+        final Day19 challenge = new Day19();
 
         // act
-        final boolean matches = Day19.isValid("2 + 3 * 4", grammar);
+        final LongTuple answer = challenge.calculateAnswers(LIVE);
 
         // assert
-        assertThat(matches)
-                .withFailMessage("Expected '2 + 3 * 4' to match the example grammar")
-                .isTrue();
+        assertThat(answer.answer1())
+                .isEqualTo(104L);
+        assertThat(answer.answer2())
+                .isEqualTo(314L);
     }
 
-    @ParameterizedTest(name = "{0} == '{1}'")
+    // isValid
+
+    @ParameterizedTest(name = "{1} == {2}")
     @MethodSource("grammars")
     public void isValid_TestVariousGrammars(
-            final String rule,
-            final String[] others,
+            final String[] rules,
             final String input,
             final boolean expectedMatch
     ) {
+        // act
+        final boolean matches = Day19.isValid(input, rules);
+
+        // assert
+        assertThat(matches)
+                .withFailMessage("Expected input '" + input + "' to " + (expectedMatch ? "match" : "not match") + " " + Arrays.toString(rules))
+                .isEqualTo(expectedMatch);
+    }
+
+    @Test
+    void isValid_ThrowsExceptionForLeftRecursiveGrammar() {
+        // arrange
+        final String[] rules = {
+                "1",
+                "1 2 3 | 3",
+                "\"+\"",
+                "3 4 5 | 5",
+                "\"*\"",
+                "6 | 7 | 8 | 9",
+                "\"1\"",
+                "\"2\"",
+                "\"3\"",
+                "\"4\"",
+        };
+
+        // act + assert
+        assertThrows(IllegalArgumentException.class, () -> Day19.isValid("2+3*4", rules));
+    }
+
+    @Test
+    void isValid_ThrowsExceptionForLeftRecursiveRootRule() {
+        // arrange
+        final String[] rules = {"0 1 | 1", "\"a\""};
+
+        // act + assert
+        assertThrows(IllegalArgumentException.class, () -> Day19.isValid("aa", rules));
+    }
+
+    // MessageValidator
+
+    @ParameterizedTest(name = "{0} == {1}")
+    @MethodSource("loopingExampleMessages")
+    void MessageValidator_LoopingRootMatchesGeneralRecogniser(final String message, final boolean expectedMatch) {
         // arrange
-        // Nothing to do?
+        final Day19.MessageValidator validator = Day19.MessageValidator.compile(Day19.withLoopingRules(readRules(EXAMPLE_2)));
+        final byte[] bytes = message.getBytes(StandardCharsets.US_ASCII);
 
         // act
-        final boolean matches = Day19.isValid(input, rule, others);
+        final boolean general = validator.matchesRoot(bytes);
+        final boolean looping = validator.matchesLoopingRoot(bytes);
 
         // assert
-        assertThat(matches)
-                .withFailMessage("Expected input '" + input + "' to " + (expectedMatch ? "match" : "not match") + " [" + rule + "]")
+        assertThat(validator.isLooping())
+                .isTrue();
+        assertThat(general)
+                .withFailMessage("Expected the general recogniser to " + (expectedMatch ? "match" : "not match") + " '" + message + "'")
                 .isEqualTo(expectedMatch);
+        assertThat(looping)
+                .withFailMessage("Expected the looping shortcut to " + (expectedMatch ? "match" : "not match") + " '" + message + "'")
+                .isEqualTo(expectedMatch);
+    }
+
+    @Test
+    void MessageValidator_DoesNotUseLoopingRootForOriginalRules() {
+        // arrange
+        final Day19.MessageValidator validator = Day19.MessageValidator.compile(readRules(EXAMPLE_2));
+
+        // act
+        final boolean matches = validator.matches("babbbbaabbbbbabbbbbbaabaaabaaa".getBytes(StandardCharsets.US_ASCII));
+
+        // assert
+        assertThat(validator.isLooping())
+                .isFalse();
+        assertThat(matches)
+                .isFalse();
+    }
+
+    @Test
+    void MessageValidator_ThrowsExceptionForUnknownRule() {
+        // arrange
+        final Map<Integer, String> rules = Map.of(0, "1 2", 1, "\"a\"");
+
+        // act + assert
+        assertThrows(IllegalArgumentException.class, () -> Day19.MessageValidator.compile(rules));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"\"a\" \"a\"", "1 \"a\"", "\"a\" | 1", "\"a"})
+    void MessageValidator_ThrowsExceptionForTerminalThatIsNotTheWholeRule(final String rule) {
+        // arrange
+        final Map<Integer, String> rules = Map.of(0, rule, 1, "\"a\"");
+
+        // act + assert
+        assertThrows(IllegalArgumentException.class, () -> Day19.MessageValidator.compile(rules));
+    }
+
+    // ****************************************
+    // Private Helper Methods
+    // ****************************************
+
+    /*
+     * Read just the rules, keyed by their number.
+     */
+    private static Map<Integer, String> readRules(final SolutionContext context) {
+        final Map<Integer, String> rules = new HashMap<>();
+        for (final String line : context.read()) {
+            final int colon = line.indexOf(':');
+            if (colon > 0) rules.put(Integer.parseInt(line.substring(0, colon)), line.substring(colon + 1).trim());
+        }
+        return rules;
     }
 
 }
@@ -1,6 +1,7 @@
 package net.anomalyxii.aoc.aoc2020;
 
 import net.anomalyxii.aoc.context.SolutionContext;
+import net.anomalyxii.aoc.result.LongTuple;
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -71,6 +72,38 @@ class Day1Test {
                 .isEqualTo(116168640);
     }
 
+    // calculateAnswers
+
+    @Test
+    void calculateAnswers_Example() {
+        // arrange
+        final Day1 challenge = new Day1();
+
+        // act
+        final LongTuple answer = challenge.calculateAnswers(EXAMPLE);
+
+        // assert
+        assertThat(answer.answer1())
+                .isEqualTo(514579L);
+        assertThat(answer.answer2())
+                .isEqualTo(241861950L);
+    }
+
+    @Test
+    void calculateAnswers_Live() {
+        // arrange
+        final Day1 challenge = new Day1();
+
+        // act
+        final LongTuple answer = challenge.calculateAnswers(LIVE);
+
+        // assert
+        assertThat(answer.answer1())
+                .isEqualTo(876459L);
+        assertThat(answer.answer2())
+                .isEqualTo(116168640L);
+    }
+
     // findProductOf2020Pairs
 
     @Test
@@ -1,9 +1,11 @@
 package net.anomalyxii.aoc.aoc2020;
 
 import net.anomalyxii.aoc.context.SolutionContext;
+import net.anomalyxii.aoc.result.LongTuple;
+import net.anomalyxii.aoc.utils.geometry.GridView.Symmetry;
 import org.junit.jupiter.api.Test;
 
-import java.util.Set;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -72,10 +74,42 @@ class Day20Test {
                 .isEqualTo(1692);
     }
 
-    // findMatchingBorders
+    // calculateAnswers
 
     @Test
-    void findMatchingBorders_LeftMatchesRight() {
+    void calculateAnswers_Example() {
+        // arrange
+        final Day20 challenge = new Day20();
+
+        // act
+        final LongTuple answer = challenge.calculateAnswers(EXAMPLE);
+
+        // assert
+        assertThat(answer.answer1())
+                .isEqualTo(20899048083289L);
+        assertThat(answer.answer2())
+                .isEqualTo(273L);
+    }
+
+    @Test
+    void calculateAnswers_Live() {
+        // arrange
+        final Day20 challenge = new Day20();
+
+        // act
+        final LongTuple answer = challenge.calculateAnswers(LIVE);
+
+        // assert
+        assertThat(answer.answer1())
+                .isEqualTo(54755174472007L);
+        assertThat(answer.answer2())
+                .isEqualTo(1692L);
+    }
+
+    // EdgeIndex
+
+    @Test
+    void EdgeIndex_LeftMatchesRight() {
         // arrange
         final Day20.Tile left = Day20.Tile.createTile(
                 "Tile 1", new char[][]{
@@ -97,27 +131,35 @@ class Day20Test {
                 }
         );
 
+        final int edge = left.edge(Day20.Edge.RIGHT);
+
         // act
-        final Set<Day20.Edge> leftBorders = Day20.findMatchingBorders(left, right);
-        final Set<Day20.Edge> rightBorders = Day20.findMatchingBorders(right, left);
+        final Day20.EdgeIndex index = Day20.EdgeIndex.of(List.of(left, right));
+        final int orientation = Day20.findOrientation(Day20.orientEdges(right), Day20.Edge.LEFT, edge);
 
         // assert
-        assertThat(leftBorders)
-                .isNotEmpty()
-                .containsExactly(Day20.Edge.RIGHT);
-        assertThat(rightBorders)
-                .isNotEmpty()
-                .containsExactly(Day20.Edge.LEFT);
+        assertThat(index.isUnmatched(edge))
+                .isFalse();
+        assertThat(index.findOtherTile(edge, 0))
+                .isEqualTo(1);
+        assertThat(index.findOtherTile(edge, 1))
+                .isEqualTo(0);
+        assertThat(index.countUnmatchedEdges(left))
+                .isEqualTo(3);
+        assertThat(index.countUnmatchedEdges(right))
+                .isEqualTo(3);
+        assertThat(Symmetry.values()[orientation])
+                .isEqualTo(Symmetry.IDENTITY);
     }
 
     @Test
-    void findMatchingBorders_TopMatchesBottom() {
+    void EdgeIndex_TopMatchesBottom() {
         // arrange
         final Day20.Tile top = Day20.Tile.createTile(
                 "Tile 1", new char[][]{
                         "#.#.#".toCharArray(),
                         ".....".toCharArray(),
-                        "#....".toCharArray(),
+                        ".....".toCharArray(),
                         ".....".toCharArray(),
                         "##.#.".toCharArray(),
                 }
@@ -133,21 +175,29 @@ class Day20Test {
                 }
         );
 
+        final int edge = top.edge(Day20.Edge.BOTTOM);
+
         // act
-        final Set<Day20.Edge> topBorders = Day20.findMatchingBorders(top, bottom);
-        final Set<Day20.Edge> bottomBorders = Day20.findMatchingBorders(bottom, top);
+        final Day20.EdgeIndex index = Day20.EdgeIndex.of(List.of(top, bottom));
+        final int orientation = Day20.findOrientation(Day20.orientEdges(bottom), Day20.Edge.TOP, edge);
 
         // assert
-        assertThat(topBorders)
-                .isNotEmpty()
-                .containsExactly(Day20.Edge.BOTTOM);
-        assertThat(bottomBorders)
-                .isNotEmpty()
-                .containsExactly(Day20.Edge.TOP);
+        assertThat(index.isUnmatched(edge))
+                .isFalse();
+        assertThat(index.findOtherTile(edge, 0))
+                .isEqualTo(1);
+        assertThat(index.findOtherTile(edge, 1))
+                .isEqualTo(0);
+        assertThat(index.countUnmatchedEdges(top))
+                .isEqualTo(3);
+        assertThat(index.countUnmatchedEdges(bottom))
+                .isEqualTo(3);
+        assertThat(Symmetry.values()[orientation])
+                .isEqualTo(Symmetry.IDENTITY);
     }
 
     @Test
-    void findMatchingBorders_LeftMatchesRight_Flipped() {
+    void EdgeIndex_LeftMatchesRight_Flipped() {
         // arrange
         final Day20.Tile left = Day20.Tile.createTile(
                 "Tile 1", new char[][]{
@@ -169,21 +219,29 @@ class Day20Test {
                 }
         );
 
+        final int edge = left.edge(Day20.Edge.RIGHT);
+
         // act
-        final Set<Day20.Edge> leftBorders = Day20.findMatchingBorders(left, right);
-        final Set<Day20.Edge> rightBorders = Day20.findMatchingBorders(right, left);
+        final Day20.EdgeIndex index = Day20.EdgeIndex.of(List.of(left, right));
+        final int orientation = Day20.findOrientation(Day20.orientEdges(right), Day20.Edge.LEFT, edge);
 
         // assert
-        assertThat(leftBorders)
-                .isNotEmpty()
-                .containsExactly(Day20.Edge.RIGHT);
-        assertThat(rightBorders)
-                .isNotEmpty()
-                .containsExactly(Day20.Edge.RIGHT);
+        assertThat(index.isUnmatched(edge))
+                .isFalse();
+        assertThat(index.findOtherTile(edge, 0))
+                .isEqualTo(1);
+        assertThat(index.findOtherTile(edge, 1))
+                .isEqualTo(0);
+        assertThat(index.countUnmatchedEdges(left))
+                .isEqualTo(3);
+        assertThat(index.countUnmatchedEdges(right))
+                .isEqualTo(3);
+        assertThat(Symmetry.values()[orientation])
+                .isEqualTo(Symmetry.FLIP_HORIZONTAL);
     }
 
     @Test
-    void findMatchingBorders_LeftMatchesRight_Rotated180() {
+    void EdgeIndex_LeftMatchesRight_Rotated180() {
         // arrange
         final Day20.Tile left = Day20.Tile.createTile(
                 "Tile 1", new char[][]{
@@ -205,17 +263,25 @@ class Day20Test {
                 }
         );
 
+        final int edge = left.edge(Day20.Edge.RIGHT);
+
         // act
-        final Set<Day20.Edge> leftBorders = Day20.findMatchingBorders(left, right);
-        final Set<Day20.Edge> rightBorders = Day20.findMatchingBorders(right, left);
+        final Day20.EdgeIndex index = Day20.EdgeIndex.of(List.of(left, right));
+        final int orientation = Day20.findOrientation(Day20.orientEdges(right), Day20.Edge.LEFT, edge);
 
         // assert
-        assertThat(leftBorders)
-                .isNotEmpty()
-                .containsExactly(Day20.Edge.RIGHT);
-        assertThat(rightBorders)
-                .isNotEmpty()
-                .containsExactly(Day20.Edge.RIGHT);
+        assertThat(index.isUnmatched(edge))
+                .isFalse();
+        assertThat(index.findOtherTile(edge, 0))
+                .isEqualTo(1);
+        assertThat(index.findOtherTile(edge, 1))
+                .isEqualTo(0);
+        assertThat(index.countUnmatchedEdges(left))
+                .isEqualTo(3);
+        assertThat(index.countUnmatchedEdges(right))
+                .isEqualTo(3);
+        assertThat(Symmetry.values()[orientation])
+                .isEqualTo(Symmetry.ROTATE_180);
     }
 
-}
\ No newline at end of file
+}
@@ -1,6 +1,7 @@
 package net.anomalyxii.aoc.aoc2020;
 
 import net.anomalyxii.aoc.context.SolutionContext;
+import net.anomalyxii.aoc.result.ObjectTuple;
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -70,4 +71,36 @@ class Day21Test {
                 .isEqualTo("bxjvzk,hqgqj,sp,spl,hsksz,qzzzf,fmpgn,tpnnkc");
     }
 
+    // calculateAnswers
+
+    @Test
+    void calculateAnswers_Example() {
+        // arrange
+        final Day21 challenge = new Day21();
+
+        // act
+        final ObjectTuple<Long, String> answer = challenge.calculateAnswers(EXAMPLE);
+
+        // assert
+        assertThat(answer.answer1())
+                .isEqualTo(5L);
+        assertThat(answer.answer2())
+                .isEqualTo("mxmxvkd,sqjhc,fvjkl");
+    }
+
+    @Test
+    void calculateAnswers_Live() {
+        // arrange
+        final Day21 challenge = new Day21();
+
+        // act
+        final ObjectTuple<Long, String> answer = challenge.calculateAnswers(LIVE);
+
+        // assert
+        assertThat(answer.answer1())
+                .isEqualTo(2324L);
+        assertThat(answer.answer2())
+                .isEqualTo("bxjvzk,hqgqj,sp,spl,hsksz,qzzzf,fmpgn,tpnnkc");
+    }
+
 }
\ No newline at end of file
@@ -1,12 +1,10 @@
 package net.anomalyxii.aoc.aoc2020;
 
+import net.anomalyxii.aoc.context.RecordingMetrics;
 import net.anomalyxii.aoc.context.SolutionContext;
+import net.anomalyxii.aoc.result.LongTuple;
 import org.junit.jupiter.api.Test;
 
-import java.util.ArrayDeque;
-import java.util.Deque;
-
-import static java.util.Arrays.asList;
 import static org.assertj.core.api.Assertions.assertThat;
 
 class Day22Test {
@@ -74,15 +72,69 @@ class Day22Test {
                 .isEqualTo(33661);
     }
 
-    // calculateWinningScore
+    @Test
+    void calculateAnswerForPart2_ExampleWithRepeatedSubGames() {
+        // arrange
+        final Day22 challenge = new Day22();
+        final RecordingMetrics metrics = new RecordingMetrics();
+        final SolutionContext context = SolutionContext.builder()
+                .example(22, 2)
+                .withMetrics(metrics)
+                .build();
+
+        // act
+        final long answer = challenge.calculateAnswerForPart2(context);
+
+        // assert
+        assertThat(answer)
+                .isEqualTo(272L);
+        assertThat(metrics.counters().get(Day22.MEMOISED_SUB_GAMES))
+                .isEqualTo(1L);
+        assertThat(metrics.counters().get(Day22.SHORT_CIRCUITED_SUB_GAMES))
+                .isEqualTo(1L);
+    }
+
+    // calculateAnswers
+
+    @Test
+    void calculateAnswers_Example() {
+        // arrange
+        final Day22 challenge = new Day22();
+
+        // act
+        final LongTuple answer = challenge.calculateAnswers(EXAMPLE);
+
+        // assert
+        assertThat(answer.answer1())
+                .isEqualTo(306L);
+        assertThat(answer.answer2())
+                .isEqualTo(291L);
+    }
+
+    @Test
+    void calculateAnswers_Live() {
+        // arrange
+        final Day22 challenge = new Day22();
+
+        // act
+        final LongTuple answer = challenge.calculateAnswers(LIVE);
+
+        // assert
+        assertThat(answer.answer1())
+                .isEqualTo(32677L);
+        assertThat(answer.answer2())
+                .isEqualTo(33661L);
+    }
+
+    // Deck
 
     @Test
-    void calculateWinningScore_ExampleDeck() {
+    void Deck_ScoreExampleDeck() {
         // arrange
-        final Deque<Integer> cards = new ArrayDeque<>(asList(3, 2, 10, 6, 8, 5, 9, 4, 7, 1));
+        final Day22.Deck deck = Day22.Deck.of(3, 2, 10, 6, 8, 5, 9, 4, 7, 1);
 
         // act
-        final long score = Day22.calculateWinningScore(cards);
+        final long score = deck.score();
 
         // assert
         assertThat(score)
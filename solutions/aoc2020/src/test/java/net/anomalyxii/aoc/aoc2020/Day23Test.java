@@ -1,9 +1,11 @@
 package net.anomalyxii.aoc.aoc2020;
 
 import net.anomalyxii.aoc.context.SolutionContext;
+import net.anomalyxii.aoc.result.LongTuple;
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class Day23Test {
 
@@ -70,4 +72,99 @@ class Day23Test {
                 .isEqualTo(42271866720L);
     }
 
+    @Test
+    void calculateAnswerForPart2_ExampleWithFewerCupsAndMoves() {
+        // arrange
+        final Day23 challenge = new Day23(9, 10);
+
+        // act
+        final long answer = challenge.calculateAnswerForPart2(EXAMPLE);
+
+        // assert
+        assertThat(answer)
+                .isEqualTo(9L * 2L);
+    }
+
+    // calculateAnswers
+
+    @Test
+    void calculateAnswers_Example() {
+        // arrange
+        final Day23 challenge = new Day23();
+
+        // act
+        final LongTuple answer = challenge.calculateAnswers(EXAMPLE);
+
+        // assert
+        assertThat(answer.answer1())
+                .isEqualTo(67384529L);
+        assertThat(answer.answer2())
+                .isEqualTo(149245887792L);
+    }
+
+    @Test
+    void calculateAnswers_Live() {
+        // arrange
+        final Day23 challenge = new Day23();
+
+        // act
+        final LongTuple answer = challenge.calculateAnswers(LIVE);
+
+        // assert
+        assertThat(answer.answer1())
+                .isEqualTo(47382659L);
+        assertThat(answer.answer2())
+                .isEqualTo(42271866720L);
+    }
+
+    // playCupGame
+
+    @Test
+    void playCupGame_Example() {
+        // arrange
+        final int[] next = new int[10];
+
+        // act
+        Day23.playCupGame(next, 10, 3, 8, 9, 1, 2, 5, 4, 6, 7);
+
+        // assert
+        final StringBuilder labels = new StringBuilder();
+        for (int cup = next[1]; cup != 1; cup = next[cup])
+            labels.append(cup);
+        assertThat(labels.toString())
+                .isEqualTo("92658374");
+    }
+
+    @Test
+    void playCupGame_AddsUnlabelledCups() {
+        // arrange
+        final int[] next = new int[21];
+
+        // act
+        Day23.playCupGame(next, 0, 3, 8, 9, 1, 2, 5, 4, 6, 7);
+
+        // assert
+        assertThat(next[7])
+                .isEqualTo(10);
+        assertThat(next[19])
+                .isEqualTo(20);
+        assertThat(next[20])
+                .isEqualTo(3);
+    }
+
+    @Test
+    void playCupGame_ThrowsExceptionIfTooFewCups() {
+        // arrange
+        final int[] next = new int[4];
+
+        // act
+        final IllegalArgumentException error = assertThrows(
+                IllegalArgumentException.class,
+                () -> Day23.playCupGame(next, 10, 3, 1, 2));
+
+        // assert
+        assertThat(error.getMessage())
+                .isEqualTo("Need at least 5 cups to play, but got 3");
+    }
+
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package net.anomalyxii.aoc.aoc2020;
 
 import net.anomalyxii.aoc.context.SolutionContext;
+import net.anomalyxii.aoc.result.LongTuple;
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -70,4 +71,36 @@ class Day24Test {
                 .isEqualTo(3697);
     }
 
+    // calculateAnswers
+
+    @Test
+    void calculateAnswers_Example() {
+        // arrange
+        final Day24 challenge = new Day24();
+
+        // act
+        final LongTuple answer = challenge.calculateAnswers(EXAMPLE);
+
+        // assert
+        assertThat(answer.answer1())
+                .isEqualTo(10L);
+        assertThat(answer.answer2())
+                .isEqualTo(2208L);
+    }
+
+    @Test
+    void calculateAnswers_Live() {
+        // arrange
+        final Day24 challenge = new Day24();
+
+        // act
+        final LongTuple answer = challenge.calculateAnswers(LIVE);
+
+        // assert
+        assertThat(answer.answer1())
+                .isEqualTo(254L);
+        assertThat(answer.answer2())
+                .isEqualTo(3697L);
+    }
+
 }
\ No newline at end of file
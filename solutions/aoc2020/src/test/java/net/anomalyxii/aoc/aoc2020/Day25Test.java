@@ -1,6 +1,8 @@
 package net.anomalyxii.aoc.aoc2020;
 
+import net.anomalyxii.aoc.NoChallenge;
 import net.anomalyxii.aoc.context.SolutionContext;
+import net.anomalyxii.aoc.result.ObjectTuple;
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -42,4 +44,36 @@ class Day25Test {
                 .isEqualTo(18608573);
     }
 
+    // calculateAnswers
+
+    @Test
+    void calculateAnswers_Example() {
+        // arrange
+        final Day25 challenge = new Day25();
+
+        // act
+        final ObjectTuple<Long, NoChallenge> answer = challenge.calculateAnswers(EXAMPLE);
+
+        // assert
+        assertThat(answer.answer1())
+                .isEqualTo(14897079L);
+        assertThat(answer.answer2())
+                .isEqualTo(NoChallenge.NO_CHALLENGE);
+    }
+
+    @Test
+    void calculateAnswers_Live() {
+        // arrange
+        final Day25 challenge = new Day25();
+
+        // act
+        final ObjectTuple<Long, NoChallenge> answer = challenge.calculateAnswers(LIVE);
+
+        // assert
+        assertThat(answer.answer1())
+                .isEqualTo(18608573L);
+        assertThat(answer.answer2())
+                .isEqualTo(NoChallenge.NO_CHALLENGE);
+    }
+
 }
\ No newline at end of file
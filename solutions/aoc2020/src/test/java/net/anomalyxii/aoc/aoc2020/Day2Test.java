@@ -1,6 +1,7 @@
 package net.anomalyxii.aoc.aoc2020;
 
 import net.anomalyxii.aoc.context.SolutionContext;
+import net.anomalyxii.aoc.result.LongTuple;
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -70,6 +71,38 @@ class Day2Test {
                 .isEqualTo(313);
     }
 
+    // calculateAnswers
+
+    @Test
+    void calculateAnswers_Example() {
+        // arrange
+        final Day2 challenge = new Day2();
+
+        // act
+        final LongTuple answer = challenge.calculateAnswers(EXAMPLE);
+
+        // assert
+        assertThat(answer.answer1())
+                .isEqualTo(2L);
+        assertThat(answer.answer2())
+                .isEqualTo(1L);
+    }
+
+    @Test
+    void calculateAnswers_Live() {
+        // arrange
+        final Day2 challenge = new Day2();
+
+        // act
+        final LongTuple answer = challenge.calculateAnswers(LIVE);
+
+        // assert
+        assertThat(answer.answer1())
+                .isEqualTo(500L);
+        assertThat(answer.answer2())
+                .isEqualTo(313L);
+    }
+
     // isPasswordValid
 
     @Test
@@ -1,6 +1,7 @@
 package net.anomalyxii.aoc.aoc2020;
 
 import net.anomalyxii.aoc.context.SolutionContext;
+import net.anomalyxii.aoc.result.LongTuple;
 import net.anomalyxii.aoc.utils.geometry.Coordinate;
 import net.anomalyxii.aoc.utils.geometry.Grid;
 import org.junit.jupiter.api.Test;
@@ -72,6 +73,38 @@ class Day3Test {
                 .isEqualTo(1574890240);
     }
 
+    // calculateAnswers
+
+    @Test
+    void calculateAnswers_Example() {
+        // arrange
+        final Day3 challenge = new Day3();
+
+        // act
+        final LongTuple answer = challenge.calculateAnswers(EXAMPLE);
+
+        // assert
+        assertThat(answer.answer1())
+                .isEqualTo(7L);
+        assertThat(answer.answer2())
+                .isEqualTo(336L);
+    }
+
+    @Test
+    void calculateAnswers_Live() {
+        // arrange
+        final Day3 challenge = new Day3();
+
+        // act
+        final LongTuple answer = challenge.calculateAnswers(LIVE);
+
+        // assert
+        assertThat(answer.answer1())
+                .isEqualTo(209L);
+        assertThat(answer.answer2())
+                .isEqualTo(1574890240L);
+    }
+
     // countTreesOnRoute
 
     @Test
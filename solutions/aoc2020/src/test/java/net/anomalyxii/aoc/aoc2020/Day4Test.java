@@ -1,6 +1,7 @@
 package net.anomalyxii.aoc.aoc2020;
 
 import net.anomalyxii.aoc.context.SolutionContext;
+import net.anomalyxii.aoc.result.LongTuple;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
@@ -163,6 +164,23 @@ class Day4Test {
                 .isEqualTo(198);
     }
 
+    // calculateAnswers
+
+    @Test
+    void calculateAnswers_Live() {
+        // arrange
+        final Day4 challenge = new Day4();
+
+        // act
+        final LongTuple answer = challenge.calculateAnswers(LIVE);
+
+        // assert
+        assertThat(answer.answer1())
+                .isEqualTo(256L);
+        assertThat(answer.answer2())
+                .isEqualTo(198L);
+    }
+
     // isPassportValid
 
     @Test
@@ -1,6 +1,7 @@
 package net.anomalyxii.aoc.aoc2020;
 
 import net.anomalyxii.aoc.context.SolutionContext;
+import net.anomalyxii.aoc.result.LongTuple;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -108,6 +109,23 @@ class Day5Test {
                 .isEqualTo(524);
     }
 
+    // calculateAnswers
+
+    @Test
+    void calculateAnswers_Live() {
+        // arrange
+        final Day5 challenge = new Day5();
+
+        // act
+        final LongTuple answer = challenge.calculateAnswers(LIVE);
+
+        // assert
+        assertThat(answer.answer1())
+                .isEqualTo(965L);
+        assertThat(answer.answer2())
+                .isEqualTo(524L);
+    }
+
     // calculateSeatId
 
     @ParameterizedTest
@@ -1,6 +1,7 @@
 package net.anomalyxii.aoc.aoc2020;
 
 import net.anomalyxii.aoc.context.SolutionContext;
+import net.anomalyxii.aoc.result.LongTuple;
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -70,4 +71,36 @@ class Day6Test {
                 .isEqualTo(3628);
     }
 
+    // calculateAnswers
+
+    @Test
+    void calculateAnswers_Example() {
+        // arrange
+        final Day6 challenge = new Day6();
+
+        // act
+        final LongTuple answer = challenge.calculateAnswers(EXAMPLE);
+
+        // assert
+        assertThat(answer.answer1())
+                .isEqualTo(11L);
+        assertThat(answer.answer2())
+                .isEqualTo(6L);
+    }
+
+    @Test
+    void calculateAnswers_Live() {
+        // arrange
+        final Day6 challenge = new Day6();
+
+        // act
+        final LongTuple answer = challenge.calculateAnswers(LIVE);
+
+        // assert
+        assertThat(answer.answer1())
+                .isEqualTo(7110L);
+        assertThat(answer.answer2())
+                .isEqualTo(3628L);
+    }
+
 }
@@ -1,6 +1,7 @@
 package net.anomalyxii.aoc.aoc2020;
 
 import net.anomalyxii.aoc.context.SolutionContext;
+import net.anomalyxii.aoc.result.LongTuple;
 import org.junit.jupiter.api.Test;
 
 import java.util.Collections;
@@ -73,6 +74,38 @@ class Day7Test {
                 .isEqualTo(5956);
     }
 
+    // calculateAnswers
+
+    @Test
+    void calculateAnswers_Example() {
+        // arrange
+        final Day7 challenge = new Day7();
+
+        // act
+        final LongTuple answer = challenge.calculateAnswers(EXAMPLE);
+
+        // assert
+        assertThat(answer.answer1())
+                .isEqualTo(4L);
+        assertThat(answer.answer2())
+                .isEqualTo(32L);
+    }
+
+    @Test
+    void calculateAnswers_Live() {
+        // arrange
+        final Day7 challenge = new Day7();
+
+        // act
+        final LongTuple answer = challenge.calculateAnswers(LIVE);
+
+        // assert
+        assertThat(answer.answer1())
+                .isEqualTo(144L);
+        assertThat(answer.answer2())
+                .isEqualTo(5956L);
+    }
+
     // parseBagSpec
 
     @Test
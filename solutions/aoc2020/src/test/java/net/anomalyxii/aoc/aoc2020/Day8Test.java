@@ -1,6 +1,7 @@
 package net.anomalyxii.aoc.aoc2020;
 
 import net.anomalyxii.aoc.context.SolutionContext;
+import net.anomalyxii.aoc.result.LongTuple;
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -70,4 +71,36 @@ class Day8Test {
                 .isEqualTo(501);
     }
 
+    // calculateAnswers
+
+    @Test
+    void calculateAnswers_Example() {
+        // arrange
+        final Day8 challenge = new Day8();
+
+        // act
+        final LongTuple answer = challenge.calculateAnswers(EXAMPLE);
+
+        // assert
+        assertThat(answer.answer1())
+                .isEqualTo(5L);
+        assertThat(answer.answer2())
+                .isEqualTo(8L);
+    }
+
+    @Test
+    void calculateAnswers_Live() {
+        // arrange
+        final Day8 challenge = new Day8();
+
+        // act
+        final LongTuple answer = challenge.calculateAnswers(LIVE);
+
+        // assert
+        assertThat(answer.answer1())
+                .isEqualTo(1217L);
+        assertThat(answer.answer2())
+                .isEqualTo(501L);
+    }
+
 }
@@ -1,6 +1,7 @@
 package net.anomalyxii.aoc.aoc2020;
 
 import net.anomalyxii.aoc.context.SolutionContext;
+import net.anomalyxii.aoc.result.LongTuple;
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -70,4 +71,36 @@ class Day9Test {
                 .isEqualTo(28509180);
     }
 
+    // calculateAnswers
+
+    @Test
+    void calculateAnswers_Example() {
+        // arrange
+        final Day9 challenge = new Day9(5);
+
+        // act
+        final LongTuple answer = challenge.calculateAnswers(EXAMPLE);
+
+        // assert
+        assertThat(answer.answer1())
+                .isEqualTo(127L);
+        assertThat(answer.answer2())
+                .isEqualTo(62L);
+    }
+
+    @Test
+    void calculateAnswers_Live() {
+        // arrange
+        final Day9 challenge = new Day9();
+
+        // act
+        final LongTuple answer = challenge.calculateAnswers(LIVE);
+
+        // assert
+        assertThat(answer.answer1())
+                .isEqualTo(217430975L);
+        assertThat(answer.answer2())
+                .isEqualTo(28509180L);
+    }
+
 }
\ No newline at end of file
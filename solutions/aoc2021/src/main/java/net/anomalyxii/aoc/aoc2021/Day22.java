@@ -4,10 +4,9 @@ import net.anomalyxii.aoc.annotations.Part;
 import net.anomalyxii.aoc.annotations.Solution;
 import net.anomalyxii.aoc.context.SolutionContext;
 import net.anomalyxii.aoc.utils.geometry.Bounds;
-import net.anomalyxii.aoc.utils.geometry.ThreeDimensionalSpace;
+import net.anomalyxii.aoc.utils.geometry.BoxSet;
 import net.anomalyxii.aoc.utils.geometry.Volume;
 
-import java.util.ArrayList;
 import java.util.List;
 
 import static net.anomalyxii.aoc.annotations.Part.PartNumber.I;
@@ -35,8 +34,8 @@ public class Day22 {
                 .map(Instruction::parse)
                 .toList();
 
-        final ThreeDimensionalSpace relevant = Volume.of(Bounds.of(-50, 50), Bounds.of(-50, 50), Bounds.of(-50, 50));
-        return determinePositiveArea(instructions, relevant);
+        final Volume relevant = Volume.of(Bounds.of(-50, 50), Bounds.of(-50, 50), Bounds.of(-50, 50));
+        return determinePositiveVolume(instructions, relevant);
     }
 
     /**
@@ -51,12 +50,7 @@ public class Day22 {
                 .map(Instruction::parse)
                 .toList();
 
-        final ThreeDimensionalSpace relevant = instructions.stream()
-                .filter(instruction -> instruction.on)
-                .map(instruction -> instruction.area)
-                .reduce(Volume.NULL, ThreeDimensionalSpace::union, ThreeDimensionalSpace::union);
-
-        return determinePositiveArea(instructions, relevant);
+        return determinePositiveVolume(instructions, Volume.INFINITY);
     }
 
     // ****************************************
@@ -64,25 +58,29 @@ public class Day22 {
     // ****************************************
 
     /*
-     * Determine the positive area, constrained to the relevant space,
-     * defined by the given `Instruction`s.
+     * Determine the volume that is "on", constrained to the relevant space,
+     * after applying the given `Instruction`s.
      */
-    private long determinePositiveArea(final List<Instruction> instructions, final ThreeDimensionalSpace relevant) {
-        final NegativeArea result = new NegativeArea(relevant);
-
+    private long determinePositiveVolume(final List<Instruction> instructions, final Volume relevant) {
+        final BoxSet cubes = new BoxSet(3);
         for (final Instruction instruction : instructions) {
             final Volume area = instruction.area;
-            if (instruction.on) {
-                final PositiveArea nested = new PositiveArea(area);
-                result.add(nested);
-            } else {
-                final NegativeArea nested = new NegativeArea(area);
-                result.subtract(nested);
-            }
+            final long[] min = {
+                    Math.max(area.w().min(), relevant.w().min()),
+                    Math.max(area.h().min(), relevant.h().min()),
+                    Math.max(area.d().min(), relevant.d().min()),
+            };
+            final long[] max = {
+                    Math.min(area.w().max(), relevant.w().max()),
+                    Math.min(area.h().max(), relevant.h().max()),
+                    Math.min(area.d().max(), relevant.d().max()),
+            };
+
+            if (instruction.on) cubes.add(min, max);
+            else cubes.remove(min, max);
         }
 
-
-        return relevant.volume() - result.volume();
+        return cubes.volume();
     }
 
     // ****************************************
@@ -107,96 +105,4 @@ public class Day22 {
 
     }
 
-    /*
-     * A 3D area that can have sub-areas removed.
-     */
-    private sealed interface ComplexArea permits PositiveArea, NegativeArea {
-
-        /*
-         * Calculate the volume of this `ComplexArea`.
-         */
-        long volume();
-
-    }
-
-    /*
-     * A `ComplexArea` that is considered "present".
-     */
-    private static final class PositiveArea implements ComplexArea {
-
-        // Private Members
-
-        private final ThreeDimensionalSpace area;
-        private final List<NegativeArea> negatives = new ArrayList<>();
-
-        // Constructors
-
-        PositiveArea(final ThreeDimensionalSpace area) {
-            this.area = area;
-        }
-
-        // ComplexArea Methods
-
-        @Override
-        public long volume() {
-            return area.volume() - negatives.stream().mapToLong(NegativeArea::volume).sum();
-        }
-
-        // Helper Methods
-
-        void subtract(final NegativeArea negativeArea) {
-            final ThreeDimensionalSpace intersect = area.intersect(negativeArea.area);
-            if (!intersect.isNull()) {
-                final PositiveArea positive = new PositiveArea(intersect);
-                negatives.forEach(neg -> neg.add(positive));
-                negatives.add(new NegativeArea(intersect));
-            }
-        }
-
-    }
-
-    /*
-     * A `ComplexArea` that is considered "absent".
-     */
-    private static final class NegativeArea implements ComplexArea {
-
-        // Private Members
-
-        private final ThreeDimensionalSpace area;
-        private final List<PositiveArea> positives = new ArrayList<>();
-
-        // Private Members
-
-        NegativeArea(final ThreeDimensionalSpace area) {
-            this.area = area;
-        }
-
-        // ComplexArea Methods
-
-        @Override
-        public long volume() {
-            return area.volume() - positives.stream().mapToLong(PositiveArea::volume).sum();
-        }
-
-        // Helper Methods
-
-        void add(final PositiveArea positiveArea) {
-            final ThreeDimensionalSpace intersect = area.intersect(positiveArea.area);
-            if (!intersect.isNull()) {
-                final NegativeArea negative = new NegativeArea(intersect);
-                positives.forEach(pos -> pos.subtract(negative));
-                positives.add(new PositiveArea(intersect));
-            }
-        }
-
-        void subtract(final NegativeArea negativeArea) {
-            final ThreeDimensionalSpace intersect = area.intersect(negativeArea.area);
-            if (!intersect.isNull()) {
-                final NegativeArea negative = new NegativeArea(intersect);
-                positives.forEach(pos -> pos.subtract(negative));
-            }
-        }
-
-    }
-
 }
@@ -50,11 +50,14 @@ public class Day12 {
     public long calculateAnswerForPart2(final SolutionContext context) {
         final Grid grid = context.readGrid();
 
+        // Every search can share the same working array
+        final long[] distances = context.scratch().longs(grid.width() * grid.height());
+        final ShortestPath sp = new Dijkstra(Day12::resolve, size -> distances);
+
         long shortestPath = Long.MAX_VALUE;
         for (final Coordinate start : findPossibleStarts(grid)) {
             final Coordinate end = findEnd(grid);
 
-            final ShortestPath sp = new Dijkstra(Day12::resolve);
             final long distance = sp.solve(grid, start, end);
             if (distance < shortestPath)
                 shortestPath = distance;
@@ -3,12 +3,11 @@ package net.anomalyxii.aoc.aoc2022;
 import net.anomalyxii.aoc.annotations.Part;
 import net.anomalyxii.aoc.annotations.Solution;
 import net.anomalyxii.aoc.context.SolutionContext;
+import net.anomalyxii.aoc.utils.geometry.ChunkedGrid;
 import net.anomalyxii.aoc.utils.geometry.Coordinate;
 
 import java.util.List;
-import java.util.Set;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static java.util.Arrays.stream;
@@ -26,6 +25,11 @@ public class Day14 {
      */
     private static final Coordinate START = new Coordinate(500, 0);
 
+    /*
+     * Marker for a blocked cell in the cave.
+     */
+    private static final int BLOCKED = 1;
+
     // ****************************************
     // Challenge Methods
     // ****************************************
@@ -38,14 +42,8 @@ public class Day14 {
      */
     @Part(part = I)
     public long calculateAnswerForPart1(final SolutionContext context) {
-        final Set<Coordinate> walls = context.stream()
-                .flatMap(Day14::buildTheWall)
-                .collect(Collectors.toSet());
-
-        final int lowestWall = walls.stream()
-                .mapToInt(Coordinate::y)
-                .max()
-                .orElseThrow();
+        final ChunkedGrid walls = buildTheCave(context);
+        final int lowestWall = walls.area().h().max();
 
         int count = 0;
         toInfinityAndBeyond:
@@ -62,7 +60,7 @@ public class Day14 {
 
             // Can't move any more...
             ++count;
-            walls.add(grain);
+            walls.set(grain, BLOCKED);
         }
 
         return count;
@@ -76,17 +74,11 @@ public class Day14 {
      */
     @Part(part = II)
     public long calculateAnswerForPart2(final SolutionContext context) {
-        final Set<Coordinate> walls = context.stream()
-                .flatMap(Day14::buildTheWall)
-                .collect(Collectors.toSet());
-
-        final int groundLevel = walls.stream()
-                .mapToInt(Coordinate::y)
-                .max()
-                .orElseThrow() + 2;
+        final ChunkedGrid walls = buildTheCave(context);
+        final int groundLevel = walls.area().h().max() + 2;
 
         int count = 0;
-        while (!walls.contains(START)) {
+        while (walls.get(START) == 0) {
             Coordinate grain = START;
             Coordinate next;
             while ((next = fall(grain, n -> isOpenSpace(n, walls, groundLevel))) != null)
@@ -94,7 +86,7 @@ public class Day14 {
 
             // Can't move any more...
             ++count;
-            walls.add(grain);
+            walls.set(grain, BLOCKED);
         }
 
         return count;
@@ -105,6 +97,17 @@ public class Day14 {
     // Test Methods
     // ****************************************
 
+    /*
+     * Build a `ChunkedGrid` containing all the walls in the cave.
+     */
+    private static ChunkedGrid buildTheCave(final SolutionContext context) {
+        final ChunkedGrid walls = new ChunkedGrid();
+        context.stream()
+                .flatMap(Day14::buildTheWall)
+                .forEach(wall -> walls.set(wall, BLOCKED));
+        return walls;
+    }
+
     /*
      * Build a wall from a chain of `Coordinate`s.
      */
@@ -155,15 +158,15 @@ public class Day14 {
     /*
      * Check if the target `Coordinate` is not blocked by a wall.
      */
-    private static boolean isOpenSpace(final Coordinate target, final Set<Coordinate> walls) {
-        return !walls.contains(target);
+    private static boolean isOpenSpace(final Coordinate target, final ChunkedGrid walls) {
+        return walls.get(target) == 0;
     }
 
     /*
      * Check if the target `Coordinate` is not blocked by a wall or the floor.
      */
-    private static boolean isOpenSpace(final Coordinate down, final Set<Coordinate> walls, final int groundLevel) {
-        return !walls.contains(down) && down.y() != groundLevel;
+    private static boolean isOpenSpace(final Coordinate down, final ChunkedGrid walls, final int groundLevel) {
+        return walls.get(down) == 0 && down.y() != groundLevel;
     }
 
 }
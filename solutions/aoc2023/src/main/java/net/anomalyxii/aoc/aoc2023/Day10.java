@@ -5,12 +5,10 @@ import net.anomalyxii.aoc.annotations.Part;
 import net.anomalyxii.aoc.annotations.Solution;
 import net.anomalyxii.aoc.context.SolutionContext;
 import net.anomalyxii.aoc.result.IntTuple;
-import net.anomalyxii.aoc.utils.algorithms.AreaCalculator;
-import net.anomalyxii.aoc.utils.algorithms.ShoelaceCalculator;
+import net.anomalyxii.aoc.utils.algorithms.AreaAccumulator;
 import net.anomalyxii.aoc.utils.geometry.Coordinate;
 import net.anomalyxii.aoc.utils.geometry.Direction;
 
-import java.util.ArrayList;
 import java.util.List;
 
 import static net.anomalyxii.aoc.annotations.Part.PartNumber.I;
@@ -74,7 +72,7 @@ public class Day10 {
     /*
      * A closed-loop pipe, made up of segments.
      */
-    private record Pipe(int length, List<Coordinate> turns) {
+    private record Pipe(int length, AreaAccumulator outline) {
 
         // Helper Methods
 
@@ -82,28 +80,10 @@ public class Day10 {
          * Calculate the number of tiles inside the pipe area.
          */
         int countInsideTiles() {
-            // Pick's theorem is used to calculate the area of an irregular shape,
-            // based on the perimeter and number of internal points.
-            // It is defined as: a = i + 0.5 * (p - 1), where:
-            //   a => area
-            //   i => internal points
-            //   p => perimeter points
-
-            // And we can calculate the area...
-            final AreaCalculator calculator = new ShoelaceCalculator();
-            final long area = calculator.area(turns);
-
-            // ... and the perimeter...
-            final int perimeter = length - 1;
-
-            // ... and thus we can rewrite Pick's theorem as:
-            //   a - 0.5 * (p - 1) = i
-            // This should allow us to calculate the number of internal points!
-            final long internalPoints = (long) (area - (0.5 * perimeter));
-
-            // I'm not _exactly_ sure why we need to add 1 to the result...
-            //    ... but hey, it works! :X
-            return (int) internalPoints + 1;
+            // Pick's theorem relates the area of an irregular shape to the
+            // number of internal points and the number of points on the
+            // perimeter; the perimeter points are just the pipe segments.
+            return Math.toIntExact(outline.interiorPoints());
         }
 
         // Static Helper Methods
@@ -114,7 +94,7 @@ public class Day10 {
          */
         public static Pipe read(final List<String> lines) {
             int length = 0;
-            final List<Coordinate> turns = new ArrayList<>();
+            final AreaAccumulator outline = new AreaAccumulator();
 
             final Coordinate start = findStartingCoordinate(lines);
             final Direction forwards = startForward(start, lines);
@@ -126,7 +106,7 @@ public class Day10 {
             while (current != null) {
                 ++length;
                 if (type == 'F' || type == 'J' || type == 'L' || type == '7')
-                    turns.add(current);
+                    outline.add(current);
 
                 final Coordinate next = current.adjustBy(direction);
                 type = charInGrid(lines, next);
@@ -139,7 +119,7 @@ public class Day10 {
                 }
             }
 
-            return new Pipe(length, turns);
+            return new Pipe(length, outline);
         }
 
         /*
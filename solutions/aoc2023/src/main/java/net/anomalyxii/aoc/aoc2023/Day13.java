@@ -5,11 +5,10 @@ import net.anomalyxii.aoc.annotations.Part;
 import net.anomalyxii.aoc.annotations.Solution;
 import net.anomalyxii.aoc.context.SolutionContext;
 import net.anomalyxii.aoc.result.IntTuple;
+import net.anomalyxii.aoc.utils.geometry.Grid;
 
 import java.util.List;
 import java.util.OptionalInt;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 
 import static net.anomalyxii.aoc.annotations.Part.PartNumber.I;
 import static net.anomalyxii.aoc.annotations.Part.PartNumber.II;
@@ -81,126 +80,55 @@ public class Day13 {
      * Calculate the "score" of a reflection.
      */
     private int calculateReflectionScore(final List<String> image) {
-
-        final OptionalInt horizontalReflection = findHorizontalReflection(image);
-        if (horizontalReflection.isPresent())
-            return 100 * (horizontalReflection.getAsInt() + 1);
-
-        final OptionalInt verticalReflection = findVerticalReflection(image);
-        if (verticalReflection.isPresent())
-            return verticalReflection.getAsInt() + 1;
-
-        throw new IllegalStateException("No reflection found :(");
+        return calculateReflectionScore(image, 0);
     }
 
     /*
      * Calculate the "score" of a reflection that has a single smudge on it.
      */
     private int calculateReflectionWithSmudgeScore(final List<String> image) {
-        final OptionalInt horizontalReflection = findHorizontalReflectionWithSmudge(image);
-        if (horizontalReflection.isPresent())
-            return 100 * (horizontalReflection.getAsInt() + 1);
-
-        final OptionalInt verticalReflection = findVerticalReflectionWithSmudge(image);
-        if (verticalReflection.isPresent())
-            return verticalReflection.getAsInt() + 1;
-
-        throw new IllegalStateException("No reflection found :(");
+        return calculateReflectionScore(image, 1);
     }
 
     /*
-     * Find a horizontal reflection point.
+     * Calculate the "score" of a reflection that has exactly the given
+     * number of smudges on it.
      */
-    private OptionalInt findHorizontalReflection(final List<String> image) {
-
-        int border = -1;
-        outer:
-        for (int r = 0; r < image.size() - 1; r++) {
-
-            final String row = image.get(r);
-            if (row.equals(image.get(r + 1))) {
-                for (int rt = r, rb = r + 1; rt >= 0 && rb < image.size(); rt--, rb++) {
-                    if (!image.get(rt).equals(image.get(rb)))
-                        continue outer;
-                }
-
-                border = r;
-            }
+    private static int calculateReflectionScore(final List<String> image, final int smudges) {
+        final Grid grid = Grid.parse(image.stream());
 
-        }
+        final OptionalInt horizontalReflection = findReflection(grid, smudges);
+        if (horizontalReflection.isPresent())
+            return 100 * (horizontalReflection.getAsInt() + 1);
 
-        return border == -1 ? OptionalInt.empty() : OptionalInt.of(border);
+        final OptionalInt verticalReflection = findReflection(grid.transpose(), smudges);
+        if (verticalReflection.isPresent())
+            return verticalReflection.getAsInt() + 1;
 
+        throw new IllegalStateException("No reflection found :(");
     }
 
     /*
-     * Find a horizontal reflection point accounting for a single smudge.
+     * Find a horizontal reflection point, where the reflected rows differ
+     * in exactly the given number of cells.
      */
-    private OptionalInt findHorizontalReflectionWithSmudge(final List<String> image) {
+    private static OptionalInt findReflection(final Grid grid, final int smudges) {
+        final int height = grid.height();
 
-        int border = -1;
         outer:
-        for (int r = 0; r < image.size() - 1; r++) {
-
-            final String row = image.get(r);
-
-            if (row.equals(image.get(r + 1)) || mightHaveASmudge(row, image.get(r + 1))) {
-                boolean mightHaveSmudge = true;
-                for (int rt = r, rb = r + 1; rt >= 0 && rb < image.size(); rt--, rb++) {
-                    if (!image.get(rt).equals(image.get(rb)))
-                        if (mightHaveSmudge && mightHaveASmudge(image.get(rt), image.get(rb)))
-                            mightHaveSmudge = false;
-                        else continue outer;
-                }
-
-                if (!mightHaveSmudge)
-                    border = r;
+        for (int r = 0; r < height - 1; r++) {
+            int differences = 0;
+            for (int rt = r, rb = r + 1; rt >= 0 && rb < height; rt--, rb++) {
+                differences += grid.rowMismatches(rt, rb);
+                if (differences > smudges)
+                    continue outer;
             }
 
+            if (differences == smudges)
+                return OptionalInt.of(r);
         }
 
-        return border == -1 ? OptionalInt.empty() : OptionalInt.of(border);
-
-    }
-
-    /*
-     * Find a vertical reflection point.
-     */
-    private OptionalInt findVerticalReflection(final List<String> image) {
-        final List<String> rotated = rotateImage90(image);
-        return findHorizontalReflection(rotated);
-    }
-
-    /*
-     * Find a vertical reflection point, accounting for a single smudge.
-     */
-    private OptionalInt findVerticalReflectionWithSmudge(final List<String> image) {
-        final List<String> rotated = rotateImage90(image);
-        return findHorizontalReflectionWithSmudge(rotated);
-    }
-
-    /*
-     * Rotate an image 90 degrees.
-     */
-    private static List<String> rotateImage90(final List<String> image) {
-        final int width = image.getFirst().length();
-        return IntStream.range(0, width)
-                .mapToObj(c -> image.stream().map(row -> Character.toString(row.charAt(c))).collect(Collectors.joining()))
-                .toList();
-    }
-
-    /*
-     * Check if an two lines might be reflected, accounting for a smudge.
-     */
-    private static boolean mightHaveASmudge(final String top, final String bottom) {
-        assert top.length() == bottom.length();
-
-        int differences = 0;
-        for (int idx = 0; idx < top.length(); idx++)
-            if (top.charAt(idx) != bottom.charAt(idx)) ++differences;
-
-        return differences == 1;
+        return OptionalInt.empty();
     }
 
 }
-
@@ -5,13 +5,11 @@ import net.anomalyxii.aoc.annotations.Part;
 import net.anomalyxii.aoc.annotations.Solution;
 import net.anomalyxii.aoc.context.SolutionContext;
 import net.anomalyxii.aoc.result.IntTuple;
+import net.anomalyxii.aoc.utils.algorithms.CycleDetector;
 import net.anomalyxii.aoc.utils.geometry.Coordinate;
 import net.anomalyxii.aoc.utils.geometry.Direction;
 import net.anomalyxii.aoc.utils.geometry.Grid;
 
-import java.util.HashMap;
-import java.util.Map;
-
 import static net.anomalyxii.aoc.annotations.Part.PartNumber.I;
 import static net.anomalyxii.aoc.annotations.Part.PartNumber.II;
 
@@ -41,10 +39,7 @@ public class Day14 {
         final Grid.MutableGrid grid = context.readMutableGrid();
         tilt(grid, Direction.UP);
 
-        return grid.stream()
-                .filter(coord -> grid.get(coord) == 'O')
-                .mapToInt(coord -> (grid.height() - coord.y()))
-                .sum();
+        return northLoad(grid);
     }
 
     /**
@@ -56,29 +51,9 @@ public class Day14 {
     @Part(part = II)
     public int calculateAnswerForPart2(final SolutionContext context) {
         final Grid.MutableGrid grid = context.readMutableGrid();
+        spin(grid);
 
-        final Map<Integer, Integer> loopDetection = new HashMap<>();
-        for (int i = 0; i < NUMBER_OF_ITERATIONS; i++) {
-            tilt(grid, Direction.NORTH);
-            tilt(grid, Direction.WEST);
-            tilt(grid, Direction.SOUTH);
-            tilt(grid, Direction.EAST);
-
-            final int hash = grid.calculateHash();
-            if (loopDetection.containsKey(hash)) {
-                final int startOfLoop = loopDetection.get(hash);
-                final int lengthOfLoop = i - startOfLoop;
-                final int delta = (NUMBER_OF_ITERATIONS - i) % lengthOfLoop;
-                i = NUMBER_OF_ITERATIONS - (delta == 0 ? lengthOfLoop : delta);
-            } else {
-                loopDetection.put(hash, i);
-            }
-        }
-
-        return grid.stream()
-                .filter(coord -> grid.get(coord) == 'O')
-                .mapToInt(coord -> (grid.height() - coord.y()))
-                .sum();
+        return (int) spinUntilCycle(grid);
     }
 
     // ****************************************
@@ -97,37 +72,13 @@ public class Day14 {
 
         tilt(grid, Direction.NORTH);
 
-        final int answer1 = grid.stream()
-                .filter(coord -> grid.get(coord) == 'O')
-                .mapToInt(coord -> (grid.height() - coord.y()))
-                .sum();
+        final int answer1 = northLoad(grid);
 
         tilt(grid, Direction.WEST);
         tilt(grid, Direction.SOUTH);
         tilt(grid, Direction.EAST);
 
-        final Map<Integer, Integer> loopDetection = new HashMap<>();
-        for (int i = 1; i < NUMBER_OF_ITERATIONS; i++) {
-            tilt(grid, Direction.NORTH);
-            tilt(grid, Direction.WEST);
-            tilt(grid, Direction.SOUTH);
-            tilt(grid, Direction.EAST);
-
-            final int hash = grid.calculateHash();
-            if (loopDetection.containsKey(hash)) {
-                final int startOfLoop = loopDetection.get(hash);
-                final int lengthOfLoop = i - startOfLoop;
-                final int delta = (NUMBER_OF_ITERATIONS - i) % lengthOfLoop;
-                i = NUMBER_OF_ITERATIONS - (delta == 0 ? lengthOfLoop : delta);
-            } else {
-                loopDetection.put(hash, i);
-            }
-        }
-
-        final int answer2 = grid.stream()
-                .filter(coord -> grid.get(coord) == 'O')
-                .mapToInt(coord -> (grid.height() - coord.y()))
-                .sum();
+        final int answer2 = (int) spinUntilCycle(grid);
 
         return new IntTuple(answer1, answer2);
     }
@@ -136,6 +87,41 @@ public class Day14 {
     // Private Helper Methods
     // ****************************************
 
+    /*
+     * Spin the dish until a cycle is detected, then extrapolate the load on
+     * the north support beams after the final spin.
+     *
+     * The dish is expected to have already been spun once, so the first
+     * observed step is the state after the first spin.
+     */
+    private static long spinUntilCycle(final Grid.MutableGrid grid) {
+        final CycleDetector detector = new CycleDetector();
+        while (!detector.observe(grid.fingerprint(), northLoad(grid)))
+            spin(grid);
+
+        return detector.extrapolate(NUMBER_OF_ITERATIONS - 1);
+    }
+
+    /*
+     * Spin the dish: tilt it north, then west, then south, then east.
+     */
+    private static void spin(final Grid.MutableGrid grid) {
+        tilt(grid, Direction.NORTH);
+        tilt(grid, Direction.WEST);
+        tilt(grid, Direction.SOUTH);
+        tilt(grid, Direction.EAST);
+    }
+
+    /*
+     * Calculate the total load on the north support beams.
+     */
+    private static int northLoad(final Grid grid) {
+        return grid.stream()
+                .filter(coord -> grid.get(coord) == 'O')
+                .mapToInt(coord -> (grid.height() - coord.y()))
+                .sum();
+    }
+
     /*
      * Tilt the dish in a specific direction.
      */
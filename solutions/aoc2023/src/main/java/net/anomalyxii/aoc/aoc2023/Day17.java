@@ -3,6 +3,7 @@ package net.anomalyxii.aoc.aoc2023;
 import net.anomalyxii.aoc.annotations.Optimised;
 import net.anomalyxii.aoc.annotations.Part;
 import net.anomalyxii.aoc.annotations.Solution;
+import net.anomalyxii.aoc.context.Scratch;
 import net.anomalyxii.aoc.context.SolutionContext;
 import net.anomalyxii.aoc.result.IntTuple;
 import net.anomalyxii.aoc.utils.geometry.Coordinate;
@@ -42,7 +43,7 @@ public class Day17 {
     @Part(part = I)
     public int calculateAnswerForPart1(final SolutionContext context) {
         final Grid grid = context.readGrid(c -> c - '0');
-        final Memo memo = Memo.forCrucible(grid);
+        final Memo memo = Memo.forCrucible(grid, context.scratch());
         return solve(grid, memo);
     }
 
@@ -56,7 +57,7 @@ public class Day17 {
     public int calculateAnswerForPart2(final SolutionContext context) {
         final Grid grid = context.readGrid(c -> c - '0');
 
-        final Memo memo = Memo.forUltraCrucible(grid);
+        final Memo memo = Memo.forUltraCrucible(grid, context.scratch());
         return solve(grid, memo);
     }
 
@@ -74,8 +75,8 @@ public class Day17 {
     public IntTuple calculateAnswers(final SolutionContext context) {
         final Grid grid = context.readGrid(c -> c - '0');
 
-        final Memo part1 = Memo.forCrucible(grid);
-        final Memo part2 = Memo.forUltraCrucible(grid);
+        final Memo part1 = Memo.forCrucible(grid, context.scratch());
+        final Memo part2 = Memo.forUltraCrucible(grid, context.scratch());
 
         return new IntTuple(solve(grid, part1), solve(grid, part2));
     }
@@ -256,28 +257,27 @@ public class Day17 {
         /*
          * Create a `Memo` for a regular crucible.
          */
-        static Memo forCrucible(final Grid grid) {
-            return forMinMaxDistance(grid, 1, 3);
+        static Memo forCrucible(final Grid grid, final Scratch scratch) {
+            return forMinMaxDistance(grid, scratch, 1, 3);
         }
 
         /*
          * Create a `Memo` for an ultra crucible.
          */
-        static Memo forUltraCrucible(final Grid grid) {
-            return forMinMaxDistance(grid, 4, 10);
+        static Memo forUltraCrucible(final Grid grid, final Scratch scratch) {
+            return forMinMaxDistance(grid, scratch, 4, 10);
         }
 
         /*
          * Create a `Memo` for a crucible that has both a minimum and maximum
          * travel distance in any direction.
          */
-        private static Memo forMinMaxDistance(final Grid grid, final int min, final int max) {
+        private static Memo forMinMaxDistance(final Grid grid, final Scratch scratch, final int min, final int max) {
             final int distanceSize = (max - min) + 1;
             final int size = grid.height() * grid.width() * 4 * distanceSize;
-            final int[] dist = (int[]) Array.newInstance(int.class, size);
+            final int[] dist = scratch.ints(size, NO_VAL);
             final Coordinate[] prev = (Coordinate[]) Array.newInstance(Coordinate.class, size);
 
-            Arrays.fill(dist, NO_VAL);
             Arrays.fill(prev, null);
             return new Memo(dist, prev, grid.width(), min, max);
         }
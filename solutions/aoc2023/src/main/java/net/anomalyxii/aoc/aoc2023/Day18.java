@@ -5,12 +5,10 @@ import net.anomalyxii.aoc.annotations.Part;
 import net.anomalyxii.aoc.annotations.Solution;
 import net.anomalyxii.aoc.context.SolutionContext;
 import net.anomalyxii.aoc.result.LongTuple;
-import net.anomalyxii.aoc.utils.algorithms.ShoelaceCalculator;
-import net.anomalyxii.aoc.utils.geometry.Coordinate;
+import net.anomalyxii.aoc.utils.algorithms.AreaAccumulator;
 import net.anomalyxii.aoc.utils.geometry.Direction;
 import net.anomalyxii.aoc.utils.geometry.Velocity;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -78,22 +76,13 @@ public class Day18 {
      * instructions.
      */
     private static long calculateArea(final List<Instruction> instructions, final Function<Instruction, Velocity> parser) {
-        final List<Coordinate> points = new ArrayList<>();
-
-        long trenchLength = 0;
-        Coordinate current = Coordinate.ORIGIN;
+        final AreaAccumulator lagoon = new AreaAccumulator();
         for (final Instruction line : instructions) {
             final Velocity adjustment = parser.apply(line);
-            current = current.adjustBy(adjustment);
-
-            points.add(current);
-            trenchLength += adjustment.magnitude();
+            lagoon.move(adjustment.h(), adjustment.v());
         }
 
-        final long area = new ShoelaceCalculator().area(points);
-
-        final long internalPoints = (long) ((area - (0.5 * trenchLength)) + 1);
-        return internalPoints + trenchLength;
+        return lagoon.enclosedPoints();
     }
 
     // ****************************************
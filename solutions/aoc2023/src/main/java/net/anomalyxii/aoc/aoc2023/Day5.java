@@ -5,12 +5,11 @@ import net.anomalyxii.aoc.annotations.Part;
 import net.anomalyxii.aoc.annotations.Solution;
 import net.anomalyxii.aoc.context.SolutionContext;
 import net.anomalyxii.aoc.result.LongTuple;
-import net.anomalyxii.aoc.result.ObjectTuple;
+import net.anomalyxii.aoc.utils.geometry.IntervalSet;
 
-import java.util.*;
+import java.util.Arrays;
+import java.util.List;
 import java.util.function.Function;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import static net.anomalyxii.aoc.annotations.Part.PartNumber.I;
 import static net.anomalyxii.aoc.annotations.Part.PartNumber.II;
@@ -21,11 +20,6 @@ import static net.anomalyxii.aoc.annotations.Part.PartNumber.II;
 @Solution(year = 2023, day = 5, title = "If You Give A Seed A Fertilizer")
 public class Day5 {
 
-    /*
-     * Nothing to process...
-     */
-    private static final Stream<Range> EMPTY = Stream.empty();
-
     // ****************************************
     // Challenge Methods
     // ****************************************
@@ -38,10 +32,7 @@ public class Day5 {
      */
     @Part(part = I)
     public long calculateAnswerForPart1(final SolutionContext context) {
-        return processAlmanac(context, Range::extractSingleSeedRanges)
-                .mapToLong(Range::start)
-                .min()
-                .orElseThrow();
+        return processAlmanac(context.readBatches(), Day5::extractSingleSeeds).min();
     }
 
     /**
@@ -52,10 +43,7 @@ public class Day5 {
      */
     @Part(part = II)
     public long calculateAnswerForPart2(final SolutionContext context) {
-        return processAlmanac(context, Range::extractSeedRanges)
-                .mapToLong(Range::start)
-                .min()
-                .orElseThrow();
+        return processAlmanac(context.readBatches(), Day5::extractSeedRanges).min();
     }
 
     // ****************************************
@@ -70,21 +58,18 @@ public class Day5 {
      */
     @Optimised
     public LongTuple calculateAnswers(final SolutionContext context) {
-        final ObjectTuple<Stream<Range>, Stream<Range>> results = context.streamBatches()
-                .reduce(
-                        new ObjectTuple<>(EMPTY, EMPTY),
-                        (tup, batch) -> new ObjectTuple<>(
-                                processMapping(Range::extractSingleSeedRanges, tup.answer1(), batch),
-                                processMapping(Range::extractSeedRanges, tup.answer2(), batch)
-                        ),
-                        (a, b) -> {
-                            throw new IllegalStateException("Cannot merge!");
-                        }
-                );
-        return new LongTuple(
-                results.answer1().mapToLong(range -> range.start).min().orElseThrow(),
-                results.answer2().mapToLong(range -> range.start).min().orElseThrow()
-        );
+        final List<List<String>> batches = context.readBatches();
+        final String seeds = seeds(batches);
+
+        IntervalSet singleSeeds = extractSingleSeeds(seeds);
+        IntervalSet seedRanges = extractSeedRanges(seeds);
+        for (final List<String> batch : batches.subList(1, batches.size())) {
+            final List<IntervalSet.Translation> mapping = parseMapping(batch);
+            singleSeeds = singleSeeds.map(mapping);
+            seedRanges = seedRanges.map(mapping);
+        }
+
+        return new LongTuple(singleSeeds.min(), seedRanges.min());
     }
 
     // ****************************************
@@ -94,189 +79,66 @@ public class Day5 {
     /*
      * Process the entire almanac.
      */
-    private Stream<Range> processAlmanac(final SolutionContext context, final Function<String, Stream<Range>> seedExtractor) {
-        return context.streamBatches()
-                .reduce(
-                        EMPTY,
-                        (list, batch) -> processMapping(seedExtractor, list, batch),
-                        Range::merge
-                );
+    private static IntervalSet processAlmanac(
+            final List<List<String>> batches,
+            final Function<String, IntervalSet> seedExtractor
+    ) {
+        IntervalSet values = seedExtractor.apply(seeds(batches));
+        for (final List<String> batch : batches.subList(1, batches.size()))
+            values = values.map(parseMapping(batch));
+        return values;
     }
 
     /*
-     * Process a single mapping of almanac values.
+     * Extract the list of seeds from the first batch of the almanac.
      */
-    private static Stream<Range> processMapping(
-            final Function<String, Stream<Range>> seedExtractor,
-            final Stream<Range> list,
-            final List<String> batch
-    ) {
-        final String identifier = batch.getFirst();
-        if (identifier.startsWith("seeds: "))
-            return seedExtractor.apply(identifier.substring(7));
-
-        final SortedSet<RangeMap> bounds = batch.subList(1, batch.size()).stream()
-                .map(RangeMap::parse)
-                .collect(Collectors.toCollection(TreeSet::new));
-
-        return list
-                .flatMap(sourceRange -> RangeMap.offset(sourceRange, bounds))
-                .sorted();
+    private static String seeds(final List<List<String>> batches) {
+        final String identifier = batches.getFirst().getFirst();
+        if (!identifier.startsWith("seeds: "))
+            throw new IllegalArgumentException("Invalid almanac: " + identifier);
+        return identifier.substring(7);
     }
 
-    // ****************************************
-    // Private Helper Classes
-    // ****************************************
-
     /*
-     * A range of numbers.
+     * Extract an `IntervalSet` containing each seed.
      */
-    private record Range(long start, long end) implements Comparable<Range> {
-
-        // Comparable Methods
-
-        @Override
-        public int compareTo(final Range o) {
-            return Long.compare(start, o.start);
-        }
-
-        // Static Helper Methods
-
-        /*
-         * Create a `Range` that contains only one value.
-         */
-        static Range singleton(final long start) {
-            return new Range(start, start);
-        }
-
-        /*
-         * Create a `Range` from a given start point with a given length.
-         */
-        static Range from(final long start, final long length) {
-            return new Range(start, start + (length - 1));
-        }
-
-        /*
-         * Extract a `Set` of `Range`s that represent a single seed.
-         */
-        static Stream<Range> extractSingleSeedRanges(final String seeds) {
-            return Arrays.stream(seeds.split("\\s"))
-                    .map(Long::valueOf)
-                    .map(Range::singleton)
-                    .sorted();
-        }
-
-        /*
-         * Extract a `Set` of `Range`s that represent multiple seeds.
-         */
-        static Stream<Range> extractSeedRanges(final String seeds) {
-            final List<Long> parts = Arrays.stream(seeds.split("\\s"))
-                    .map(Long::valueOf)
-                    .toList();
-
-            final Stream.Builder<Range> seedRanges = Stream.builder();
-            for (int i = 0; i < parts.size(); i += 2)
-                seedRanges.add(Range.from(parts.get(i), parts.get(i + 1)));
-            return seedRanges.build();
-        }
-
-        /*
-         * Merge two `Stream`s of `Range`s.
-         */
-        static Stream<Range> merge(final Stream<Range> first, final Stream<Range> second) {
-            return Stream.concat(first, second);
-        }
+    private static IntervalSet extractSingleSeeds(final String seeds) {
+        final IntervalSet result = new IntervalSet();
+        Arrays.stream(seeds.split("\\s"))
+                .mapToLong(Long::parseLong)
+                .forEach(seed -> result.add(seed, seed));
+        return result;
     }
 
     /*
-     * A mapping between two number ranges.
+     * Extract an `IntervalSet` containing each range of seeds.
      */
-    private record RangeMap(Range source, Range destination)
-            implements Comparable<RangeMap> {
-
-        // Comparable Methods
-
-        @Override
-        public int compareTo(final RangeMap o) {
-            return Long.compare(source.start, o.source.start);
-        }
-
-        // Helper Methods
-
-        /*
-         * Map an input based on the relative position in this `RangeMap`.
-         */
-        long offset(final long input) {
-            return (input - source.start) + destination.start;
-        }
-
-        // Static Helper Methods
-
-        /*
-         * Parse a `RangeMap` from a given line of format:
-         *   <destination start> <source start> <length>
-         */
-        static RangeMap parse(final String line) {
-            final String[] parts = line.split("\\s");
-            return RangeMap.from(
-                    Long.parseLong(parts[0]),
-                    Long.parseLong(parts[1]),
-                    Long.parseLong(parts[2])
-            );
-        }
-
-        /*
-         * Parse a `RangeMap` from a destination start point, a source start
-         * point and a length for the two `Range`s.
-         */
-        static RangeMap from(final long destination, final long source, final long length) {
-            return new RangeMap(
-                    Range.from(source, length),
-                    Range.from(destination, length)
-            );
-        }
-
-        /*
-         * Transform all numbers in a given `Range` according to the `RangeMap`s
-         * provided.
-         */
-        static Stream<Range> offset(final Range sourceRange, final SortedSet<RangeMap> bounds) {
-            final Stream.Builder<Range> result = Stream.builder();
-            final Iterator<RangeMap> boundsIterator = bounds.iterator();
-
-            RangeMap currentBounds = null;
-            long current = sourceRange.start;
-            while (current <= sourceRange.end) {
-                if (currentBounds == null) {
-                    if (!boundsIterator.hasNext()) {
-                        result.add(new Range(current, sourceRange.end));
-                        return result.build();
-                    }
-
-                    currentBounds = boundsIterator.next();
-                }
-
-                if (current < currentBounds.source.start) {
-                    final long end = Math.min(sourceRange.end, currentBounds.source.start - 1);
-                    if (end >= current)
-                        result.add(new Range(current, end));
-                    current = end + 1;
-                    continue;
-                }
-
-                if (current > currentBounds.source.end) {
-                    currentBounds = null;
-                    continue;
-                }
-
-                final long end = Math.min(currentBounds.source.end, sourceRange.end);
-                result.add(new Range(currentBounds.offset(current), currentBounds.offset(end)));
-                current = end + 1;
-            }
+    private static IntervalSet extractSeedRanges(final String seeds) {
+        final long[] parts = Arrays.stream(seeds.split("\\s"))
+                .mapToLong(Long::parseLong)
+                .toArray();
+
+        final IntervalSet result = new IntervalSet();
+        for (int i = 0; i < parts.length; i += 2)
+            result.add(parts[i], parts[i] + (parts[i + 1] - 1));
+        return result;
+    }
 
-            return result.build();
-        }
+    /*
+     * Parse a single mapping of almanac values, with each line in the
+     * format:
+     *   <destination start> <source start> <length>
+     */
+    private static List<IntervalSet.Translation> parseMapping(final List<String> batch) {
+        return batch.subList(1, batch.size()).stream()
+                .map(line -> {
+                    final String[] parts = line.split("\\s");
+                    final long destination = Long.parseLong(parts[0]);
+                    final long source = Long.parseLong(parts[1]);
+                    final long length = Long.parseLong(parts[2]);
+                    return new IntervalSet.Translation(source, source + (length - 1), destination - source);
+                })
+                .toList();
     }
 
 }
-
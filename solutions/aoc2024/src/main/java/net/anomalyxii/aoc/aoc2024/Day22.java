@@ -58,8 +58,8 @@ public class Day22 {
      */
     @Part(part = II)
     public long calculateAnswerForPart2(final SolutionContext context) {
-        final int[] sequenceToBananaHaul = new int[(MAGIC_NUMBER + 1) >> 1];
-        final int[] seenSequences = new int[(MAGIC_NUMBER + 1) >> 5];
+        final int[] sequenceToBananaHaul = context.scratch().ints((MAGIC_NUMBER + 1) >> 1);
+        final int[] seenSequences = context.scratch().ints((MAGIC_NUMBER + 1) >> 5);
         context.stream()
                 .mapToInt(Integer::parseInt)
                 .forEach(init -> generateSecretNumbers(init, sequenceToBananaHaul, seenSequences));
@@ -82,8 +82,8 @@ public class Day22 {
      */
     @Optimised
     public LongTuple calculateAnswers(final SolutionContext context) {
-        final int[] sequenceToBananaHaul = new int[(MAGIC_NUMBER + 1) >> 1];
-        final int[] seenSequences = new int[(MAGIC_NUMBER + 1) >> 5];
+        final int[] sequenceToBananaHaul = context.scratch().ints((MAGIC_NUMBER + 1) >> 1);
+        final int[] seenSequences = context.scratch().ints((MAGIC_NUMBER + 1) >> 5);
         final long part1 = context.stream()
                 .mapToInt(Integer::parseInt)
                 .mapToLong(init -> generateSecretNumbers(init, sequenceToBananaHaul, seenSequences))